@@ -0,0 +1,191 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.android.material.animation;
+
+import android.os.Build.VERSION;
+import android.os.Build.VERSION_CODES;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+import androidx.annotation.RestrictTo;
+import androidx.annotation.RestrictTo.Scope;
+import androidx.annotation.VisibleForTesting;
+import java.util.ArrayList;
+
+/**
+ * A clock that drives the library's continuous animations from a single frame callback.
+ *
+ * <p>Each subscribed {@link FrameCallback} is called once per frame with the frame's time, so any
+ * number of animated components, such as indeterminate progress indicators, cost one {@link
+ * Choreographer} callback per frame. Subscribers are expected to update all of their animated
+ * properties in {@link FrameCallback#doFrame(long)} and invalidate their views or drawables once.
+ * The clock stops requesting frames as soon as it has no subscribers.
+ *
+ * <p>Below API 16, where there is no {@link Choreographer}, frames are posted to the main thread
+ * at a fixed delay instead.
+ *
+ * @hide
+ */
+@RestrictTo(Scope.LIBRARY_GROUP)
+@MainThread
+public final class AnimationFrameClock {
+
+  /** The delay between frames below API 16, matching the default frame delay of animators. */
+  private static final long FALLBACK_FRAME_DELAY_MILLIS = 10;
+
+  @Nullable private static AnimationFrameClock instance;
+
+  // Removed callbacks are set to null while frames are dispatched, and removed after.
+  private final ArrayList<FrameCallback> callbacks = new ArrayList<>();
+  private boolean hasRemovedCallbacks;
+  private boolean frameRequested;
+
+  @Nullable private Object choreographerCallback;
+  @Nullable private Handler handler;
+  @Nullable private Runnable fallbackFrameRunnable;
+
+  /** Receives the time of each frame while subscribed. */
+  public interface FrameCallback {
+
+    /**
+     * Called once per frame with the time the frame started rendering, in the {@link
+     * System#nanoTime()} time base.
+     */
+    void doFrame(long frameTimeNanos);
+  }
+
+  private AnimationFrameClock() {}
+
+  /** Returns the clock of the main thread. */
+  @NonNull
+  public static AnimationFrameClock getInstance() {
+    if (instance == null) {
+      instance = new AnimationFrameClock();
+    }
+    return instance;
+  }
+
+  /**
+   * Subscribes {@code callback} to be called on every frame, starting with the next one. Adding a
+   * callback that is already subscribed has no effect.
+   */
+  public void addFrameCallback(@NonNull FrameCallback callback) {
+    if (!callbacks.contains(callback)) {
+      callbacks.add(callback);
+    }
+    requestFrame();
+  }
+
+  /**
+   * Unsubscribes {@code callback}. It is not called again, even if it is removed while the current
+   * frame is dispatched.
+   */
+  public void removeFrameCallback(@NonNull FrameCallback callback) {
+    int index = callbacks.indexOf(callback);
+    if (index >= 0) {
+      callbacks.set(index, null);
+      hasRemovedCallbacks = true;
+    }
+  }
+
+  /** Returns the number of subscribed callbacks. */
+  @VisibleForTesting
+  public int getFrameCallbackCount() {
+    int count = 0;
+    for (int i = 0; i < callbacks.size(); i++) {
+      if (callbacks.get(i) != null) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private void doFrame(long frameTimeNanos) {
+    frameRequested = false;
+
+    // Callbacks added while dispatching are first called on the next frame.
+    for (int i = 0, count = callbacks.size(); i < count; i++) {
+      FrameCallback callback = callbacks.get(i);
+      if (callback != null) {
+        callback.doFrame(frameTimeNanos);
+      }
+    }
+
+    if (hasRemovedCallbacks) {
+      for (int i = callbacks.size() - 1; i >= 0; i--) {
+        if (callbacks.get(i) == null) {
+          callbacks.remove(i);
+        }
+      }
+      hasRemovedCallbacks = false;
+    }
+
+    if (!callbacks.isEmpty()) {
+      requestFrame();
+    }
+  }
+
+  private void requestFrame() {
+    if (frameRequested) {
+      return;
+    }
+    frameRequested = true;
+
+    if (VERSION.SDK_INT >= VERSION_CODES.JELLY_BEAN) {
+      if (choreographerCallback == null) {
+        choreographerCallback = Api16Impl.createFrameCallback(this);
+      }
+      Api16Impl.postFrameCallback(choreographerCallback);
+    } else {
+      if (handler == null) {
+        handler = new Handler(Looper.getMainLooper());
+        fallbackFrameRunnable =
+            new Runnable() {
+              @Override
+              public void run() {
+                doFrame(System.nanoTime());
+              }
+            };
+      }
+      handler.postDelayed(fallbackFrameRunnable, FALLBACK_FRAME_DELAY_MILLIS);
+    }
+  }
+
+  @RequiresApi(VERSION_CODES.JELLY_BEAN)
+  private static class Api16Impl {
+
+    private Api16Impl() {}
+
+    @NonNull
+    static Object createFrameCallback(@NonNull final AnimationFrameClock clock) {
+      return new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+          clock.doFrame(frameTimeNanos);
+        }
+      };
+    }
+
+    static void postFrameCallback(@NonNull Object frameCallback) {
+      Choreographer.getInstance().postFrameCallback((Choreographer.FrameCallback) frameCallback);
+    }
+  }
+}
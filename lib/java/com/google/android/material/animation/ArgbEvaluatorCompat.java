@@ -55,6 +55,14 @@ public class ArgbEvaluatorCompat implements TypeEvaluator<Integer> {
   @NonNull
   @Override
   public Integer evaluate(float fraction, Integer startValue, Integer endValue) {
+    return evaluateArgb(fraction, startValue, endValue);
+  }
+
+  /**
+   * Returns the linearly interpolated color between {@code startValue} and {@code endValue}, like
+   * {@link #evaluate(float, Integer, Integer)} but without boxing its arguments or result.
+   */
+  public int evaluateArgb(float fraction, int startValue, int endValue) {
     int startInt = startValue;
     float startA = ((startInt >> 24) & 0xff) / 255.0f;
     float startR = ((startInt >> 16) & 0xff) / 255.0f;
@@ -30,7 +30,7 @@ import androidx.annotation.NonNull;
  * <p>This property assumes that it is the only component responsible for the children's {@link
  * View#setAlpha(float) alpha}.
  */
-public class ChildrenAlphaProperty extends Property<ViewGroup, Float> {
+public class ChildrenAlphaProperty extends FloatProperty<ViewGroup> {
 
   /**
    * A Property wrapper around the <code>alpha</code> functionality of a ViewGroup's children.
@@ -39,25 +39,29 @@ public class ChildrenAlphaProperty extends Property<ViewGroup, Float> {
       new ChildrenAlphaProperty("childrenAlpha");
 
   private ChildrenAlphaProperty(String name) {
-    super(Float.class, name);
+    super(name);
   }
 
   @NonNull
   @Override
   public Float get(@NonNull ViewGroup object) {
-    Float alpha = (Float) object.getTag(R.id.mtrl_internal_children_alpha_tag);
+    float[] alpha = (float[]) object.getTag(R.id.mtrl_internal_children_alpha_tag);
     if (alpha != null) {
-      return alpha;
+      return alpha[0];
     } else {
       return 1f;
     }
   }
 
   @Override
-  public void set(@NonNull ViewGroup object, @NonNull Float value) {
-    float alpha = value;
-
-    object.setTag(R.id.mtrl_internal_children_alpha_tag, alpha);
+  public void setValue(@NonNull ViewGroup object, float alpha) {
+    // The alpha is held in a mutable tag so that animating it does not box a Float every frame.
+    float[] alphaTag = (float[]) object.getTag(R.id.mtrl_internal_children_alpha_tag);
+    if (alphaTag == null) {
+      alphaTag = new float[1];
+      object.setTag(R.id.mtrl_internal_children_alpha_tag, alphaTag);
+    }
+    alphaTag[0] = alpha;
 
     for (int i = 0, count = object.getChildCount(); i < count; i++) {
       View child = object.getChildAt(i);
@@ -27,7 +27,7 @@ import java.util.WeakHashMap;
  * Compat property for {@link Drawable#getAlpha()} and {@link Drawable#setAlpha(int)} for pre-K
  * devices.
  */
-public class DrawableAlphaProperty extends Property<Drawable, Integer> {
+public class DrawableAlphaProperty extends IntProperty<Drawable> {
 
   /**
    * A compat Property wrapper around {@link Drawable#getAlpha()} and {@link
@@ -39,7 +39,7 @@ public class DrawableAlphaProperty extends Property<Drawable, Integer> {
   private final WeakHashMap<Drawable, Integer> alphaCache = new WeakHashMap<>();
 
   private DrawableAlphaProperty() {
-    super(Integer.class, "drawableAlphaCompat");
+    super("drawableAlphaCompat");
   }
 
   @Nullable
@@ -55,7 +55,7 @@ public class DrawableAlphaProperty extends Property<Drawable, Integer> {
   }
 
   @Override
-  public void set(@NonNull Drawable object, @NonNull Integer value) {
+  public void setValue(@NonNull Drawable object, int value) {
     if (VERSION.SDK_INT < VERSION_CODES.KITKAT) {
       alphaCache.put(object, value);
     }
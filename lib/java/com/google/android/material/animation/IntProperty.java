@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.material.animation;
+
+import android.os.Build.VERSION;
+import android.os.Build.VERSION_CODES;
+import android.util.Property;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+
+/**
+ * A {@link Property} of type {@code int} that can be set without boxing.
+ *
+ * <p>This mirrors {@code android.util.IntProperty}, which is only available from {@link
+ * VERSION_CODES#N}. Animators created with {@link ObjectAnimatorCompat#ofInt} drive the
+ * primitive {@link #setValue(Object, int)} directly on N and above.
+ */
+public abstract class IntProperty<T> extends Property<T, Integer> {
+
+  @Nullable private Property<T, Integer> animatorProperty;
+
+  public IntProperty(@NonNull String name) {
+    super(Integer.class, name);
+  }
+
+  /** Sets the {@code value} of this property on {@code object}. */
+  public abstract void setValue(@NonNull T object, int value);
+
+  @Override
+  public final void set(@NonNull T object, @NonNull Integer value) {
+    setValue(object, value);
+  }
+
+  /** Returns the property that animators should set so that values are not boxed. */
+  @NonNull
+  Property<T, Integer> getAnimatorProperty() {
+    if (VERSION.SDK_INT < VERSION_CODES.N) {
+      return this;
+    }
+    if (animatorProperty == null) {
+      animatorProperty = Api24Impl.createFrameworkProperty(this);
+    }
+    return animatorProperty;
+  }
+
+  @RequiresApi(VERSION_CODES.N)
+  private static class Api24Impl {
+
+    private Api24Impl() {}
+
+    @NonNull
+    static <T> Property<T, Integer> createFrameworkProperty(
+        @NonNull final IntProperty<T> property) {
+      return new android.util.IntProperty<T>(property.getName()) {
+        @Override
+        public void setValue(@NonNull T object, int value) {
+          property.setValue(object, value);
+        }
+
+        @Override
+        public Integer get(@NonNull T object) {
+          return property.get(object);
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.android.material.animation;
+
+import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
+import android.os.Build.VERSION;
+import android.os.Build.VERSION_CODES;
+import android.os.Debug;
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RestrictTo;
+import androidx.annotation.RestrictTo.Scope;
+
+/**
+ * An opt-in monitor that reports how expensive the library's animations are.
+ *
+ * <p>Once a {@link Listener} is set with {@link #setListener(Listener)}, animations such as {@link
+ * com.google.android.material.transition.MaterialContainerTransform}, {@link
+ * com.google.android.material.transition.MaterialSharedAxis}, {@link
+ * com.google.android.material.transition.MaterialFadeThrough}, floating action button motion and
+ * bottom sheet settling each report a {@link Metrics} when they end. While no listener is set, the
+ * library does no measuring at all.
+ *
+ * <p>The monitor must only be used from the main thread.
+ */
+@MainThread
+public final class MaterialPerformanceMonitor {
+
+  /** The frame interval of a 60Hz display, used until {@link #setFrameIntervalNanos} is called. */
+  private static final long DEFAULT_FRAME_INTERVAL_NANOS = 16_666_667L;
+
+  @Nullable private static Listener listener;
+  private static long frameIntervalNanos = DEFAULT_FRAME_INTERVAL_NANOS;
+
+  private MaterialPerformanceMonitor() {}
+
+  /** Receives the {@link Metrics} of each measured animation. */
+  public interface Listener {
+
+    /** Called on the main thread when a measured animation ends or is canceled. */
+    void onAnimationMeasured(@NonNull Metrics metrics);
+  }
+
+  /** The cost of a single run of a library animation. */
+  public static final class Metrics {
+
+    @NonNull private final String name;
+    private final long durationNanos;
+    private final int frameCount;
+    private final int droppedFrameCount;
+    private final long callbackNanos;
+    private final int allocationCount;
+
+    Metrics(
+        @NonNull String name,
+        long durationNanos,
+        int frameCount,
+        int droppedFrameCount,
+        long callbackNanos,
+        int allocationCount) {
+      this.name = name;
+      this.durationNanos = durationNanos;
+      this.frameCount = frameCount;
+      this.droppedFrameCount = droppedFrameCount;
+      this.callbackNanos = callbackNanos;
+      this.allocationCount = allocationCount;
+    }
+
+    /** Returns the name of the animation, such as the simple name of the transition class. */
+    @NonNull
+    public String getName() {
+      return name;
+    }
+
+    /** Returns the wall time between the start and the end of the animation. */
+    public long getDurationNanos() {
+      return durationNanos;
+    }
+
+    /** Returns the number of frames rendered while the animation ran. */
+    public int getFrameCount() {
+      return frameCount;
+    }
+
+    /**
+     * Returns the number of frames that were skipped while the animation ran, based on the interval
+     * set with {@link #setFrameIntervalNanos(long)}.
+     */
+    public int getDroppedFrameCount() {
+      return droppedFrameCount;
+    }
+
+    /**
+     * Returns the time spent in the animation's evaluate and draw callbacks, for animations that
+     * report them. Returns 0 otherwise.
+     */
+    public long getCallbackNanos() {
+      return callbackNanos;
+    }
+
+    /**
+     * Returns the number of objects allocated on the main thread while the animation ran.
+     *
+     * <p>This is only counted while allocation counting has been started with {@link
+     * Debug#startAllocCounting()}, and is 0 otherwise.
+     */
+    public int getAllocationCount() {
+      return allocationCount;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+      return name
+          + "{durationNanos="
+          + durationNanos
+          + ", frameCount="
+          + frameCount
+          + ", droppedFrameCount="
+          + droppedFrameCount
+          + ", callbackNanos="
+          + callbackNanos
+          + ", allocationCount="
+          + allocationCount
+          + "}";
+    }
+  }
+
+  /**
+   * Sets the listener that receives the metrics of each library animation, or {@code null} to stop
+   * measuring. Animations that are already running keep reporting to the previous listener.
+   */
+  public static void setListener(@Nullable Listener listener) {
+    MaterialPerformanceMonitor.listener = listener;
+  }
+
+  /** Returns whether library animations are currently being measured. */
+  public static boolean isEnabled() {
+    return listener != null;
+  }
+
+  /**
+   * Sets the expected interval between frames, used to count dropped frames. Defaults to the
+   * interval of a 60Hz display.
+   */
+  public static void setFrameIntervalNanos(long frameIntervalNanos) {
+    if (frameIntervalNanos <= 0) {
+      throw new IllegalArgumentException("Frame interval must be positive");
+    }
+    MaterialPerformanceMonitor.frameIntervalNanos = frameIntervalNanos;
+  }
+
+  /**
+   * Starts measuring an animation that isn't driven by an {@link Animator}. Returns {@code null}
+   * when the monitor is disabled.
+   *
+   * @hide
+   */
+  @RestrictTo(Scope.LIBRARY_GROUP)
+  @Nullable
+  public static Session begin(@NonNull String name) {
+    Listener listener = MaterialPerformanceMonitor.listener;
+    if (listener == null) {
+      return null;
+    }
+    Session session = new Session(name, listener);
+    session.start();
+    return session;
+  }
+
+  /**
+   * Measures {@code animator} from its start to its end. Returns the session that the animation's
+   * callbacks can report their time to, or {@code null} when the monitor is disabled.
+   *
+   * @hide
+   */
+  @RestrictTo(Scope.LIBRARY_GROUP)
+  @Nullable
+  public static Session track(@NonNull Animator animator, @NonNull String name) {
+    Listener listener = MaterialPerformanceMonitor.listener;
+    if (listener == null) {
+      return null;
+    }
+    final Session session = new Session(name, listener);
+    animator.addListener(
+        new AnimatorListenerAdapter() {
+          @Override
+          public void onAnimationStart(Animator animation) {
+            session.start();
+          }
+
+          @Override
+          public void onAnimationEnd(Animator animation) {
+            animation.removeListener(this);
+            session.finish();
+          }
+        });
+    return session;
+  }
+
+  /**
+   * The measurements of a single run of an animation.
+   *
+   * @hide
+   */
+  @RestrictTo(Scope.LIBRARY_GROUP)
+  public static final class Session {
+
+    @NonNull private final String name;
+    @NonNull private final Listener listener;
+    @Nullable private FrameCounter frameCounter;
+    private boolean started;
+    private long startNanos;
+    private int startAllocationCount;
+    private long callbackStartNanos;
+    private long callbackNanos;
+
+    Session(@NonNull String name, @NonNull Listener listener) {
+      this.name = name;
+      this.listener = listener;
+    }
+
+    @SuppressWarnings("deprecation")
+    void start() {
+      if (started) {
+        return;
+      }
+      started = true;
+      startNanos = System.nanoTime();
+      startAllocationCount = Debug.getThreadAllocCount();
+      // Below API 16 the clock's frames are not synchronized with rendering, so aren't counted.
+      if (VERSION.SDK_INT >= VERSION_CODES.JELLY_BEAN) {
+        frameCounter = new FrameCounter();
+        frameCounter.start();
+      }
+    }
+
+    /** Marks the start of an evaluate or draw callback of the animation. */
+    public void beginCallback() {
+      callbackStartNanos = System.nanoTime();
+    }
+
+    /** Marks the end of the callback started by {@link #beginCallback()}. */
+    public void endCallback() {
+      if (callbackStartNanos != 0) {
+        callbackNanos += System.nanoTime() - callbackStartNanos;
+        callbackStartNanos = 0;
+      }
+    }
+
+    /** Stops measuring and reports the metrics of the animation. */
+    @SuppressWarnings("deprecation")
+    public void finish() {
+      if (!started) {
+        return;
+      }
+      started = false;
+
+      int frameCount = 0;
+      int droppedFrameCount = 0;
+      if (frameCounter != null) {
+        frameCounter.stop();
+        frameCount = frameCounter.frameCount;
+        droppedFrameCount = frameCounter.droppedFrameCount;
+        frameCounter = null;
+      }
+      listener.onAnimationMeasured(
+          new Metrics(
+              name,
+              System.nanoTime() - startNanos,
+              frameCount,
+              droppedFrameCount,
+              callbackNanos,
+              Debug.getThreadAllocCount() - startAllocationCount));
+    }
+  }
+
+  /** Counts the frames rendered while a session runs, using the shared animation clock. */
+  private static final class FrameCounter implements AnimationFrameClock.FrameCallback {
+
+    private boolean running;
+    private long lastFrameTimeNanos;
+    private int frameCount;
+    private int droppedFrameCount;
+
+    void start() {
+      running = true;
+      AnimationFrameClock.getInstance().addFrameCallback(this);
+    }
+
+    void stop() {
+      running = false;
+      AnimationFrameClock.getInstance().removeFrameCallback(this);
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+      if (!running) {
+        return;
+      }
+      if (lastFrameTimeNanos != 0) {
+        long skippedFrames = (frameTimeNanos - lastFrameTimeNanos) / frameIntervalNanos - 1;
+        if (skippedFrames > 0) {
+          droppedFrameCount += (int) skippedFrames;
+        }
+      }
+      lastFrameTimeNanos = frameTimeNanos;
+      frameCount++;
+    }
+  }
+}
@@ -21,16 +21,22 @@ import android.animation.AnimatorSet;
 import android.animation.ObjectAnimator;
 import android.animation.PropertyValuesHolder;
 import android.content.Context;
+import android.content.res.Resources.Theme;
 import android.content.res.TypedArray;
+import android.os.Build.VERSION;
+import android.os.Build.VERSION_CODES;
 import android.util.Log;
 import android.util.Property;
+import android.util.SparseArray;
 import androidx.annotation.AnimatorRes;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.StyleableRes;
+import androidx.annotation.VisibleForTesting;
 import androidx.collection.SimpleArrayMap;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.WeakHashMap;
 
 /**
  * A motion spec contains multiple named {@link MotionTiming motion timings}.
@@ -62,15 +68,37 @@ import java.util.List;
  *       android:duration="150"/>
  * </set>
  * }</pre>
+ *
+ * <p>Motion specs created from resources are parsed once per resource and cached per {@link
+ * Context}, which is only weakly referenced, so creating the same spec again doesn't inflate its
+ * animator XML. The cached specs are dropped when the context's theme is mutated, e.g. with {@link
+ * Theme#applyStyle}, or its configuration changes. Since themes can only tell that they were
+ * mutated from API 23, where their hash code reflects the applied styles, nothing is cached below
+ * that.
  */
 public class MotionSpec {
 
   private static final String TAG = "MotionSpec";
 
+  // Specs parsed from animator resources. These are never handed out directly since MotionSpec is
+  // mutable, callers get a copy instead.
+  private static final WeakHashMap<Context, CachedSpecs> cache = new WeakHashMap<>();
+
   private final SimpleArrayMap<String, MotionTiming> timings = new SimpleArrayMap<>();
   private final SimpleArrayMap<String, PropertyValuesHolder[]> propertyValues =
       new SimpleArrayMap<>();
 
+  public MotionSpec() {}
+
+  /**
+   * Creates a copy of the given spec. The property values are shared since they are only ever
+   * handed out as clones.
+   */
+  private MotionSpec(@NonNull MotionSpec other) {
+    timings.putAll(other.timings);
+    propertyValues.putAll(other.propertyValues);
+  }
+
   /** Returns whether this motion spec contains a MotionTiming with the given name. */
   public boolean hasTiming(String name) {
     return timings.get(name) != null;
@@ -184,18 +212,26 @@ public class MotionSpec {
   /** Inflates an instance of MotionSpec from the given animator resource. */
   @Nullable
   public static MotionSpec createFromResource(@NonNull Context context, @AnimatorRes int id) {
+    MotionSpec cachedSpec = getCachedSpec(context, id);
+    if (cachedSpec != null) {
+      return new MotionSpec(cachedSpec);
+    }
+
     try {
       Animator animator = AnimatorInflater.loadAnimator(context, id);
+      MotionSpec spec;
       if (animator instanceof AnimatorSet) {
         AnimatorSet set = (AnimatorSet) animator;
-        return createSpecFromAnimators(set.getChildAnimations());
+        spec = createSpecFromAnimators(set.getChildAnimations());
       } else if (animator != null) {
         List<Animator> animators = new ArrayList<>();
         animators.add(animator);
-        return createSpecFromAnimators(animators);
+        spec = createSpecFromAnimators(animators);
       } else {
         return null;
       }
+      putCachedSpec(context, id, spec);
+      return new MotionSpec(spec);
     } catch (Exception e) {
       Log.w(TAG, "Can't load animation resource ID #0x" + Integer.toHexString(id), e);
       return null;
@@ -240,6 +276,66 @@ public class MotionSpec {
     return timings.hashCode();
   }
 
+  @Nullable
+  private static MotionSpec getCachedSpec(@NonNull Context context, @AnimatorRes int id) {
+    if (VERSION.SDK_INT < VERSION_CODES.M) {
+      return null;
+    }
+    synchronized (cache) {
+      CachedSpecs specs = cache.get(context);
+      return specs != null && specs.isValidFor(context) ? specs.specs.get(id) : null;
+    }
+  }
+
+  private static void putCachedSpec(
+      @NonNull Context context, @AnimatorRes int id, @NonNull MotionSpec spec) {
+    if (VERSION.SDK_INT < VERSION_CODES.M) {
+      return;
+    }
+    synchronized (cache) {
+      CachedSpecs specs = cache.get(context);
+      if (specs == null) {
+        specs = new CachedSpecs();
+        cache.put(context, specs);
+      }
+      if (!specs.isValidFor(context)) {
+        specs.clear(context);
+      }
+      specs.specs.put(id, spec);
+    }
+  }
+
+  /** Returns whether the spec for {@code id} is cached for the current state of {@code context}. */
+  @VisibleForTesting
+  static boolean isCached(@NonNull Context context, @AnimatorRes int id) {
+    return getCachedSpec(context, id) != null;
+  }
+
+  @VisibleForTesting
+  static void clearCache() {
+    synchronized (cache) {
+      cache.clear();
+    }
+  }
+
+  /** The specs parsed with a context while its theme and configuration have a given state. */
+  private static final class CachedSpecs {
+    final SparseArray<MotionSpec> specs = new SparseArray<>();
+    int themeHashCode;
+    int configurationHashCode;
+
+    boolean isValidFor(@NonNull Context context) {
+      return themeHashCode == context.getTheme().hashCode()
+          && configurationHashCode == context.getResources().getConfiguration().hashCode();
+    }
+
+    void clear(@NonNull Context context) {
+      specs.clear();
+      themeHashCode = context.getTheme().hashCode();
+      configurationHashCode = context.getResources().getConfiguration().hashCode();
+    }
+  }
+
   @NonNull
   @Override
   public String toString() {
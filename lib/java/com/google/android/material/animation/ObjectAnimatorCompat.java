@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.material.animation;
+
+import android.animation.ObjectAnimator;
+import android.util.Property;
+import androidx.annotation.NonNull;
+import androidx.annotation.RestrictTo;
+import androidx.annotation.RestrictTo.Scope;
+
+/**
+ * Compatibility utils for {@link android.animation.ObjectAnimator} that animate {@link
+ * FloatProperty} and {@link IntProperty} values without boxing them on every frame.
+ *
+ * @hide
+ */
+@RestrictTo(Scope.LIBRARY_GROUP)
+public class ObjectAnimatorCompat {
+
+  private ObjectAnimatorCompat() {}
+
+  /**
+   * Constructs an ObjectAnimator that animates the float {@code property} of {@code target}
+   * between {@code values}, setting a {@link FloatProperty} through its primitive setter.
+   */
+  @NonNull
+  public static <T> ObjectAnimator ofFloat(
+      @NonNull T target, @NonNull Property<T, Float> property, @NonNull float... values) {
+    return ObjectAnimator.ofFloat(target, getFloatAnimatorProperty(property), values);
+  }
+
+  /**
+   * Constructs an ObjectAnimator that animates the int {@code property} of {@code target} between
+   * {@code values}, setting an {@link IntProperty} through its primitive setter.
+   */
+  @NonNull
+  public static <T> ObjectAnimator ofInt(
+      @NonNull T target, @NonNull Property<T, Integer> property, @NonNull int... values) {
+    return ObjectAnimator.ofInt(target, getIntAnimatorProperty(property), values);
+  }
+
+  @NonNull
+  private static <T> Property<T, Float> getFloatAnimatorProperty(
+      @NonNull Property<T, Float> property) {
+    if (property instanceof FloatProperty) {
+      return ((FloatProperty<T>) property).getAnimatorProperty();
+    }
+    return property;
+  }
+
+  @NonNull
+  private static <T> Property<T, Integer> getIntAnimatorProperty(
+      @NonNull Property<T, Integer> property) {
+    if (property instanceof IntProperty) {
+      return ((IntProperty<T>) property).getAnimatorProperty();
+    }
+    return property;
+  }
+}
@@ -159,8 +159,19 @@ public class BadgeDrawable extends Drawable implements TextDrawableDelegate {
   private final float badgeRadius;
   private final float badgeWithTextRadius;
   private final float badgeWidePadding;
+  private final int badgeHorizontalEdgeOffset;
+  private final int badgeTextHorizontalEdgeOffset;
   @NonNull private final SavedState savedState;
 
+  // Scratch rects reused by each update of the badge's bounds.
+  @NonNull private final Rect previousBadgeBounds = new Rect();
+  @NonNull private final Rect anchorRect = new Rect();
+
+  // The formatted badge text and its measured bounds, or null until the text is next drawn or
+  // measured. Cleared when the number, max character count or text appearance changes.
+  @Nullable private String badgeText;
+  @NonNull private final Rect badgeTextBounds = new Rect();
+
   private float badgeCenterX;
   private float badgeCenterY;
   private int maxBadgeNumber;
@@ -388,6 +399,10 @@ public class BadgeDrawable extends Drawable implements TextDrawableDelegate {
     badgeRadius = res.getDimensionPixelSize(R.dimen.mtrl_badge_radius);
     badgeWidePadding = res.getDimensionPixelSize(R.dimen.mtrl_badge_long_text_horizontal_padding);
     badgeWithTextRadius = res.getDimensionPixelSize(R.dimen.mtrl_badge_with_text_radius);
+    badgeHorizontalEdgeOffset =
+        res.getDimensionPixelSize(R.dimen.mtrl_badge_horizontal_edge_offset);
+    badgeTextHorizontalEdgeOffset =
+        res.getDimensionPixelSize(R.dimen.mtrl_badge_text_horizontal_edge_offset);
 
     textDrawableHelper = new TextDrawableHelper(/* delegate= */ this);
     textDrawableHelper.getTextPaint().setTextAlign(Paint.Align.CENTER);
@@ -407,8 +422,13 @@ public class BadgeDrawable extends Drawable implements TextDrawableDelegate {
    */
   public void updateBadgeCoordinates(
       @NonNull View anchorView, @Nullable ViewGroup customBadgeParent) {
-    this.anchorViewRef = new WeakReference<>(anchorView);
-    this.customBadgeParentRef = new WeakReference<>(customBadgeParent);
+    // Badges are often updated with the same anchor, so only replace the references on change.
+    if (anchorViewRef == null || anchorViewRef.get() != anchorView) {
+      this.anchorViewRef = new WeakReference<>(anchorView);
+    }
+    if (customBadgeParentRef == null || customBadgeParentRef.get() != customBadgeParent) {
+      this.customBadgeParentRef = new WeakReference<>(customBadgeParent);
+    }
     updateCenterAndBounds();
     invalidateSelf();
   }
@@ -497,6 +517,7 @@ public class BadgeDrawable extends Drawable implements TextDrawableDelegate {
     number = Math.max(0, number);
     if (this.savedState.number != number) {
       this.savedState.number = number;
+      badgeText = null;
       textDrawableHelper.setTextWidthDirty(true);
       updateCenterAndBounds();
       invalidateSelf();
@@ -506,6 +527,7 @@ public class BadgeDrawable extends Drawable implements TextDrawableDelegate {
   /** Resets any badge number so that a numberless badge will be displayed. */
   public void clearNumber() {
     savedState.number = BADGE_NUMBER_NONE;
+    badgeText = null;
     invalidateSelf();
   }
 
@@ -529,6 +551,7 @@ public class BadgeDrawable extends Drawable implements TextDrawableDelegate {
     if (this.savedState.maxCharacterCount != maxCharacterCount) {
       this.savedState.maxCharacterCount = maxCharacterCount;
       updateMaxBadgeNumber();
+      badgeText = null;
       textDrawableHelper.setTextWidthDirty(true);
       updateCenterAndBounds();
       invalidateSelf();
@@ -594,6 +617,16 @@ public class BadgeDrawable extends Drawable implements TextDrawableDelegate {
     return badgeBounds.width();
   }
 
+  /**
+   * Returns the bounds the badge is drawn in, which is centered on a corner of the anchor instead
+   * of filling {@link #getBounds()}.
+   */
+  @NonNull
+  @Override
+  public Rect getDirtyBounds() {
+    return badgeBounds;
+  }
+
   @Override
   public void draw(@NonNull Canvas canvas) {
     Rect bounds = getBounds();
@@ -614,6 +647,8 @@ public class BadgeDrawable extends Drawable implements TextDrawableDelegate {
   @RestrictTo(LIBRARY_GROUP)
   @Override
   public void onTextSizeChange() {
+    // The text bounds need to be measured again with the new text size or typeface.
+    badgeText = null;
     invalidateSelf();
   }
 
@@ -725,10 +760,8 @@ public class BadgeDrawable extends Drawable implements TextDrawableDelegate {
     if (context == null || anchorView == null) {
       return;
     }
-    Rect tmpRect = new Rect();
-    tmpRect.set(badgeBounds);
+    previousBadgeBounds.set(badgeBounds);
 
-    Rect anchorRect = new Rect();
     // Retrieves the visible bounds of the anchor view.
     anchorView.getDrawingRect(anchorRect);
 
@@ -740,18 +773,17 @@ public class BadgeDrawable extends Drawable implements TextDrawableDelegate {
       viewGroup.offsetDescendantRectToMyCoords(anchorView, anchorRect);
     }
 
-    calculateCenterAndBounds(context, anchorRect, anchorView);
+    calculateCenterAndBounds(anchorRect, anchorView);
 
     updateBadgeBounds(badgeBounds, badgeCenterX, badgeCenterY, halfBadgeWidth, halfBadgeHeight);
 
     shapeDrawable.setCornerSize(cornerRadius);
-    if (!tmpRect.equals(badgeBounds)) {
+    if (!previousBadgeBounds.equals(badgeBounds)) {
       shapeDrawable.setBounds(badgeBounds);
     }
   }
 
-  private void calculateCenterAndBounds(
-      @NonNull Context context, @NonNull Rect anchorRect, @NonNull View anchorView) {
+  private void calculateCenterAndBounds(@NonNull Rect anchorRect, @NonNull View anchorView) {
     switch (savedState.badgeGravity) {
       case BOTTOM_END:
       case BOTTOM_START:
@@ -775,13 +807,7 @@ public class BadgeDrawable extends Drawable implements TextDrawableDelegate {
       halfBadgeWidth = textDrawableHelper.getTextWidth(badgeText) / 2f + badgeWidePadding;
     }
 
-    int inset =
-        context
-            .getResources()
-            .getDimensionPixelSize(
-                hasNumber()
-                    ? R.dimen.mtrl_badge_text_horizontal_edge_offset
-                    : R.dimen.mtrl_badge_horizontal_edge_offset);
+    int inset = hasNumber() ? badgeTextHorizontalEdgeOffset : badgeHorizontalEdgeOffset;
     // Update the centerX based on the badge width and 'inset' from start or end boundary of anchor.
     switch (savedState.badgeGravity) {
       case BOTTOM_START:
@@ -803,18 +829,28 @@ public class BadgeDrawable extends Drawable implements TextDrawableDelegate {
   }
 
   private void drawText(Canvas canvas) {
-    Rect textBounds = new Rect();
     String badgeText = getBadgeText();
-    textDrawableHelper.getTextPaint().getTextBounds(badgeText, 0, badgeText.length(), textBounds);
     canvas.drawText(
         badgeText,
         badgeCenterX,
-        badgeCenterY + textBounds.height() / 2,
+        badgeCenterY + badgeTextBounds.height() / 2,
         textDrawableHelper.getTextPaint());
   }
 
+  /** Returns the badge text, formatting and measuring it only if it changed since last time. */
   @NonNull
   private String getBadgeText() {
+    if (badgeText == null) {
+      badgeText = formatBadgeText();
+      textDrawableHelper
+          .getTextPaint()
+          .getTextBounds(badgeText, 0, badgeText.length(), badgeTextBounds);
+    }
+    return badgeText;
+  }
+
+  @NonNull
+  private String formatBadgeText() {
     // If number exceeds max count, show badgeMaxCount+ instead of the number.
     if (getNumber() <= maxBadgeNumber) {
       return Integer.toString(getNumber());
@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.android.material.badge;
+
+import static androidx.annotation.RestrictTo.Scope.LIBRARY_GROUP;
+
+import android.graphics.Canvas;
+import android.graphics.Rect;
+import android.graphics.drawable.Drawable;
+import android.os.SystemClock;
+import android.view.View;
+import android.view.View.OnLayoutChangeListener;
+import android.view.ViewGroup;
+import android.view.ViewParent;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RestrictTo;
+import java.util.ArrayList;
+
+/**
+ * Lays out and draws the {@link BadgeDrawable BadgeDrawables} anchored to the descendants of a
+ * container, e.g. the items of a bottom navigation view.
+ *
+ * <p>Instead of adding each badge to the overlay of its anchor, where every anchor needs its own
+ * overlay and layout listener, the badges are positioned relative to the container in a single pass
+ * each time the container is laid out, and drawn by the container once it has drawn its children,
+ * with {@link #draw(Canvas)}. Like {@link BadgeUtils}, this follows the layout bounds of the
+ * anchors, not their translation. Only the badges whose anchors have moved are updated, and only
+ * their bounds are invalidated. This works the same on all API levels, so it doesn't need a compat
+ * FrameLayout parent before API 18.
+ *
+ * <p>Transitions such as {@code ChangeBounds} move the anchors without laying out the container, so
+ * the anchor bounds are also checked before the badges are drawn. Moving a descendant invalidates
+ * the container, so this runs on every frame of such an animation, but not on frames where nothing
+ * in the container changed.
+ *
+ * @hide
+ */
+@RestrictTo(LIBRARY_GROUP)
+public class BadgeHost implements Drawable.Callback, OnLayoutChangeListener {
+
+  @NonNull private final ViewGroup container;
+  private final ArrayList<AnchoredBadge> anchoredBadges = new ArrayList<>();
+  private final Rect tempAnchorRect = new Rect();
+  // Set while the badges are updated from draw, which already draws them at their new bounds.
+  private boolean drawing;
+
+  public BadgeHost(@NonNull ViewGroup container) {
+    this.container = container;
+    container.addOnLayoutChangeListener(this);
+  }
+
+  /**
+   * Attaches {@code badgeDrawable} to {@code anchor}, which has to be a descendant of the container
+   * by the time the container is laid out. If the badge is already attached, it's moved to {@code
+   * anchor}.
+   */
+  public void attachBadgeDrawable(@NonNull BadgeDrawable badgeDrawable, @NonNull View anchor) {
+    AnchoredBadge anchoredBadge = findAnchoredBadge(badgeDrawable);
+    if (anchoredBadge == null) {
+      anchoredBadge = new AnchoredBadge(badgeDrawable);
+      anchoredBadges.add(anchoredBadge);
+      badgeDrawable.setCallback(this);
+    } else {
+      invalidateBadge(anchoredBadge);
+    }
+    anchoredBadge.anchor = anchor;
+    // Forces the badge to be updated, even if the new anchor has the same bounds as the old one.
+    anchoredBadge.hasAnchorRect = false;
+    updateBadgeCoordinates(anchoredBadge);
+  }
+
+  /** Detaches {@code badgeDrawable}, if it's attached. */
+  public void detachBadgeDrawable(@NonNull BadgeDrawable badgeDrawable) {
+    AnchoredBadge anchoredBadge = findAnchoredBadge(badgeDrawable);
+    if (anchoredBadge == null) {
+      return;
+    }
+    invalidateBadge(anchoredBadge);
+    anchoredBadges.remove(anchoredBadge);
+    if (badgeDrawable.getCallback() == this) {
+      badgeDrawable.setCallback(null);
+    }
+  }
+
+  /**
+   * Updates the coordinates of the badges whose anchors have moved relative to the container since
+   * they were last updated.
+   */
+  public void updateBadgeCoordinates() {
+    for (int i = 0; i < anchoredBadges.size(); i++) {
+      updateBadgeCoordinates(anchoredBadges.get(i));
+    }
+  }
+
+  /**
+   * Draws the badges whose anchors are visible, after moving the ones whose anchors have moved.
+   * Should be called by the container's draw pass.
+   */
+  public void draw(@NonNull Canvas canvas) {
+    drawing = true;
+    updateBadgeCoordinates();
+    drawing = false;
+
+    for (int i = 0; i < anchoredBadges.size(); i++) {
+      AnchoredBadge anchoredBadge = anchoredBadges.get(i);
+      if (anchoredBadge.hasAnchorRect && anchoredBadge.anchor.getVisibility() == View.VISIBLE) {
+        anchoredBadge.badgeDrawable.draw(canvas);
+      }
+    }
+  }
+
+  @Override
+  public void onLayoutChange(
+      View v,
+      int left,
+      int top,
+      int right,
+      int bottom,
+      int oldLeft,
+      int oldTop,
+      int oldRight,
+      int oldBottom) {
+    // Called whenever the container is laid out, including when only a descendant requested it.
+    updateBadgeCoordinates();
+  }
+
+  @Override
+  public void invalidateDrawable(@NonNull Drawable who) {
+    if (!drawing) {
+      container.invalidate(who.getDirtyBounds());
+    }
+  }
+
+  @Override
+  public void scheduleDrawable(@NonNull Drawable who, @NonNull Runnable what, long when) {
+    container.postDelayed(what, when - SystemClock.uptimeMillis());
+  }
+
+  @Override
+  public void unscheduleDrawable(@NonNull Drawable who, @NonNull Runnable what) {
+    container.removeCallbacks(what);
+  }
+
+  private void updateBadgeCoordinates(@NonNull AnchoredBadge anchoredBadge) {
+    View anchor = anchoredBadge.anchor;
+    if (!isDescendantOfContainer(anchor)) {
+      return;
+    }
+    anchor.getDrawingRect(tempAnchorRect);
+    container.offsetDescendantRectToMyCoords(anchor, tempAnchorRect);
+    if (anchoredBadge.hasAnchorRect && anchoredBadge.anchorRect.equals(tempAnchorRect)) {
+      return;
+    }
+    anchoredBadge.anchorRect.set(tempAnchorRect);
+    anchoredBadge.hasAnchorRect = true;
+    // Setting the bounds invalidates where the badge was, and updating it where it is now.
+    anchoredBadge.badgeDrawable.setBounds(tempAnchorRect);
+    anchoredBadge.badgeDrawable.updateBadgeCoordinates(anchor, container);
+  }
+
+  /** Invalidates the area of the container the badge was last drawn in, if it was drawn. */
+  private void invalidateBadge(@NonNull AnchoredBadge anchoredBadge) {
+    if (anchoredBadge.hasAnchorRect) {
+      container.invalidate(anchoredBadge.badgeDrawable.getDirtyBounds());
+    }
+  }
+
+  private boolean isDescendantOfContainer(@NonNull View view) {
+    ViewParent parent = view.getParent();
+    while (parent instanceof View) {
+      if (parent == container) {
+        return true;
+      }
+      parent = parent.getParent();
+    }
+    return false;
+  }
+
+  @Nullable
+  private AnchoredBadge findAnchoredBadge(@NonNull BadgeDrawable badgeDrawable) {
+    for (int i = 0; i < anchoredBadges.size(); i++) {
+      AnchoredBadge anchoredBadge = anchoredBadges.get(i);
+      if (anchoredBadge.badgeDrawable == badgeDrawable) {
+        return anchoredBadge;
+      }
+    }
+    return null;
+  }
+
+  /** A badge, its anchor, and the bounds of the anchor it was last updated with. */
+  private static final class AnchoredBadge {
+    @NonNull final BadgeDrawable badgeDrawable;
+    final Rect anchorRect = new Rect();
+    View anchor;
+    boolean hasAnchorRect;
+
+    AnchoredBadge(@NonNull BadgeDrawable badgeDrawable) {
+      this.badgeDrawable = badgeDrawable;
+    }
+  }
+}
@@ -50,6 +50,7 @@ import androidx.annotation.RestrictTo;
 import androidx.annotation.StyleRes;
 import androidx.core.content.ContextCompat;
 import com.google.android.material.badge.BadgeDrawable;
+import com.google.android.material.badge.BadgeHost;
 import com.google.android.material.badge.BadgeUtils;
 
 /** @hide */
@@ -80,6 +81,7 @@ public class BottomNavigationItemView extends FrameLayout implements MenuView.It
   @Nullable private Drawable wrappedIconDrawable;
 
   @Nullable private BadgeDrawable badgeDrawable;
+  @Nullable private BadgeHost badgeHost;
 
   public BottomNavigationItemView(@NonNull Context context) {
     this(context, null);
@@ -469,7 +471,18 @@ public class BottomNavigationItemView extends FrameLayout implements MenuView.It
     ViewCompat.setBackground(this, background);
   }
 
+  /**
+   * Sets the {@link BadgeHost} of the menu view this item belongs to, which lays out and draws the
+   * badge of this item instead of the icon's overlay.
+   */
+  void setBadgeHost(@Nullable BadgeHost badgeHost) {
+    this.badgeHost = badgeHost;
+  }
+
   void setBadge(@NonNull BadgeDrawable badgeDrawable) {
+    if (badgeHost != null && this.badgeDrawable != null && this.badgeDrawable != badgeDrawable) {
+      badgeHost.detachBadgeDrawable(this.badgeDrawable);
+    }
     this.badgeDrawable = badgeDrawable;
     if (icon != null) {
       tryAttachBadgeToAnchor(icon);
@@ -490,7 +503,8 @@ public class BottomNavigationItemView extends FrameLayout implements MenuView.It
   }
 
   private void tryUpdateBadgeBounds(View anchorView) {
-    if (!hasBadge()) {
+    if (!hasBadge() || badgeHost != null) {
+      // The badge host updates the badge when the menu view is laid out or drawn.
       return;
     }
     BadgeUtils.setBadgeDrawableBounds(
@@ -501,7 +515,9 @@ public class BottomNavigationItemView extends FrameLayout implements MenuView.It
     if (!hasBadge()) {
       return;
     }
-    if (anchorView != null) {
+    if (anchorView != null && badgeHost != null) {
+      badgeHost.attachBadgeDrawable(badgeDrawable, anchorView);
+    } else if (anchorView != null) {
       // Avoid clipping a badge if it's displayed.
       setClipChildren(false);
       setClipToPadding(false);
@@ -515,7 +531,9 @@ public class BottomNavigationItemView extends FrameLayout implements MenuView.It
     if (!hasBadge()) {
       return;
     }
-    if (anchorView != null) {
+    if (anchorView != null && badgeHost != null) {
+      badgeHost.detachBadgeDrawable(badgeDrawable);
+    } else if (anchorView != null) {
       // Clip children / view to padding when no badge is displayed.
       setClipChildren(true);
       setClipToPadding(true);
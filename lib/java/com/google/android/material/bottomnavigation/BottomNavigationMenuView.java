@@ -24,6 +24,7 @@ import android.annotation.SuppressLint;
 import android.content.Context;
 import android.content.res.ColorStateList;
 import android.content.res.Resources;
+import android.graphics.Canvas;
 import android.graphics.drawable.Drawable;
 import androidx.core.util.Pools;
 import androidx.core.view.ViewCompat;
@@ -52,6 +53,7 @@ import androidx.transition.AutoTransition;
 import androidx.transition.TransitionManager;
 import androidx.transition.TransitionSet;
 import com.google.android.material.badge.BadgeDrawable;
+import com.google.android.material.badge.BadgeHost;
 import com.google.android.material.internal.TextScale;
 import java.util.HashSet;
 
@@ -94,6 +96,7 @@ public class BottomNavigationMenuView extends ViewGroup implements MenuView {
   private int itemBackgroundRes;
   private int[] tempChildWidths;
   @NonNull private SparseArray<BadgeDrawable> badgeDrawables = new SparseArray<>(ITEM_POOL_SIZE);
+  @NonNull private final BadgeHost badgeHost = new BadgeHost(this);
 
   private BottomNavigationPresenter presenter;
   private MenuBuilder menu;
@@ -241,6 +244,13 @@ public class BottomNavigationMenuView extends ViewGroup implements MenuView {
     }
   }
 
+  @Override
+  protected void dispatchDraw(@NonNull Canvas canvas) {
+    super.dispatchDraw(canvas);
+    // The badges of all the items are drawn on top of them in a single pass.
+    badgeHost.draw(canvas);
+  }
+
   @Override
   public int getWindowAnimations() {
     return 0;
@@ -632,6 +642,7 @@ public class BottomNavigationMenuView extends ViewGroup implements MenuView {
     BottomNavigationItemView item = itemPool.acquire();
     if (item == null) {
       item = new BottomNavigationItemView(getContext());
+      item.setBadgeHost(badgeHost);
     }
     return item;
   }
@@ -59,6 +59,7 @@ import androidx.coordinatorlayout.widget.CoordinatorLayout.LayoutParams;
 import androidx.core.math.MathUtils;
 import androidx.customview.view.AbsSavedState;
 import androidx.customview.widget.ViewDragHelper;
+import com.google.android.material.animation.MaterialPerformanceMonitor;
 import com.google.android.material.internal.ViewUtils;
 import com.google.android.material.internal.ViewUtils.RelativePadding;
 import com.google.android.material.resources.MaterialResources;
@@ -375,6 +376,7 @@ public class BottomSheetBehavior<V extends View> extends CoordinatorLayout.Behav
     // Release references so we don't run unnecessary codepaths while not attached to a view.
     viewRef = null;
     viewDragHelper = null;
+    finishSettlePerformanceSession();
   }
 
   @Override
@@ -1094,6 +1096,11 @@ public class BottomSheetBehavior<V extends View> extends CoordinatorLayout.Behav
     }
     this.state = state;
 
+    if (state == STATE_DRAGGING) {
+      // Dragging cancels any settling, which is no longer measured.
+      finishSettlePerformanceSession();
+    }
+
     if (viewRef == null) {
       return;
     }
@@ -1163,6 +1170,12 @@ public class BottomSheetBehavior<V extends View> extends CoordinatorLayout.Behav
     this.halfExpandedOffset = (int) (parentHeight * (1 - halfExpandedRatio));
   }
 
+  private void finishSettlePerformanceSession() {
+    if (settleRunnable != null) {
+      settleRunnable.finishPerformanceSession();
+    }
+  }
+
   private void reset() {
     activePointerId = ViewDragHelper.INVALID_POINTER;
     if (velocityTracker != null) {
@@ -1332,6 +1345,10 @@ public class BottomSheetBehavior<V extends View> extends CoordinatorLayout.Behav
       // If the SettleRunnable has not been posted, post it with the correct state.
       if (settleRunnable.isPosted == false) {
         settleRunnable.targetState = state;
+        if (settleRunnable.performanceSession == null) {
+          settleRunnable.performanceSession =
+              MaterialPerformanceMonitor.begin("BottomSheetBehavior");
+        }
         ViewCompat.postOnAnimation(child, settleRunnable);
         settleRunnable.isPosted = true;
       } else {
@@ -1532,6 +1549,8 @@ public class BottomSheetBehavior<V extends View> extends CoordinatorLayout.Behav
 
     @State int targetState;
 
+    @Nullable MaterialPerformanceMonitor.Session performanceSession;
+
     SettleRunnable(View view, @State int targetState) {
       this.view = view;
       this.targetState = targetState;
@@ -1539,13 +1558,29 @@ public class BottomSheetBehavior<V extends View> extends CoordinatorLayout.Behav
 
     @Override
     public void run() {
-      if (viewDragHelper != null && viewDragHelper.continueSettling(true)) {
+      if (performanceSession != null) {
+        performanceSession.beginCallback();
+      }
+      boolean continueSettling = viewDragHelper != null && viewDragHelper.continueSettling(true);
+      if (performanceSession != null) {
+        performanceSession.endCallback();
+      }
+
+      if (continueSettling) {
         ViewCompat.postOnAnimation(view, this);
       } else {
         setStateInternal(targetState);
+        finishPerformanceSession();
       }
       this.isPosted = false;
     }
+
+    void finishPerformanceSession() {
+      if (performanceSession != null) {
+        performanceSession.finish();
+        performanceSession = null;
+      }
+    }
   }
 
   /** State persisted across instances */
@@ -0,0 +1,259 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.android.material.button;
+
+import android.content.res.ColorStateList;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Paint.Style;
+import android.graphics.Rect;
+import android.graphics.drawable.Drawable;
+import android.graphics.drawable.RippleDrawable;
+import android.os.Build.VERSION;
+import android.os.Build.VERSION_CODES;
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.graphics.drawable.DrawableCompat;
+import com.google.android.material.ripple.RippleDrawableCompat;
+import com.google.android.material.ripple.RippleUtils;
+import com.google.android.material.shape.MaterialShapeDrawable;
+import com.google.android.material.shape.ShapeAppearanceModel;
+import com.google.android.material.shape.Shapeable;
+
+/**
+ * The background of a {@link MaterialButton}, which draws the surface color stroke, fill and stroke
+ * of the button in a single drawable.
+ *
+ * <p>The ripple, and the mask it's clipped to, are only created the first time the button is
+ * pressed, focused or hovered, so buttons which are never interacted with don't pay for them.
+ */
+class MaterialButtonBackgroundDrawable extends MaterialShapeDrawable implements Drawable.Callback {
+
+  private static final boolean IS_LOLLIPOP = VERSION.SDK_INT >= VERSION_CODES.LOLLIPOP;
+
+  private final Paint surfaceColorStrokePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+  @ColorInt private int surfaceColorStrokeColor = Color.TRANSPARENT;
+  private int alpha = 255;
+
+  @NonNull private ColorStateList rippleColor;
+  @Nullable private Drawable rippleDrawable;
+  @Nullable private Drawable maskDrawable;
+  private boolean hasHotspot;
+  private float hotspotX;
+  private float hotspotY;
+  @Nullable private Rect hotspotBounds;
+
+  MaterialButtonBackgroundDrawable(
+      @NonNull ShapeAppearanceModel shapeAppearanceModel, @Nullable ColorStateList rippleColor) {
+    super(shapeAppearanceModel);
+    surfaceColorStrokePaint.setStyle(Style.STROKE);
+    this.rippleColor = RippleUtils.sanitizeRippleDrawableColor(rippleColor);
+  }
+
+  /**
+   * Sets the color of the stroke drawn under the fill, so that the surface shows through the
+   * button's stroke rather than whatever is behind the button.
+   */
+  void setSurfaceColorStrokeColor(@ColorInt int surfaceColorStrokeColor) {
+    if (this.surfaceColorStrokeColor != surfaceColorStrokeColor) {
+      this.surfaceColorStrokeColor = surfaceColorStrokeColor;
+      invalidateSelf();
+    }
+  }
+
+  void setRippleColor(@Nullable ColorStateList rippleColor) {
+    this.rippleColor = RippleUtils.sanitizeRippleDrawableColor(rippleColor);
+    if (rippleDrawable == null) {
+      return;
+    }
+    if (IS_LOLLIPOP) {
+      ((RippleDrawable) rippleDrawable).setColor(this.rippleColor);
+    } else {
+      DrawableCompat.setTintList(rippleDrawable, this.rippleColor);
+    }
+  }
+
+  /** Returns the mask of the ripple, or {@code null} if the ripple hasn't been created yet. */
+  @Nullable
+  Shapeable getMaskDrawable() {
+    return (Shapeable) maskDrawable;
+  }
+
+  /** Returns the ripple, or {@code null} if it hasn't been created yet. */
+  @Nullable
+  Drawable getRippleDrawable() {
+    return rippleDrawable;
+  }
+
+  void setMaskBounds(int left, int top, int right, int bottom) {
+    if (maskDrawable != null) {
+      maskDrawable.setBounds(left, top, right, bottom);
+    }
+  }
+
+  @Override
+  public void draw(@NonNull Canvas canvas) {
+    if (Color.alpha(surfaceColorStrokeColor) != 0) {
+      surfaceColorStrokePaint.setColor(surfaceColorStrokeColor);
+      surfaceColorStrokePaint.setAlpha(Color.alpha(surfaceColorStrokeColor) * alpha / 255);
+      surfaceColorStrokePaint.setStrokeWidth(getStrokeWidth());
+      drawStrokeShape(canvas, surfaceColorStrokePaint);
+    }
+    super.draw(canvas);
+    if (rippleDrawable != null) {
+      rippleDrawable.draw(canvas);
+    }
+  }
+
+  @Override
+  public void setAlpha(int alpha) {
+    this.alpha = alpha;
+    super.setAlpha(alpha);
+  }
+
+  @Override
+  public void setShapeAppearanceModel(@NonNull ShapeAppearanceModel shapeAppearanceModel) {
+    super.setShapeAppearanceModel(shapeAppearanceModel);
+    if (maskDrawable != null) {
+      ((Shapeable) maskDrawable).setShapeAppearanceModel(shapeAppearanceModel);
+    }
+  }
+
+  @Override
+  public boolean isStateful() {
+    // Always stateful, so that the ripple can be created when the button is first interacted with.
+    return true;
+  }
+
+  @Override
+  protected boolean onStateChange(int[] state) {
+    boolean changed = super.onStateChange(state);
+    if (rippleDrawable == null && shouldShowRipple(state)) {
+      createRipple();
+    }
+    if (rippleDrawable != null) {
+      changed |= rippleDrawable.setState(state);
+    }
+    return changed;
+  }
+
+  @Override
+  protected void onBoundsChange(Rect bounds) {
+    super.onBoundsChange(bounds);
+    if (rippleDrawable != null) {
+      rippleDrawable.setBounds(bounds);
+    }
+  }
+
+  @Override
+  public boolean setVisible(boolean visible, boolean restart) {
+    boolean changed = super.setVisible(visible, restart);
+    if (rippleDrawable != null) {
+      rippleDrawable.setVisible(visible, restart);
+    }
+    return changed;
+  }
+
+  @Override
+  public void jumpToCurrentState() {
+    super.jumpToCurrentState();
+    if (rippleDrawable != null) {
+      rippleDrawable.jumpToCurrentState();
+    }
+  }
+
+  @Override
+  public void setHotspot(float x, float y) {
+    hasHotspot = true;
+    hotspotX = x;
+    hotspotY = y;
+    if (rippleDrawable != null) {
+      DrawableCompat.setHotspot(rippleDrawable, x, y);
+    }
+  }
+
+  @Override
+  public void setHotspotBounds(int left, int top, int right, int bottom) {
+    if (hotspotBounds == null) {
+      hotspotBounds = new Rect();
+    }
+    hotspotBounds.set(left, top, right, bottom);
+    if (rippleDrawable != null) {
+      DrawableCompat.setHotspotBounds(rippleDrawable, left, top, right, bottom);
+    }
+  }
+
+  @Override
+  public void invalidateDrawable(@NonNull Drawable who) {
+    // The ripple doesn't change the shape, so this doesn't need to recalculate its path.
+    Callback callback = getCallback();
+    if (callback != null) {
+      callback.invalidateDrawable(this);
+    }
+  }
+
+  @Override
+  public void scheduleDrawable(@NonNull Drawable who, @NonNull Runnable what, long when) {
+    scheduleSelf(what, when);
+  }
+
+  @Override
+  public void unscheduleDrawable(@NonNull Drawable who, @NonNull Runnable what) {
+    unscheduleSelf(what);
+  }
+
+  private static boolean shouldShowRipple(int[] state) {
+    for (int value : state) {
+      if (value == android.R.attr.state_pressed
+          || value == android.R.attr.state_focused
+          || value == android.R.attr.state_hovered) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void createRipple() {
+    if (IS_LOLLIPOP) {
+      MaterialShapeDrawable mask = new MaterialShapeDrawable(getShapeAppearanceModel());
+      mask.setTint(Color.WHITE);
+      maskDrawable = mask;
+      rippleDrawable = new RippleDrawable(rippleColor, null, mask);
+    } else {
+      RippleDrawableCompat mask = new RippleDrawableCompat(getShapeAppearanceModel());
+      DrawableCompat.setTintList(mask, rippleColor);
+      maskDrawable = mask;
+      rippleDrawable = mask;
+    }
+    rippleDrawable.setCallback(this);
+    rippleDrawable.setBounds(getBounds());
+    rippleDrawable.setVisible(isVisible(), false);
+    if (hotspotBounds != null) {
+      DrawableCompat.setHotspotBounds(
+          rippleDrawable,
+          hotspotBounds.left,
+          hotspotBounds.top,
+          hotspotBounds.right,
+          hotspotBounds.bottom);
+    }
+    if (hasHotspot) {
+      DrawableCompat.setHotspot(rippleDrawable, hotspotX, hotspotY);
+    }
+  }
+}
@@ -27,10 +27,6 @@ import android.graphics.Color;
 import android.graphics.PorterDuff.Mode;
 import android.graphics.drawable.Drawable;
 import android.graphics.drawable.InsetDrawable;
-import android.graphics.drawable.LayerDrawable;
-import android.graphics.drawable.RippleDrawable;
-import android.os.Build.VERSION;
-import android.os.Build.VERSION_CODES;
 import androidx.core.graphics.drawable.DrawableCompat;
 import androidx.core.view.ViewCompat;
 import androidx.annotation.Dimension;
@@ -40,8 +36,6 @@ import androidx.annotation.RestrictTo;
 import com.google.android.material.color.MaterialColors;
 import com.google.android.material.internal.ViewUtils;
 import com.google.android.material.resources.MaterialResources;
-import com.google.android.material.ripple.RippleDrawableCompat;
-import com.google.android.material.ripple.RippleUtils;
 import com.google.android.material.shape.MaterialShapeDrawable;
 import com.google.android.material.shape.ShapeAppearanceModel;
 import com.google.android.material.shape.Shapeable;
@@ -50,7 +44,6 @@ import com.google.android.material.shape.Shapeable;
 @RestrictTo(LIBRARY_GROUP)
 class MaterialButtonHelper {
 
-  private static final boolean IS_LOLLIPOP = VERSION.SDK_INT >= VERSION_CODES.LOLLIPOP;
   private final MaterialButton materialButton;
   @NonNull private ShapeAppearanceModel shapeAppearanceModel;
 
@@ -66,12 +59,11 @@ class MaterialButtonHelper {
   @Nullable private ColorStateList strokeColor;
   @Nullable private ColorStateList rippleColor;
 
-  @Nullable private Drawable maskDrawable;
   private boolean shouldDrawSurfaceColorStroke = false;
   private boolean backgroundOverwritten = false;
   private boolean cornerRadiusSet = false;
   private boolean checkable;
-  private LayerDrawable rippleDrawable;
+  @Nullable private MaterialButtonBackgroundDrawable backgroundDrawable;
   private int elevation;
 
   MaterialButtonHelper(MaterialButton button, @NonNull ShapeAppearanceModel shapeAppearanceModel) {
@@ -195,12 +187,13 @@ class MaterialButtonHelper {
   }
 
   /**
-   * Create RippleDrawable background for Lollipop (API 21) and later API versions
+   * Creates the background of the button, a single {@link MaterialButtonBackgroundDrawable} which
+   * draws the fill, stroke and ripple of the button, inset by the button's insets.
    *
    * @return Drawable representing background for this button.
    */
   private Drawable createBackground() {
-    MaterialShapeDrawable backgroundDrawable = new MaterialShapeDrawable(shapeAppearanceModel);
+    backgroundDrawable = new MaterialButtonBackgroundDrawable(shapeAppearanceModel, rippleColor);
     Context context = materialButton.getContext();
     backgroundDrawable.initializeElevationOverlay(context);
     DrawableCompat.setTintList(backgroundDrawable, backgroundTint);
@@ -208,41 +201,20 @@ class MaterialButtonHelper {
       DrawableCompat.setTintMode(backgroundDrawable, backgroundTintMode);
     }
     backgroundDrawable.setStroke(strokeWidth, strokeColor);
+    backgroundDrawable.setSurfaceColorStrokeColor(getSurfaceColorStrokeColor());
+    return wrapDrawableWithInset(backgroundDrawable);
+  }
 
-    MaterialShapeDrawable surfaceColorStrokeDrawable =
-        new MaterialShapeDrawable(shapeAppearanceModel);
-    surfaceColorStrokeDrawable.setTint(Color.TRANSPARENT);
-    surfaceColorStrokeDrawable.setStroke(
-        strokeWidth,
-        shouldDrawSurfaceColorStroke
-            ? MaterialColors.getColor(materialButton, R.attr.colorSurface)
-            : Color.TRANSPARENT);
-
-    if (IS_LOLLIPOP) {
-      maskDrawable = new MaterialShapeDrawable(shapeAppearanceModel);
-      DrawableCompat.setTint(maskDrawable, Color.WHITE);
-      rippleDrawable =
-          new RippleDrawable(
-              RippleUtils.sanitizeRippleDrawableColor(rippleColor),
-              wrapDrawableWithInset(
-                  new LayerDrawable(
-                      new Drawable[] {surfaceColorStrokeDrawable, backgroundDrawable})),
-              maskDrawable);
-      return rippleDrawable;
-    } else {
-      maskDrawable = new RippleDrawableCompat(shapeAppearanceModel);
-      DrawableCompat.setTintList(
-          maskDrawable, RippleUtils.sanitizeRippleDrawableColor(rippleColor));
-      rippleDrawable =
-          new LayerDrawable(
-              new Drawable[] {surfaceColorStrokeDrawable, backgroundDrawable, maskDrawable});
-      return wrapDrawableWithInset(rippleDrawable);
-    }
+  private int getSurfaceColorStrokeColor() {
+    return shouldDrawSurfaceColorStroke
+        ? MaterialColors.getColor(materialButton, R.attr.colorSurface)
+        : Color.TRANSPARENT;
   }
 
   void updateMaskBounds(int height, int width) {
-    if (maskDrawable != null) {
-      maskDrawable.setBounds(insetLeft, insetTop, width - insetRight, height - insetBottom);
+    if (backgroundDrawable != null) {
+      backgroundDrawable.setMaskBounds(
+          insetLeft, insetTop, width - insetRight, height - insetBottom);
     }
   }
 
@@ -255,12 +227,8 @@ class MaterialButtonHelper {
   void setRippleColor(@Nullable ColorStateList rippleColor) {
     if (this.rippleColor != rippleColor) {
       this.rippleColor = rippleColor;
-      if (IS_LOLLIPOP && materialButton.getBackground() instanceof RippleDrawable) {
-        ((RippleDrawable) materialButton.getBackground())
-            .setColor(RippleUtils.sanitizeRippleDrawableColor(rippleColor));
-      } else if (!IS_LOLLIPOP && materialButton.getBackground() instanceof RippleDrawableCompat) {
-        ((RippleDrawableCompat) materialButton.getBackground()).setTintList(
-            RippleUtils.sanitizeRippleDrawableColor(rippleColor));
+      if (backgroundDrawable != null) {
+        backgroundDrawable.setRippleColor(rippleColor);
       }
     }
   }
@@ -294,17 +262,9 @@ class MaterialButtonHelper {
   }
 
   private void updateStroke() {
-    MaterialShapeDrawable materialShapeDrawable = getMaterialShapeDrawable();
-    MaterialShapeDrawable surfaceColorStrokeDrawable = getSurfaceColorStrokeDrawable();
-    if (materialShapeDrawable != null) {
-      materialShapeDrawable.setStroke(strokeWidth, strokeColor);
-      if (surfaceColorStrokeDrawable != null) {
-        surfaceColorStrokeDrawable.setStroke(
-            strokeWidth,
-            shouldDrawSurfaceColorStroke
-                ? MaterialColors.getColor(materialButton, R.attr.colorSurface)
-                : Color.TRANSPARENT);
-      }
+    if (backgroundDrawable != null) {
+      backgroundDrawable.setStroke(strokeWidth, strokeColor);
+      backgroundDrawable.setSurfaceColorStrokeColor(getSurfaceColorStrokeColor());
     }
   }
 
@@ -323,26 +283,9 @@ class MaterialButtonHelper {
     return cornerRadius;
   }
 
-  @Nullable
-  private MaterialShapeDrawable getMaterialShapeDrawable(boolean getSurfaceColorStrokeDrawable) {
-    if (rippleDrawable != null && rippleDrawable.getNumberOfLayers() > 0) {
-      if (IS_LOLLIPOP) {
-        InsetDrawable insetDrawable = (InsetDrawable) rippleDrawable.getDrawable(0);
-        LayerDrawable layerDrawable = (LayerDrawable) insetDrawable.getDrawable();
-        return (MaterialShapeDrawable)
-            layerDrawable.getDrawable(getSurfaceColorStrokeDrawable ? 0 : 1);
-      } else {
-        return (MaterialShapeDrawable)
-            rippleDrawable.getDrawable(getSurfaceColorStrokeDrawable ? 0 : 1);
-      }
-    }
-
-    return null;
-  }
-
   @Nullable
   MaterialShapeDrawable getMaterialShapeDrawable() {
-    return getMaterialShapeDrawable(false);
+    return backgroundDrawable;
   }
 
   void setCheckable(boolean checkable) {
@@ -353,35 +296,20 @@ class MaterialButtonHelper {
     return checkable;
   }
 
-  @Nullable
-  private MaterialShapeDrawable getSurfaceColorStrokeDrawable() {
-    return getMaterialShapeDrawable(true);
-  }
-
   private void updateButtonShape(@NonNull ShapeAppearanceModel shapeAppearanceModel) {
-    if (getMaterialShapeDrawable() != null) {
-      getMaterialShapeDrawable().setShapeAppearanceModel(shapeAppearanceModel);
-    }
-    if (getSurfaceColorStrokeDrawable() != null) {
-      getSurfaceColorStrokeDrawable().setShapeAppearanceModel(shapeAppearanceModel);
-    }
-    if (getMaskDrawable() != null) {
-      getMaskDrawable().setShapeAppearanceModel(shapeAppearanceModel);
+    // Also updates the shape of the ripple's mask, if it was created.
+    if (backgroundDrawable != null) {
+      backgroundDrawable.setShapeAppearanceModel(shapeAppearanceModel);
     }
   }
 
+  /**
+   * Returns the mask of the button's ripple, or {@code null} if the button hasn't been pressed,
+   * focused or hovered yet, since the ripple is only created then.
+   */
   @Nullable
   public Shapeable getMaskDrawable() {
-    if (rippleDrawable != null && rippleDrawable.getNumberOfLayers() > 1) {
-      if (rippleDrawable.getNumberOfLayers() > 2) {
-        // This is a LayerDrawable with 3 layers, so return the mask layer
-        return (Shapeable) rippleDrawable.getDrawable(2);
-      }
-      // This is a RippleDrawable, so return the mask layer
-      return (Shapeable) rippleDrawable.getDrawable(1);
-    }
-
-    return null;
+    return backgroundDrawable != null ? backgroundDrawable.getMaskDrawable() : null;
   }
 
   void setShapeAppearanceModel(@NonNull ShapeAppearanceModel shapeAppearanceModel) {
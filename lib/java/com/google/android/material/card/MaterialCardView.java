@@ -42,6 +42,7 @@ import androidx.annotation.DrawableRes;
 import androidx.annotation.FloatRange;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
 import androidx.cardview.widget.CardView;
 import com.google.android.material.internal.ThemeEnforcement;
 import com.google.android.material.shape.MaterialShapeDrawable;
@@ -102,6 +103,8 @@ public class MaterialCardView extends CardView implements Checkable, Shapeable {
    */
   private boolean isParentCardViewDoneInitializing;
 
+  private final RectF boundsRectF = new RectF();
+
   private boolean checked = false;
   private boolean dragged = false;
   private OnCheckedChangeListener onCheckedChangeListener;
@@ -318,6 +321,23 @@ public class MaterialCardView extends CardView implements Checkable, Shapeable {
     }
   }
 
+  @Override
+  protected void drawableStateChanged() {
+    if (cardViewHelper != null) {
+      cardViewHelper.createRippleIfNeeded(getDrawableState());
+    }
+    super.drawableStateChanged();
+  }
+
+  @RequiresApi(VERSION_CODES.LOLLIPOP)
+  @Override
+  public void drawableHotspotChanged(float x, float y) {
+    if (cardViewHelper != null) {
+      cardViewHelper.createRippleIfNeededForHotspot();
+    }
+    super.drawableHotspotChanged(x, y);
+  }
+
   @Override
   protected void onAttachedToWindow() {
     super.onAttachedToWindow();
@@ -603,7 +623,6 @@ public class MaterialCardView extends CardView implements Checkable, Shapeable {
 
   @NonNull
   private RectF getBoundsAsRectF() {
-    RectF boundsRectF = new RectF();
     boundsRectF.set(cardViewHelper.getBackground().getBounds());
     return boundsRectF;
   }
@@ -24,6 +24,7 @@ import android.content.res.ColorStateList;
 import android.content.res.TypedArray;
 import android.graphics.Color;
 import android.graphics.Rect;
+import android.graphics.drawable.ColorDrawable;
 import android.graphics.drawable.Drawable;
 import android.graphics.drawable.InsetDrawable;
 import android.graphics.drawable.LayerDrawable;
@@ -85,8 +86,11 @@ class MaterialCardViewHelper {
    */
   private static final float CARD_VIEW_SHADOW_MULTIPLIER = 1.5f;
 
+  private static final int RIPPLE_LAYER_INDEX = 0;
   private static final int CHECKED_ICON_LAYER_INDEX = 2;
 
+  private static final int INSET_UNSET = -1;
+
   @NonNull private final MaterialCardView materialCardView;
   @NonNull private final Rect userContentPadding = new Rect();
 
@@ -99,6 +103,10 @@ class MaterialCardViewHelper {
   @Dimension private int checkedIconMargin;
   @Dimension private int checkedIconSize;
   @Dimension private int strokeWidth;
+  // The insets of the background and foreground InsetDrawables, which always share them. Only
+  // recreate them on change.
+  private int insetHorizontal = INSET_UNSET;
+  private int insetVertical = INSET_UNSET;
 
   // If card is clickable, this is the clickableForegroundDrawable otherwise it draws the stroke.
   @Nullable private Drawable fgDrawable;
@@ -185,10 +193,9 @@ class MaterialCardViewHelper {
     updateElevation();
     updateStroke();
 
-    materialCardView.setBackgroundInternal(insetDrawable(bgDrawable));
     fgDrawable =
         materialCardView.isClickable() ? getClickableForeground() : foregroundContentDrawable;
-    materialCardView.setForeground(insetDrawable(fgDrawable));
+    recreateInsetDrawables();
   }
 
   boolean isBackgroundOverwritten() {
@@ -268,7 +275,7 @@ class MaterialCardViewHelper {
     fgDrawable =
         materialCardView.isClickable() ? getClickableForeground() : foregroundContentDrawable;
     if (previousFgDrawable != fgDrawable) {
-      updateInsetForeground(fgDrawable);
+      updateInsetForeground();
     }
   }
 
@@ -310,7 +317,21 @@ class MaterialCardViewHelper {
   }
 
   void updateInsets() {
+    if (insetHorizontal == calculateInsetHorizontal()
+        && insetVertical == calculateInsetVertical()) {
+      return;
+    }
+    recreateInsetDrawables();
+  }
+
+  /**
+   * Recreates both the background and foreground InsetDrawables with the current insets, so that
+   * they never use different insets.
+   */
+  private void recreateInsetDrawables() {
     // No way to update the inset amounts for an InsetDrawable, so recreate insets as needed.
+    insetVertical = calculateInsetVertical();
+    insetHorizontal = calculateInsetHorizontal();
     if (!isBackgroundOverwritten()) {
       materialCardView.setBackgroundInternal(insetDrawable(bgDrawable));
     }
@@ -471,16 +492,15 @@ class MaterialCardViewHelper {
   }
 
   /**
-   * Attempts to update the {@link InsetDrawable} foreground to use the given {@link Drawable}.
-   * Changing the Drawable is only available in M+, so earlier versions will create a new
-   * InsetDrawable.
+   * Attempts to update the {@link InsetDrawable} foreground to use {@link #fgDrawable}. Changing
+   * the Drawable is only available in M+, so earlier versions will recreate both InsetDrawables.
    */
-  private void updateInsetForeground(Drawable insetForeground) {
+  private void updateInsetForeground() {
     if (VERSION.SDK_INT >= VERSION_CODES.M
         && materialCardView.getForeground() instanceof InsetDrawable) {
-      ((InsetDrawable) materialCardView.getForeground()).setDrawable(insetForeground);
+      ((InsetDrawable) materialCardView.getForeground()).setDrawable(fgDrawable);
     } else {
-      materialCardView.setForeground(insetDrawable(insetForeground));
+      recreateInsetDrawables();
     }
   }
 
@@ -493,17 +513,11 @@ class MaterialCardViewHelper {
    * InsetDrawable when there is an inset. Replacing the background (or foreground) of a {@link
    * View} with the same Drawable wrapped into an InsetDrawable will result in the View clearing the
    * original Drawable's callback which should refer to the InsetDrawable.
+   *
+   * <p>Uses the insets last set by {@link #recreateInsetDrawables()}.
    */
   @NonNull
   private Drawable insetDrawable(Drawable originalDrawable) {
-    int insetVertical = 0;
-    int insetHorizontal = 0;
-    boolean isPreLollipop = Build.VERSION.SDK_INT < VERSION_CODES.LOLLIPOP;
-    if (isPreLollipop || materialCardView.getUseCompatPadding()) {
-      // Calculate the shadow padding used by CardView
-      insetVertical = (int) Math.ceil(calculateVerticalBackgroundPadding());
-      insetHorizontal = (int) Math.ceil(calculateHorizontalBackgroundPadding());
-    }
     return new InsetDrawable(
         originalDrawable, insetHorizontal, insetVertical, insetHorizontal, insetVertical) {
       @Override
@@ -527,6 +541,28 @@ class MaterialCardViewHelper {
     };
   }
 
+  /** Returns the inset above and below the background and foreground for the shadow padding. */
+  private int calculateInsetVertical() {
+    if (shouldInsetForShadowPadding()) {
+      return (int) Math.ceil(calculateVerticalBackgroundPadding());
+    }
+    return 0;
+  }
+
+  /** Returns the inset left and right of the background and foreground for the shadow padding. */
+  private int calculateInsetHorizontal() {
+    if (shouldInsetForShadowPadding()) {
+      return (int) Math.ceil(calculateHorizontalBackgroundPadding());
+    }
+    return 0;
+  }
+
+  private boolean shouldInsetForShadowPadding() {
+    // Calculate the shadow padding used by CardView
+    boolean isPreLollipop = Build.VERSION.SDK_INT < VERSION_CODES.LOLLIPOP;
+    return isPreLollipop || materialCardView.getUseCompatPadding();
+  }
+
   /**
    * Calculates the amount of padding that should be added above and below the background shape.
    * This should only be called pre-lollipop or when using compat padding. This accounts for shadow
@@ -605,21 +641,57 @@ class MaterialCardViewHelper {
 
   @NonNull
   private Drawable getClickableForeground() {
-    if (rippleDrawable == null) {
-      rippleDrawable = createForegroundRippleDrawable();
-    }
-
     if (clickableForegroundDrawable == null) {
+      // The ripple is only created once the card is interacted with, see #createRippleIfNeeded.
+      Drawable rippleLayer =
+          rippleDrawable != null ? rippleDrawable : new ColorDrawable(Color.TRANSPARENT);
       Drawable checkedLayer = createCheckedIconLayer();
       clickableForegroundDrawable =
-          new LayerDrawable(
-              new Drawable[] {rippleDrawable, foregroundContentDrawable, checkedLayer});
+          new LayerDrawable(new Drawable[] {rippleLayer, foregroundContentDrawable, checkedLayer});
+      clickableForegroundDrawable.setId(RIPPLE_LAYER_INDEX, R.id.mtrl_card_ripple_layer_id);
       clickableForegroundDrawable.setId(CHECKED_ICON_LAYER_INDEX, R.id.mtrl_card_checked_layer_id);
     }
 
     return clickableForegroundDrawable;
   }
 
+  /**
+   * Creates the ripple of the clickable foreground if it's needed for the given drawable state,
+   * i.e. the card is pressed, focused or hovered for the first time.
+   */
+  void createRippleIfNeeded(@NonNull int[] drawableState) {
+    if (rippleDrawable != null || clickableForegroundDrawable == null) {
+      return;
+    }
+    for (int state : drawableState) {
+      if (state == android.R.attr.state_pressed
+          || state == android.R.attr.state_focused
+          || state == android.R.attr.state_hovered) {
+        createRipple();
+        return;
+      }
+    }
+  }
+
+  /**
+   * Creates the ripple of the clickable foreground before the hotspot of a touch is set, so that
+   * the first ripple starts from the touch rather than the center of the card.
+   */
+  void createRippleIfNeededForHotspot() {
+    if (rippleDrawable == null && clickableForegroundDrawable != null) {
+      createRipple();
+    }
+  }
+
+  private void createRipple() {
+    rippleDrawable = createForegroundRippleDrawable();
+    // The ripple takes the bounds of the placeholder layer it replaces.
+    clickableForegroundDrawable.setDrawableByLayerId(
+        R.id.mtrl_card_ripple_layer_id, rippleDrawable);
+    rippleDrawable.setState(clickableForegroundDrawable.getState());
+    rippleDrawable.setVisible(clickableForegroundDrawable.isVisible(), false);
+  }
+
   @NonNull
   private Drawable createForegroundRippleDrawable() {
     if (RippleUtils.USE_FRAMEWORK_RIPPLE) {
@@ -660,6 +732,9 @@ class MaterialCardViewHelper {
 
   @NonNull
   private MaterialShapeDrawable createForegroundShapeDrawable() {
-    return new MaterialShapeDrawable(shapeAppearanceModel);
+    MaterialShapeDrawable shapeDrawable = new MaterialShapeDrawable(shapeAppearanceModel);
+    // Match the progress of the card, since the ripple may be created while it's animating.
+    shapeDrawable.setInterpolation(bgDrawable.getInterpolation());
+    return shapeDrawable;
   }
 }
@@ -17,6 +17,7 @@ package com.google.android.material.circularreveal;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.drawable.Drawable;
 import android.util.AttributeSet;
@@ -81,6 +82,35 @@ public class CircularRevealFrameLayout extends FrameLayout implements CircularRe
     helper.setCircularRevealOverlayDrawable(drawable);
   }
 
+  /**
+   * Sets the bitmap config of the snapshot drawn by the {@link CircularRevealHelper#BITMAP_SHADER}
+   * strategy.
+   *
+   * @see CircularRevealHelper#setRevealSnapshotConfig(Bitmap.Config)
+   */
+  public void setRevealSnapshotConfig(@NonNull Bitmap.Config config) {
+    helper.setRevealSnapshotConfig(config);
+  }
+
+  @NonNull
+  public Bitmap.Config getRevealSnapshotConfig() {
+    return helper.getRevealSnapshotConfig();
+  }
+
+  /**
+   * Sets the scale at which the {@link CircularRevealHelper#BITMAP_SHADER} strategy draws the
+   * snapshot of this view.
+   *
+   * @see CircularRevealHelper#setRevealSnapshotScale(float)
+   */
+  public void setRevealSnapshotScale(float scale) {
+    helper.setRevealSnapshotScale(scale);
+  }
+
+  public float getRevealSnapshotScale() {
+    return helper.getRevealSnapshotScale();
+  }
+
   @SuppressLint("MissingSuperCall")
   @Override
   public void draw(@NonNull Canvas canvas) {
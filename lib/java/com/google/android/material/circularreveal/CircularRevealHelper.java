@@ -22,12 +22,12 @@ import android.graphics.Bitmap.Config;
 import android.graphics.BitmapShader;
 import android.graphics.Canvas;
 import android.graphics.Color;
+import android.graphics.Matrix;
 import android.graphics.Paint;
 import android.graphics.Paint.Style;
 import android.graphics.Path;
 import android.graphics.Path.Direction;
 import android.graphics.Rect;
-import android.graphics.Shader.TileMode;
 import android.graphics.drawable.Drawable;
 import android.os.Build.VERSION;
 import android.os.Build.VERSION_CODES;
@@ -36,6 +36,7 @@ import androidx.annotation.ColorInt;
 import androidx.annotation.IntDef;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import com.google.android.material.circularreveal.CircularRevealWidget.RevealInfo;
 import com.google.android.material.math.MathUtils;
 import java.lang.annotation.Retention;
@@ -123,6 +124,13 @@ public class CircularRevealHelper {
   private boolean buildingCircularRevealCache;
   private boolean hasCircularRevealCache;
 
+  // Snapshot of the view used by the BITMAP_SHADER strategy. It is returned to a bounded pool when
+  // the reveal ends so that later reveals of similarly sized views can redraw into it.
+  @Nullable private RevealSnapshotPool.Snapshot revealSnapshot;
+  @NonNull private Config revealSnapshotConfig = Config.ARGB_8888;
+  private float revealSnapshotScale = 1f;
+  @NonNull private final Matrix revealShaderMatrix = new Matrix();
+
   static {
     if (VERSION.SDK_INT >= VERSION_CODES.LOLLIPOP) {
       STRATEGY = REVEAL_ANIMATOR;
@@ -154,17 +162,27 @@ public class CircularRevealHelper {
       buildingCircularRevealCache = true;
       hasCircularRevealCache = false;
 
-      view.buildDrawingCache();
-      Bitmap bitmap = view.getDrawingCache();
-
-      if (bitmap == null && view.getWidth() != 0 && view.getHeight() != 0) {
-        bitmap = Bitmap.createBitmap(view.getWidth(), view.getHeight(), Config.ARGB_8888);
-        Canvas canvas = new Canvas(bitmap);
+      int width = (int) Math.ceil(view.getWidth() * revealSnapshotScale);
+      int height = (int) Math.ceil(view.getHeight() * revealSnapshotScale);
+      if (width != 0 && height != 0) {
+        if (revealSnapshot != null && revealSnapshot.fits(width, height, revealSnapshotConfig)) {
+          revealSnapshot.bitmap.eraseColor(Color.TRANSPARENT);
+        } else {
+          releaseRevealSnapshot();
+          revealSnapshot = RevealSnapshotPool.acquire(width, height, revealSnapshotConfig);
+        }
+
+        // Match the drawing cache, which records the view's content at its scroll position.
+        Canvas canvas = revealSnapshot.canvas;
+        int saveCount = canvas.save();
+        canvas.scale(revealSnapshotScale, revealSnapshotScale);
+        canvas.translate(-view.getScrollX(), -view.getScrollY());
         view.draw(canvas);
-      }
+        canvas.restoreToCount(saveCount);
 
-      if (bitmap != null) {
-        revealPaint.setShader(new BitmapShader(bitmap, TileMode.CLAMP, TileMode.CLAMP));
+        revealShaderMatrix.setScale(1f / revealSnapshotScale, 1f / revealSnapshotScale);
+        revealSnapshot.shader.setLocalMatrix(revealShaderMatrix);
+        revealPaint.setShader(revealSnapshot.shader);
       }
 
       buildingCircularRevealCache = false;
@@ -175,12 +193,58 @@ public class CircularRevealHelper {
   public void destroyCircularRevealCache() {
     if (STRATEGY == BITMAP_SHADER) {
       hasCircularRevealCache = false;
-      view.destroyDrawingCache();
       revealPaint.setShader(null);
+      releaseRevealSnapshot();
       view.invalidate();
     }
   }
 
+  private void releaseRevealSnapshot() {
+    if (revealSnapshot != null) {
+      RevealSnapshotPool.release(revealSnapshot);
+      revealSnapshot = null;
+    }
+  }
+
+  /**
+   * Sets the bitmap config of the snapshot drawn by the {@link #BITMAP_SHADER} strategy. Defaults
+   * to {@link Config#ARGB_8888}.
+   *
+   * <p>{@link Config#RGB_565} halves the memory used by the snapshot, but should only be used for
+   * opaque views since it can't store transparency.
+   */
+  public void setRevealSnapshotConfig(@NonNull Config config) {
+    revealSnapshotConfig = config;
+  }
+
+  @NonNull
+  public Config getRevealSnapshotConfig() {
+    return revealSnapshotConfig;
+  }
+
+  /**
+   * Sets the scale, between 0 and 1, at which the {@link #BITMAP_SHADER} strategy draws the
+   * snapshot of the view. Defaults to 1.
+   *
+   * <p>A smaller scale reduces the memory used by the snapshot at the cost of a blurrier reveal.
+   */
+  public void setRevealSnapshotScale(float scale) {
+    if (scale <= 0f || scale > 1f) {
+      throw new IllegalArgumentException("Snapshot scale must be in (0, 1], was " + scale);
+    }
+    revealSnapshotScale = scale;
+  }
+
+  public float getRevealSnapshotScale() {
+    return revealSnapshotScale;
+  }
+
+  @VisibleForTesting
+  @Nullable
+  Bitmap getRevealSnapshotBitmap() {
+    return revealSnapshot != null ? revealSnapshot.bitmap : null;
+  }
+
   /**
    * Sets the reveal info, ensuring that a reveal circle with a large enough radius that covers the
    * entire View has its {@link RevealInfo#radius} set to {@link RevealInfo#INVALID_RADIUS}.
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.android.material.circularreveal;
+
+import android.graphics.Bitmap;
+import android.graphics.Bitmap.Config;
+import android.graphics.BitmapShader;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Shader.TileMode;
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A pool of the snapshots drawn by the {@link CircularRevealHelper#BITMAP_SHADER} strategy.
+ *
+ * <p>Snapshot sizes are rounded up to buckets so that views of similar sizes share bitmaps, and the
+ * bytes held by snapshots that are not in use are bounded by {@link #MAX_POOLED_BYTES}. The oldest
+ * snapshots are recycled first once that bound is reached. The pool must only be used from the
+ * main thread.
+ */
+final class RevealSnapshotPool {
+
+  /** The granularity, in pixels, that snapshot sizes are rounded up to. */
+  private static final int BUCKET_SIZE = 64;
+
+  /** The maximum number of bytes held by snapshots that are not in use. */
+  @VisibleForTesting static final int MAX_POOLED_BYTES = 8 * 1024 * 1024;
+
+  private static final List<Snapshot> pool = new ArrayList<>();
+  private static int pooledBytes;
+
+  private RevealSnapshotPool() {}
+
+  /** A bitmap together with the canvas that draws into it and the shader that draws it. */
+  static final class Snapshot {
+    @NonNull final Bitmap bitmap;
+    @NonNull final Canvas canvas;
+    @NonNull final BitmapShader shader;
+
+    private Snapshot(@NonNull Bitmap bitmap) {
+      this.bitmap = bitmap;
+      canvas = new Canvas(bitmap);
+      shader = new BitmapShader(bitmap, TileMode.CLAMP, TileMode.CLAMP);
+    }
+
+    /** Returns whether this snapshot is in the bucket used for the given size and config. */
+    boolean fits(int width, int height, @NonNull Config config) {
+      return bitmap.getWidth() == bucket(width)
+          && bitmap.getHeight() == bucket(height)
+          && bitmap.getConfig() == config;
+    }
+  }
+
+  /**
+   * Returns a cleared snapshot of at least the given size, reusing a pooled one when one is
+   * available in the same bucket.
+   */
+  @NonNull
+  static Snapshot acquire(int width, int height, @NonNull Config config) {
+    for (int i = pool.size() - 1; i >= 0; i--) {
+      Snapshot snapshot = pool.get(i);
+      if (snapshot.fits(width, height, config)) {
+        pool.remove(i);
+        pooledBytes -= snapshot.bitmap.getByteCount();
+        snapshot.bitmap.eraseColor(Color.TRANSPARENT);
+        return snapshot;
+      }
+    }
+    return new Snapshot(Bitmap.createBitmap(bucket(width), bucket(height), config));
+  }
+
+  /** Returns a snapshot that is no longer drawn to the pool. */
+  static void release(@NonNull Snapshot snapshot) {
+    int byteCount = snapshot.bitmap.getByteCount();
+    if (byteCount > MAX_POOLED_BYTES) {
+      snapshot.bitmap.recycle();
+      return;
+    }
+
+    while (pooledBytes + byteCount > MAX_POOLED_BYTES) {
+      Snapshot evicted = pool.remove(0);
+      pooledBytes -= evicted.bitmap.getByteCount();
+      evicted.bitmap.recycle();
+    }
+    pool.add(snapshot);
+    pooledBytes += byteCount;
+  }
+
+  @VisibleForTesting
+  static int getPooledBytes() {
+    return pooledBytes;
+  }
+
+  @VisibleForTesting
+  static void clear() {
+    for (int i = 0, count = pool.size(); i < count; i++) {
+      pool.get(i).bitmap.recycle();
+    }
+    pool.clear();
+    pooledBytes = 0;
+  }
+
+  private static int bucket(int size) {
+    return (size + BUCKET_SIZE - 1) / BUCKET_SIZE * BUCKET_SIZE;
+  }
+}
@@ -16,6 +16,7 @@
 package com.google.android.material.circularreveal.cardview;
 
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.drawable.Drawable;
 import android.util.AttributeSet;
@@ -84,6 +85,35 @@ public class CircularRevealCardView extends MaterialCardView implements Circular
     helper.setCircularRevealOverlayDrawable(drawable);
   }
 
+  /**
+   * Sets the bitmap config of the snapshot drawn by the {@link CircularRevealHelper#BITMAP_SHADER}
+   * strategy.
+   *
+   * @see CircularRevealHelper#setRevealSnapshotConfig(Bitmap.Config)
+   */
+  public void setRevealSnapshotConfig(@NonNull Bitmap.Config config) {
+    helper.setRevealSnapshotConfig(config);
+  }
+
+  @NonNull
+  public Bitmap.Config getRevealSnapshotConfig() {
+    return helper.getRevealSnapshotConfig();
+  }
+
+  /**
+   * Sets the scale at which the {@link CircularRevealHelper#BITMAP_SHADER} strategy draws the
+   * snapshot of this view.
+   *
+   * @see CircularRevealHelper#setRevealSnapshotScale(float)
+   */
+  public void setRevealSnapshotScale(float scale) {
+    helper.setRevealSnapshotScale(scale);
+  }
+
+  public float getRevealSnapshotScale() {
+    return helper.getRevealSnapshotScale();
+  }
+
   @Override
   public void draw(Canvas canvas) {
     if (helper != null) {
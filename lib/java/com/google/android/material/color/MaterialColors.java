@@ -18,7 +18,6 @@ package com.google.android.material.color;
 import android.content.Context;
 import android.graphics.Color;
 import androidx.core.graphics.ColorUtils;
-import android.util.TypedValue;
 import android.view.View;
 import androidx.annotation.AttrRes;
 import androidx.annotation.ColorInt;
@@ -81,12 +80,7 @@ public class MaterialColors {
   @ColorInt
   public static int getColor(
       @NonNull Context context, @AttrRes int colorAttributeResId, @ColorInt int defaultValue) {
-    TypedValue typedValue = MaterialAttributes.resolve(context, colorAttributeResId);
-    if (typedValue != null) {
-      return typedValue.data;
-    } else {
-      return defaultValue;
-    }
+    return MaterialAttributes.resolveData(context, colorAttributeResId, defaultValue);
   }
 
   /**
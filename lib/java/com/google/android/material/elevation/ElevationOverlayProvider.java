@@ -24,6 +24,8 @@ import androidx.core.graphics.ColorUtils;
 import android.view.View;
 import androidx.annotation.ColorInt;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.collection.LruCache;
 import com.google.android.material.color.MaterialColors;
 import com.google.android.material.internal.ViewUtils;
 import com.google.android.material.resources.MaterialAttributes;
@@ -34,11 +36,33 @@ public class ElevationOverlayProvider {
   private static final float FORMULA_MULTIPLIER = 4.5f;
   private static final float FORMULA_OFFSET = 2f;
 
+  /** The number of steps per dp at which alpha fractions are looked up. */
+  private static final int ALPHA_FRACTION_STEPS_PER_DP = 8;
+  /** The elevation, in dp, up to which alpha fractions are looked up instead of calculated. */
+  private static final int ALPHA_FRACTION_MAX_LOOKUP_DP = 128;
+
+  // The alpha fraction at each step of elevation, which only depends on the elevation in dp, so is
+  // shared by all providers. Entries are 0 until computed, as every fraction is at least 0.02.
+  private static final float[] alphaFractions =
+      new float[ALPHA_FRACTION_MAX_LOOKUP_DP * ALPHA_FRACTION_STEPS_PER_DP + 1];
+
+  /** The number of surface and overlay color pairs whose composited colors are kept. */
+  private static final int SURFACE_OVERLAY_COLORS_CACHE_SIZE = 8;
+
+  // The composited colors of a surface color with each alpha of an overlay color, shared by all
+  // providers of themes with the same pair of colors.
+  private static final LruCache<Long, int[]> surfaceOverlayColorsCache =
+      new LruCache<>(SURFACE_OVERLAY_COLORS_CACHE_SIZE);
+
   private final boolean elevationOverlayEnabled;
   private final int elevationOverlayColor;
   private final int colorSurface;
   private final float displayDensity;
 
+  // The theme surface color composited with the overlay color at each alpha, which is all the
+  // elevation overlay depends on. Entries are 0 until computed, as the colors are opaque.
+  @Nullable private int[] surfaceOverlayColors;
+
   public ElevationOverlayProvider(@NonNull Context context) {
     this.elevationOverlayEnabled =
         MaterialAttributes.resolveBoolean(context, R.attr.elevationOverlayEnabled, false);
@@ -117,11 +141,40 @@ public class ElevationOverlayProvider {
     float overlayAlphaFraction = calculateOverlayAlphaFraction(elevation);
     int backgroundAlpha = Color.alpha(backgroundColor);
     int backgroundColorOpaque = ColorUtils.setAlphaComponent(backgroundColor, 255);
-    int overlayColorOpaque =
-        MaterialColors.layer(backgroundColorOpaque, elevationOverlayColor, overlayAlphaFraction);
+    int overlayColorOpaque;
+    if (backgroundColorOpaque == colorSurface) {
+      // Looks up the color by the overlay alpha the elevation results in, as MaterialColors#layer
+      // would round it.
+      overlayColorOpaque =
+          getSurfaceOverlayColor(
+              Math.round(Color.alpha(elevationOverlayColor) * overlayAlphaFraction));
+    } else {
+      overlayColorOpaque =
+          MaterialColors.layer(backgroundColorOpaque, elevationOverlayColor, overlayAlphaFraction);
+    }
     return ColorUtils.setAlphaComponent(overlayColorOpaque, backgroundAlpha);
   }
 
+  @ColorInt
+  private int getSurfaceOverlayColor(int overlayAlpha) {
+    if (surfaceOverlayColors == null) {
+      long key = ((long) colorSurface << 32) | (elevationOverlayColor & 0xFFFFFFFFL);
+      surfaceOverlayColors = surfaceOverlayColorsCache.get(key);
+      if (surfaceOverlayColors == null) {
+        surfaceOverlayColors = new int[256];
+        surfaceOverlayColorsCache.put(key, surfaceOverlayColors);
+      }
+    }
+    int color = surfaceOverlayColors[overlayAlpha];
+    if (color == 0) {
+      color =
+          MaterialColors.layer(
+              colorSurface, ColorUtils.setAlphaComponent(elevationOverlayColor, overlayAlpha));
+      surfaceOverlayColors[overlayAlpha] = color;
+    }
+    return color;
+  }
+
   /**
    * Calculates the alpha value, between 0 and 255, that should be used with the elevation overlay
    * color, based on the provided {@code elevation} value.
@@ -133,12 +186,30 @@ public class ElevationOverlayProvider {
   /**
    * Calculates the alpha fraction, between 0 and 1, that should be used with the elevation overlay
    * color, based on the provided {@code elevation} value.
+   *
+   * <p>Elevations of up to 128dp are rounded to the nearest 1/8dp and looked up, so animating the
+   * elevation doesn't calculate a logarithm on every frame. The rounding changes the fraction by
+   * less than 1/255.
    */
   public float calculateOverlayAlphaFraction(float elevation) {
     if (displayDensity <= 0 || elevation <= 0) {
       return 0;
     }
     float elevationDp = elevation / displayDensity;
+    if (elevationDp > ALPHA_FRACTION_MAX_LOOKUP_DP) {
+      return calculateOverlayAlphaFractionForDp(elevationDp);
+    }
+    int step = Math.round(elevationDp * ALPHA_FRACTION_STEPS_PER_DP);
+    float alphaFraction = alphaFractions[step];
+    if (alphaFraction == 0) {
+      alphaFraction =
+          calculateOverlayAlphaFractionForDp((float) step / ALPHA_FRACTION_STEPS_PER_DP);
+      alphaFractions[step] = alphaFraction;
+    }
+    return alphaFraction;
+  }
+
+  private static float calculateOverlayAlphaFractionForDp(float elevationDp) {
     float alphaFraction =
         (FORMULA_MULTIPLIER * (float) Math.log1p(elevationDp) + FORMULA_OFFSET) / 100;
     return Math.min(alphaFraction, 1);
@@ -46,6 +46,7 @@ import androidx.annotation.VisibleForTesting;
 import androidx.coordinatorlayout.widget.CoordinatorLayout;
 import androidx.coordinatorlayout.widget.CoordinatorLayout.AttachedBehavior;
 import androidx.coordinatorlayout.widget.CoordinatorLayout.Behavior;
+import com.google.android.material.animation.MaterialPerformanceMonitor;
 import com.google.android.material.animation.MotionSpec;
 import com.google.android.material.appbar.AppBarLayout;
 import com.google.android.material.bottomsheet.BottomSheetBehavior;
@@ -630,6 +631,7 @@ public class ExtendedFloatingActionButton extends MaterialButton implements Atta
 
     measure(MeasureSpec.UNSPECIFIED, MeasureSpec.UNSPECIFIED);
     Animator animator = strategy.createAnimator();
+    MaterialPerformanceMonitor.track(animator, "ExtendedFloatingActionButton");
     animator.addListener(
         new AnimatorListenerAdapter() {
           private boolean cancelled;
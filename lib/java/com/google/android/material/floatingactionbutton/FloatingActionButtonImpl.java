@@ -50,6 +50,7 @@ import androidx.annotation.Nullable;
 import com.google.android.material.animation.AnimationUtils;
 import com.google.android.material.animation.AnimatorSetCompat;
 import com.google.android.material.animation.ImageMatrixProperty;
+import com.google.android.material.animation.MaterialPerformanceMonitor;
 import com.google.android.material.animation.MatrixEvaluator;
 import com.google.android.material.animation.MotionSpec;
 import com.google.android.material.internal.StateListAnimator;
@@ -597,6 +598,7 @@ class FloatingActionButtonImpl {
 
     AnimatorSet set = new AnimatorSet();
     AnimatorSetCompat.playTogether(set, animators);
+    MaterialPerformanceMonitor.track(set, "FloatingActionButton");
     return set;
   }
 
@@ -259,6 +259,12 @@ public class ViewUtils {
   /**
    * Returns the absolute elevation of the parent of the provided {@code view}, or in other words,
    * the sum of the elevations of all ancestors of the {@code view}.
+   *
+   * <p>The sum isn't cached, since the framework reports no callback when an ancestor's elevation
+   * changes, so any cache could go stale. Callers sample it when a view is attached or its own
+   * elevation changes, and {@link
+   * com.google.android.material.shape.MaterialShapeDrawable#setParentAbsoluteElevation(float)}
+   * skips the redraw when it hasn't changed.
    */
   public static float getParentAbsoluteElevation(@NonNull View view) {
     float absoluteElevation = 0;
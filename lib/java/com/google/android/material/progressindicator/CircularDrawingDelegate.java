@@ -19,7 +19,11 @@ import android.graphics.Canvas;
 import android.graphics.Paint;
 import android.graphics.Paint.Cap;
 import android.graphics.Paint.Style;
+import android.graphics.Path;
+import android.graphics.Path.Direction;
+import android.graphics.Path.FillType;
 import android.graphics.RectF;
+import android.graphics.drawable.Drawable;
 import androidx.annotation.ColorInt;
 import androidx.annotation.FloatRange;
 import androidx.annotation.NonNull;
@@ -27,7 +31,10 @@ import androidx.annotation.NonNull;
 /** A delegate class to help draw the graphics for {@link ProgressIndicator} in circular types. */
 final class CircularDrawingDelegate implements DrawingDelegate {
 
-  private RectF arcBound = new RectF();
+  // Scratch geometry, updated in place on every draw.
+  private final RectF arcBound = new RectF();
+  private final RectF cornerPatternRectBound = new RectF();
+  private final Path trackClipPath = new Path();
   // This is a factor effecting the positive direction to draw the arc. -1 if inverse; +1 otherwise.
   private int arcInverseFactor = 1;
 
@@ -84,10 +91,18 @@ final class CircularDrawingDelegate implements DrawingDelegate {
     }
 
     // These are set for the drawing the indicator and track in fillTrackWithColor().
-    arcBound = new RectF(-adjustedRadius, -adjustedRadius, adjustedRadius, adjustedRadius);
+    arcBound.set(-adjustedRadius, -adjustedRadius, adjustedRadius, adjustedRadius);
     arcInverseFactor = spec.inverse ? -1 : 1;
   }
 
+  @Override
+  public void preparePaint(@NonNull Paint paint, float trackSize) {
+    paint.setStyle(Style.STROKE);
+    paint.setStrokeCap(Cap.BUTT);
+    paint.setAntiAlias(true);
+    paint.setStrokeWidth(trackSize);
+  }
+
   /**
    * Fills a part of the track with input color. The filling part is defined with two fractions
    * normalized to [0, 1] representing the start degree and end degree from 0 deg (top) in clockwise
@@ -116,12 +131,7 @@ final class CircularDrawingDelegate implements DrawingDelegate {
       return;
     }
 
-    // Initializes Paint object.
-    paint.setStyle(Style.STROKE);
-    paint.setStrokeCap(Cap.BUTT);
-    paint.setAntiAlias(true);
     paint.setColor(color);
-    paint.setStrokeWidth(trackSize);
 
     // Draws the stroke arc without rounded corners.
     float startDegree = startFraction * 360 * arcInverseFactor;
@@ -134,29 +144,49 @@ final class CircularDrawingDelegate implements DrawingDelegate {
     // Draws rounded corners if needed.
     if (cornerRadius > 0 && Math.abs(arcDegree) < 360) {
       paint.setStyle(Style.FILL);
-      RectF cornerPatternRectBound =
-          new RectF(-cornerRadius, -cornerRadius, cornerRadius, cornerRadius);
-      drawRoundedEnd(
-          canvas, paint, trackSize, cornerRadius, startDegree, true, cornerPatternRectBound);
-      drawRoundedEnd(
-          canvas,
-          paint,
-          trackSize,
-          cornerRadius,
-          startDegree + arcDegree,
-          false,
-          cornerPatternRectBound);
+      cornerPatternRectBound.set(-cornerRadius, -cornerRadius, cornerRadius, cornerRadius);
+      drawRoundedEnd(canvas, paint, trackSize, cornerRadius, startDegree, true);
+      drawRoundedEnd(canvas, paint, trackSize, cornerRadius, startDegree + arcDegree, false);
+      // Restores the style set in preparePaint() for the next fill.
+      paint.setStyle(Style.STROKE);
     }
   }
 
+  /**
+   * Draws a drawable clipped to the track ring. The drawable's bounds are set to the square around
+   * the outer edge of the track, centered at the center of the circle.
+   *
+   * @param canvas Canvas to draw.
+   * @param drawable The drawable to draw over the track.
+   * @param trackSize The size of the track in px.
+   */
+  @Override
+  public void drawClippedToTrack(
+      @NonNull Canvas canvas, @NonNull Drawable drawable, float trackSize) {
+    float outerRadius = arcBound.right + trackSize / 2;
+    float innerRadius = arcBound.right - trackSize / 2;
+    trackClipPath.rewind();
+    trackClipPath.setFillType(FillType.EVEN_ODD);
+    trackClipPath.addCircle(0, 0, outerRadius, Direction.CW);
+    trackClipPath.addCircle(0, 0, innerRadius, Direction.CW);
+
+    canvas.save();
+    canvas.clipPath(trackClipPath);
+    // Mirrors the drawable to run counter-clockwise if inverse.
+    canvas.scale(1, arcInverseFactor);
+    int drawableRadius = (int) Math.ceil(outerRadius);
+    drawable.setBounds(-drawableRadius, -drawableRadius, drawableRadius, drawableRadius);
+    drawable.draw(canvas);
+    canvas.restore();
+  }
+
   private void drawRoundedEnd(
       Canvas canvas,
       Paint paint,
       float trackSize,
       float cornerRadius,
       float positionInDeg,
-      boolean isStartPosition,
-      RectF cornerPatternRectBound) {
+      boolean isStartPosition) {
     float startOrEndFactor = isStartPosition ? -1 : 1;
     canvas.save();
     canvas.rotate(positionInDeg);
@@ -15,12 +15,12 @@
  */
 package com.google.android.material.progressindicator;
 
-import android.animation.Animator;
-import android.animation.AnimatorListenerAdapter;
-import android.animation.AnimatorSet;
-import android.animation.ObjectAnimator;
-import android.util.Property;
+import android.graphics.drawable.Drawable;
+import android.os.Build.VERSION;
+import android.os.Build.VERSION_CODES;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
 import androidx.annotation.VisibleForTesting;
 import androidx.vectordrawable.graphics.drawable.Animatable2Compat.AnimationCallback;
 import com.google.android.material.animation.AnimationUtils;
@@ -31,8 +31,7 @@ import com.google.android.material.math.MathUtils;
  * This is the implementation class for drawing progress indicator in the circular indeterminate
  * mode.
  */
-final class CircularIndeterminateAnimatorDelegate
-    extends IndeterminateAnimatorDelegate<AnimatorSet> {
+final class CircularIndeterminateAnimatorDelegate extends IndeterminateAnimatorDelegate {
 
   // Constants for animation values.
   private static final float INDICATOR_MAX_DEGREES = 270f;
@@ -41,125 +40,153 @@ final class CircularIndeterminateAnimatorDelegate
       INDICATOR_MAX_DEGREES - INDICATOR_MIN_DEGREES;
   private static final float INDICATOR_OFFSET_PER_COLOR_DEGREES = 360f;
 
-  // Constants for animation timing.
+  // Constants for animation timing. The head expands in the first half of the cycle and the tail
+  // collapses in the second half, while the indicator rotates throughout.
   private static final int DURATION_PER_COLOR_IN_MS = 1333;
+  private static final int EXPAND_DURATION = DURATION_PER_COLOR_IN_MS / 2;
+  private static final int COLLAPSE_DURATION = DURATION_PER_COLOR_IN_MS / 2;
   private static final int COLOR_FADING_DURATION = 333;
   private static final int COLOR_FADING_DELAY = 1000;
+  // The start offset is back to 0 after this many cycles, as their rotations add up to whole turns.
+  private static final int CYCLES_PER_START_OFFSET_PERIOD = 36;
 
-  // The animators control circular indeterminate animation.
-  private AnimatorSet animatorSet;
-  private ObjectAnimator indicatorCollapsingAnimator;
-  private ObjectAnimator colorFadingAnimator;
-
-  // Internal parameters controlled by the animator.
+  // Internal parameters controlled by the animation.
   private int indicatorColorIndex;
-  private int displayedIndicatorColor;
+  private float colorFadingFraction;
   private float indicatorStartOffset;
   private float indicatorInCycleOffset;
   private float indicatorHeadChangeFraction;
   private float indicatorTailChangeFraction;
+  // The value the tail change fraction collapses to in the current cycle.
+  private float indicatorTailChangeEndFraction = 1f;
+  // Whether the head has finished expanding in the current cycle.
+  private boolean expandEnded;
 
   // For animator control.
   boolean animatorCompleteEndRequested = false;
   AnimationCallback animatorCompleteCallback = null;
 
+  // Runs the animation instead of the frame clock when it's enabled and possible.
+  @Nullable private CircularRenderThreadAnimation renderThreadAnimation;
+
   public CircularIndeterminateAnimatorDelegate() {
     super(/*segmentCount=*/ 1);
   }
 
+  // ******************* Animation control *******************
+
   @Override
-  protected void registerDrawable(@NonNull IndeterminateDrawable drawable) {
-    super.registerDrawable(drawable);
-
-    colorFadingAnimator =
-        ObjectAnimator.ofObject(
-            this,
-            DISPLAYED_INDICATOR_COLOR,
-            new ArgbEvaluatorCompat(),
-            drawable.combinedIndicatorColorArray[indicatorColorIndex],
-            drawable.combinedIndicatorColorArray[getNextIndicatorColorIndex()]);
-    colorFadingAnimator.setDuration(COLOR_FADING_DURATION);
-    colorFadingAnimator.setStartDelay(COLOR_FADING_DELAY);
-    colorFadingAnimator.setInterpolator(AnimationUtils.FAST_OUT_SLOW_IN_INTERPOLATOR);
+  void startAnimator() {
+    if (VERSION.SDK_INT >= VERSION_CODES.Q && canAnimateOnRenderThread()) {
+      if (renderThreadAnimation == null) {
+        renderThreadAnimation = new CircularRenderThreadAnimation(drawable);
+      }
+      renderThreadAnimation.start(segmentColors[0]);
+      return;
+    }
+    super.startAnimator();
+  }
 
-    if (animatorSet != null) {
-      animatorSet.playTogether(colorFadingAnimator);
+  @Override
+  void cancelAnimatorImmediately() {
+    if (VERSION.SDK_INT >= VERSION_CODES.Q && renderThreadAnimation != null) {
+      renderThreadAnimation.stop();
     }
+    super.cancelAnimatorImmediately();
   }
 
-  // ******************* Animation control *******************
+  @Nullable
+  @Override
+  Drawable getRenderThreadDrawable() {
+    return VERSION.SDK_INT >= VERSION_CODES.Q && renderThreadAnimation != null
+        ? renderThreadAnimation.getDrawable()
+        : null;
+  }
 
   @Override
-  void startAnimator() {
-    maybeInitializeAnimators();
+  void continueOnMainThread() {
+    if (VERSION.SDK_INT < VERSION_CODES.Q
+        || renderThreadAnimation == null
+        || !renderThreadAnimation.isRunning()) {
+      return;
+    }
+    float durationScale = getSystemAnimatorDurationScale();
+    long playTime =
+        durationScale > 0
+            ? (long) (renderThreadAnimation.getElapsedTimeMillis() / durationScale)
+            : 0;
+    renderThreadAnimation.stop();
+
+    // Catches up with the start offset the completed cycles would have left.
+    long cycleCount = playTime / DURATION_PER_COLOR_IN_MS;
+    setIndicatorStartOffset(
+        MathUtils.floorMod(
+            (cycleCount % CYCLES_PER_START_OFFSET_PERIOD)
+                * (INDICATOR_OFFSET_PER_COLOR_DEGREES + INDICATOR_DELTA_DEGREES),
+            360));
+    startAnimatorAt(playTime % DURATION_PER_COLOR_IN_MS);
+  }
 
-    animatorSet.start();
+  @RequiresApi(VERSION_CODES.Q)
+  private boolean canAnimateOnRenderThread() {
+    // With animations turned off, the indicator holds still on the main thread instead.
+    return CircularRenderThreadAnimation.isSupported(drawable.spec)
+        && getSystemAnimatorDurationScale() > 0;
   }
 
-  private void maybeInitializeAnimators() {
-    if (animatorSet == null) {
-      // Instantiates the animator.
-      ObjectAnimator constantlyRotateAnimator =
-          ObjectAnimator.ofFloat(
-              this, INDICATOR_IN_CYCLE_OFFSET, 0f, INDICATOR_OFFSET_PER_COLOR_DEGREES);
-      constantlyRotateAnimator.setDuration(DURATION_PER_COLOR_IN_MS);
-      // Sets null to get a linear interpolator.
-      constantlyRotateAnimator.setInterpolator(null);
-
-      ObjectAnimator expandAnimator =
-          ObjectAnimator.ofFloat(this, INDICATOR_HEAD_CHANGE_FRACTION, 0f, 1f);
-      expandAnimator.setDuration(DURATION_PER_COLOR_IN_MS / 2);
-      expandAnimator.setInterpolator(AnimationUtils.FAST_OUT_SLOW_IN_INTERPOLATOR);
-      expandAnimator.addListener(
-          new AnimatorListenerAdapter() {
-            @Override
-            public void onAnimationEnd(Animator animation) {
-              super.onAnimationEnd(animation);
-              // Manipulates collapse animator to make the indicator span ends with 0 degree.
-              if (animatorCompleteEndRequested) {
-                indicatorCollapsingAnimator.setFloatValues(
-                    0f, 1f + INDICATOR_MIN_DEGREES / INDICATOR_DELTA_DEGREES);
-              }
-            }
-          });
-
-      indicatorCollapsingAnimator =
-          ObjectAnimator.ofFloat(this, INDICATOR_TAIL_CHANGE_FRACTION, 0f, 1f);
-      indicatorCollapsingAnimator.setDuration(DURATION_PER_COLOR_IN_MS / 2);
-      indicatorCollapsingAnimator.setInterpolator(AnimationUtils.FAST_OUT_SLOW_IN_INTERPOLATOR);
-
-      animatorSet = new AnimatorSet();
-      animatorSet.playSequentially(expandAnimator, indicatorCollapsingAnimator);
-      animatorSet.playTogether(constantlyRotateAnimator);
-      if (colorFadingAnimator != null) {
-        animatorSet.playTogether(colorFadingAnimator);
+  @Override
+  long getCycleDuration() {
+    return DURATION_PER_COLOR_IN_MS;
+  }
+
+  @Override
+  void onCycleStart() {
+    expandEnded = false;
+  }
+
+  @Override
+  void updatePropertiesAtPlayTime(long playTime) {
+    // Rotates linearly throughout the cycle.
+    indicatorInCycleOffset =
+        INDICATOR_OFFSET_PER_COLOR_DEGREES
+            * getFractionInRange(playTime, 0, DURATION_PER_COLOR_IN_MS);
+    indicatorHeadChangeFraction =
+        AnimationUtils.FAST_OUT_SLOW_IN_INTERPOLATOR.getInterpolation(
+            getFractionInRange(playTime, 0, EXPAND_DURATION));
+    if (!expandEnded && playTime >= EXPAND_DURATION) {
+      expandEnded = true;
+      // Makes the indicator span end with 0 degree if the animation should end with this cycle.
+      if (animatorCompleteEndRequested) {
+        indicatorTailChangeEndFraction = 1f + INDICATOR_MIN_DEGREES / INDICATOR_DELTA_DEGREES;
       }
-      animatorSet.addListener(
-          new AnimatorListenerAdapter() {
-            @Override
-            public void onAnimationEnd(Animator animation) {
-              super.onAnimationEnd(animation);
-
-              if (animatorCompleteEndRequested && segmentPositions[0] == segmentPositions[1]) {
-                animatorCompleteCallback.onAnimationEnd(drawable);
-                animatorCompleteEndRequested = false;
-              } else {
-                // If the drawable is still visible, continues the main animator by restarting.
-                if (drawable.isVisible()) {
-                  resetPropertiesForNextCycle();
-                  startAnimator();
-                }
-              }
-            }
-          });
+    }
+    indicatorTailChangeFraction =
+        indicatorTailChangeEndFraction
+            * AnimationUtils.FAST_OUT_SLOW_IN_INTERPOLATOR.getInterpolation(
+                getFractionInRange(playTime, EXPAND_DURATION, COLLAPSE_DURATION));
+    updateSegmentPositions();
+
+    if (playTime >= COLOR_FADING_DELAY) {
+      colorFadingFraction =
+          AnimationUtils.FAST_OUT_SLOW_IN_INTERPOLATOR.getInterpolation(
+              getFractionInRange(playTime, COLOR_FADING_DELAY, COLOR_FADING_DURATION));
+      segmentColors[0] = getFadingIndicatorColor();
     }
   }
 
   @Override
-  void cancelAnimatorImmediately() {
-    if (animatorSet != null) {
-      animatorSet.cancel();
+  boolean onCycleEnd() {
+    if (animatorCompleteEndRequested && segmentPositions[0] == segmentPositions[1]) {
+      animatorCompleteCallback.onAnimationEnd(drawable);
+      animatorCompleteEndRequested = false;
+      return false;
     }
+    // If the drawable is still visible, continues the animation with the next cycle.
+    if (drawable.isVisible()) {
+      resetPropertiesForNextCycle();
+      return true;
+    }
+    return false;
   }
 
   @Override
@@ -168,6 +195,8 @@ final class CircularIndeterminateAnimatorDelegate
     if (animatorCompleteEndRequested) {
       return;
     }
+    // Only the main thread animation can end with the indicator collapsed.
+    continueOnMainThread();
 
     if (drawable.isVisible()) {
       animatorCompleteEndRequested = true;
@@ -181,9 +210,7 @@ final class CircularIndeterminateAnimatorDelegate
     setIndicatorHeadChangeFraction(0f);
     setIndicatorTailChangeFraction(0f);
     setIndicatorStartOffset(0f);
-    if (indicatorCollapsingAnimator != null) {
-      indicatorCollapsingAnimator.setFloatValues(0f, 1f);
-    }
+    indicatorTailChangeEndFraction = 1f;
     resetSegmentColors();
   }
 
@@ -203,6 +230,15 @@ final class CircularIndeterminateAnimatorDelegate
   @Override
   public void invalidateSpecValues() {
     resetSegmentColors();
+    if (VERSION.SDK_INT >= VERSION_CODES.Q
+        && renderThreadAnimation != null
+        && renderThreadAnimation.isRunning()) {
+      if (canAnimateOnRenderThread()) {
+        renderThreadAnimation.setColor(segmentColors[0]);
+      } else {
+        continueOnMainThread();
+      }
+    }
   }
 
   @Override
@@ -237,32 +273,32 @@ final class CircularIndeterminateAnimatorDelegate
             / 360;
   }
 
+  /** Returns the indicator color faded from the current color to the next one. */
+  private int getFadingIndicatorColor() {
+    return ArgbEvaluatorCompat.getInstance()
+        .evaluateArgb(
+            colorFadingFraction,
+            drawable.combinedIndicatorColorArray[indicatorColorIndex],
+            drawable.combinedIndicatorColorArray[getNextIndicatorColorIndex()]);
+  }
+
   /** Shifts the color used in the segment colors to the next available one. */
   private void shiftSegmentColors() {
     indicatorColorIndex = getNextIndicatorColorIndex();
-    colorFadingAnimator.setIntValues(
-        drawable.combinedIndicatorColorArray[indicatorColorIndex],
-        drawable.combinedIndicatorColorArray[getNextIndicatorColorIndex()]);
+    colorFadingFraction = 0f;
     setDisplayedIndicatorColor(drawable.combinedIndicatorColorArray[indicatorColorIndex]);
   }
 
   /** Resets the segment colors to the first indicator color. */
   private void resetSegmentColors() {
     indicatorColorIndex = 0;
-    colorFadingAnimator.setIntValues(
-        drawable.combinedIndicatorColorArray[indicatorColorIndex],
-        drawable.combinedIndicatorColorArray[getNextIndicatorColorIndex()]);
+    colorFadingFraction = 0f;
     setDisplayedIndicatorColor(drawable.combinedIndicatorColorArray[indicatorColorIndex]);
   }
 
   // ******************* Getters and setters *******************
 
-  private int getDisplayedIndicatorColor() {
-    return displayedIndicatorColor;
-  }
-
   private void setDisplayedIndicatorColor(int displayedIndicatorColor) {
-    this.displayedIndicatorColor = displayedIndicatorColor;
     segmentColors[0] = displayedIndicatorColor;
     drawable.invalidateSelf();
   }
@@ -310,79 +346,4 @@ final class CircularIndeterminateAnimatorDelegate
     updateSegmentPositions();
     drawable.invalidateSelf();
   }
-
-  // ******************* Properties *******************
-
-  /** The property of indicator color being currently displayed. */
-  private static final Property<CircularIndeterminateAnimatorDelegate, Integer>
-      DISPLAYED_INDICATOR_COLOR =
-          new Property<CircularIndeterminateAnimatorDelegate, Integer>(
-              Integer.class, "displayedIndicatorColor") {
-            @Override
-            public Integer get(CircularIndeterminateAnimatorDelegate delegate) {
-              return delegate.getDisplayedIndicatorColor();
-            }
-
-            @Override
-            public void set(CircularIndeterminateAnimatorDelegate delegate, Integer value) {
-              delegate.setDisplayedIndicatorColor(value);
-            }
-          };
-
-  /**
-   * The property of degrees which the indicator should rotate clockwise from the {@code
-   * indicatorStartOffset}.
-   */
-  private static final Property<CircularIndeterminateAnimatorDelegate, Float>
-      INDICATOR_IN_CYCLE_OFFSET =
-          new Property<CircularIndeterminateAnimatorDelegate, Float>(
-              Float.class, "indicatorInCycleOffset") {
-            @Override
-            public Float get(CircularIndeterminateAnimatorDelegate delegate) {
-              return delegate.getIndicatorInCycleOffset();
-            }
-
-            @Override
-            public void set(CircularIndeterminateAnimatorDelegate delegate, Float value) {
-              delegate.setIndicatorInCycleOffset(value);
-            }
-          };
-
-  /**
-   * The property of the fraction of the head (the more clockwise end) of the indicator in the total
-   * amount it can change.
-   */
-  private static final Property<CircularIndeterminateAnimatorDelegate, Float>
-      INDICATOR_HEAD_CHANGE_FRACTION =
-          new Property<CircularIndeterminateAnimatorDelegate, Float>(
-              Float.class, "indicatorHeadChangeFraction") {
-            @Override
-            public Float get(CircularIndeterminateAnimatorDelegate delegate) {
-              return delegate.getIndicatorHeadChangeFraction();
-            }
-
-            @Override
-            public void set(CircularIndeterminateAnimatorDelegate delegate, Float value) {
-              delegate.setIndicatorHeadChangeFraction(value);
-            }
-          };
-
-  /**
-   * The property of the fraction of the tail (the less clockwise end) of the indicator in the total
-   * amount it can change.
-   */
-  private static final Property<CircularIndeterminateAnimatorDelegate, Float>
-      INDICATOR_TAIL_CHANGE_FRACTION =
-          new Property<CircularIndeterminateAnimatorDelegate, Float>(
-              Float.class, "indicatorTailChangeFraction") {
-            @Override
-            public Float get(CircularIndeterminateAnimatorDelegate delegate) {
-              return delegate.getIndicatorTailChangeFraction();
-            }
-
-            @Override
-            public void set(CircularIndeterminateAnimatorDelegate delegate, Float value) {
-              delegate.setIndicatorTailChangeFraction(value);
-            }
-          };
 }
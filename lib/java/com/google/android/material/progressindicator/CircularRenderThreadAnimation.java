@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.android.material.progressindicator;
+
+import com.google.android.material.R;
+
+import android.graphics.drawable.AnimatedVectorDrawable;
+import android.graphics.drawable.Drawable;
+import android.os.Build.VERSION_CODES;
+import android.os.SystemClock;
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+
+/**
+ * Runs the circular indeterminate animation of {@link ProgressIndicator} on the render thread, so
+ * it keeps animating smoothly while the main thread is busy.
+ *
+ * <p>The animation is an {@link AnimatedVectorDrawable}, whose animators are run by the render
+ * thread once it's drawn to a hardware accelerated canvas. It follows the same motion as {@link
+ * CircularIndeterminateAnimatorDelegate}, but draws a wedge covering the whole circle, which is
+ * clipped to the track by {@link DrawingDelegate#drawClippedToTrack}, so it fits any indicator size
+ * and radius. The drawable can't fade between the colors of the spec or round the ends of the
+ * indicator, so it's only used with a single indicator color and without rounded corners.
+ */
+@RequiresApi(VERSION_CODES.Q)
+final class CircularRenderThreadAnimation {
+
+  @NonNull private final AnimatedVectorDrawable animatedDrawable;
+  private boolean running;
+  // The uptime when the animation was first drawn after being started, or -1 until then.
+  private long startTimeMillis = -1;
+
+  CircularRenderThreadAnimation(@NonNull final IndeterminateDrawable drawable) {
+    animatedDrawable =
+        (AnimatedVectorDrawable)
+            drawable.context.getDrawable(
+                R.drawable.mtrl_progress_circular_indeterminate_render_thread);
+    // Forwards invalidations to the progress indicator, which draws the animated drawable.
+    animatedDrawable.setCallback(
+        new Drawable.Callback() {
+          @Override
+          public void invalidateDrawable(@NonNull Drawable who) {
+            drawable.invalidateSelf();
+          }
+
+          @Override
+          public void scheduleDrawable(@NonNull Drawable who, @NonNull Runnable what, long when) {
+            drawable.scheduleSelf(what, when);
+          }
+
+          @Override
+          public void unscheduleDrawable(@NonNull Drawable who, @NonNull Runnable what) {
+            drawable.unscheduleSelf(what);
+          }
+        });
+  }
+
+  /** Returns whether the animation can be drawn for the given spec. */
+  static boolean isSupported(@NonNull ProgressIndicatorSpec spec) {
+    return spec.renderThreadAnimationEnabled
+        && spec.indicatorType == ProgressIndicator.CIRCULAR
+        && spec.indicatorColors.length == 1
+        && spec.indicatorCornerRadius == 0;
+  }
+
+  /** Starts the animation from the beginning of its first cycle. */
+  void start(@ColorInt int color) {
+    animatedDrawable.setTint(color);
+    animatedDrawable.reset();
+    animatedDrawable.start();
+    running = true;
+    startTimeMillis = -1;
+  }
+
+  /** Stops the animation and resets it to the beginning. */
+  void stop() {
+    if (running) {
+      running = false;
+      animatedDrawable.reset();
+    }
+  }
+
+  boolean isRunning() {
+    return running;
+  }
+
+  void setColor(@ColorInt int color) {
+    animatedDrawable.setTint(color);
+  }
+
+  /**
+   * Returns the drawable to draw in place of the indicator while the animation runs, or {@code
+   * null} if it's stopped.
+   */
+  @Nullable
+  Drawable getDrawable() {
+    if (!running) {
+      return null;
+    }
+    // The render thread starts the animators on the frame they are first drawn.
+    if (startTimeMillis < 0) {
+      startTimeMillis = SystemClock.uptimeMillis();
+    }
+    return animatedDrawable;
+  }
+
+  /** Returns the time, in milliseconds, since the animation was first drawn. */
+  long getElapsedTimeMillis() {
+    return startTimeMillis < 0 ? 0 : SystemClock.uptimeMillis() - startTimeMillis;
+  }
+}
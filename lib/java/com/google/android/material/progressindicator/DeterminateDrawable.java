@@ -18,7 +18,6 @@ package com.google.android.material.progressindicator;
 
 import android.content.Context;
 import android.graphics.Canvas;
-import android.graphics.Rect;
 import androidx.annotation.NonNull;
 import androidx.dynamicanimation.animation.FloatPropertyCompat;
 import androidx.dynamicanimation.animation.SpringAnimation;
@@ -149,8 +148,6 @@ public final class DeterminateDrawable extends DrawableWithAnimatedVisibilityCha
 
   @Override
   public void draw(@NonNull Canvas canvas) {
-    Rect clipBounds = new Rect();
-
     if (getBounds().isEmpty() || !isVisible() || !canvas.getClipBounds(clipBounds)) {
       // Escape if bounds are empty, clip bounds are empty, or currently hidden.
       return;
@@ -161,6 +158,7 @@ public final class DeterminateDrawable extends DrawableWithAnimatedVisibilityCha
 
     float displayedIndicatorSize = spec.indicatorSize * getGrowFraction();
     float displayedRoundedCornerRadius = spec.indicatorCornerRadius * getGrowFraction();
+    drawingDelegate.preparePaint(paint, displayedIndicatorSize);
 
     // Draws the track.
     drawingDelegate.fillTrackWithColor(
@@ -23,13 +23,15 @@ import android.content.Context;
 import android.graphics.ColorFilter;
 import android.graphics.Paint;
 import android.graphics.PixelFormat;
+import android.graphics.Rect;
 import android.graphics.drawable.Drawable;
 import android.os.Build.VERSION;
-import android.util.Property;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.vectordrawable.graphics.drawable.Animatable2Compat;
 import com.google.android.material.animation.AnimationUtils;
+import com.google.android.material.animation.FloatProperty;
+import com.google.android.material.animation.ObjectAnimatorCompat;
 import com.google.android.material.color.MaterialColors;
 import java.util.ArrayList;
 import java.util.List;
@@ -71,6 +73,8 @@ abstract class DrawableWithAnimatedVisibilityChange extends Drawable implements
   int[] combinedIndicatorColorArray;
 
   final Paint paint = new Paint();
+  // Scratch bounds which draw() reads the canvas clip bounds into, so drawing doesn't allocate.
+  final Rect clipBounds = new Rect();
   private int totalAlpha;
 
   // ******************* Constructor *******************
@@ -88,13 +92,13 @@ abstract class DrawableWithAnimatedVisibilityChange extends Drawable implements
 
   private void maybeInitializeAnimators() {
     if (showAnimator == null) {
-      showAnimator = ObjectAnimator.ofFloat(this, GROW_FRACTION, 0f, 1f);
+      showAnimator = ObjectAnimatorCompat.ofFloat(this, GROW_FRACTION, 0f, 1f);
       showAnimator.setDuration(GROW_DURATION);
       showAnimator.setInterpolator(AnimationUtils.FAST_OUT_SLOW_IN_INTERPOLATOR);
       setShowAnimator(showAnimator);
     }
     if (hideAnimator == null) {
-      hideAnimator = ObjectAnimator.ofFloat(this, GROW_FRACTION, 1f, 0f);
+      hideAnimator = ObjectAnimatorCompat.ofFloat(this, GROW_FRACTION, 1f, 0f);
       hideAnimator.setDuration(GROW_DURATION);
       hideAnimator.setInterpolator(AnimationUtils.FAST_OUT_SLOW_IN_INTERPOLATOR);
       setHideAnimator(hideAnimator);
@@ -376,15 +380,15 @@ abstract class DrawableWithAnimatedVisibilityChange extends Drawable implements
 
   // ******************* Properties *******************
 
-  private static final Property<DrawableWithAnimatedVisibilityChange, Float> GROW_FRACTION =
-      new Property<DrawableWithAnimatedVisibilityChange, Float>(Float.class, "growFraction") {
+  private static final FloatProperty<DrawableWithAnimatedVisibilityChange> GROW_FRACTION =
+      new FloatProperty<DrawableWithAnimatedVisibilityChange>("growFraction") {
         @Override
         public Float get(DrawableWithAnimatedVisibilityChange drawable) {
           return drawable.getGrowFraction();
         }
 
         @Override
-        public void set(DrawableWithAnimatedVisibilityChange drawable, Float value) {
+        public void setValue(DrawableWithAnimatedVisibilityChange drawable, float value) {
           drawable.setGrowFraction(value);
         }
       };
@@ -17,6 +17,7 @@ package com.google.android.material.progressindicator;
 
 import android.graphics.Canvas;
 import android.graphics.Paint;
+import android.graphics.drawable.Drawable;
 import androidx.annotation.ColorInt;
 import androidx.annotation.FloatRange;
 import androidx.annotation.NonNull;
@@ -55,9 +56,19 @@ interface DrawingDelegate {
       @NonNull ProgressIndicatorSpec spec,
       @FloatRange(from = 0.0, to = 1.0) float indicatorSizeFraction);
 
+  /**
+   * Sets up the paint state shared by all fills of a frame, so that it's only set once per frame.
+   * Should be called after {@link #adjustCanvas} and before {@link #fillTrackWithColor}.
+   *
+   * @param paint Paint used to draw.
+   * @param trackSize The size of the track in px.
+   */
+  void preparePaint(@NonNull Paint paint, float trackSize);
+
   /**
    * Fills a part of the track with input color. The filling part is defined with two fractions
-   * normalized to [0, 1] representing the start and the end of the track.
+   * normalized to [0, 1] representing the start and the end of the track. The paint must have been
+   * set up with {@link #preparePaint}.
    *
    * @param canvas Canvas to draw.
    * @param paint Paint used to draw.
@@ -75,4 +86,14 @@ interface DrawingDelegate {
       @FloatRange(from = 0.0, to = 1.0) float endFraction,
       float trackSize,
       float cornerRadius);
+
+  /**
+   * Draws a drawable over the whole track, clipped to the track. The drawable is drawn from the
+   * start of the track in the positive direction, like the fills.
+   *
+   * @param canvas Canvas to draw.
+   * @param drawable The drawable to draw over the track.
+   * @param trackSize The size of the track in px.
+   */
+  void drawClippedToTrack(@NonNull Canvas canvas, @NonNull Drawable drawable, float trackSize);
 }
@@ -16,16 +16,25 @@
 
 package com.google.android.material.progressindicator;
 
-import android.animation.Animator;
 import android.graphics.drawable.Drawable;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.vectordrawable.graphics.drawable.Animatable2Compat.AnimationCallback;
+import com.google.android.material.animation.AnimationFrameClock;
 
 /**
  * A delegate abstract class for animating properties used in drawing the graphics in different
  * drawable classes for {@link ProgressIndicator}.
+ *
+ * <p>Instead of running animators, the animation is driven by the shared {@link
+ * AnimationFrameClock}. On every frame all properties are computed from the time into the current
+ * cycle and the drawable is invalidated once, so any number of indeterminate indicators cost a
+ * single frame callback.
  */
-abstract class IndeterminateAnimatorDelegate<T extends Animator> {
+abstract class IndeterminateAnimatorDelegate implements AnimationFrameClock.FrameCallback {
+
+  /** The cycle duration of animations which run until they are canceled. */
+  static final long INFINITE_CYCLE_DURATION = Long.MAX_VALUE;
 
   // The drawable associated with this delegate.
   protected IndeterminateDrawable drawable;
@@ -36,6 +45,15 @@ abstract class IndeterminateAnimatorDelegate<T extends Animator> {
   // segment positions.
   protected final int[] segmentColors;
 
+  // Whether the delegate is subscribed to the frame clock.
+  private boolean running;
+  // The frame time when the current cycle started, or -1 until the cycle's first frame.
+  private long cycleStartTimeNanos = -1;
+  // How far into the cycle the first frame of the current cycle is, in milliseconds.
+  private long cycleStartPlayTime;
+  // The system animator duration scale when the animation was started.
+  private float durationScale = 1f;
+
   /**
    * This constructor should be overridden with other necessary actions, e.g. instantiating the
    * animator.
@@ -50,11 +68,114 @@ abstract class IndeterminateAnimatorDelegate<T extends Animator> {
     this.drawable = drawable;
   }
 
-  /** Starts the animator. */
-  abstract void startAnimator();
+  /** Starts the animation from the beginning of a cycle on the next frame. */
+  void startAnimator() {
+    startAnimatorAt(0);
+  }
+
+  /** Starts the animation {@code playTime} milliseconds into a cycle on the next frame. */
+  void startAnimatorAt(long playTime) {
+    durationScale = getSystemAnimatorDurationScale();
+    startNextCycle();
+    cycleStartPlayTime = playTime;
+  }
+
+  float getSystemAnimatorDurationScale() {
+    return drawable.animatorDurationScaleProvider.getSystemAnimatorDurationScale(
+        drawable.context.getContentResolver());
+  }
+
+  private void startNextCycle() {
+    cycleStartTimeNanos = -1;
+    cycleStartPlayTime = 0;
+    if (!running) {
+      running = true;
+      AnimationFrameClock.getInstance().addFrameCallback(this);
+    }
+  }
 
-  /** Cancels the animator immediately. */
-  abstract void cancelAnimatorImmediately();
+  /** Cancels the animation immediately, leaving the properties at their current values. */
+  void cancelAnimatorImmediately() {
+    if (running) {
+      running = false;
+      AnimationFrameClock.getInstance().removeFrameCallback(this);
+    }
+  }
+
+  @Override
+  public void doFrame(long frameTimeNanos) {
+    if (cycleStartTimeNanos < 0) {
+      cycleStartTimeNanos =
+          frameTimeNanos - (long) (cycleStartPlayTime * 1_000_000L * durationScale);
+      onCycleStart();
+    }
+    // Like animators, the cycle is stretched by the duration scale, and holds still when it's off.
+    long playTime =
+        durationScale > 0
+            ? (long) ((frameTimeNanos - cycleStartTimeNanos) / 1_000_000L / durationScale)
+            : 0;
+    long cycleDuration = getCycleDuration();
+
+    if (playTime < cycleDuration) {
+      updatePropertiesAtPlayTime(playTime);
+    } else {
+      updatePropertiesAtPlayTime(cycleDuration);
+      // The cycle has ended. The callbacks dispatched by onCycleEnd() may start the animation
+      // again, which is left as is.
+      cancelAnimatorImmediately();
+      if (onCycleEnd() && !running) {
+        startNextCycle();
+      }
+    }
+    drawable.invalidateSelf();
+  }
+
+  /**
+   * Returns the duration of a cycle in milliseconds, or {@link #INFINITE_CYCLE_DURATION} if the
+   * animation doesn't have cycles.
+   */
+  abstract long getCycleDuration();
+
+  /**
+   * Updates all properties to their values at {@code playTime} milliseconds into the current
+   * cycle, without invalidating the drawable.
+   */
+  abstract void updatePropertiesAtPlayTime(long playTime);
+
+  /**
+   * Called when the current cycle ends, after the properties are updated to their end values.
+   * Returns whether the next cycle should start.
+   */
+  abstract boolean onCycleEnd();
+
+  /**
+   * Called on the first frame of every cycle, before the properties are updated. Delegates can
+   * override this to reset state that is tracked within a cycle.
+   */
+  void onCycleStart() {}
+
+  /**
+   * Returns how far {@code playTime} is into the range starting at {@code delay} with the given
+   * {@code duration}, as a linear fraction clamped to [0, 1].
+   */
+  static float getFractionInRange(long playTime, long delay, long duration) {
+    return Math.max(0f, Math.min(1f, (float) (playTime - delay) / duration));
+  }
+
+  /**
+   * Returns the drawable to draw in place of the segments while the animation runs on the render
+   * thread, or {@code null} if it runs on the main thread and the segments are up to date.
+   */
+  @Nullable
+  Drawable getRenderThreadDrawable() {
+    return null;
+  }
+
+  /**
+   * Moves an animation running on the render thread to the main thread, continuing from where it
+   * is. Does nothing if the animation doesn't run on the render thread.
+   */
+  void continueOnMainThread() {}
 
   /** Requests to cancel the main animator after the current cycle finishes. */
   abstract void requestCancelAnimatorAfterCurrentCycle();
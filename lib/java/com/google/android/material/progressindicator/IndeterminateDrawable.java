@@ -15,10 +15,9 @@
  */
 package com.google.android.material.progressindicator;
 
-import android.animation.AnimatorSet;
 import android.content.Context;
 import android.graphics.Canvas;
-import android.graphics.Rect;
+import android.graphics.Color;
 import android.graphics.drawable.Drawable;
 import android.util.Pair;
 import androidx.annotation.NonNull;
@@ -33,12 +32,12 @@ public final class IndeterminateDrawable extends DrawableWithAnimatedVisibilityC
   // Drawing delegate object.
   private final DrawingDelegate drawingDelegate;
   // Animator delegate object.
-  private IndeterminateAnimatorDelegate<AnimatorSet> animatorDelegate;
+  private IndeterminateAnimatorDelegate animatorDelegate;
 
   public IndeterminateDrawable(@NonNull Context context, @NonNull ProgressIndicatorSpec spec) {
     super(context, spec);
 
-    Pair<DrawingDelegate, IndeterminateAnimatorDelegate<AnimatorSet>> delegatePair =
+    Pair<DrawingDelegate, IndeterminateAnimatorDelegate> delegatePair =
         initializeDelegates(spec.indicatorType, spec.linearSeamless);
 
     this.drawingDelegate = delegatePair.first;
@@ -91,54 +90,101 @@ public final class IndeterminateDrawable extends DrawableWithAnimatedVisibilityC
   /** Draws the graphics based on the progress indicator's properties and the animation states. */
   @Override
   public void draw(@NonNull Canvas canvas) {
-    Rect clipBounds = new Rect();
-
     if (getBounds().isEmpty() || !isVisible() || !canvas.getClipBounds(clipBounds)) {
       // Escape if bounds are empty, clip bounds are empty, or currently hidden.
       return;
     }
 
+    Drawable renderThreadDrawable = animatorDelegate.getRenderThreadDrawable();
+    if (renderThreadDrawable != null && !canvas.isHardwareAccelerated()) {
+      // Only hardware accelerated canvases can run the animation on the render thread.
+      animatorDelegate.continueOnMainThread();
+      renderThreadDrawable = null;
+    }
+
     canvas.save();
     drawingDelegate.adjustCanvas(canvas, spec, getGrowFraction());
 
     float displayedIndicatorSize = spec.indicatorSize * getGrowFraction();
     float displayedRoundedCornerRadius = spec.indicatorCornerRadius * getGrowFraction();
 
-    // Draws the track first as the bottom layer.
-    drawingDelegate.fillTrackWithColor(
-        canvas,
-        paint,
-        combinedTrackColor,
-        0f,
-        1f,
-        displayedIndicatorSize,
-        displayedRoundedCornerRadius);
-    // Draws the indicators.
-    for (int segmentIndex = 0;
-        segmentIndex < animatorDelegate.segmentColors.length;
-        segmentIndex++) {
+    drawingDelegate.preparePaint(paint, displayedIndicatorSize);
+
+    // Draws the track first as the bottom layer, unless the indicators hide all of it.
+    if (renderThreadDrawable != null || !isTrackCoveredBySegments()) {
+      drawingDelegate.fillTrackWithColor(
+          canvas,
+          paint,
+          combinedTrackColor,
+          0f,
+          1f,
+          displayedIndicatorSize,
+          displayedRoundedCornerRadius);
+    }
+    if (renderThreadDrawable != null) {
+      // Draws the indicators animated by the render thread.
+      drawingDelegate.drawClippedToTrack(canvas, renderThreadDrawable, displayedIndicatorSize);
+      canvas.restore();
+      return;
+    }
+    // Draws the indicators. Adjacent segments of the same color are filled at once.
+    int[] segmentColors = animatorDelegate.segmentColors;
+    float[] segmentPositions = animatorDelegate.segmentPositions;
+    int segmentIndex = 0;
+    while (segmentIndex < segmentColors.length) {
+      int color = segmentColors[segmentIndex];
+      float startFraction = segmentPositions[2 * segmentIndex];
+      float endFraction = segmentPositions[2 * segmentIndex + 1];
+      segmentIndex++;
+      while (segmentIndex < segmentColors.length
+          && segmentColors[segmentIndex] == color
+          && segmentPositions[2 * segmentIndex] == endFraction) {
+        endFraction = segmentPositions[2 * segmentIndex + 1];
+        segmentIndex++;
+      }
       drawingDelegate.fillTrackWithColor(
           canvas,
           paint,
-          animatorDelegate.segmentColors[segmentIndex],
-          animatorDelegate.segmentPositions[2 * segmentIndex],
-          animatorDelegate.segmentPositions[2 * segmentIndex + 1],
+          color,
+          startFraction,
+          endFraction,
           displayedIndicatorSize,
           displayedRoundedCornerRadius);
     }
     canvas.restore();
   }
 
+  /**
+   * Returns whether the segments are opaque and cover the track from end to end without gaps, as
+   * in the linear seamless mode, so the track wouldn't be visible.
+   */
+  private boolean isTrackCoveredBySegments() {
+    if (paint.getColorFilter() != null) {
+      return false;
+    }
+    float coveredFraction = 0f;
+    for (int segmentIndex = 0;
+        segmentIndex < animatorDelegate.segmentColors.length;
+        segmentIndex++) {
+      if (animatorDelegate.segmentPositions[2 * segmentIndex] != coveredFraction
+          || Color.alpha(animatorDelegate.segmentColors[segmentIndex]) != 255) {
+        return false;
+      }
+      coveredFraction = animatorDelegate.segmentPositions[2 * segmentIndex + 1];
+    }
+    return coveredFraction == 1f;
+  }
+
   // ******************* Helper methods *******************
 
-  private Pair<DrawingDelegate, IndeterminateAnimatorDelegate<AnimatorSet>> initializeDelegates(
+  private Pair<DrawingDelegate, IndeterminateAnimatorDelegate> initializeDelegates(
       @IndicatorType int type, boolean linearSeamless) {
     if (type == ProgressIndicator.CIRCULAR) {
-      return new Pair<DrawingDelegate, IndeterminateAnimatorDelegate<AnimatorSet>>(
+      return new Pair<DrawingDelegate, IndeterminateAnimatorDelegate>(
           new CircularDrawingDelegate(), new CircularIndeterminateAnimatorDelegate());
     }
 
-    return new Pair<DrawingDelegate, IndeterminateAnimatorDelegate<AnimatorSet>>(
+    return new Pair<DrawingDelegate, IndeterminateAnimatorDelegate>(
         new LinearDrawingDelegate(),
         linearSeamless
             ? new LinearIndeterminateSeamlessAnimatorDelegate()
@@ -155,12 +201,11 @@ public final class IndeterminateDrawable extends DrawableWithAnimatedVisibilityC
 
   // ******************* Setter and getter *******************
 
-  public IndeterminateAnimatorDelegate<AnimatorSet> getAnimatorDelegate() {
+  public IndeterminateAnimatorDelegate getAnimatorDelegate() {
     return animatorDelegate;
   }
 
-  public void setAnimatorDelegate(
-      @NonNull IndeterminateAnimatorDelegate<AnimatorSet> animatorDelegate) {
+  public void setAnimatorDelegate(@NonNull IndeterminateAnimatorDelegate animatorDelegate) {
     this.animatorDelegate = animatorDelegate;
     animatorDelegate.registerDrawable(this);
 
@@ -20,9 +20,9 @@ import static java.lang.Math.max;
 import android.graphics.Canvas;
 import android.graphics.Paint;
 import android.graphics.Paint.Style;
-import android.graphics.PointF;
 import android.graphics.Rect;
 import android.graphics.RectF;
+import android.graphics.drawable.Drawable;
 import androidx.annotation.ColorInt;
 import androidx.annotation.FloatRange;
 import androidx.annotation.NonNull;
@@ -33,6 +33,10 @@ final class LinearDrawingDelegate implements DrawingDelegate {
   // The length (horizontal) of the track in px.
   private float trackLength = 300f;
 
+  // Scratch geometry, updated in place on every draw.
+  private final Rect clipBounds = new Rect();
+  private final RectF cornerPatternRectBound = new RectF();
+
   @Override
   public int getPreferredWidth(@NonNull ProgressIndicatorSpec spec) {
     return -1;
@@ -58,7 +62,7 @@ final class LinearDrawingDelegate implements DrawingDelegate {
       @NonNull ProgressIndicatorSpec spec,
       @FloatRange(from = 0.0, to = 1.0) float indicatorSizeFraction) {
     // Gets clip bounds from canvas.
-    Rect clipBounds = canvas.getClipBounds();
+    canvas.getClipBounds(clipBounds);
     trackLength = clipBounds.width();
     float trackSize = spec.indicatorSize;
 
@@ -86,6 +90,12 @@ final class LinearDrawingDelegate implements DrawingDelegate {
     canvas.clipRect(-trackLength / 2, -trackSize / 2, trackLength / 2, trackSize / 2);
   }
 
+  @Override
+  public void preparePaint(@NonNull Paint paint, float trackSize) {
+    paint.setStyle(Style.FILL);
+    paint.setAntiAlias(true);
+  }
+
   /**
    * Fills a part of the track with input color. The filling part is defined with two fractions
    * normalized to [0, 1] representing the start position and end position from the left end (the
@@ -112,89 +122,72 @@ final class LinearDrawingDelegate implements DrawingDelegate {
     if (startFraction == endFraction) {
       return;
     }
-    // Initializes Paint object.
-    paint.setStyle(Style.FILL);
-    paint.setAntiAlias(true);
     paint.setColor(color);
 
     // The rounded corners are drawn in steps, since drawRoundRect() is only available in Api 21+.
-    PointF leftTopCornerCenter =
-        new PointF(
-            -trackLength / 2 + cornerRadius + startFraction * (trackLength - 2 * cornerRadius),
-            -trackSize / 2 + cornerRadius);
-    PointF rightBottomCornerCenter =
-        new PointF(
-            -trackLength / 2 + cornerRadius + endFraction * (trackLength - 2 * cornerRadius),
-            trackSize / 2 - cornerRadius);
+    float leftCornerCenterX =
+        -trackLength / 2 + cornerRadius + startFraction * (trackLength - 2 * cornerRadius);
+    float topCornerCenterY = -trackSize / 2 + cornerRadius;
+    float rightCornerCenterX =
+        -trackLength / 2 + cornerRadius + endFraction * (trackLength - 2 * cornerRadius);
+    float bottomCornerCenterY = trackSize / 2 - cornerRadius;
 
     if (cornerRadius > 0) {
-      RectF cornerPatternRectBound =
-          new RectF(-cornerRadius, -cornerRadius, cornerRadius, cornerRadius);
+      cornerPatternRectBound.set(-cornerRadius, -cornerRadius, cornerRadius, cornerRadius);
       // Draws left top corner.
-      drawRoundedCorner(
-          canvas,
-          paint,
-          leftTopCornerCenter.x,
-          leftTopCornerCenter.y,
-          180,
-          90,
-          cornerPatternRectBound);
+      drawRoundedCorner(canvas, paint, leftCornerCenterX, topCornerCenterY, 180, 90);
       // Draws left bottom corner.
-      drawRoundedCorner(
-          canvas,
-          paint,
-          leftTopCornerCenter.x,
-          rightBottomCornerCenter.y,
-          180,
-          -90,
-          cornerPatternRectBound);
+      drawRoundedCorner(canvas, paint, leftCornerCenterX, bottomCornerCenterY, 180, -90);
       // Draws right top corner.
-      drawRoundedCorner(
-          canvas,
-          paint,
-          rightBottomCornerCenter.x,
-          leftTopCornerCenter.y,
-          0,
-          -90,
-          cornerPatternRectBound);
+      drawRoundedCorner(canvas, paint, rightCornerCenterX, topCornerCenterY, 0, -90);
       // Draws right bottom corner.
-      drawRoundedCorner(
-          canvas,
-          paint,
-          rightBottomCornerCenter.x,
-          rightBottomCornerCenter.y,
-          0,
-          90,
-          cornerPatternRectBound);
+      drawRoundedCorner(canvas, paint, rightCornerCenterX, bottomCornerCenterY, 0, 90);
       // Fills the gaps between two vertically aligned corners, if any.
       if (trackSize > 2 * cornerRadius) {
         canvas.drawRect(
-            leftTopCornerCenter.x - cornerRadius,
-            leftTopCornerCenter.y,
-            leftTopCornerCenter.x,
-            rightBottomCornerCenter.y,
+            leftCornerCenterX - cornerRadius,
+            topCornerCenterY,
+            leftCornerCenterX,
+            bottomCornerCenterY,
             paint);
         canvas.drawRect(
-            rightBottomCornerCenter.x,
-            leftTopCornerCenter.y,
-            rightBottomCornerCenter.x + cornerRadius,
-            rightBottomCornerCenter.y,
+            rightCornerCenterX,
+            topCornerCenterY,
+            rightCornerCenterX + cornerRadius,
+            bottomCornerCenterY,
             paint);
       }
     }
     // Fills gaps between two horizontally aligned corners.
-    canvas.drawRect(
-        leftTopCornerCenter.x, -trackSize / 2, rightBottomCornerCenter.x, trackSize / 2, paint);
+    canvas.drawRect(leftCornerCenterX, -trackSize / 2, rightCornerCenterX, trackSize / 2, paint);
+  }
+
+  /**
+   * Draws a drawable over the track. The canvas is already clipped to the track by {@link
+   * #adjustCanvas}.
+   *
+   * @param canvas Canvas to draw.
+   * @param drawable The drawable to draw over the track.
+   * @param trackSize The size of the track in px.
+   */
+  @Override
+  public void drawClippedToTrack(
+      @NonNull Canvas canvas, @NonNull Drawable drawable, float trackSize) {
+    drawable.setBounds(
+        (int) Math.floor(-trackLength / 2),
+        (int) Math.floor(-trackSize / 2),
+        (int) Math.ceil(trackLength / 2),
+        (int) Math.ceil(trackSize / 2));
+    drawable.draw(canvas);
   }
 
-  private static void drawRoundedCorner(
+  private void drawRoundedCorner(
       Canvas canvas,
       Paint paint,
       float centerX,
       float centerY,
       float startAngle,
-      float sweepAngle,
-      RectF cornerPatternRectBound) {
+      float sweepAngle) {
     canvas.save();
     canvas.translate(centerX, centerY);
     canvas.drawArc(cornerPatternRectBound, startAngle, sweepAngle, true, paint);
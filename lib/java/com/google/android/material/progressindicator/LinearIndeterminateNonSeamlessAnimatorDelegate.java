@@ -18,12 +18,8 @@ package com.google.android.material.progressindicator;
 
 import com.google.android.material.R;
 
-import android.animation.Animator;
-import android.animation.AnimatorListenerAdapter;
-import android.animation.AnimatorSet;
-import android.animation.ObjectAnimator;
 import android.content.Context;
-import android.util.Property;
+import android.view.animation.Interpolator;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
 import androidx.vectordrawable.graphics.drawable.Animatable2Compat.AnimationCallback;
@@ -34,8 +30,7 @@ import java.util.Arrays;
  * This is the implementation class for drawing progress indicator in the linear non-seamless
  * indeterminate mode.
  */
-final class LinearIndeterminateNonSeamlessAnimatorDelegate
-    extends IndeterminateAnimatorDelegate<AnimatorSet> {
+final class LinearIndeterminateNonSeamlessAnimatorDelegate extends IndeterminateAnimatorDelegate {
 
   // Constants for animation timing.
   private static final int MAIN_LINE_1_HEAD_DURATION = 750;
@@ -45,18 +40,19 @@ final class LinearIndeterminateNonSeamlessAnimatorDelegate
   private static final int MAIN_LINE_2_HEAD_DURATION = 567;
   private static final int MAIN_LINE_2_TAIL_DELAY = 1267;
   private static final int MAIN_LINE_2_TAIL_DURATION = 533;
+  private static final int CYCLE_DURATION = MAIN_LINE_2_TAIL_DELAY + MAIN_LINE_2_TAIL_DURATION;
 
   // The current context which the animation is running on.
   private final Context context;
-  // The animator controls non-seamless linear indeterminate animation.
-  private AnimatorSet animatorSet;
-
-  // Internal parameters controlled by the animator.
+  // The interpolators of the ends of both lines, loaded with the first cycle.
+  private Interpolator line1HeadInterpolator;
+  private Interpolator line1TailInterpolator;
+  private Interpolator line2HeadInterpolator;
+  private Interpolator line2TailInterpolator;
+
+  // Internal parameters controlled by the animation.
+  // The fractions of the track at the ends of both lines are kept in the segment positions.
   private int displayedSegmentColorIndex;
-  private float line1HeadFraction;
-  private float line1TailFraction;
-  private float line2HeadFraction;
-  private float line2TailFraction;
 
   // For animator control.
   boolean animatorCompleteEndRequested = false;
@@ -71,67 +67,59 @@ final class LinearIndeterminateNonSeamlessAnimatorDelegate
   // ******************* Animation control *******************
 
   @Override
-  public void startAnimator() {
-    maybeInitializeAnimators();
-
-    animatorSet.start();
+  long getCycleDuration() {
+    return CYCLE_DURATION;
   }
 
-  private void maybeInitializeAnimators() {
-    if (animatorSet == null) {
-      // Instantiates the animator.
-      ObjectAnimator line1HeadAnimator = ObjectAnimator.ofFloat(this, LINE_1_HEAD_FRACTION, 0f, 1f);
-      line1HeadAnimator.setDuration(MAIN_LINE_1_HEAD_DURATION);
-      line1HeadAnimator.setInterpolator(
+  @Override
+  void onCycleStart() {
+    if (line1HeadInterpolator == null) {
+      line1HeadInterpolator =
           AnimationUtilsCompat.loadInterpolator(
-              context, R.animator.linear_indeterminate_line1_head_interpolator));
-
-      ObjectAnimator line1TailAnimator = ObjectAnimator.ofFloat(this, LINE_1_TAIL_FRACTION, 0f, 1f);
-      line1TailAnimator.setStartDelay(MAIN_LINE_1_TAIL_DELAY);
-      line1TailAnimator.setDuration(MAIN_LINE_1_TAIL_DURATION);
-      line1TailAnimator.setInterpolator(
+              context, R.animator.linear_indeterminate_line1_head_interpolator);
+      line1TailInterpolator =
           AnimationUtilsCompat.loadInterpolator(
-              context, R.animator.linear_indeterminate_line1_tail_interpolator));
-
-      ObjectAnimator line2HeadAnimator = ObjectAnimator.ofFloat(this, LINE_2_HEAD_FRACTION, 0f, 1f);
-      line2HeadAnimator.setStartDelay(MAIN_LINE_2_HEAD_DELAY);
-      line2HeadAnimator.setDuration(MAIN_LINE_2_HEAD_DURATION);
-      line2HeadAnimator.setInterpolator(
+              context, R.animator.linear_indeterminate_line1_tail_interpolator);
+      line2HeadInterpolator =
           AnimationUtilsCompat.loadInterpolator(
-              context, R.animator.linear_indeterminate_line2_head_interpolator));
-
-      ObjectAnimator line2TailAnimator = ObjectAnimator.ofFloat(this, LINE_2_TAIL_FRACTION, 0f, 1f);
-      line2TailAnimator.setStartDelay(MAIN_LINE_2_TAIL_DELAY);
-      line2TailAnimator.setDuration(MAIN_LINE_2_TAIL_DURATION);
-      line2TailAnimator.setInterpolator(
+              context, R.animator.linear_indeterminate_line2_head_interpolator);
+      line2TailInterpolator =
           AnimationUtilsCompat.loadInterpolator(
-              context, R.animator.linear_indeterminate_line2_tail_interpolator));
+              context, R.animator.linear_indeterminate_line2_tail_interpolator);
+    }
+  }
 
-      animatorSet = new AnimatorSet();
-      animatorSet.playTogether(
-          line1HeadAnimator, line1TailAnimator, line2HeadAnimator, line2TailAnimator);
-      animatorSet.addListener(
-          new AnimatorListenerAdapter() {
-            @Override
-            public void onAnimationEnd(Animator animation) {
-              super.onAnimationEnd(animation);
+  @Override
+  void updatePropertiesAtPlayTime(long playTime) {
+    segmentPositions[0] =
+        line2TailInterpolator.getInterpolation(
+            getFractionInRange(playTime, MAIN_LINE_2_TAIL_DELAY, MAIN_LINE_2_TAIL_DURATION));
+    segmentPositions[1] =
+        line2HeadInterpolator.getInterpolation(
+            getFractionInRange(playTime, MAIN_LINE_2_HEAD_DELAY, MAIN_LINE_2_HEAD_DURATION));
+    segmentPositions[2] =
+        line1TailInterpolator.getInterpolation(
+            getFractionInRange(playTime, MAIN_LINE_1_TAIL_DELAY, MAIN_LINE_1_TAIL_DURATION));
+    segmentPositions[3] =
+        line1HeadInterpolator.getInterpolation(
+            getFractionInRange(playTime, 0, MAIN_LINE_1_HEAD_DURATION));
+  }
 
-              if (animatorCompleteEndRequested) {
-                animatorCompleteEndRequested = false;
-                animatorCompleteCallback.onAnimationEnd(drawable);
-                resetPropertiesForNewStart();
-              } else {
-                // If the drawable is still visible, continues the main animator by restarting.
-                if (drawable.isVisible()) {
-                  resetPropertiesForNextCycle();
-                  startAnimator();
-                } else {
-                  resetPropertiesForNewStart();
-                }
-              }
-            }
-          });
+  @Override
+  boolean onCycleEnd() {
+    if (animatorCompleteEndRequested) {
+      animatorCompleteEndRequested = false;
+      animatorCompleteCallback.onAnimationEnd(drawable);
+      resetPropertiesForNewStart();
+      return false;
+    }
+    // If the drawable is still visible, continues the animation with the next cycle.
+    if (drawable.isVisible()) {
+      resetPropertiesForNextCycle();
+      return true;
     }
+    resetPropertiesForNewStart();
+    return false;
   }
 
   @Override
@@ -149,13 +137,6 @@ final class LinearIndeterminateNonSeamlessAnimatorDelegate
     rotateSegmentColors();
   }
 
-  @Override
-  public void cancelAnimatorImmediately() {
-    if (animatorSet != null) {
-      animatorSet.cancel();
-    }
-  }
-
   @Override
   public void requestCancelAnimatorAfterCurrentCycle() {
     // Do nothing if main animator complete end has been requested.
@@ -203,129 +184,27 @@ final class LinearIndeterminateNonSeamlessAnimatorDelegate
 
   // ******************* Getters and setters *******************
 
-  private float getLine1HeadFraction() {
-    return line1HeadFraction;
-  }
-
   @VisibleForTesting
   void setLine1HeadFraction(float line1HeadFraction) {
-    this.line1HeadFraction = line1HeadFraction;
     this.segmentPositions[3] = line1HeadFraction;
     drawable.invalidateSelf();
   }
 
-  private float getLine1TailFraction() {
-    return line1TailFraction;
-  }
-
   @VisibleForTesting
   void setLine1TailFraction(float line1TailFraction) {
-    this.line1TailFraction = line1TailFraction;
     this.segmentPositions[2] = line1TailFraction;
     drawable.invalidateSelf();
   }
 
-  private float getLine2HeadFraction() {
-    return line2HeadFraction;
-  }
-
   @VisibleForTesting
   void setLine2HeadFraction(float line2HeadFraction) {
-    this.line2HeadFraction = line2HeadFraction;
     this.segmentPositions[1] = line2HeadFraction;
     drawable.invalidateSelf();
   }
 
-  private float getLine2TailFraction() {
-    return line2TailFraction;
-  }
-
   @VisibleForTesting
   void setLine2TailFraction(float line2TailFraction) {
-    this.line2TailFraction = line2TailFraction;
     this.segmentPositions[0] = line2TailFraction;
     drawable.invalidateSelf();
   }
-
-  // ******************* Properties *******************
-
-  /**
-   * The property controlled by the main animator for non seamless mode. It indicates the ratio to
-   * the total track width of the distance between the left (right when inverse) end of the track
-   * and the right (left) end of the first line.
-   */
-  private static final Property<LinearIndeterminateNonSeamlessAnimatorDelegate, Float>
-      LINE_1_HEAD_FRACTION =
-          new Property<LinearIndeterminateNonSeamlessAnimatorDelegate, Float>(
-              Float.class, "line1HeadFraction") {
-            @Override
-            public Float get(LinearIndeterminateNonSeamlessAnimatorDelegate drawable) {
-              return drawable.getLine1HeadFraction();
-            }
-
-            @Override
-            public void set(LinearIndeterminateNonSeamlessAnimatorDelegate drawable, Float value) {
-              drawable.setLine1HeadFraction(value);
-            }
-          };
-
-  /**
-   * The property controlled by the main animator for non seamless mode. It indicates the ratio to
-   * the total track width of the distance between the left (right when inverse) end of the track
-   * and the left (right) end of the first line.
-   */
-  private static final Property<LinearIndeterminateNonSeamlessAnimatorDelegate, Float>
-      LINE_1_TAIL_FRACTION =
-          new Property<LinearIndeterminateNonSeamlessAnimatorDelegate, Float>(
-              Float.class, "line1TailFraction") {
-            @Override
-            public Float get(LinearIndeterminateNonSeamlessAnimatorDelegate drawable) {
-              return drawable.getLine1TailFraction();
-            }
-
-            @Override
-            public void set(LinearIndeterminateNonSeamlessAnimatorDelegate drawable, Float value) {
-              drawable.setLine1TailFraction(value);
-            }
-          };
-
-  /**
-   * The property controlled by the main animator for non seamless mode. It indicates the ratio to
-   * the total track width of the distance between the left (right when inverse) end of the track
-   * and the right (left) end of the second line.
-   */
-  private static final Property<LinearIndeterminateNonSeamlessAnimatorDelegate, Float>
-      LINE_2_HEAD_FRACTION =
-          new Property<LinearIndeterminateNonSeamlessAnimatorDelegate, Float>(
-              Float.class, "line2HeadFraction") {
-            @Override
-            public Float get(LinearIndeterminateNonSeamlessAnimatorDelegate drawable) {
-              return drawable.getLine2HeadFraction();
-            }
-
-            @Override
-            public void set(LinearIndeterminateNonSeamlessAnimatorDelegate drawable, Float value) {
-              drawable.setLine2HeadFraction(value);
-            }
-          };
-
-  /**
-   * The property controlled by the main animator for non seamless mode. It indicates the ratio to
-   * the total track width of the distance between the left (right when inverse) end of the track
-   * and the left (right) end of the second line.
-   */
-  private static final Property<LinearIndeterminateNonSeamlessAnimatorDelegate, Float>
-      LINE_2_TAIL_FRACTION =
-          new Property<LinearIndeterminateNonSeamlessAnimatorDelegate, Float>(
-              Float.class, "line2TailFraction") {
-            @Override
-            public Float get(LinearIndeterminateNonSeamlessAnimatorDelegate drawable) {
-              return drawable.getLine2TailFraction();
-            }
-
-            @Override
-            public void set(LinearIndeterminateNonSeamlessAnimatorDelegate drawable, Float value) {
-              drawable.setLine2TailFraction(value);
-            }
-          };
 }
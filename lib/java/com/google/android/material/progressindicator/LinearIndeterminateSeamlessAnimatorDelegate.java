@@ -16,12 +16,6 @@
 
 package com.google.android.material.progressindicator;
 
-import android.animation.Animator;
-import android.animation.AnimatorListenerAdapter;
-import android.animation.AnimatorSet;
-import android.animation.ObjectAnimator;
-import android.animation.ValueAnimator;
-import android.util.Property;
 import androidx.annotation.VisibleForTesting;
 import androidx.vectordrawable.graphics.drawable.Animatable2Compat.AnimationCallback;
 import com.google.android.material.animation.AnimationUtils;
@@ -31,20 +25,20 @@ import com.google.android.material.math.MathUtils;
  * This is the implementation class for drawing progress indicator in the linear seamless
  * indeterminate mode.
  */
-final class LinearIndeterminateSeamlessAnimatorDelegate
-    extends IndeterminateAnimatorDelegate<AnimatorSet> {
+final class LinearIndeterminateSeamlessAnimatorDelegate extends IndeterminateAnimatorDelegate {
 
   // Constants for animation timing.
   private static final int NEXT_COLOR_DELAY = 333;
   private static final int DURATION_PER_COLOR = 667;
 
-  // The animator controls seamless linear indeterminate animation.
-  private AnimatorSet animatorSet;
-
-  // Internal parameters controlled by the animator.
+  // Internal parameters controlled by the animation.
   private int referenceSegmentColorIndex;
   private float lineConnectPoint1Fraction;
   private float lineConnectPoint2Fraction;
+  // The number of times each connect point has moved across the track, used to find when they
+  // start moving again.
+  private long lineConnectPoint1RepeatCount;
+  private long lineConnectPoint2RepeatCount;
 
   public LinearIndeterminateSeamlessAnimatorDelegate() {
     super(/*segmentCount=*/ 3);
@@ -53,60 +47,54 @@ final class LinearIndeterminateSeamlessAnimatorDelegate
   // ******************* Animation control *******************
 
   @Override
-  public void startAnimator() {
-    maybeInitializeAnimators();
-
-    animatorSet.start();
+  long getCycleDuration() {
+    // In seamless mode, there's no concept of cycle.
+    return INFINITE_CYCLE_DURATION;
   }
 
-  private void maybeInitializeAnimators() {
-    if (animatorSet == null) {
-      // Instantiates the animator.
-      ObjectAnimator connectPoint1Animator =
-          ObjectAnimator.ofFloat(this, LINE_CONNECT_POINT_1_FRACTION, 0f, 1f);
-      connectPoint1Animator.setDuration(DURATION_PER_COLOR);
-      connectPoint1Animator.setInterpolator(AnimationUtils.FAST_OUT_SLOW_IN_INTERPOLATOR);
-      connectPoint1Animator.setRepeatCount(ValueAnimator.INFINITE);
-      connectPoint1Animator.setRepeatMode(ValueAnimator.RESTART);
-      connectPoint1Animator.addListener(
-          new AnimatorListenerAdapter() {
-            @Override
-            public void onAnimationRepeat(Animator animation) {
-              super.onAnimationRepeat(animation);
-              if (getLineConnectPoint2Fraction() > 0 && getLineConnectPoint2Fraction() < 1) {
-                shiftSegmentColors();
-              }
-            }
-          });
-
-      ObjectAnimator connectPoint2StayAtZeroAnimator =
-          ObjectAnimator.ofFloat(this, LINE_CONNECT_POINT_2_FRACTION, 0f, 0f);
-      connectPoint2StayAtZeroAnimator.setDuration(NEXT_COLOR_DELAY);
-
-      ObjectAnimator connectPoint2Animator =
-          ObjectAnimator.ofFloat(this, LINE_CONNECT_POINT_2_FRACTION, 0f, 1f);
-      connectPoint2Animator.setDuration(DURATION_PER_COLOR);
-      connectPoint2Animator.setInterpolator(AnimationUtils.FAST_OUT_SLOW_IN_INTERPOLATOR);
-      connectPoint2Animator.setRepeatCount(ValueAnimator.INFINITE);
-      connectPoint2Animator.setRepeatMode(ValueAnimator.RESTART);
-      connectPoint2Animator.addListener(
-          new AnimatorListenerAdapter() {
-            @Override
-            public void onAnimationRepeat(Animator animation) {
-              super.onAnimationRepeat(animation);
-              if (getLineConnectPoint1Fraction() > 0 && getLineConnectPoint1Fraction() < 1) {
-                shiftSegmentColors();
-              }
-            }
-          });
-
-      AnimatorSet connectPoint2AnimatorSet = new AnimatorSet();
-      connectPoint2AnimatorSet.playSequentially(
-          connectPoint2StayAtZeroAnimator, connectPoint2Animator);
+  @Override
+  void onCycleStart() {
+    lineConnectPoint1RepeatCount = 0;
+    lineConnectPoint2RepeatCount = 0;
+  }
 
-      animatorSet = new AnimatorSet();
-      animatorSet.playTogether(connectPoint1Animator, connectPoint2AnimatorSet);
+  @Override
+  void updatePropertiesAtPlayTime(long playTime) {
+    // Both connect points repeatedly move across the track, the second one after a delay. Each time
+    // one of them starts over while the other one is moving, the colors shift.
+    long repeatCount = playTime / DURATION_PER_COLOR;
+    if (repeatCount != lineConnectPoint1RepeatCount) {
+      lineConnectPoint1RepeatCount = repeatCount;
+      if (lineConnectPoint2Fraction > 0 && lineConnectPoint2Fraction < 1) {
+        shiftSegmentColors();
+      }
+    }
+    lineConnectPoint1Fraction =
+        AnimationUtils.FAST_OUT_SLOW_IN_INTERPOLATOR.getInterpolation(
+            (float) (playTime % DURATION_PER_COLOR) / DURATION_PER_COLOR);
+
+    if (playTime < NEXT_COLOR_DELAY) {
+      lineConnectPoint2Fraction = 0f;
+    } else {
+      long point2PlayTime = playTime - NEXT_COLOR_DELAY;
+      repeatCount = point2PlayTime / DURATION_PER_COLOR;
+      if (repeatCount != lineConnectPoint2RepeatCount) {
+        lineConnectPoint2RepeatCount = repeatCount;
+        if (lineConnectPoint1Fraction > 0 && lineConnectPoint1Fraction < 1) {
+          shiftSegmentColors();
+        }
+      }
+      lineConnectPoint2Fraction =
+          AnimationUtils.FAST_OUT_SLOW_IN_INTERPOLATOR.getInterpolation(
+              (float) (point2PlayTime % DURATION_PER_COLOR) / DURATION_PER_COLOR);
     }
+    updateSegmentPositions();
+  }
+
+  @Override
+  boolean onCycleEnd() {
+    // In seamless mode, there's no concept of cycle. This is left as blank in purpose.
+    return true;
   }
 
   @Override
@@ -121,13 +109,6 @@ final class LinearIndeterminateSeamlessAnimatorDelegate
     // In seamless mode, there's no concept of cycle. This is left as blank in purpose.
   }
 
-  @Override
-  public void cancelAnimatorImmediately() {
-    if (animatorSet != null) {
-      animatorSet.cancel();
-    }
-  }
-
   @Override
   public void requestCancelAnimatorAfterCurrentCycle() {
     // In seamless mode, there's no concept of cycle. This is left as blank in purpose.
@@ -214,50 +195,4 @@ final class LinearIndeterminateSeamlessAnimatorDelegate
     updateSegmentPositions();
     drawable.invalidateSelf();
   }
-
-  // ******************* Properties *******************
-
-  /**
-   * The property controlled by the main animator for seamless mode. It indicates the ratio to the
-   * total track width of the distance between the left (right when inverse) end of the track and
-   * the connecting position of one side line and the central line.
-   *
-   * @see #LINE_CONNECT_POINT_2_FRACTION
-   */
-  private static final Property<LinearIndeterminateSeamlessAnimatorDelegate, Float>
-      LINE_CONNECT_POINT_1_FRACTION =
-          new Property<LinearIndeterminateSeamlessAnimatorDelegate, Float>(
-              Float.class, "lineConnectPoint1Fraction") {
-            @Override
-            public Float get(LinearIndeterminateSeamlessAnimatorDelegate drawable) {
-              return drawable.getLineConnectPoint1Fraction();
-            }
-
-            @Override
-            public void set(LinearIndeterminateSeamlessAnimatorDelegate drawable, Float value) {
-              drawable.setLineConnectPoint1Fraction(value);
-            }
-          };
-
-  /**
-   * The property controlled by the main animator for seamless mode. It indicates the ratio to the
-   * total track width of the distance between the left (right when inverse) end of the track and
-   * the connecting position of the other side line to the central line.
-   *
-   * @see #LINE_CONNECT_POINT_1_FRACTION
-   */
-  private static final Property<LinearIndeterminateSeamlessAnimatorDelegate, Float>
-      LINE_CONNECT_POINT_2_FRACTION =
-          new Property<LinearIndeterminateSeamlessAnimatorDelegate, Float>(
-              Float.class, "lineConnectPoint2Fraction") {
-            @Override
-            public Float get(LinearIndeterminateSeamlessAnimatorDelegate drawable) {
-              return drawable.getLineConnectPoint2Fraction();
-            }
-
-            @Override
-            public void set(LinearIndeterminateSeamlessAnimatorDelegate drawable, Float value) {
-              drawable.setLineConnectPoint2Fraction(value);
-            }
-          };
 }
@@ -800,6 +800,40 @@ public final class ProgressIndicator extends ProgressBar {
     invalidate();
   }
 
+  /**
+   * Returns whether the circular indeterminate animation runs on the render thread when it's
+   * possible.
+   *
+   * @see #setRenderThreadAnimationEnabled(boolean)
+   * @attr ref
+   *     com.google.android.material.progressindicator.R.stylable#ProgressIndicator_renderThreadAnimationEnabled
+   */
+  public boolean isRenderThreadAnimationEnabled() {
+    return spec.renderThreadAnimationEnabled;
+  }
+
+  /**
+   * Sets whether the circular indeterminate animation runs on the render thread, so that it keeps
+   * animating smoothly while the main thread is busy. This is only possible on API 29 and above,
+   * with a single indicator color and no rounded corners, and when the indicator is drawn with
+   * hardware acceleration. Otherwise, the animation runs on the main thread as usual.
+   *
+   * <p>Enabling it takes effect the next time the indeterminate animation starts. Disabling it
+   * moves a running animation to the main thread immediately.
+   *
+   * @param renderThreadAnimationEnabled Whether the animation should run on the render thread.
+   * @see #isRenderThreadAnimationEnabled()
+   * @attr ref
+   *     com.google.android.material.progressindicator.R.stylable#ProgressIndicator_renderThreadAnimationEnabled
+   */
+  public void setRenderThreadAnimationEnabled(boolean renderThreadAnimationEnabled) {
+    if (spec.renderThreadAnimationEnabled == renderThreadAnimationEnabled) {
+      return;
+    }
+    spec.renderThreadAnimationEnabled = renderThreadAnimationEnabled;
+    getIndeterminateDrawable().getAnimatorDelegate().invalidateSpecValues();
+  }
+
   /**
    * Returns the corner radius for progress indicator with rounded corners in pixels.
    *
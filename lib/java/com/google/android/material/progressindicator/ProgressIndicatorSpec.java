@@ -83,6 +83,13 @@ public final class ProgressIndicatorSpec {
    */
   public boolean linearSeamless;
 
+  /**
+   * Whether the circular indeterminate animation runs on the render thread when it's possible, i.e.
+   * on API 29 and above with a single indicator color and no rounded corners. Ignored in linear
+   * mode.
+   */
+  public boolean renderThreadAnimationEnabled;
+
   public void loadFromAttributes(@NonNull Context context, AttributeSet attrs,
       @AttrRes int defStyleAttr) {
     loadFromAttributes(context, attrs, defStyleAttr, ProgressIndicator.DEF_STYLE_RES);
@@ -130,6 +137,8 @@ public final class ProgressIndicatorSpec {
         min(
             a.getDimensionPixelSize(R.styleable.ProgressIndicator_indicatorCornerRadius, 0),
             indicatorSize / 2);
+    renderThreadAnimationEnabled =
+        a.getBoolean(R.styleable.ProgressIndicator_renderThreadAnimationEnabled, false);
 
     a.recycle();
 
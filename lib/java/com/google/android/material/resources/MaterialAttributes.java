@@ -32,6 +32,9 @@ import androidx.annotation.RestrictTo;
 /**
  * Utility methods to work with attributes.
  *
+ * <p>Except for {@link #resolve(Context, int)}, which returns a new {@link TypedValue}, the values
+ * are cached per context and theme by {@link ThemeAttributeCache}.
+ *
  * @hide
  */
 @RestrictTo(LIBRARY_GROUP)
@@ -59,8 +62,8 @@ public class MaterialAttributes {
       @NonNull Context context,
       @AttrRes int attributeResId,
       @NonNull String errorMessageComponent) {
-    TypedValue typedValue = resolve(context, attributeResId);
-    if (typedValue == null) {
+    long typeAndData = ThemeAttributeCache.resolve(context, attributeResId);
+    if (ThemeAttributeCache.getType(typeAndData) == ThemeAttributeCache.TYPE_NOT_FOUND) {
       String errorMessage =
           "%1$s requires a value for the %2$s attribute to be set in your app theme. "
               + "You can either set the attribute in your theme or "
@@ -71,7 +74,20 @@ public class MaterialAttributes {
               errorMessageComponent,
               context.getResources().getResourceName(attributeResId)));
     }
-    return typedValue.data;
+    return ThemeAttributeCache.getData(typeAndData);
+  }
+
+  /**
+   * Returns the data of the value that the provided {@code attributeResId} resolves to, e.g. the
+   * color int of a color attribute, or {@code defaultValue} if the attribute is not present in the
+   * current theme.
+   */
+  public static int resolveData(
+      @NonNull Context context, @AttrRes int attributeResId, int defaultValue) {
+    long typeAndData = ThemeAttributeCache.resolve(context, attributeResId);
+    return ThemeAttributeCache.getType(typeAndData) == ThemeAttributeCache.TYPE_NOT_FOUND
+        ? defaultValue
+        : ThemeAttributeCache.getData(typeAndData);
   }
 
   /**
@@ -103,9 +119,9 @@ public class MaterialAttributes {
    */
   public static boolean resolveBoolean(
       @NonNull Context context, @AttrRes int attributeResId, boolean defaultValue) {
-    TypedValue typedValue = resolve(context, attributeResId);
-    return (typedValue != null && typedValue.type == TypedValue.TYPE_INT_BOOLEAN)
-        ? typedValue.data != 0
+    long typeAndData = ThemeAttributeCache.resolve(context, attributeResId);
+    return ThemeAttributeCache.getType(typeAndData) == TypedValue.TYPE_INT_BOOLEAN
+        ? ThemeAttributeCache.getData(typeAndData) != 0
         : defaultValue;
   }
 
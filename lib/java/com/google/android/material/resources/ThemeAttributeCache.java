@@ -0,0 +1,129 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.android.material.resources;
+
+import android.content.Context;
+import android.content.res.Resources.Theme;
+import android.os.Build.VERSION;
+import android.os.Build.VERSION_CODES;
+import android.util.SparseIntArray;
+import android.util.TypedValue;
+import androidx.annotation.AttrRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import java.util.WeakHashMap;
+
+/**
+ * A cache of the theme attributes resolved by {@link MaterialAttributes}, so that components
+ * constructed with the same theme don't resolve the same attributes over and over.
+ *
+ * <p>Attributes are cached per {@link Context}, which is only weakly referenced. The cached values
+ * are dropped when the context's theme is mutated, e.g. with {@link Theme#applyStyle}, or its
+ * configuration changes. Since themes can only tell that they were mutated from API 23, where
+ * their hash code reflects the applied styles, nothing is cached below that.
+ *
+ * <p>The type and data of each attribute are returned packed into a {@code long}, so that looking
+ * them up doesn't allocate a {@link TypedValue}.
+ */
+final class ThemeAttributeCache {
+
+  /** The type returned for attributes which are not present in the theme. */
+  static final int TYPE_NOT_FOUND = -1;
+
+  private static final WeakHashMap<Context, ResolvedAttributes> cache = new WeakHashMap<>();
+
+  private ThemeAttributeCache() {}
+
+  /**
+   * Returns the type and data that {@code attributeResId} resolves to in the theme of {@code
+   * context}, as returned by {@link #pack(int, int)}.
+   */
+  static long resolve(@NonNull Context context, @AttrRes int attributeResId) {
+    Theme theme = context.getTheme();
+    if (VERSION.SDK_INT < VERSION_CODES.M) {
+      return resolveFromTheme(theme, attributeResId);
+    }
+
+    int themeHashCode = theme.hashCode();
+    int configurationHashCode = context.getResources().getConfiguration().hashCode();
+    synchronized (cache) {
+      ResolvedAttributes attributes = cache.get(context);
+      if (attributes == null) {
+        attributes = new ResolvedAttributes();
+        cache.put(context, attributes);
+      }
+      if (attributes.themeHashCode != themeHashCode
+          || attributes.configurationHashCode != configurationHashCode) {
+        attributes.clear(themeHashCode, configurationHashCode);
+      }
+
+      int index = attributes.types.indexOfKey(attributeResId);
+      if (index >= 0) {
+        return pack(attributes.types.valueAt(index), attributes.data.get(attributeResId));
+      }
+      long typeAndData = resolveFromTheme(theme, attributeResId);
+      attributes.types.put(attributeResId, getType(typeAndData));
+      attributes.data.put(attributeResId, getData(typeAndData));
+      return typeAndData;
+    }
+  }
+
+  /** Returns the type of an attribute returned by {@link #resolve}. */
+  static int getType(long typeAndData) {
+    return (int) (typeAndData >> 32);
+  }
+
+  /** Returns the data of an attribute returned by {@link #resolve}. */
+  static int getData(long typeAndData) {
+    return (int) typeAndData;
+  }
+
+  @VisibleForTesting
+  static long pack(int type, int data) {
+    return ((long) type << 32) | (data & 0xFFFFFFFFL);
+  }
+
+  @VisibleForTesting
+  static void clear() {
+    synchronized (cache) {
+      cache.clear();
+    }
+  }
+
+  private static long resolveFromTheme(@NonNull Theme theme, @AttrRes int attributeResId) {
+    TypedValue typedValue = new TypedValue();
+    if (theme.resolveAttribute(attributeResId, typedValue, true)) {
+      return pack(typedValue.type, typedValue.data);
+    }
+    return pack(TYPE_NOT_FOUND, 0);
+  }
+
+  /** The attributes resolved from a context's theme while it has a given state. */
+  private static final class ResolvedAttributes {
+    final SparseIntArray types = new SparseIntArray();
+    final SparseIntArray data = new SparseIntArray();
+    int themeHashCode;
+    int configurationHashCode;
+
+    void clear(int themeHashCode, int configurationHashCode) {
+      types.clear();
+      data.clear();
+      this.themeHashCode = themeHashCode;
+      this.configurationHashCode = configurationHashCode;
+    }
+  }
+}
@@ -943,16 +943,11 @@ public class MaterialShapeDrawable extends Drawable implements TintAwareDrawable
     fillPaint.setAlpha(modulateAlpha(prevAlpha, drawableState.alpha));
 
     strokePaint.setColorFilter(strokeTintFilter);
-    strokePaint.setStrokeWidth(drawableState.strokeWidth);
 
     final int prevStrokeAlpha = strokePaint.getAlpha();
     strokePaint.setAlpha(modulateAlpha(prevStrokeAlpha, drawableState.alpha));
 
-    if (pathDirty) {
-      calculateStrokePath();
-      calculatePath(getBoundsAsRectF(), path);
-      pathDirty = false;
-    }
+    calculatePathsIfDirty();
 
     maybeDrawCompatShadow(canvas);
     if (hasFill()) {
@@ -966,6 +961,16 @@ public class MaterialShapeDrawable extends Drawable implements TintAwareDrawable
     strokePaint.setAlpha(prevStrokeAlpha);
   }
 
+  private void calculatePathsIfDirty() {
+    // The stroke path is inset by half the stroke width, so the width must be up to date first.
+    strokePaint.setStrokeWidth(drawableState.strokeWidth);
+    if (pathDirty) {
+      calculateStrokePath();
+      calculatePath(getBoundsAsRectF(), path);
+      pathDirty = false;
+    }
+  }
+
   private void maybeDrawCompatShadow(@NonNull Canvas canvas) {
     if (!hasCompatShadow()) {
       return;
@@ -1053,6 +1058,23 @@ public class MaterialShapeDrawable extends Drawable implements TintAwareDrawable
         canvas, strokePaint, pathInsetByStroke, strokeShapeAppearance, getBoundsInsetByStroke());
   }
 
+  /**
+   * Draws the path of the shape's stroke with the given paint.
+   *
+   * <p>This lets subclasses within the library draw another stroke along the shape's own, e.g.
+   * under its fill, without calculating the path again. Nothing is drawn if the shape has no
+   * stroke.
+   *
+   * @hide
+   */
+  @RestrictTo(LIBRARY_GROUP)
+  protected void drawStrokeShape(@NonNull Canvas canvas, @NonNull Paint paint) {
+    calculatePathsIfDirty();
+    if (hasStroke()) {
+      drawShape(canvas, paint, pathInsetByStroke, strokeShapeAppearance, getBoundsInsetByStroke());
+    }
+  }
+
   private void prepareCanvasForShadow(@NonNull Canvas canvas) {
     // Calculate the translation to offset the canvas for the given offset and rotation.
     int shadowOffsetX = getShadowOffsetX();
@@ -1185,7 +1207,9 @@ public class MaterialShapeDrawable extends Drawable implements TintAwareDrawable
       return;
     }
 
-    calculatePath(getBoundsAsRectF(), path);
+    // Views rebuild their outline whenever their background is invalidated, so reuse the path
+    // calculated for drawing unless the shape or bounds have changed since.
+    calculatePathsIfDirty();
     if (path.isConvex() || Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
       try {
         outline.setConvexPath(path);
@@ -87,10 +87,11 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.math.BigDecimal;
 import java.math.MathContext;
+import java.text.DecimalFormatSymbols;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Iterator;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * The slider can function either as a continuous slider, or as a discrete slider. The mode of
@@ -209,6 +210,11 @@ abstract class BaseSlider<
   private static final int TIMEOUT_SEND_ACCESSIBILITY_EVENT = 200;
   private static final int HALO_ALPHA = 63;
   private static final double THRESHOLD = .0001;
+  // Must be a power of two, see #formatValue(float).
+  private static final int FORMATTED_VALUE_CACHE_SIZE = 64;
+  // Values at least this large are formatted with String#format, as their fixed-point digits
+  // wouldn't fit in a long.
+  private static final float MAX_FIXED_POINT_VALUE = 1e15f;
 
   static final int DEF_STYLE_RES = R.style.Widget_MaterialComponents_Slider;
   static final int UNIT_VALUE = 1;
@@ -230,6 +236,17 @@ abstract class BaseSlider<
 
   @NonNull private final TooltipDrawableFactory labelMaker;
   @NonNull private final List<TooltipDrawable> labels = new ArrayList<>();
+  // Whether every label is currently in the content view overlay, so they only need repositioning.
+  private boolean labelsInOverlay = false;
+  @NonNull private final Rect labelBounds = new Rect();
+  // Direct-mapped cache of formatted label text, keyed by tick index when stepSize > 0, and by the
+  // hash of the text otherwise.
+  @NonNull private final float[] formattedValueKeys = new float[FORMATTED_VALUE_CACHE_SIZE];
+  @NonNull private final String[] formattedValues = new String[FORMATTED_VALUE_CACHE_SIZE];
+  @Nullable private Locale formattedValueLocale;
+  @Nullable private DecimalFormatSymbols formattedValueSymbols;
+  // Reused to format values when there is no LabelFormatter.
+  @NonNull private final StringBuilder defaultFormatBuilder = new StringBuilder();
   @NonNull private final List<L> changeListeners = new ArrayList<>();
   @NonNull private final List<T> touchListeners = new ArrayList<>();
 
@@ -247,14 +264,21 @@ abstract class BaseSlider<
   private int haloRadius;
   private int labelPadding;
   private float touchDownX;
-  private MotionEvent lastEvent;
+  // The action and position of the previous touch event, used to detect taps without retaining a
+  // copy of the MotionEvent.
+  private int lastEventAction = -1;
+  private float lastEventX;
+  private float lastEventY;
   private LabelFormatter formatter;
   private boolean thumbIsPressed = false;
   private float valueFrom;
   private float valueTo;
   // Holds the values set to this slider. We keep this array sorted in order to check if the value
-  // has been changed when a new value is set and to find the minimum and maximum values.
-  private ArrayList<Float> values = new ArrayList<>();
+  // has been changed when a new value is set and to find the minimum and maximum values. The array
+  // is only reallocated when new values are set, so touch and draw never box or copy.
+  @NonNull private float[] values = new float[0];
+  // Scratch storage for the normalized active range, reused on every draw.
+  private final float[] activeRange = new float[2];
   // The index of the currently touched thumb.
   private int activeThumbIdx = -1;
   // The index of the currently focused thumb.
@@ -526,7 +550,7 @@ abstract class BaseSlider<
   }
 
   private void validateValues() {
-    for (Float value : values) {
+    for (float value : values) {
       if (value < valueFrom || value > valueTo) {
         throw new IllegalStateException(
             String.format(
@@ -631,7 +655,21 @@ abstract class BaseSlider<
 
   @NonNull
   List<Float> getValues() {
-    return new ArrayList<>(values);
+    ArrayList<Float> list = new ArrayList<>(values.length);
+    for (float value : values) {
+      list.add(value);
+    }
+    return list;
+  }
+
+  /** Returns the number of thumbs on this slider without copying the values. */
+  int getValueCount() {
+    return values.length;
+  }
+
+  /** Returns the value of the thumb at {@code index} without copying the values. */
+  float getValueAt(int index) {
+    return values[index];
   }
 
   /**
@@ -650,9 +688,11 @@ abstract class BaseSlider<
    * @see #getValues()
    */
   void setValues(@NonNull Float... values) {
-    ArrayList<Float> list = new ArrayList<>();
-    Collections.addAll(list, values);
-    setValuesInternal(list);
+    float[] array = new float[values.length];
+    for (int i = 0; i < values.length; i++) {
+      array[i] = values[i];
+    }
+    setValuesInternal(array);
   }
 
   /**
@@ -671,24 +711,26 @@ abstract class BaseSlider<
    * @throws IllegalArgumentException If {@code values} is empty.
    */
   void setValues(@NonNull List<Float> values) {
-    setValuesInternal(new ArrayList<>(values));
+    float[] array = new float[values.size()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = values.get(i);
+    }
+    setValuesInternal(array);
   }
 
   /**
-   * This method assumes the list passed in is a copy. It is split out so we can call it from {@link
-   * #setValues(Float...)} and {@link #setValues(List)}
+   * This method assumes the array passed in is a copy. It is split out so we can call it from
+   * {@link #setValues(Float...)} and {@link #setValues(List)}
    */
-  private void setValuesInternal(@NonNull ArrayList<Float> values) {
-    if (values.isEmpty()) {
+  private void setValuesInternal(@NonNull float[] values) {
+    if (values.length == 0) {
       throw new IllegalArgumentException("At least one value must be set");
     }
 
-    Collections.sort(values);
+    Arrays.sort(values);
 
-    if (this.values.size() == values.size()) {
-      if (this.values.equals(values)) {
-        return;
-      }
+    if (Arrays.equals(this.values, values)) {
+      return;
     }
 
     this.values = values;
@@ -703,8 +745,8 @@ abstract class BaseSlider<
 
   private void createLabelPool() {
     // If there are too many labels, remove the extra ones from the end.
-    if (labels.size() > values.size()) {
-      List<TooltipDrawable> tooltipDrawables = labels.subList(values.size(), labels.size());
+    if (labels.size() > values.length) {
+      List<TooltipDrawable> tooltipDrawables = labels.subList(values.length, labels.size());
       for (TooltipDrawable label : tooltipDrawables) {
         if (ViewCompat.isAttachedToWindow(this)) {
           detachLabelFromContentView(label);
@@ -714,7 +756,10 @@ abstract class BaseSlider<
     }
 
     // If there's not enough labels, add more.
-    while (labels.size() < values.size()) {
+    if (labels.size() < values.length) {
+      labelsInOverlay = false;
+    }
+    while (labels.size() < values.length) {
       TooltipDrawable tooltipDrawable = labelMaker.createTooltipDrawable();
       labels.add(tooltipDrawable);
       if (ViewCompat.isAttachedToWindow(this)) {
@@ -783,7 +828,7 @@ abstract class BaseSlider<
 
   /** Sets the index of the currently focused thumb */
   public void setFocusedThumbIndex(int index) {
-    if (index < 0 || index >= values.size()) {
+    if (index < 0 || index >= values.length) {
       throw new IllegalArgumentException("index out of range");
     }
     focusedThumbIdx = index;
@@ -858,10 +903,14 @@ abstract class BaseSlider<
    * Registers a {@link LabelFormatter} to be used to format the value displayed in the bubble shown
    * when the slider operates in discrete mode.
    *
+   * <p>When a step size is set, the formatted text is cached for each step, so the formatter should
+   * always return the same text for the same value.
+   *
    * @param formatter The {@link LabelFormatter} to use to format the bubble's text
    */
   public void setLabelFormatter(@Nullable LabelFormatter formatter) {
     this.formatter = formatter;
+    Arrays.fill(formattedValues, null);
   }
 
   /**
@@ -1420,6 +1469,7 @@ abstract class BaseSlider<
     for (TooltipDrawable label : labels) {
       detachLabelFromContentView(label);
     }
+    labelsInOverlay = false;
 
     super.onDetachedFromWindow();
   }
@@ -1482,7 +1532,7 @@ abstract class BaseSlider<
     if (!shouldDrawCompatHalo() && getMeasuredWidth() > 0) {
       final Drawable background = getBackground();
       if (background instanceof RippleDrawable) {
-        int x = (int) (normalizeValue(values.get(focusedThumbIdx)) * trackWidth + trackSidePadding);
+        int x = (int) (normalizeValue(values[focusedThumbIdx]) * trackWidth + trackSidePadding);
         int y = calculateTop();
         DrawableCompat.setHotspotBounds(
             background, x - haloRadius, y - haloRadius, x + haloRadius, y + haloRadius);
@@ -1508,8 +1558,9 @@ abstract class BaseSlider<
 
     int top = calculateTop();
 
+    updateActiveRange();
     drawInactiveTrack(canvas, trackWidth, top);
-    if (Collections.max(getValues()) > valueFrom) {
+    if (values[values.length - 1] > valueFrom) {
       drawActiveTrack(canvas, trackWidth, top);
     }
 
@@ -1528,21 +1579,23 @@ abstract class BaseSlider<
   }
 
   /**
-   * Returns a float array where {@code float[0]} is the normalized left position and {@code
-   * float[1]} is the normalized right position of the range.
+   * Updates {@link #activeRange} so that {@code activeRange[0]} is the normalized left position and
+   * {@code activeRange[1]} is the normalized right position of the range. Since {@link #values} is
+   * kept sorted, the minimum and maximum are its first and last elements.
    */
-  private float[] getActiveRange() {
-    float max = Collections.max(getValues());
-    float min = Collections.min(getValues());
-    float left = normalizeValue(values.size() == 1 ? valueFrom : min);
+  private void updateActiveRange() {
+    float min = values[0];
+    float max = values[values.length - 1];
+    float left = normalizeValue(values.length == 1 ? valueFrom : min);
     float right = normalizeValue(max);
 
     // In RTL we draw things in reverse, so swap the left and right range values
-    return isRtl() ? new float[] {right, left} : new float[] {left, right};
+    boolean rtl = isRtl();
+    activeRange[0] = rtl ? right : left;
+    activeRange[1] = rtl ? left : right;
   }
 
   private void drawInactiveTrack(@NonNull Canvas canvas, int width, int top) {
-    float[] activeRange = getActiveRange();
     float right = trackSidePadding + activeRange[1] * width;
     if (right < trackSidePadding + width) {
       canvas.drawLine(right, top, trackSidePadding + width, top, inactiveTrackPaint);
@@ -1568,7 +1621,6 @@ abstract class BaseSlider<
   }
 
   private void drawActiveTrack(@NonNull Canvas canvas, int width, int top) {
-    float[] activeRange = getActiveRange();
     float right = trackSidePadding + activeRange[1] * width;
     float left = trackSidePadding + activeRange[0] * width;
     canvas.drawLine(left, top, right, top, activeTrackPaint);
@@ -1579,7 +1631,6 @@ abstract class BaseSlider<
       return;
     }
 
-    float[] activeRange = getActiveRange();
     int leftPivotIndex = pivotIndex(ticksCoordinates, activeRange[0]);
     int rightPivotIndex = pivotIndex(ticksCoordinates, activeRange[1]);
 
@@ -1605,13 +1656,13 @@ abstract class BaseSlider<
     // Clear out the track behind the thumb if we're in a disable state since the thumb is
     // transparent.
     if (!isEnabled()) {
-      for (Float value : values) {
+      for (float value : values) {
         canvas.drawCircle(
             trackSidePadding + normalizeValue(value) * width, top, thumbRadius, thumbPaint);
       }
     }
 
-    for (Float value : values) {
+    for (float value : values) {
       canvas.save();
       canvas.translate(
           trackSidePadding + (int) (normalizeValue(value) * width) - thumbRadius,
@@ -1624,7 +1675,7 @@ abstract class BaseSlider<
   private void maybeDrawHalo(@NonNull Canvas canvas, int width, int top) {
     // Only draw the halo for devices that aren't using the ripple.
     if (shouldDrawCompatHalo()) {
-      int centerX = (int) (trackSidePadding + normalizeValue(values.get(focusedThumbIdx)) * width);
+      int centerX = (int) (trackSidePadding + normalizeValue(values[focusedThumbIdx]) * width);
       if (VERSION.SDK_INT < VERSION_CODES.P) {
         // In this case we can clip the rect to allow drawing outside the bounds.
         canvas.clipRect(
@@ -1701,10 +1752,9 @@ abstract class BaseSlider<
       case MotionEvent.ACTION_UP:
         thumbIsPressed = false;
         // We need to handle a tap if the last event was down at the same point.
-        if (lastEvent != null
-            && lastEvent.getActionMasked() == MotionEvent.ACTION_DOWN
-            && abs(lastEvent.getX() - event.getX()) <= scaledTouchSlop
-            && abs(lastEvent.getY() - event.getY()) <= scaledTouchSlop) {
+        if (lastEventAction == MotionEvent.ACTION_DOWN
+            && abs(lastEventX - x) <= scaledTouchSlop
+            && abs(lastEventY - event.getY()) <= scaledTouchSlop) {
           pickActiveThumb();
         }
 
@@ -1712,9 +1762,7 @@ abstract class BaseSlider<
           snapTouchPosition();
           activeThumbIdx = -1;
         }
-        for (TooltipDrawable label : labels) {
-          ViewUtils.getContentViewOverlay(this).remove(label);
-        }
+        removeLabelsFromContentViewOverlay();
         onStopTrackingTouch();
         invalidate();
         break;
@@ -1725,7 +1773,9 @@ abstract class BaseSlider<
     // Set if the thumb is pressed. This will cause the ripple to be drawn.
     setPressed(thumbIsPressed);
 
-    lastEvent = MotionEvent.obtain(event);
+    lastEventAction = event.getActionMasked();
+    lastEventX = x;
+    lastEventY = event.getY();
     return true;
   }
 
@@ -1762,10 +1812,10 @@ abstract class BaseSlider<
     float touchValue = getValueOfTouchPositionAbsolute();
     float touchX = valueToX(touchValue);
     activeThumbIdx = 0;
-    float activeThumbDiff = abs(values.get(activeThumbIdx) - touchValue);
-    for (int i = 1; i < values.size(); i++) {
-      float valueDiff = abs(values.get(i) - touchValue);
-      float valueX = valueToX(values.get(i));
+    float activeThumbDiff = abs(values[activeThumbIdx] - touchValue);
+    for (int i = 1; i < values.length; i++) {
+      float valueDiff = abs(values[i] - touchValue);
+      float valueX = valueToX(values[i]);
       if (compare(valueDiff, activeThumbDiff) > 1) {
         break;
       }
@@ -1820,13 +1870,13 @@ abstract class BaseSlider<
 
   private boolean snapThumbToValue(int idx, float value) {
     // Check if the new value equals a value that was already set.
-    if (abs(value - values.get(idx)) < THRESHOLD) {
+    if (abs(value - values[idx]) < THRESHOLD) {
       return false;
     }
 
     float newValue = getClampedValue(idx, value);
     // Replace the old value with the new value of the touch position.
-    values.set(idx, newValue);
+    values[idx] = newValue;
     focusedThumbIdx = idx;
 
     dispatchOnChangedFromUser(idx);
@@ -1841,8 +1891,8 @@ abstract class BaseSlider<
       minSeparation = -minSeparation;
     }
 
-    float upperBound = idx + 1 >= values.size() ? valueTo : values.get(idx + 1) - minSeparation;
-    float lowerBound = idx - 1 < 0 ? valueFrom : values.get(idx - 1) + minSeparation;
+    float upperBound = idx + 1 >= values.length ? valueTo : values[idx + 1] - minSeparation;
+    float lowerBound = idx - 1 < 0 ? valueFrom : values[idx - 1] + minSeparation;
     return clamp(value, lowerBound, upperBound);
   }
 
@@ -1881,33 +1931,146 @@ abstract class BaseSlider<
       return;
     }
 
-    Iterator<TooltipDrawable> labelItr = labels.iterator();
+    int labelIdx = 0;
+    int labelCount = labels.size();
 
-    for (int i = 0; i < values.size() && labelItr.hasNext(); i++) {
+    for (int i = 0; i < values.length && labelIdx < labelCount; i++) {
       if (i == focusedThumbIdx) {
         // We position the focused thumb last so it's displayed on top, so skip it for now.
         continue;
       }
 
-      setValueForLabel(labelItr.next(), values.get(i));
+      setValueForLabel(labels.get(labelIdx++), values[i]);
     }
 
-    if (!labelItr.hasNext()) {
+    if (labelIdx >= labelCount) {
       throw new IllegalStateException(
           String.format(
-              "Not enough labels(%d) to display all the values(%d)", labels.size(), values.size()));
+              "Not enough labels(%d) to display all the values(%d)", labelCount, values.length));
     }
 
     // Now set the label for the focused thumb so it's on top.
-    setValueForLabel(labelItr.next(), values.get(focusedThumbIdx));
+    setValueForLabel(labels.get(labelIdx), values[focusedThumbIdx]);
+    labelsInOverlay = true;
   }
 
-  private String formatValue(float value) {
+  private void removeLabelsFromContentViewOverlay() {
+    ViewOverlayImpl contentViewOverlay = ViewUtils.getContentViewOverlay(this);
+    for (int i = 0, size = labels.size(); i < size; i++) {
+      contentViewOverlay.remove(labels.get(i));
+    }
+    labelsInOverlay = false;
+  }
+
+  @VisibleForTesting
+  String formatValue(float value) {
+    Locale locale = getFormatLocale();
+    if (!locale.equals(formattedValueLocale)) {
+      // Both the default format and any cached text depend on the locale.
+      formattedValueLocale = locale;
+      formattedValueSymbols = null;
+      Arrays.fill(formattedValues, null);
+    }
+
+    // In discrete mode values land on ticks, so dragging keeps revisiting the same few values.
+    int cacheIndex = -1;
+    if (stepSize > 0.0f) {
+      cacheIndex = Math.round((value - valueFrom) / stepSize) & (FORMATTED_VALUE_CACHE_SIZE - 1);
+      String cached = formattedValues[cacheIndex];
+      if (cached != null && formattedValueKeys[cacheIndex] == value) {
+        return cached;
+      }
+    }
+
+    String formatted;
     if (hasLabelFormatter()) {
-      return formatter.getFormattedValue(value);
+      formatted = formatter.getFormattedValue(value);
+    } else {
+      defaultFormatBuilder.setLength(0);
+      appendDefaultFormat(defaultFormatBuilder, value);
+      if (cacheIndex == -1) {
+        // In continuous mode nearby values share their text, so it's cached by the text instead.
+        int textIndex = hashChars(defaultFormatBuilder) & (FORMATTED_VALUE_CACHE_SIZE - 1);
+        String cached = formattedValues[textIndex];
+        if (cached != null && cached.contentEquals(defaultFormatBuilder)) {
+          return cached;
+        }
+        formatted = defaultFormatBuilder.toString();
+        // Never matches a tick value, in case the step size changes.
+        formattedValueKeys[textIndex] = Float.NaN;
+        formattedValues[textIndex] = formatted;
+        return formatted;
+      }
+      formatted = defaultFormatBuilder.toString();
+    }
+
+    if (cacheIndex != -1) {
+      formattedValueKeys[cacheIndex] = value;
+      formattedValues[cacheIndex] = formatted;
+    }
+    return formatted;
+  }
+
+  /** Returns the locale {@link String#format(String, Object...)} formats with. */
+  @NonNull
+  private static Locale getFormatLocale() {
+    if (VERSION.SDK_INT >= VERSION_CODES.N) {
+      return Locale.getDefault(Locale.Category.FORMAT);
+    }
+    return Locale.getDefault();
+  }
+
+  /**
+   * Appends {@code value} as {@code String.format("%.0f", value)} would for whole values, and as
+   * {@code String.format("%.2f", value)} otherwise, without boxing the value or parsing a format.
+   */
+  private void appendDefaultFormat(@NonNull StringBuilder builder, float value) {
+    boolean whole = (int) value == value;
+    if (Float.isNaN(value) || Math.abs(value) >= MAX_FIXED_POINT_VALUE) {
+      builder.append(String.format(formattedValueLocale, whole ? "%.0f" : "%.2f", value));
+      return;
+    }
+    if (formattedValueSymbols == null) {
+      formattedValueSymbols = DecimalFormatSymbols.getInstance(formattedValueLocale);
+    }
+    char zeroDigit = formattedValueSymbols.getZeroDigit();
+    int fractionDigits = whole ? 0 : 2;
+    long scale = whole ? 1 : 100;
+    // Rounds half up, like Formatter.
+    long scaled = Math.round(Math.abs((double) value) * scale);
+    // Formatter keeps the sign of values that round to zero, including -0.
+    if (Float.floatToRawIntBits(value) < 0) {
+      builder.append('-');
+    }
+    appendDigits(builder, scaled / scale, 1, zeroDigit);
+    if (fractionDigits > 0) {
+      builder.append(formattedValueSymbols.getDecimalSeparator());
+      appendDigits(builder, scaled % scale, fractionDigits, zeroDigit);
+    }
+  }
+
+  private static void appendDigits(
+      @NonNull StringBuilder builder, long value, int minDigits, char zeroDigit) {
+    int start = builder.length();
+    do {
+      builder.append((char) (zeroDigit + value % 10));
+      value /= 10;
+      minDigits--;
+    } while (value > 0 || minDigits > 0);
+    // The digits were appended from the least significant one.
+    for (int i = start, j = builder.length() - 1; i < j; i++, j--) {
+      char digit = builder.charAt(i);
+      builder.setCharAt(i, builder.charAt(j));
+      builder.setCharAt(j, digit);
     }
+  }
 
-    return String.format((int) value == value ? "%.0f" : "%.2f", value);
+  private static int hashChars(@NonNull CharSequence chars) {
+    int hash = 0;
+    for (int i = 0; i < chars.length(); i++) {
+      hash = 31 * hash + chars.charAt(i);
+    }
+    return hash;
   }
 
   private void setValueForLabel(TooltipDrawable label, float value) {
@@ -1918,15 +2081,16 @@ abstract class BaseSlider<
             + (int) (normalizeValue(value) * trackWidth)
             - label.getIntrinsicWidth() / 2;
     int top = calculateTop() - (labelPadding + thumbRadius);
-    label.setBounds(left, top - label.getIntrinsicHeight(), left + label.getIntrinsicWidth(), top);
+    labelBounds.set(left, top - label.getIntrinsicHeight(), left + label.getIntrinsicWidth(), top);
 
     // Calculate the difference between the bounds of this view and the bounds of the root view to
     // correctly position this view in the overlay layer.
-    Rect rect = new Rect(label.getBounds());
-    DescendantOffsetUtils.offsetDescendantRect(ViewUtils.getContentView(this), this, rect);
-    label.setBounds(rect);
+    DescendantOffsetUtils.offsetDescendantRect(ViewUtils.getContentView(this), this, labelBounds);
+    label.setBounds(labelBounds);
 
-    ViewUtils.getContentViewOverlay(this).add(label);
+    if (!labelsInOverlay) {
+      ViewUtils.getContentViewOverlay(this).add(label);
+    }
   }
 
   private void invalidateTrack() {
@@ -1956,8 +2120,9 @@ abstract class BaseSlider<
 
   @SuppressWarnings("unchecked")
   private void dispatchOnChangedProgramatically() {
-    for (L listener : changeListeners) {
-      for (Float value : values) {
+    for (int i = 0, size = changeListeners.size(); i < size; i++) {
+      L listener = changeListeners.get(i);
+      for (float value : values) {
         listener.onValueChange((S) this, value, false);
       }
     }
@@ -1965,8 +2130,9 @@ abstract class BaseSlider<
 
   @SuppressWarnings("unchecked")
   private void dispatchOnChangedFromUser(int idx) {
-    for (L listener : changeListeners) {
-      listener.onValueChange((S) this, values.get(idx), true);
+    float value = values[idx];
+    for (int i = 0, size = changeListeners.size(); i < size; i++) {
+      changeListeners.get(i).onValueChange((S) this, value, true);
     }
     if (accessibilityManager != null && accessibilityManager.isEnabled()) {
       scheduleAccessibilityEventSender(idx);
@@ -2024,7 +2190,7 @@ abstract class BaseSlider<
     }
 
     // If there's only one thumb, we can select it right away.
-    if (values.size() == 1) {
+    if (values.length == 1) {
       activeThumbIdx = 0;
     }
 
@@ -2037,7 +2203,7 @@ abstract class BaseSlider<
     isLongPress |= event.isLongPress();
     Float increment = calculateIncrementForKey(keyCode);
     if (increment != null) {
-      if (snapActiveThumbToValue(values.get(activeThumbIdx) + increment)) {
+      if (snapActiveThumbToValue(values[activeThumbIdx] + increment)) {
         updateHaloHotspot();
         postInvalidate();
       }
@@ -2056,9 +2222,7 @@ abstract class BaseSlider<
       case KeyEvent.KEYCODE_DPAD_CENTER:
       case KeyEvent.KEYCODE_ENTER:
         activeThumbIdx = -1;
-        for (TooltipDrawable label : labels) {
-          ViewUtils.getContentViewOverlay(this).remove(label);
-        }
+        removeLabelsFromContentViewOverlay();
         postInvalidate();
         return true;
       default:
@@ -2127,7 +2291,7 @@ abstract class BaseSlider<
     int oldFocusedThumbIdx = focusedThumbIdx;
     // Prevent integer overflow.
     final long newFocusedThumbIdx = (long) oldFocusedThumbIdx + direction;
-    focusedThumbIdx = (int) clamp(newFocusedThumbIdx, 0, values.size() - 1);
+    focusedThumbIdx = (int) clamp(newFocusedThumbIdx, 0, values.length - 1);
     if (focusedThumbIdx == oldFocusedThumbIdx) {
       // Move focus to next or previous view.
       return false;
@@ -2200,9 +2364,7 @@ abstract class BaseSlider<
     super.onFocusChanged(gainFocus, direction, previouslyFocusedRect);
     if (!gainFocus) {
       activeThumbIdx = -1;
-      for (TooltipDrawable label : labels) {
-        ViewUtils.getContentViewOverlay(this).remove(label);
-      }
+      removeLabelsFromContentViewOverlay();
       accessibilityHelper.clearKeyboardFocusForVirtualView(focusedThumbIdx);
     } else {
       focusThumbOnFocusGained(direction);
@@ -2290,7 +2452,7 @@ abstract class BaseSlider<
     SliderState sliderState = new SliderState(superState);
     sliderState.valueFrom = valueFrom;
     sliderState.valueTo = valueTo;
-    sliderState.values = new ArrayList<>(values);
+    sliderState.values = new ArrayList<>(getValues());
     sliderState.stepSize = stepSize;
     sliderState.hasFocus = hasFocus();
     return sliderState;
@@ -2303,7 +2465,7 @@ abstract class BaseSlider<
 
     valueFrom = sliderState.valueFrom;
     valueTo = sliderState.valueTo;
-    setValuesInternal(sliderState.values);
+    setValues(sliderState.values);
     stepSize = sliderState.stepSize;
     if (sliderState.hasFocus) {
       requestFocus();
@@ -2363,7 +2525,7 @@ abstract class BaseSlider<
   }
 
   void updateBoundsForVirturalViewId(int virtualViewId, Rect virtualViewBounds) {
-    int x = trackSidePadding + (int) (normalizeValue(getValues().get(virtualViewId)) * trackWidth);
+    int x = trackSidePadding + (int) (normalizeValue(values[virtualViewId]) * trackWidth);
     int y = calculateTop();
 
     virtualViewBounds.set(x - thumbRadius, y - thumbRadius, x + thumbRadius, y + thumbRadius);
@@ -2381,7 +2543,7 @@ abstract class BaseSlider<
 
     @Override
     protected int getVirtualViewAt(float x, float y) {
-      for (int i = 0; i < slider.getValues().size(); i++) {
+      for (int i = 0, count = slider.getValueCount(); i < count; i++) {
         slider.updateBoundsForVirturalViewId(i, virtualViewBounds);
         if (virtualViewBounds.contains((int) x, (int) y)) {
           return i;
@@ -2393,7 +2555,7 @@ abstract class BaseSlider<
 
     @Override
     protected void getVisibleVirtualViews(List<Integer> virtualViewIds) {
-      for (int i = 0; i < slider.getValues().size(); i++) {
+      for (int i = 0, count = slider.getValueCount(); i < count; i++) {
         virtualViewIds.add(i);
       }
     }
@@ -2404,8 +2566,7 @@ abstract class BaseSlider<
 
       info.addAction(AccessibilityNodeInfoCompat.AccessibilityActionCompat.ACTION_SET_PROGRESS);
 
-      List<Float> values = slider.getValues();
-      final float value = values.get(virtualViewId);
+      final float value = slider.getValueAt(virtualViewId);
       float valueFrom = slider.getValueFrom();
       float valueTo = slider.getValueTo();
 
@@ -2426,7 +2587,7 @@ abstract class BaseSlider<
         contentDescription.append(slider.getContentDescription()).append(",");
       }
       // Add the range to the content description.
-      if (values.size() > 1) {
+      if (slider.getValueCount() > 1) {
         contentDescription.append(startOrEndDescription(virtualViewId));
         contentDescription.append(slider.formatValue(value));
       }
@@ -2438,8 +2599,7 @@ abstract class BaseSlider<
 
     @NonNull
     private String startOrEndDescription(int virtualViewId) {
-      List<Float> values = slider.getValues();
-      if (virtualViewId == values.size() - 1) {
+      if (virtualViewId == slider.getValueCount() - 1) {
         return slider.getContext().getString(R.string.material_slider_range_end);
       }
 
@@ -2488,10 +2648,9 @@ abstract class BaseSlider<
               increment = -increment;
             }
 
-            List<Float> values = slider.getValues();
             float clamped =
                 clamp(
-                    values.get(virtualViewId) + increment,
+                    slider.getValueAt(virtualViewId) + increment,
                     slider.getValueFrom(),
                     slider.getValueTo());
             if (slider.snapThumbToValue(virtualViewId, clamped)) {
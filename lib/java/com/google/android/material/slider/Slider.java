@@ -72,7 +72,7 @@ public class Slider extends BaseSlider<Slider, OnChangeListener, OnSliderTouchLi
    * @attr ref com.google.android.material.R.styleable#Slider_android_value
    */
   public float getValue() {
-    return getValues().get(0);
+    return getValueAt(0);
   }
 
   /**
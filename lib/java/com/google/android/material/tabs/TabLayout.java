@@ -60,6 +60,7 @@ import androidx.appcompat.content.res.AppCompatResources;
 import androidx.appcompat.widget.TooltipCompat;
 import android.text.Layout;
 import android.text.TextUtils;
+import android.text.method.TransformationMethod;
 import android.util.AttributeSet;
 import android.util.Log;
 import android.util.TypedValue;
@@ -197,6 +198,9 @@ public class TabLayout extends HorizontalScrollView {
   @Dimension(unit = Dimension.DP)
   static final int FIXED_WRAP_GUTTER_MIN = 16;
 
+  @Dimension(unit = Dimension.DP)
+  static final int VIRTUALIZED_TAB_WINDOW_MARGIN = 128;
+
   private static final int INVALID_WIDTH = -1;
 
   private static final int ANIMATION_DURATION = 300;
@@ -428,6 +432,7 @@ public class TabLayout extends HorizontalScrollView {
   boolean inlineLabel;
   boolean tabIndicatorFullWidth;
   boolean unboundedRipple;
+  boolean tabVirtualized;
 
   @Nullable private BaseOnTabSelectedListener selectedListener;
 
@@ -435,6 +440,8 @@ public class TabLayout extends HorizontalScrollView {
   @Nullable private BaseOnTabSelectedListener currentVpSelectedListener;
 
   private ValueAnimator scrollAnimator;
+  private int scrollAnimationStartX;
+  private int scrollAnimationTargetX;
 
   @Nullable ViewPager viewPager;
   @Nullable private PagerAdapter pagerAdapter;
@@ -446,6 +453,9 @@ public class TabLayout extends HorizontalScrollView {
   // Pool we use as a simple RecyclerBin
   private final Pools.Pool<TabView> tabViewPool = new Pools.SimplePool<>(12);
 
+  // Detached label used to measure tab text when virtualized.
+  @Nullable private TextView measuringTextView;
+
   public TabLayout(@NonNull Context context) {
     this(context, null);
   }
@@ -565,6 +575,7 @@ public class TabLayout extends HorizontalScrollView {
     tabGravity = a.getInt(R.styleable.TabLayout_tabGravity, GRAVITY_FILL);
     inlineLabel = a.getBoolean(R.styleable.TabLayout_tabInlineLabel, false);
     unboundedRipple = a.getBoolean(R.styleable.TabLayout_tabUnboundedRipple, false);
+    tabVirtualized = a.getBoolean(R.styleable.TabLayout_tabVirtualized, false);
     a.recycle();
 
     // TODO add attr for these
@@ -632,7 +643,7 @@ public class TabLayout extends HorizontalScrollView {
       boolean updateSelectedText,
       boolean updateIndicatorPosition) {
     final int roundedPosition = Math.round(position + positionOffset);
-    if (roundedPosition < 0 || roundedPosition >= slidingTabIndicator.getChildCount()) {
+    if (roundedPosition < 0 || roundedPosition >= slidingTabIndicator.getTabCount()) {
       return;
     }
 
@@ -883,6 +894,26 @@ public class TabLayout extends HorizontalScrollView {
    */
   public void removeTabAt(int position) {
     final int selectedTabPosition = selectedTab != null ? selectedTab.getPosition() : 0;
+    removeTabInternal(position);
+
+    if (selectedTabPosition == position) {
+      selectTab(tabs.isEmpty() ? null : tabs.get(Math.max(0, position - 1)));
+    }
+  }
+
+  /**
+   * Removes the tab at the given position without selecting a replacement. If the removed tab was
+   * selected, there is no selected tab afterwards and no unselected event is dispatched, matching
+   * {@link #removeAllTabs()}.
+   */
+  void removeTabAtWithoutReselecting(int position) {
+    if (selectedTab != null && selectedTab.getPosition() == position) {
+      selectedTab = null;
+    }
+    removeTabInternal(position);
+  }
+
+  private void removeTabInternal(int position) {
     removeTabViewAt(position);
 
     final Tab removedTab = tabs.remove(position);
@@ -895,16 +926,44 @@ public class TabLayout extends HorizontalScrollView {
     for (int i = position; i < newTabCount; i++) {
       tabs.get(i).setPosition(i);
     }
+  }
 
-    if (selectedTabPosition == position) {
-      selectTab(tabs.isEmpty() ? null : tabs.get(Math.max(0, position - 1)));
+  /**
+   * Moves the tab at {@code fromPosition} to {@code toPosition}, keeping its view and selection
+   * state.
+   */
+  void moveTab(int fromPosition, int toPosition) {
+    if (fromPosition == toPosition) {
+      return;
+    }
+    final Tab tab = tabs.remove(fromPosition);
+    tabs.add(toPosition, tab);
+    for (int i = Math.min(fromPosition, toPosition),
+            end = Math.max(fromPosition, toPosition);
+        i <= end;
+        i++) {
+      tabs.get(i).setPosition(i);
+    }
+    slidingTabIndicator.moveTabView(fromPosition, toPosition);
+  }
+
+  /**
+   * Points the selection indicator at the selected tab's current position without animating. Used
+   * after tabs were inserted, removed or moved around the selected tab, which changes its position
+   * but not the selection. The indicator bounds follow on the next layout pass.
+   */
+  void updateIndicatorToSelectedTab() {
+    final int selectedPosition = getSelectedTabPosition();
+    if (selectedPosition != Tab.INVALID_POSITION
+        && selectedPosition != slidingTabIndicator.selectedPosition) {
+      slidingTabIndicator.setIndicatorPositionFromTabPosition(selectedPosition, 0f);
     }
   }
 
   /** Remove all tabs from the action bar and deselect the current tab. */
   public void removeAllTabs() {
     // Remove all the views
-    for (int i = slidingTabIndicator.getChildCount() - 1; i >= 0; i--) {
+    for (int i = slidingTabIndicator.getTabCount() - 1; i >= 0; i--) {
       removeTabViewAt(i);
     }
 
@@ -950,6 +1009,37 @@ public class TabLayout extends HorizontalScrollView {
     return mode;
   }
 
+  /**
+   * Set whether this {@link TabLayout} should only attach the tab views that are within the visible
+   * scroll window, plus a small margin on either side. Tab widths are computed from the tab's text
+   * and icon metrics rather than by measuring each tab view, so the scroll range and indicator
+   * position are known without laying out off-screen tabs. This is intended for scrollable tab
+   * layouts with a very large number of tabs.
+   *
+   * <p>Virtualization only takes effect in {@link #MODE_SCROLLABLE}. Tabs with a custom view are
+   * measured once when first added since their size can't be derived from text metrics.
+   *
+   * @see #isTabVirtualized()
+   * @attr ref com.google.android.material.R.styleable#TabLayout_tabVirtualized
+   */
+  public void setTabVirtualized(boolean virtualized) {
+    if (tabVirtualized != virtualized) {
+      tabVirtualized = virtualized;
+      applyModeAndGravity();
+    }
+  }
+
+  /**
+   * Returns whether this {@link TabLayout} only attaches the tab views within the visible scroll
+   * window.
+   *
+   * @see #setTabVirtualized(boolean)
+   * @attr ref com.google.android.material.R.styleable#TabLayout_tabVirtualized
+   */
+  public boolean isTabVirtualized() {
+    return tabVirtualized;
+  }
+
   /**
    * Set the gravity to use when laying out the tabs.
    *
@@ -1048,11 +1138,8 @@ public class TabLayout extends HorizontalScrollView {
   public void setInlineLabel(boolean inline) {
     if (inlineLabel != inline) {
       inlineLabel = inline;
-      for (int i = 0; i < slidingTabIndicator.getChildCount(); i++) {
-        View child = slidingTabIndicator.getChildAt(i);
-        if (child instanceof TabView) {
-          ((TabView) child).updateOrientation();
-        }
+      for (int i = 0; i < tabs.size(); i++) {
+        tabs.get(i).view.updateOrientation();
       }
       applyModeAndGravity();
     }
@@ -1093,11 +1180,8 @@ public class TabLayout extends HorizontalScrollView {
   public void setUnboundedRipple(boolean unboundedRipple) {
     if (this.unboundedRipple != unboundedRipple) {
       this.unboundedRipple = unboundedRipple;
-      for (int i = 0; i < slidingTabIndicator.getChildCount(); i++) {
-        View child = slidingTabIndicator.getChildAt(i);
-        if (child instanceof TabView) {
-          ((TabView) child).updateBackgroundDrawable(getContext());
-        }
+      for (int i = 0; i < tabs.size(); i++) {
+        tabs.get(i).view.updateBackgroundDrawable(getContext());
       }
     }
   }
@@ -1205,11 +1289,8 @@ public class TabLayout extends HorizontalScrollView {
   public void setTabRippleColor(@Nullable ColorStateList color) {
     if (tabRippleColorStateList != color) {
       tabRippleColorStateList = color;
-      for (int i = 0; i < slidingTabIndicator.getChildCount(); i++) {
-        View child = slidingTabIndicator.getChildAt(i);
-        if (child instanceof TabView) {
-          ((TabView) child).updateBackgroundDrawable(getContext());
-        }
+      for (int i = 0; i < tabs.size(); i++) {
+        tabs.get(i).view.updateBackgroundDrawable(getContext());
       }
     }
   }
@@ -1491,7 +1572,12 @@ public class TabLayout extends HorizontalScrollView {
     final TabView tabView = tab.view;
     tabView.setSelected(false);
     tabView.setActivated(false);
-    slidingTabIndicator.addView(tabView, tab.getPosition(), createLayoutParamsForTabs());
+    // When virtualized, the view is attached on the next layout pass if it falls within the
+    // visible window.
+    if (!slidingTabIndicator.isVirtualized()) {
+      slidingTabIndicator.addView(tabView, tab.getPosition(), createLayoutParamsForTabs());
+    }
+    slidingTabIndicator.invalidateTabGeometry();
   }
 
   @Override
@@ -1573,6 +1659,14 @@ public class TabLayout extends HorizontalScrollView {
     super.onDraw(canvas);
   }
 
+  @Override
+  protected void onScrollChanged(int l, int t, int oldl, int oldt) {
+    super.onScrollChanged(l, t, oldl, oldt);
+    if (slidingTabIndicator.isVirtualized()) {
+      slidingTabIndicator.updateAttachedTabViews();
+    }
+  }
+
   @Override
   protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
     // If we have a MeasureSpec which allows us to decide our height, try and use the default
@@ -1641,8 +1735,17 @@ public class TabLayout extends HorizontalScrollView {
   }
 
   private void removeTabViewAt(int position) {
-    final TabView view = (TabView) slidingTabIndicator.getChildAt(position);
-    slidingTabIndicator.removeViewAt(position);
+    final TabView view;
+    if (slidingTabIndicator.isVirtualized()) {
+      view = tabs.get(position).view;
+      if (view.getParent() == slidingTabIndicator) {
+        slidingTabIndicator.removeView(view);
+      }
+    } else {
+      view = (TabView) slidingTabIndicator.getChildAt(position);
+      slidingTabIndicator.removeViewAt(position);
+    }
+    slidingTabIndicator.invalidateTabGeometry();
     if (view != null) {
       view.reset();
       tabViewPool.release(view);
@@ -1670,7 +1773,8 @@ public class TabLayout extends HorizontalScrollView {
     if (startScrollX != targetScrollX) {
       ensureScrollAnimator();
 
-      scrollAnimator.setIntValues(startScrollX, targetScrollX);
+      scrollAnimationStartX = startScrollX;
+      scrollAnimationTargetX = targetScrollX;
       scrollAnimator.start();
     }
 
@@ -1683,11 +1787,16 @@ public class TabLayout extends HorizontalScrollView {
       scrollAnimator = new ValueAnimator();
       scrollAnimator.setInterpolator(AnimationUtils.FAST_OUT_SLOW_IN_INTERPOLATOR);
       scrollAnimator.setDuration(tabIndicatorAnimationDuration);
+      scrollAnimator.setFloatValues(0, 1);
       scrollAnimator.addUpdateListener(
           new ValueAnimator.AnimatorUpdateListener() {
             @Override
             public void onAnimationUpdate(@NonNull ValueAnimator animator) {
-              scrollTo((int) animator.getAnimatedValue(), 0);
+              // Interpolate from the fraction rather than reading the boxed animated value
+              scrollTo(
+                  AnimationUtils.lerp(
+                      scrollAnimationStartX, scrollAnimationTargetX, animator.getAnimatedFraction()),
+                  0);
             }
           });
     }
@@ -1704,12 +1813,13 @@ public class TabLayout extends HorizontalScrollView {
    * @param position Position of the selected tab.
    */
   private void setSelectedTabView(int position) {
-    final int tabCount = slidingTabIndicator.getChildCount();
+    final int tabCount = slidingTabIndicator.getTabCount();
     if (position < tabCount) {
-      for (int i = 0; i < tabCount; i++) {
+      for (int i = 0, childCount = slidingTabIndicator.getChildCount(); i < childCount; i++) {
         final View child = slidingTabIndicator.getChildAt(i);
-        child.setSelected(i == position);
-        child.setActivated(i == position);
+        final int childPosition = slidingTabIndicator.getChildTabPosition(i);
+        child.setSelected(childPosition == position);
+        child.setActivated(childPosition == position);
       }
     }
   }
@@ -1786,16 +1896,15 @@ public class TabLayout extends HorizontalScrollView {
 
   private int calculateScrollXForTab(int position, float positionOffset) {
     if (mode == MODE_SCROLLABLE || mode == MODE_AUTO) {
-      final View selectedChild = slidingTabIndicator.getChildAt(position);
-      final View nextChild =
-          position + 1 < slidingTabIndicator.getChildCount()
-              ? slidingTabIndicator.getChildAt(position + 1)
-              : null;
-      final int selectedWidth = selectedChild != null ? selectedChild.getWidth() : 0;
-      final int nextWidth = nextChild != null ? nextChild.getWidth() : 0;
+      final int selectedWidth = slidingTabIndicator.getTabWidth(position);
+      final int nextWidth =
+          position + 1 < slidingTabIndicator.getTabCount()
+              ? slidingTabIndicator.getTabWidth(position + 1)
+              : 0;
 
       // base scroll amount: places center of tab in center of parent
-      int scrollBase = selectedChild.getLeft() + (selectedWidth / 2) - (getWidth() / 2);
+      int scrollBase =
+          slidingTabIndicator.getTabLeft(position) + (selectedWidth / 2) - (getWidth() / 2);
       // offset amount: fraction of the distance between centers of tabs
       int scrollOffset = (int) ((selectedWidth + nextWidth) * 0.5f * positionOffset);
 
@@ -1807,6 +1916,8 @@ public class TabLayout extends HorizontalScrollView {
   }
 
   private void applyModeAndGravity() {
+    slidingTabIndicator.setVirtualized(tabVirtualized && mode == MODE_SCROLLABLE);
+
     int paddingStart = 0;
     if (mode == MODE_SCROLLABLE || mode == MODE_AUTO) {
       // If we're scrollable, or fixed at start, inset using padding
@@ -1853,6 +1964,9 @@ public class TabLayout extends HorizontalScrollView {
   }
 
   void updateTabViews(final boolean requestLayout) {
+    if (slidingTabIndicator.isVirtualized()) {
+      slidingTabIndicator.invalidateTabWidths();
+    }
     for (int i = 0; i < slidingTabIndicator.getChildCount(); i++) {
       View child = slidingTabIndicator.getChildAt(i);
       child.setMinimumWidth(getTabMinWidth());
@@ -1891,6 +2005,11 @@ public class TabLayout extends HorizontalScrollView {
     @NonNull public TabView view;
     private int id = NO_ID;
 
+    // Width and content width of this tab derived from its text and icon metrics, used when the
+    // parent TabLayout is virtualized.
+    int estimatedWidth = INVALID_WIDTH;
+    int estimatedContentWidth;
+
     // TODO(b/76413401): make package private constructor after the widget migration is finished
     public Tab() {
       // Private constructor
@@ -2222,9 +2341,35 @@ public class TabLayout extends HorizontalScrollView {
     }
 
     void updateView() {
+      estimatedWidth = INVALID_WIDTH;
       if (view != null) {
         view.update();
       }
+      if (parent != null && parent.slidingTabIndicator.isVirtualized()) {
+        parent.slidingTabIndicator.requestLayout();
+      }
+    }
+
+    /**
+     * Clears the state set through this tab's setters, so that it can be configured again as if it
+     * had just been created with {@link TabLayout#newTab()}.
+     */
+    void clearConfiguration() {
+      tag = null;
+      icon = null;
+      text = null;
+      contentDesc = null;
+      customView = null;
+      labelVisibilityMode = TAB_LABEL_VISIBILITY_LABELED;
+      if (id != NO_ID) {
+        id = NO_ID;
+        if (view != null) {
+          view.setId(NO_ID);
+        }
+      }
+      if (view != null) {
+        view.removeBadge();
+      }
     }
 
     void reset() {
@@ -2237,6 +2382,7 @@ public class TabLayout extends HorizontalScrollView {
       contentDesc = null;
       position = INVALID_POSITION;
       customView = null;
+      estimatedWidth = INVALID_WIDTH;
     }
   }
 
@@ -2827,7 +2973,8 @@ public class TabLayout extends HorizontalScrollView {
       int left = 0;
       int right = 0;
 
-      for (View view : new View[] {textView, iconView, customView}) {
+      for (int i = 0; i < 3; i++) {
+        final View view = i == 0 ? textView : (i == 1 ? iconView : customView);
         if (view != null && view.getVisibility() == View.VISIBLE) {
           left = initialized ? Math.min(left, view.getLeft()) : view.getLeft();
           right = initialized ? Math.max(right, view.getRight()) : view.getRight();
@@ -2865,6 +3012,26 @@ public class TabLayout extends HorizontalScrollView {
     ValueAnimator indicatorAnimator;
     private int animationStartLeft = -1;
     private int animationStartRight = -1;
+    private int animationTargetLeft = -1;
+    private int animationTargetRight = -1;
+    private int animationTargetPosition = -1;
+
+    // Bounds and content width of each tab by position, captured on layout so that scroll and
+    // indicator updates don't need to query or measure the tab views.
+    private boolean tabGeometryValid;
+    private int tabGeometryCount;
+    private int[] tabLefts = new int[0];
+    private int[] tabRights = new int[0];
+    private int[] tabContentWidths = new int[0];
+
+    // When virtualized, only the tab views within the visible scroll window are children of this
+    // view. Tab offsets are kept per tab position, relative to the start edge of the content.
+    private boolean virtualized;
+    private int[] virtualTabStarts = new int[0];
+    private int[] virtualTabEnds = new int[0];
+    private int virtualContentOrigin;
+    private int virtualChildHeightMeasureSpec;
+    private int estimatedTabMaxWidth = INVALID_WIDTH;
 
     SlidingTabIndicator(Context context) {
       super(context);
@@ -2872,6 +3039,277 @@ public class TabLayout extends HorizontalScrollView {
       defaultSelectionIndicator = new GradientDrawable();
     }
 
+    boolean isVirtualized() {
+      return virtualized;
+    }
+
+    void setVirtualized(boolean virtualized) {
+      if (this.virtualized == virtualized) {
+        return;
+      }
+      this.virtualized = virtualized;
+      tabGeometryValid = false;
+
+      // Rebuild the children, either attaching every tab view or leaving it to the next layout pass
+      // to attach the views within the visible window.
+      removeAllViews();
+      if (!virtualized) {
+        for (int i = 0, count = tabs.size(); i < count; i++) {
+          addView(tabs.get(i).view, i, createLayoutParamsForTabs());
+        }
+      }
+    }
+
+    /** Returns the number of tabs laid out by this view, whether or not their views are attached. */
+    int getTabCount() {
+      return virtualized ? tabs.size() : getChildCount();
+    }
+
+    /** Returns the tab position of the child at the given index. */
+    int getChildTabPosition(int index) {
+      if (!virtualized) {
+        return index;
+      }
+      final Tab tab = ((TabView) getChildAt(index)).getTab();
+      return tab != null ? tab.getPosition() : Tab.INVALID_POSITION;
+    }
+
+    int getTabLeft(int position) {
+      if (tabGeometryValid && position < tabGeometryCount) {
+        return tabLefts[position];
+      }
+      // Until the next layout pass, fall back to the attached view's current bounds
+      final View child = virtualized ? null : getChildAt(position);
+      return child != null ? child.getLeft() : 0;
+    }
+
+    int getTabRight(int position) {
+      if (tabGeometryValid && position < tabGeometryCount) {
+        return tabRights[position];
+      }
+      final View child = virtualized ? null : getChildAt(position);
+      return child != null ? child.getRight() : 0;
+    }
+
+    int getTabWidth(int position) {
+      return getTabRight(position) - getTabLeft(position);
+    }
+
+    /** Returns the width of the tab's content (label and/or icon), or -1 if unknown. */
+    int getTabContentWidth(int position) {
+      if (tabGeometryValid && position < tabGeometryCount) {
+        return tabContentWidths[position];
+      }
+      final View child = virtualized ? null : getChildAt(position);
+      return child instanceof TabView ? ((TabView) child).getContentWidth() : -1;
+    }
+
+    private void ensureTabGeometryCapacity(int count) {
+      if (tabLefts.length < count) {
+        final int capacity = Math.max(count, tabLefts.length * 2);
+        tabLefts = new int[capacity];
+        tabRights = new int[capacity];
+        tabContentWidths = new int[capacity];
+      }
+    }
+
+    /** Captures the bounds of the attached tab views after a non-virtualized layout pass. */
+    private void captureTabGeometry() {
+      final int count = getChildCount();
+      ensureTabGeometryCapacity(count);
+      for (int i = 0; i < count; i++) {
+        final View child = getChildAt(i);
+        tabLefts[i] = child.getLeft();
+        tabRights[i] = child.getRight();
+        tabContentWidths[i] = child instanceof TabView ? ((TabView) child).getContentWidth() : -1;
+      }
+      tabGeometryCount = count;
+      tabGeometryValid = true;
+    }
+
+    void invalidateTabWidths() {
+      resetEstimatedTabWidths();
+      invalidateTabGeometry();
+    }
+
+    private void resetEstimatedTabWidths() {
+      for (int i = 0, count = tabs.size(); i < count; i++) {
+        tabs.get(i).estimatedWidth = INVALID_WIDTH;
+      }
+    }
+
+    /** Marks the tab geometry as stale after tabs were added, removed or moved. */
+    void invalidateTabGeometry() {
+      tabGeometryValid = false;
+      requestLayout();
+    }
+
+    private void measureVirtualized(final int widthMeasureSpec, final int heightMeasureSpec) {
+      if (estimatedTabMaxWidth != getTabMaxWidth()) {
+        estimatedTabMaxWidth = getTabMaxWidth();
+        resetEstimatedTabWidths();
+      }
+
+      final int count = tabs.size();
+      if (virtualTabStarts.length < count) {
+        final int capacity = Math.max(count, virtualTabStarts.length * 2);
+        virtualTabStarts = new int[capacity];
+        virtualTabEnds = new int[capacity];
+      }
+
+      int contentWidth = 0;
+      for (int i = 0; i < count; i++) {
+        final Tab tab = tabs.get(i);
+        if (tab.estimatedWidth == INVALID_WIDTH) {
+          estimateTabWidth(tab);
+        }
+        virtualTabStarts[i] = contentWidth;
+        contentWidth += tab.estimatedWidth;
+        virtualTabEnds[i] = contentWidth;
+      }
+
+      virtualChildHeightMeasureSpec =
+          getChildMeasureSpec(
+              heightMeasureSpec, getPaddingTop() + getPaddingBottom(), LayoutParams.MATCH_PARENT);
+      int childHeight = 0;
+      for (int i = 0, childCount = getChildCount(); i < childCount; i++) {
+        final View child = getChildAt(i);
+        final int position = getChildTabPosition(i);
+        if (position != Tab.INVALID_POSITION) {
+          child.measure(
+              MeasureSpec.makeMeasureSpec(tabs.get(position).estimatedWidth, MeasureSpec.EXACTLY),
+              virtualChildHeightMeasureSpec);
+          childHeight = Math.max(childHeight, child.getMeasuredHeight());
+        }
+      }
+
+      final int width = contentWidth + getPaddingLeft() + getPaddingRight();
+      final int height =
+          Math.max(getSuggestedMinimumHeight(), childHeight + getPaddingTop() + getPaddingBottom());
+      setMeasuredDimension(
+          resolveSize(width, widthMeasureSpec), resolveSize(height, heightMeasureSpec));
+    }
+
+    private void layoutVirtualized() {
+      final int count = tabs.size();
+      final int contentWidth = count > 0 ? virtualTabEnds[count - 1] : 0;
+      final int availableWidth = getWidth() - getPaddingLeft() - getPaddingRight();
+      virtualContentOrigin = ViewCompat.getPaddingStart(this);
+      if (tabGravity == GRAVITY_CENTER && contentWidth < availableWidth) {
+        virtualContentOrigin += (availableWidth - contentWidth) / 2;
+      }
+
+      ensureTabGeometryCapacity(count);
+      final boolean isRtl = ViewCompat.getLayoutDirection(this) == ViewCompat.LAYOUT_DIRECTION_RTL;
+      for (int i = 0; i < count; i++) {
+        if (isRtl) {
+          tabLefts[i] = getWidth() - virtualContentOrigin - virtualTabEnds[i];
+          tabRights[i] = getWidth() - virtualContentOrigin - virtualTabStarts[i];
+        } else {
+          tabLefts[i] = virtualContentOrigin + virtualTabStarts[i];
+          tabRights[i] = virtualContentOrigin + virtualTabEnds[i];
+        }
+        tabContentWidths[i] = tabs.get(i).estimatedContentWidth;
+      }
+      tabGeometryCount = count;
+      tabGeometryValid = true;
+
+      // Re-position the views that are already attached, then sync the attached window
+      for (int i = 0, childCount = getChildCount(); i < childCount; i++) {
+        final int position = getChildTabPosition(i);
+        if (position != Tab.INVALID_POSITION) {
+          layoutTabView(getChildAt(i), position);
+        }
+      }
+      updateAttachedTabViews();
+    }
+
+    /**
+     * Attaches the tab views that intersect the visible scroll window (plus a margin on either side)
+     * and detaches the rest. Only the views that enter the window are measured.
+     */
+    void updateAttachedTabViews() {
+      if (!virtualized || !tabGeometryValid) {
+        return;
+      }
+
+      final int count = tabs.size();
+      final int margin = (int) ViewUtils.dpToPx(getContext(), VIRTUALIZED_TAB_WINDOW_MARGIN);
+      final int viewportWidth =
+          TabLayout.this.getWidth() - TabLayout.this.getPaddingLeft()
+              - TabLayout.this.getPaddingRight();
+      final int windowLeft = TabLayout.this.getScrollX() - margin;
+      final int windowRight = TabLayout.this.getScrollX() + viewportWidth + margin;
+
+      // Convert the window into offsets from the start edge of the content
+      final int windowStart;
+      final int windowEnd;
+      if (ViewCompat.getLayoutDirection(this) == ViewCompat.LAYOUT_DIRECTION_RTL) {
+        windowStart = getWidth() - virtualContentOrigin - windowRight;
+        windowEnd = getWidth() - virtualContentOrigin - windowLeft;
+      } else {
+        windowStart = windowLeft - virtualContentOrigin;
+        windowEnd = windowRight - virtualContentOrigin;
+      }
+
+      // Binary search for the first tab which ends after the start of the window
+      int low = 0;
+      int high = count;
+      while (low < high) {
+        final int mid = (low + high) >>> 1;
+        if (virtualTabEnds[mid] <= windowStart) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      final int first = low;
+      int last = first - 1;
+      while (last + 1 < count && virtualTabStarts[last + 1] < windowEnd) {
+        last++;
+      }
+
+      boolean changed = false;
+      for (int i = getChildCount() - 1; i >= 0; i--) {
+        final int position = getChildTabPosition(i);
+        if (position < first || position > last) {
+          removeViewInLayout(getChildAt(i));
+          changed = true;
+        }
+      }
+
+      for (int position = first; position <= last; position++) {
+        final TabView tabView = tabs.get(position).view;
+        if (tabView.getParent() == this) {
+          continue;
+        }
+        if (tabView.getParent() != null) {
+          ((ViewGroup) tabView.getParent()).removeView(tabView);
+        }
+        addViewInLayout(tabView, -1, createLayoutParamsForTabs(), true);
+        final boolean selected = tabs.get(position).isSelected();
+        tabView.setSelected(selected);
+        tabView.setActivated(selected);
+        tabView.setMinimumWidth(getTabMinWidth());
+        tabView.measure(
+            MeasureSpec.makeMeasureSpec(tabs.get(position).estimatedWidth, MeasureSpec.EXACTLY),
+            virtualChildHeightMeasureSpec);
+        layoutTabView(tabView, position);
+        changed = true;
+      }
+
+      if (changed) {
+        invalidate();
+        TabLayout.this.invalidate();
+      }
+    }
+
+    private void layoutTabView(@NonNull View child, int position) {
+      final int left = getTabLeft(position);
+      final int top = getPaddingTop();
+      child.layout(left, top, left + child.getMeasuredWidth(), top + child.getMeasuredHeight());
+    }
+
     void setSelectedIndicatorColor(int color) {
       // This allows for preservation of the drawable's intrinsic color. No need to support a
       // transparent indicator color since the indicator drawable itself can be cleared.
@@ -2897,7 +3335,26 @@ public class TabLayout extends HorizontalScrollView {
       }
     }
 
+    void moveTabView(int fromPosition, int toPosition) {
+      if (virtualized) {
+        // Attached views are positioned by their tab's position, so only the geometry changes.
+        invalidateTabGeometry();
+        return;
+      }
+      tabGeometryValid = false;
+      // Detach and re-attach rather than remove and add, so the view isn't detached from the
+      // window while it moves.
+      final View child = getChildAt(fromPosition);
+      detachViewFromParent(fromPosition);
+      attachViewToParent(child, toPosition, child.getLayoutParams());
+      requestLayout();
+      invalidate();
+    }
+
     boolean childrenNeedLayout() {
+      if (virtualized) {
+        return !tabGeometryValid || isLayoutRequested();
+      }
       for (int i = 0, z = getChildCount(); i < z; i++) {
         final View child = getChildAt(i);
         if (child.getWidth() <= 0) {
@@ -2937,6 +3394,11 @@ public class TabLayout extends HorizontalScrollView {
 
     @Override
     protected void onMeasure(final int widthMeasureSpec, final int heightMeasureSpec) {
+      if (virtualized) {
+        measureVirtualized(widthMeasureSpec, heightMeasureSpec);
+        return;
+      }
+
       super.onMeasure(widthMeasureSpec, heightMeasureSpec);
 
       if (MeasureSpec.getMode(widthMeasureSpec) != MeasureSpec.EXACTLY) {
@@ -2997,15 +3459,20 @@ public class TabLayout extends HorizontalScrollView {
 
     @Override
     protected void onLayout(boolean changed, int l, int t, int r, int b) {
-      super.onLayout(changed, l, t, r, b);
+      if (virtualized) {
+        layoutVirtualized();
+      } else {
+        super.onLayout(changed, l, t, r, b);
+        captureTabGeometry();
+      }
 
       if (indicatorAnimator != null && indicatorAnimator.isRunning()) {
         // It's possible that the tabs' layout is modified while the indicator is animating (ex. a
         // new tab is added, or a tab is removed in onTabSelected). This would change the target end
         // position of the indicator, since the tab widths are different. We need to modify the
         // animation's updateListener to pick up the new target positions.
-        updateOrRecreateIndicatorAnimation(
-            /* recreateAnimation= */ false, selectedPosition, /* duration= */ -1);
+        updateOrStartIndicatorAnimation(
+            /* startAnimation= */ false, selectedPosition, /* duration= */ -1);
       } else {
         // If we've been layed out, update the indicator position
         updateIndicatorPosition();
@@ -3013,28 +3480,29 @@ public class TabLayout extends HorizontalScrollView {
     }
 
     private void updateIndicatorPosition() {
-      final View selectedTitle = getChildAt(selectedPosition);
       int left;
       int right;
 
-      if (selectedTitle != null && selectedTitle.getWidth() > 0) {
-        left = selectedTitle.getLeft();
-        right = selectedTitle.getRight();
+      if (selectedPosition >= 0
+          && selectedPosition < getTabCount()
+          && getTabWidth(selectedPosition) > 0) {
+        left = getTabLeft(selectedPosition);
+        right = getTabRight(selectedPosition);
 
-        if (!tabIndicatorFullWidth && selectedTitle instanceof TabView) {
-          calculateTabViewContentBounds((TabView) selectedTitle, tabViewContentBounds);
+        if (!tabIndicatorFullWidth && getTabContentWidth(selectedPosition) >= 0) {
+          calculateTabContentBounds(selectedPosition, tabViewContentBounds);
           left = (int) tabViewContentBounds.left;
           right = (int) tabViewContentBounds.right;
         }
 
-        if (selectionOffset > 0f && selectedPosition < getChildCount() - 1) {
+        if (selectionOffset > 0f && selectedPosition < getTabCount() - 1) {
           // Draw the selection partway between the tabs
-          View nextTitle = getChildAt(selectedPosition + 1);
-          int nextTitleLeft = nextTitle.getLeft();
-          int nextTitleRight = nextTitle.getRight();
+          final int nextPosition = selectedPosition + 1;
+          int nextTitleLeft = getTabLeft(nextPosition);
+          int nextTitleRight = getTabRight(nextPosition);
 
-          if (!tabIndicatorFullWidth && nextTitle instanceof TabView) {
-            calculateTabViewContentBounds((TabView) nextTitle, tabViewContentBounds);
+          if (!tabIndicatorFullWidth && getTabContentWidth(nextPosition) >= 0) {
+            calculateTabContentBounds(nextPosition, tabViewContentBounds);
             nextTitleLeft = (int) tabViewContentBounds.left;
             nextTitleRight = (int) tabViewContentBounds.right;
           }
@@ -3064,90 +3532,91 @@ public class TabLayout extends HorizontalScrollView {
         indicatorAnimator.cancel();
       }
 
-      updateOrRecreateIndicatorAnimation(/* recreateAnimation= */ true, position, duration);
+      updateOrStartIndicatorAnimation(/* startAnimation= */ true, position, duration);
     }
 
-    private void updateOrRecreateIndicatorAnimation(
-        boolean recreateAnimation, final int position, int duration) {
-      final View targetView = getChildAt(position);
-      if (targetView == null) {
-        // If we don't have a view, just update the position now and return
+    private void updateOrStartIndicatorAnimation(
+        boolean startAnimation, final int position, int duration) {
+      if (position < 0 || position >= getTabCount()) {
+        // If we don't have a tab, just update the position now and return
         updateIndicatorPosition();
         return;
       }
 
-      int targetLeft = targetView.getLeft();
-      int targetRight = targetView.getRight();
+      int targetLeft = getTabLeft(position);
+      int targetRight = getTabRight(position);
 
-      if (!tabIndicatorFullWidth && targetView instanceof TabView) {
-        calculateTabViewContentBounds((TabView) targetView, tabViewContentBounds);
+      if (!tabIndicatorFullWidth && getTabContentWidth(position) >= 0) {
+        calculateTabContentBounds(position, tabViewContentBounds);
         targetLeft = (int) tabViewContentBounds.left;
         targetRight = (int) tabViewContentBounds.right;
       }
 
-      // Where we want the indicator to end up after the animation finishes.
-      final int finalTargetLeft = targetLeft;
-      final int finalTargetRight = targetRight;
-
       // Where the indicator is currently.
       final int startLeft = indicatorLeft;
       final int startRight = indicatorRight;
 
       // If we're already at the target position, do nothing.
-      if (startLeft == finalTargetLeft && startRight == finalTargetRight) {
+      if (startLeft == targetLeft && startRight == targetRight) {
         return;
       }
 
-      // If we're going to recreate the animation, then we need to update our start positions. If
-      // we're not recreating, we reuse the start positions from the original animation.
-      if (recreateAnimation) {
+      // If we're going to start the animation, then we need to update our start positions. If
+      // we're not starting, we reuse the start positions from the running animation.
+      if (startAnimation) {
         animationStartLeft = startLeft;
         animationStartRight = startRight;
       }
 
-      // Create the update listener with the new target indicator positions. If we're not recreating
-      // then animationStartLeft/Right will be the same as when the previous animator was created.
-      ValueAnimator.AnimatorUpdateListener updateListener =
+      // Where we want the indicator to end up after the animation finishes. Updating these while
+      // the animation runs retargets it.
+      animationTargetLeft = targetLeft;
+      animationTargetRight = targetRight;
+      animationTargetPosition = position;
+
+      if (startAnimation) {
+        ensureIndicatorAnimator();
+        indicatorAnimator.setDuration(duration);
+        indicatorAnimator.start();
+      }
+    }
+
+    private void ensureIndicatorAnimator() {
+      if (indicatorAnimator != null) {
+        return;
+      }
+      // A single animator is reused for every selection change, with the start and target
+      // positions read from fields on each update.
+      ValueAnimator animator = indicatorAnimator = new ValueAnimator();
+      animator.setInterpolator(AnimationUtils.FAST_OUT_SLOW_IN_INTERPOLATOR);
+      animator.setFloatValues(0, 1);
+      animator.addUpdateListener(
           new ValueAnimator.AnimatorUpdateListener() {
             @Override
             public void onAnimationUpdate(@NonNull ValueAnimator valueAnimator) {
               final float fraction = valueAnimator.getAnimatedFraction();
               setIndicatorPosition(
-                  AnimationUtils.lerp(animationStartLeft, finalTargetLeft, fraction),
-                  AnimationUtils.lerp(animationStartRight, finalTargetRight, fraction));
+                  AnimationUtils.lerp(animationStartLeft, animationTargetLeft, fraction),
+                  AnimationUtils.lerp(animationStartRight, animationTargetRight, fraction));
+            }
+          });
+      animator.addListener(
+          new AnimatorListenerAdapter() {
+            @Override
+            public void onAnimationStart(Animator animator) {
+              selectedPosition = animationTargetPosition;
             }
-          };
-
-      if (recreateAnimation) {
-        // Create & start a new indicatorAnimator.
-        ValueAnimator animator = indicatorAnimator = new ValueAnimator();
-        animator.setInterpolator(AnimationUtils.FAST_OUT_SLOW_IN_INTERPOLATOR);
-        animator.setDuration(duration);
-        animator.setFloatValues(0, 1);
-        animator.addUpdateListener(updateListener);
-        animator.addListener(
-            new AnimatorListenerAdapter() {
-              @Override
-              public void onAnimationStart(Animator animator) {
-                selectedPosition = position;
-              }
 
-              @Override
-              public void onAnimationEnd(Animator animator) {
-                selectedPosition = position;
-                selectionOffset = 0f;
-              }
-            });
-        animator.start();
-      } else {
-        // Reuse the existing animator. Updating the listener only modifies the target positions.
-        indicatorAnimator.removeAllUpdateListeners();
-        indicatorAnimator.addUpdateListener(updateListener);
-      }
+            @Override
+            public void onAnimationEnd(Animator animator) {
+              selectedPosition = animationTargetPosition;
+              selectionOffset = 0f;
+            }
+          });
     }
 
     /**
-     * Given a {@link TabView}, calculate the left and right bounds of its content.
+     * Given a tab position, calculate the left and right bounds of its content.
      *
      * <p>If only text label is present, calculates the width of the text label. If only icon is
      * present, calculates the width of the icon. If both are present, the text label bounds take
@@ -3156,18 +3625,17 @@ public class TabLayout extends HorizontalScrollView {
      * difference between the left and right bounds is less than 24dp, then left and right bounds
      * are adjusted such that the difference between them is equal to 24dp.
      *
-     * @param tabView {@link TabView} for which to calculate left and right content bounds.
+     * @param position position of the tab for which to calculate left and right content bounds.
      */
-    private void calculateTabViewContentBounds(
-        @NonNull TabView tabView, @NonNull RectF contentBounds) {
-      int tabViewContentWidth = tabView.getContentWidth();
+    private void calculateTabContentBounds(int position, @NonNull RectF contentBounds) {
+      int tabViewContentWidth = getTabContentWidth(position);
       int minIndicatorWidth = (int) ViewUtils.dpToPx(getContext(), MIN_INDICATOR_WIDTH);
 
       if (tabViewContentWidth < minIndicatorWidth) {
         tabViewContentWidth = minIndicatorWidth;
       }
 
-      int tabViewCenter = (tabView.getLeft() + tabView.getRight()) / 2;
+      int tabViewCenter = (getTabLeft(position) + getTabRight(position)) / 2;
       int contentLeftBounds = tabViewCenter - (tabViewContentWidth / 2);
       int contentRightBounds = tabViewCenter + (tabViewContentWidth / 2);
 
@@ -3286,6 +3754,72 @@ public class TabLayout extends HorizontalScrollView {
     return tabMaxWidth;
   }
 
+  /**
+   * Computes the width a {@link TabView} would measure to for the given tab without measuring the
+   * view, and stores it in {@link Tab#estimatedWidth}. The label width comes from the tab text
+   * appearance's paint, so this matches the width of a single line label.
+   */
+  private void estimateTabWidth(@NonNull Tab tab) {
+    final int minWidth = getTabMinWidth();
+    final int maxWidth = tabMaxWidth > 0 ? tabMaxWidth : Integer.MAX_VALUE;
+    final int horizontalPadding = tabPaddingStart + tabPaddingEnd;
+
+    if (tab.getCustomView() != null) {
+      // A custom view can't be sized from text metrics, so measure the detached view once.
+      tab.view.setMinimumWidth(minWidth);
+      tab.view.measure(
+          MeasureSpec.makeMeasureSpec(0, MeasureSpec.UNSPECIFIED),
+          MeasureSpec.makeMeasureSpec(0, MeasureSpec.UNSPECIFIED));
+      tab.estimatedWidth = Math.min(tab.view.getMeasuredWidth(), maxWidth);
+      tab.estimatedContentWidth = tab.getCustomView().getMeasuredWidth();
+      return;
+    }
+
+    final CharSequence text = tab.getText();
+    final boolean hasText = !TextUtils.isEmpty(text);
+    final boolean hasIcon = tab.getIcon() != null;
+
+    int textWidth = 0;
+    if (hasText && tab.labelVisibilityMode == TAB_LABEL_VISIBILITY_LABELED) {
+      final TextView measuringTextView = getMeasuringTextView();
+      final TransformationMethod transformation = measuringTextView.getTransformationMethod();
+      final CharSequence displayText =
+          transformation != null ? transformation.getTransformation(text, measuringTextView) : text;
+      textWidth =
+          (int) Math.ceil(Layout.getDesiredWidth(displayText, measuringTextView.getPaint()));
+    }
+
+    int iconWidth = 0;
+    if (hasIcon) {
+      iconWidth = getResources().getDimensionPixelSize(R.dimen.design_tab_icon_size);
+    }
+
+    int contentWidth;
+    if (inlineLabel) {
+      final int gap =
+          hasText && hasIcon ? (int) ViewUtils.dpToPx(getContext(), DEFAULT_GAP_TEXT_ICON) : 0;
+      contentWidth = iconWidth + gap + textWidth;
+    } else {
+      contentWidth = Math.max(iconWidth, textWidth);
+    }
+    contentWidth = Math.min(contentWidth, maxWidth - horizontalPadding);
+
+    tab.estimatedContentWidth = contentWidth;
+    tab.estimatedWidth = Math.min(Math.max(contentWidth + horizontalPadding, minWidth), maxWidth);
+  }
+
+  @NonNull
+  private TextView getMeasuringTextView() {
+    if (measuringTextView == null) {
+      measuringTextView =
+          (TextView)
+              LayoutInflater.from(getContext())
+                  .inflate(R.layout.design_layout_tab_text, slidingTabIndicator, false);
+      TextViewCompat.setTextAppearance(measuringTextView, tabTextAppearance);
+    }
+    return measuringTextView;
+  }
+
   /**
    * A {@link ViewPager.OnPageChangeListener} class which contains the necessary calls back to the
    * provided {@link TabLayout} so that the tab position is kept in sync.
@@ -32,7 +32,9 @@ import java.lang.ref.WeakReference;
  * the user drags the ViewPager2. TabLayoutMediator will listen to ViewPager2's OnPageChangeCallback
  * to adjust tab when ViewPager2 moves. TabLayoutMediator listens to TabLayout's
  * OnTabSelectedListener to adjust VP2 when tab moves. TabLayoutMediator listens to RecyclerView's
- * AdapterDataObserver to recreate tab content when dataset changes.
+ * AdapterDataObserver to update tab content when dataset changes. Item range notifications only
+ * insert, remove, move or re-configure the affected tabs, while {@code notifyDataSetChanged()}
+ * recreates all tabs.
  *
  * <p>Establish the link by creating an instance of this class, make sure the ViewPager2 has an
  * adapter and then call {@link #attach()} on it. Instantiating a TabLayoutMediator will only create
@@ -188,6 +190,92 @@ public final class TabLayoutMediator {
     }
   }
 
+  /** Re-configures the existing tabs for the changed range, keeping their views and selection. */
+  void rebindTabs(int positionStart, int itemCount) {
+    if (positionStart < 0 || positionStart + itemCount > tabLayout.getTabCount()) {
+      populateTabsFromPagerAdapter();
+      return;
+    }
+    for (int i = positionStart; i < positionStart + itemCount; i++) {
+      TabLayout.Tab tab = tabLayout.getTabAt(i);
+      tab.clearConfiguration();
+      tabConfigurationStrategy.onConfigureTab(tab, i);
+      tab.updateView();
+    }
+  }
+
+  /** Creates and configures tabs for the inserted range. */
+  void insertTabs(int positionStart, int itemCount) {
+    if (adapter == null
+        || positionStart < 0
+        || positionStart > tabLayout.getTabCount()
+        || tabLayout.getTabCount() + itemCount != adapter.getItemCount()) {
+      populateTabsFromPagerAdapter();
+      return;
+    }
+    boolean hadTabs = tabLayout.getTabCount() > 0;
+    for (int i = positionStart; i < positionStart + itemCount; i++) {
+      TabLayout.Tab tab = tabLayout.newTab();
+      tabConfigurationStrategy.onConfigureTab(tab, i);
+      tabLayout.addTab(tab, i, false);
+    }
+    if (hadTabs) {
+      tabLayout.updateIndicatorToSelectedTab();
+    } else {
+      selectCurrentItem();
+    }
+  }
+
+  /** Removes the tabs in the removed range. */
+  void removeTabs(int positionStart, int itemCount) {
+    if (adapter == null
+        || positionStart < 0
+        || positionStart + itemCount > tabLayout.getTabCount()
+        || tabLayout.getTabCount() - itemCount != adapter.getItemCount()) {
+      populateTabsFromPagerAdapter();
+      return;
+    }
+    for (int i = positionStart + itemCount - 1; i >= positionStart; i--) {
+      tabLayout.removeTabAtWithoutReselecting(i);
+    }
+    if (tabLayout.getSelectedTabPosition() == TabLayout.Tab.INVALID_POSITION) {
+      // The selected tab was removed, so select the ViewPager's item as populating would.
+      selectCurrentItem();
+    } else {
+      tabLayout.updateIndicatorToSelectedTab();
+    }
+  }
+
+  /** Moves the tabs in the moved range. */
+  void moveTabs(int fromPosition, int toPosition, int itemCount) {
+    int tabCount = tabLayout.getTabCount();
+    if (fromPosition < 0
+        || toPosition < 0
+        || fromPosition + itemCount > tabCount
+        || toPosition + itemCount > tabCount) {
+      populateTabsFromPagerAdapter();
+      return;
+    }
+    for (int i = 0; i < itemCount; i++) {
+      if (fromPosition > toPosition) {
+        tabLayout.moveTab(fromPosition + i, toPosition + i);
+      } else {
+        tabLayout.moveTab(fromPosition, toPosition + itemCount - 1);
+      }
+    }
+    tabLayout.updateIndicatorToSelectedTab();
+  }
+
+  private void selectCurrentItem() {
+    int tabCount = tabLayout.getTabCount();
+    if (tabCount > 0) {
+      int currItem = Math.min(viewPager.getCurrentItem(), tabCount - 1);
+      if (currItem != tabLayout.getSelectedTabPosition()) {
+        tabLayout.selectTab(tabLayout.getTabAt(currItem));
+      }
+    }
+  }
+
   /**
    * A {@link ViewPager2.OnPageChangeCallback} class which contains the necessary calls back to the
    * provided {@link TabLayout} so that the tab position is kept in sync.
@@ -289,27 +377,27 @@ public final class TabLayoutMediator {
 
     @Override
     public void onItemRangeChanged(int positionStart, int itemCount) {
-      populateTabsFromPagerAdapter();
+      rebindTabs(positionStart, itemCount);
     }
 
     @Override
     public void onItemRangeChanged(int positionStart, int itemCount, @Nullable Object payload) {
-      populateTabsFromPagerAdapter();
+      rebindTabs(positionStart, itemCount);
     }
 
     @Override
     public void onItemRangeInserted(int positionStart, int itemCount) {
-      populateTabsFromPagerAdapter();
+      insertTabs(positionStart, itemCount);
     }
 
     @Override
     public void onItemRangeRemoved(int positionStart, int itemCount) {
-      populateTabsFromPagerAdapter();
+      removeTabs(positionStart, itemCount);
     }
 
     @Override
     public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
-      populateTabsFromPagerAdapter();
+      moveTabs(fromPosition, toPosition, itemCount);
     }
   }
 }
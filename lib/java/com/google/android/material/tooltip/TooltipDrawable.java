@@ -50,6 +50,7 @@ import com.google.android.material.shape.EdgeTreatment;
 import com.google.android.material.shape.MarkerEdgeTreatment;
 import com.google.android.material.shape.MaterialShapeDrawable;
 import com.google.android.material.shape.OffsetEdgeTreatment;
+import com.google.android.material.shape.ShapeAppearanceModel;
 
 /**
  * A Tooltip that supports shape theming and draws a pointer on the bottom in the center of the
@@ -99,6 +100,10 @@ public class TooltipDrawable extends MaterialShapeDrawable implements TextDrawab
   private int layoutMargin;
   private int arrowSize;
   private int locationOnScreenX;
+  // The arrow offset and shape last applied by #updateMarkerEdge(), so repositioning the tooltip
+  // without moving its arrow doesn't rebuild the shape.
+  private float markerEdgeOffset;
+  @Nullable private ShapeAppearanceModel markerShapeAppearanceModel;
 
   /** Returns a TooltipDrawable from the given attributes. */
   @NonNull
@@ -143,8 +148,7 @@ public class TooltipDrawable extends MaterialShapeDrawable implements TextDrawab
             context, attrs, R.styleable.Tooltip, defStyleAttr, defStyleRes);
 
     arrowSize = context.getResources().getDimensionPixelSize(R.dimen.mtrl_tooltip_arrowSize);
-    setShapeAppearanceModel(
-        getShapeAppearanceModel().toBuilder().setBottomEdge(createMarkerEdge()).build());
+    updateMarkerEdge();
 
     setText(a.getText(R.styleable.Tooltip_android_text));
     setTextAppearance(
@@ -399,8 +403,7 @@ public class TooltipDrawable extends MaterialShapeDrawable implements TextDrawab
 
     // Update the marker edge since the location of the marker arrow can move depending on the the
     // bounds.
-    setShapeAppearanceModel(
-        getShapeAppearanceModel().toBuilder().setBottomEdge(createMarkerEdge()).build());
+    updateMarkerEdge();
   }
 
   @Override
@@ -431,12 +434,25 @@ public class TooltipDrawable extends MaterialShapeDrawable implements TextDrawab
     return pointerOffset;
   }
 
-  private EdgeTreatment createMarkerEdge() {
+  private void updateMarkerEdge() {
     float offset = -calculatePointerOffset();
     // The maximum distance the arrow can be offset before extends outside the bounds.
     float maxArrowOffset = (float) (getBounds().width() - arrowSize * Math.sqrt(2)) / 2.0f;
     offset = Math.max(offset, -maxArrowOffset);
     offset = Math.min(offset, maxArrowOffset);
+
+    ShapeAppearanceModel shapeAppearanceModel = getShapeAppearanceModel();
+    if (shapeAppearanceModel == markerShapeAppearanceModel && offset == markerEdgeOffset) {
+      return;
+    }
+
+    markerEdgeOffset = offset;
+    markerShapeAppearanceModel =
+        shapeAppearanceModel.toBuilder().setBottomEdge(createMarkerEdge(offset)).build();
+    setShapeAppearanceModel(markerShapeAppearanceModel);
+  }
+
+  private EdgeTreatment createMarkerEdge(float offset) {
     return new OffsetEdgeTreatment(new MarkerEdgeTreatment(arrowSize), offset);
   }
 
@@ -38,7 +38,7 @@ import android.os.Build.VERSION;
 import android.os.Build.VERSION_CODES;
 import androidx.core.view.ViewCompat;
 import android.util.AttributeSet;
-import android.util.Pair;
+import android.util.Property;
 import android.view.Gravity;
 import android.view.View;
 import android.view.ViewAnimationUtils;
@@ -55,6 +55,7 @@ import com.google.android.material.animation.ChildrenAlphaProperty;
 import com.google.android.material.animation.DrawableAlphaProperty;
 import com.google.android.material.animation.MotionSpec;
 import com.google.android.material.animation.MotionTiming;
+import com.google.android.material.animation.ObjectAnimatorCompat;
 import com.google.android.material.animation.Positioning;
 import com.google.android.material.circularreveal.CircularRevealCompat;
 import com.google.android.material.circularreveal.CircularRevealHelper;
@@ -80,6 +81,25 @@ public abstract class FabTransformationBehavior extends ExpandableTransformation
   private final RectF tmpRectF1 = new RectF();
   private final RectF tmpRectF2 = new RectF();
   private final int[] tmpArray = new int[2];
+  private final MotionTiming[] tmpMotionTimings = new MotionTiming[2];
+  private final List<Animator> animations = new ArrayList<>();
+  private final List<AnimatorListener> listeners = new ArrayList<>();
+
+  // Animators and listeners reused across expanded state changes between the same dependency and
+  // child. They are retargeted with new end values instead of being created again on each toggle.
+  @Nullable private View animatedDependency;
+  @Nullable private View animatedChild;
+  @Nullable private ObjectAnimator elevationAnimator;
+  @Nullable private ObjectAnimator translationXAnimator;
+  @Nullable private ObjectAnimator translationYAnimator;
+  @Nullable private ObjectAnimator dependencyTranslationXAnimator;
+  @Nullable private ObjectAnimator dependencyTranslationYAnimator;
+  @Nullable private ObjectAnimator iconFadeAnimator;
+  @Nullable private ObjectAnimator colorAnimator;
+  @Nullable private ObjectAnimator childrenFadeAnimator;
+  @Nullable private AnimatorListener iconFadeListener;
+  @Nullable private AnimatorListener circularRevealListener;
+  @Nullable private Drawable iconFadeIcon;
 
   // The original translation of the dependency. Used to translate the dependency back to its
   // original position.
@@ -133,8 +153,14 @@ public abstract class FabTransformationBehavior extends ExpandableTransformation
       dependencyOriginalTranslationY = dependency.getTranslationY();
     }
 
-    List<Animator> animations = new ArrayList<>();
-    List<AnimatorListener> listeners = new ArrayList<>();
+    if (dependency != animatedDependency || child != animatedChild) {
+      clearReusableAnimators();
+      animatedDependency = dependency;
+      animatedChild = child;
+    }
+
+    List<Animator> animations = this.animations;
+    List<AnimatorListener> listeners = this.listeners;
 
     if (VERSION.SDK_INT >= VERSION_CODES.LOLLIPOP) {
       createElevationAnimation(
@@ -190,9 +216,61 @@ public abstract class FabTransformationBehavior extends ExpandableTransformation
     for (int i = 0, count = listeners.size(); i < count; i++) {
       set.addListener(listeners.get(i));
     }
+    animations.clear();
+    listeners.clear();
     return set;
   }
 
+  private void clearReusableAnimators() {
+    elevationAnimator = null;
+    translationXAnimator = null;
+    translationYAnimator = null;
+    dependencyTranslationXAnimator = null;
+    dependencyTranslationYAnimator = null;
+    iconFadeAnimator = null;
+    colorAnimator = null;
+    childrenFadeAnimator = null;
+    iconFadeListener = null;
+    circularRevealListener = null;
+    iconFadeIcon = null;
+  }
+
+  /**
+   * Returns {@code animator} retargeted to animate the {@code property} of {@code target} to {@code
+   * value}, or a new animator if there is none to reuse yet.
+   */
+  @NonNull
+  private static <T> ObjectAnimator obtainFloatAnimator(
+      @Nullable ObjectAnimator animator,
+      @NonNull T target,
+      @NonNull Property<T, Float> property,
+      float value) {
+    if (animator == null) {
+      return ObjectAnimatorCompat.ofFloat(target, property, value);
+    }
+    animator.setTarget(target);
+    animator.setFloatValues(value);
+    return animator;
+  }
+
+  /**
+   * Returns {@code animator} retargeted to animate the {@code property} of {@code target} to {@code
+   * value}, or a new animator if there is none to reuse yet.
+   */
+  @NonNull
+  private static <T> ObjectAnimator obtainIntAnimator(
+      @Nullable ObjectAnimator animator,
+      @NonNull T target,
+      @NonNull Property<T, Integer> property,
+      int value) {
+    if (animator == null) {
+      return ObjectAnimatorCompat.ofInt(target, property, value);
+    }
+    animator.setTarget(target);
+    animator.setIntValues(value);
+    return animator;
+  }
+
   protected abstract FabTransformationSpec onCreateMotionSpec(Context context, boolean expanded);
 
   @TargetApi(VERSION_CODES.LOLLIPOP)
@@ -205,20 +283,22 @@ public abstract class FabTransformationBehavior extends ExpandableTransformation
       @NonNull List<Animator> animations,
       List<AnimatorListener> unusedListeners) {
     float translationZ = ViewCompat.getElevation(child) - ViewCompat.getElevation(dependency);
-    Animator animator;
+    float toTranslationZ;
 
     if (expanded) {
       if (!currentlyAnimating) {
         child.setTranslationZ(-translationZ);
       }
-      animator = ObjectAnimator.ofFloat(child, View.TRANSLATION_Z, 0f);
+      toTranslationZ = 0f;
     } else {
-      animator = ObjectAnimator.ofFloat(child, View.TRANSLATION_Z, -translationZ);
+      toTranslationZ = -translationZ;
     }
+    elevationAnimator =
+        obtainFloatAnimator(elevationAnimator, child, View.TRANSLATION_Z, toTranslationZ);
 
     MotionTiming timing = spec.timings.getTiming("elevation");
-    timing.apply(animator);
-    animations.add(animator);
+    timing.apply(elevationAnimator);
+    animations.add(elevationAnimator);
   }
 
   private void createDependencyTranslationAnimation(
@@ -230,29 +310,28 @@ public abstract class FabTransformationBehavior extends ExpandableTransformation
     float translationX = calculateTranslationX(dependency, child, spec.positioning);
     float translationY = calculateTranslationY(dependency, child, spec.positioning);
 
-    ValueAnimator translationXAnimator;
-    ValueAnimator translationYAnimator;
+    MotionTiming[] motionTiming = tmpMotionTimings;
+    calculateMotionTiming(translationX, translationY, expanded, spec, motionTiming);
+    MotionTiming translationXTiming = motionTiming[0];
+    MotionTiming translationYTiming = motionTiming[1];
 
-    Pair<MotionTiming, MotionTiming> motionTiming =
-        calculateMotionTiming(translationX, translationY, expanded, spec);
-    MotionTiming translationXTiming = motionTiming.first;
-    MotionTiming translationYTiming = motionTiming.second;
-
-    translationXAnimator =
-        ObjectAnimator.ofFloat(
+    dependencyTranslationXAnimator =
+        obtainFloatAnimator(
+            dependencyTranslationXAnimator,
             dependency,
             View.TRANSLATION_X,
             expanded ? translationX : dependencyOriginalTranslationX);
-    translationYAnimator =
-        ObjectAnimator.ofFloat(
+    dependencyTranslationYAnimator =
+        obtainFloatAnimator(
+            dependencyTranslationYAnimator,
             dependency,
             View.TRANSLATION_Y,
             expanded ? translationY : dependencyOriginalTranslationY);
 
-    translationXTiming.apply(translationXAnimator);
-    translationYTiming.apply(translationYAnimator);
-    animations.add(translationXAnimator);
-    animations.add(translationYAnimator);
+    translationXTiming.apply(dependencyTranslationXAnimator);
+    translationYTiming.apply(dependencyTranslationYAnimator);
+    animations.add(dependencyTranslationXAnimator);
+    animations.add(dependencyTranslationYAnimator);
   }
 
   private void createTranslationAnimation(
@@ -267,21 +346,21 @@ public abstract class FabTransformationBehavior extends ExpandableTransformation
     float translationX = calculateTranslationX(dependency, child, spec.positioning);
     float translationY = calculateTranslationY(dependency, child, spec.positioning);
 
-    ValueAnimator translationXAnimator;
-    ValueAnimator translationYAnimator;
+    float toTranslationX;
+    float toTranslationY;
 
-    Pair<MotionTiming, MotionTiming> motionTiming =
-        calculateMotionTiming(translationX, translationY, expanded, spec);
-    MotionTiming translationXTiming = motionTiming.first;
-    MotionTiming translationYTiming = motionTiming.second;
+    MotionTiming[] motionTiming = tmpMotionTimings;
+    calculateMotionTiming(translationX, translationY, expanded, spec, motionTiming);
+    MotionTiming translationXTiming = motionTiming[0];
+    MotionTiming translationYTiming = motionTiming[1];
 
     if (expanded) {
       if (!currentlyAnimating) {
         child.setTranslationX(-translationX);
         child.setTranslationY(-translationY);
       }
-      translationXAnimator = ObjectAnimator.ofFloat(child, View.TRANSLATION_X, 0f);
-      translationYAnimator = ObjectAnimator.ofFloat(child, View.TRANSLATION_Y, 0f);
+      toTranslationX = 0f;
+      toTranslationY = 0f;
 
       calculateChildVisibleBoundsAtEndOfExpansion(
           child,
@@ -294,9 +373,13 @@ public abstract class FabTransformationBehavior extends ExpandableTransformation
           0f,
           childBounds);
     } else {
-      translationXAnimator = ObjectAnimator.ofFloat(child, View.TRANSLATION_X, -translationX);
-      translationYAnimator = ObjectAnimator.ofFloat(child, View.TRANSLATION_Y, -translationY);
+      toTranslationX = -translationX;
+      toTranslationY = -translationY;
     }
+    translationXAnimator =
+        obtainFloatAnimator(translationXAnimator, child, View.TRANSLATION_X, toTranslationX);
+    translationYAnimator =
+        obtainFloatAnimator(translationYAnimator, child, View.TRANSLATION_Y, toTranslationY);
 
     translationXTiming.apply(translationXAnimator);
     translationYTiming.apply(translationYAnimator);
@@ -318,50 +401,55 @@ public abstract class FabTransformationBehavior extends ExpandableTransformation
 
     final CircularRevealWidget circularRevealChild = (CircularRevealWidget) child;
     ImageView dependencyImageView = (ImageView) dependency;
-    final Drawable icon = dependencyImageView.getDrawable();
+    Drawable icon = dependencyImageView.getDrawable();
 
     if (icon == null) {
       return;
     }
     icon.mutate();
 
-    ObjectAnimator animator;
-
     if (expanded) {
       if (!currentlyAnimating) {
         icon.setAlpha(0xFF);
       }
-      animator = ObjectAnimator.ofInt(icon, DrawableAlphaProperty.DRAWABLE_ALPHA_COMPAT, 0x00);
-    } else {
-      animator = ObjectAnimator.ofInt(icon, DrawableAlphaProperty.DRAWABLE_ALPHA_COMPAT, 0xFF);
     }
+    int toAlpha = expanded ? 0x00 : 0xFF;
+
+    if (iconFadeAnimator == null) {
+      iconFadeAnimator =
+          ObjectAnimatorCompat.ofInt(icon, DrawableAlphaProperty.DRAWABLE_ALPHA_COMPAT, toAlpha);
+      // icon.setCallback() is not expected to be called and
+      // child.verifyDrawable() is not expected to be implemented.
+      iconFadeAnimator.addUpdateListener(
+          new AnimatorUpdateListener() {
+            @Override
+            public void onAnimationUpdate(ValueAnimator animation) {
+              child.invalidate();
+            }
+          });
+      iconFadeListener =
+          new AnimatorListenerAdapter() {
 
-    // icon.setCallback() is not expected to be called and
-    // child.verifyDrawable() is not expected to be implemented.
-    animator.addUpdateListener(
-        new AnimatorUpdateListener() {
-          @Override
-          public void onAnimationUpdate(ValueAnimator animation) {
-            child.invalidate();
-          }
-        });
-
-    MotionTiming timing = spec.timings.getTiming("iconFade");
-    timing.apply(animator);
-    animations.add(animator);
-    listeners.add(
-        new AnimatorListenerAdapter() {
+            @Override
+            public void onAnimationStart(Animator animation) {
+              circularRevealChild.setCircularRevealOverlayDrawable(iconFadeIcon);
+            }
 
-          @Override
-          public void onAnimationStart(Animator animation) {
-            circularRevealChild.setCircularRevealOverlayDrawable(icon);
-          }
+            @Override
+            public void onAnimationEnd(Animator animation) {
+              circularRevealChild.setCircularRevealOverlayDrawable(null);
+            }
+          };
+    }
+    iconFadeIcon = icon;
+    iconFadeAnimator =
+        obtainIntAnimator(
+            iconFadeAnimator, icon, DrawableAlphaProperty.DRAWABLE_ALPHA_COMPAT, toAlpha);
 
-          @Override
-          public void onAnimationEnd(Animator animation) {
-            circularRevealChild.setCircularRevealOverlayDrawable(null);
-          }
-        });
+    MotionTiming timing = spec.timings.getTiming("iconFade");
+    timing.apply(iconFadeAnimator);
+    animations.add(iconFadeAnimator);
+    listeners.add(iconFadeListener);
   }
 
   private void createExpansionAnimation(
@@ -448,7 +536,11 @@ public abstract class FabTransformationBehavior extends ExpandableTransformation
 
     timing.apply(animator);
     animations.add(animator);
-    listeners.add(CircularRevealCompat.createCircularRevealListener(circularRevealChild));
+    if (circularRevealListener == null) {
+      circularRevealListener =
+          CircularRevealCompat.createCircularRevealListener(circularRevealChild);
+    }
+    listeners.add(circularRevealListener);
   }
 
   private void createColorAnimation(
@@ -466,29 +558,23 @@ public abstract class FabTransformationBehavior extends ExpandableTransformation
 
     @ColorInt int tint = getBackgroundTint(dependency);
     @ColorInt int transparent = tint & 0x00FFFFFF;
-    ObjectAnimator animator;
 
     if (expanded) {
       if (!currentlyAnimating) {
         circularRevealChild.setCircularRevealScrimColor(tint);
       }
-      animator =
-          ObjectAnimator.ofInt(
-              circularRevealChild,
-              CircularRevealScrimColorProperty.CIRCULAR_REVEAL_SCRIM_COLOR,
-              transparent);
-    } else {
-      animator =
-          ObjectAnimator.ofInt(
-              circularRevealChild,
-              CircularRevealScrimColorProperty.CIRCULAR_REVEAL_SCRIM_COLOR,
-              tint);
     }
-
-    animator.setEvaluator(ArgbEvaluatorCompat.getInstance());
+    colorAnimator =
+        obtainIntAnimator(
+            colorAnimator,
+            circularRevealChild,
+            CircularRevealScrimColorProperty.CIRCULAR_REVEAL_SCRIM_COLOR,
+            expanded ? transparent : tint);
+
+    colorAnimator.setEvaluator(ArgbEvaluatorCompat.getInstance());
     MotionTiming timing = spec.timings.getTiming("color");
-    timing.apply(animator);
-    animations.add(animator);
+    timing.apply(colorAnimator);
+    animations.add(colorAnimator);
   }
 
   private void createChildrenFadeAnimation(
@@ -513,30 +599,29 @@ public abstract class FabTransformationBehavior extends ExpandableTransformation
       return;
     }
 
-    Animator animator;
-
     if (expanded) {
       if (!currentlyAnimating) {
         ChildrenAlphaProperty.CHILDREN_ALPHA.set(childContentContainer, 0f);
       }
-      animator =
-          ObjectAnimator.ofFloat(childContentContainer, ChildrenAlphaProperty.CHILDREN_ALPHA, 1f);
-    } else {
-      animator =
-          ObjectAnimator.ofFloat(childContentContainer, ChildrenAlphaProperty.CHILDREN_ALPHA, 0f);
     }
+    childrenFadeAnimator =
+        obtainFloatAnimator(
+            childrenFadeAnimator,
+            childContentContainer,
+            ChildrenAlphaProperty.CHILDREN_ALPHA,
+            expanded ? 1f : 0f);
 
     MotionTiming timing = spec.timings.getTiming("contentFade");
-    timing.apply(animator);
-    animations.add(animator);
+    timing.apply(childrenFadeAnimator);
+    animations.add(childrenFadeAnimator);
   }
 
-  @NonNull
-  private Pair<MotionTiming, MotionTiming> calculateMotionTiming(
+  private void calculateMotionTiming(
       float translationX,
       float translationY,
       boolean expanded,
-      @NonNull FabTransformationSpec spec) {
+      @NonNull FabTransformationSpec spec,
+      @NonNull MotionTiming[] outTimings) {
     MotionTiming translationXTiming;
     MotionTiming translationYTiming;
     if (translationX == 0 || translationY == 0) {
@@ -553,7 +638,8 @@ public abstract class FabTransformationBehavior extends ExpandableTransformation
       translationYTiming = spec.timings.getTiming("translationYCurveDownwards");
     }
 
-    return new Pair<>(translationXTiming, translationYTiming);
+    outTimings[0] = translationXTiming;
+    outTimings[1] = translationYTiming;
   }
 
   private float calculateTranslationX(
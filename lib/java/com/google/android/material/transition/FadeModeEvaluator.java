@@ -16,7 +16,24 @@
 
 package com.google.android.material.transition;
 
-interface FadeModeEvaluator {
-  /** Calculate the current start and end view sizes and scales depending on the fit mode. */
-  FadeModeResult evaluate(float progress, float fadeStartFraction, float fadeEndFraction);
+import androidx.annotation.NonNull;
+import androidx.annotation.RestrictTo;
+import androidx.annotation.RestrictTo.Scope;
+
+/**
+ * Calculates the alphas of the start and end views of a container transform for a fade mode.
+ *
+ * @hide
+ */
+@RestrictTo(Scope.LIBRARY_GROUP)
+public interface FadeModeEvaluator {
+  /**
+   * Calculate the current start and end view alphas depending on the fade mode, and write them into
+   * {@code result}.
+   */
+  void evaluate(
+      float progress,
+      float fadeStartFraction,
+      float fadeEndFraction,
+      @NonNull FadeModeResult result);
 }
@@ -20,60 +20,86 @@ import static com.google.android.material.transition.MaterialContainerTransform.
 import static com.google.android.material.transition.MaterialContainerTransform.FADE_MODE_IN;
 import static com.google.android.material.transition.MaterialContainerTransform.FADE_MODE_OUT;
 import static com.google.android.material.transition.MaterialContainerTransform.FADE_MODE_THROUGH;
-import static com.google.android.material.transition.TransitionUtils.lerp;
+import static com.google.android.material.transition.TransitionMathUtils.lerp;
 
-import com.google.android.material.transition.MaterialContainerTransform.FadeMode;
+import androidx.annotation.NonNull;
+import androidx.annotation.RestrictTo;
+import androidx.annotation.RestrictTo.Scope;
 
-class FadeModeEvaluators {
+/**
+ * The {@link FadeModeEvaluator}s of the container transform fade modes, shared by the androidx and
+ * platform variants of {@link MaterialContainerTransform}.
+ *
+ * @hide
+ */
+@RestrictTo(Scope.LIBRARY_GROUP)
+public class FadeModeEvaluators {
 
   private static final FadeModeEvaluator IN =
       new FadeModeEvaluator() {
         @Override
-        public FadeModeResult evaluate(
-            float progress, float fadeStartFraction, float fadeEndFraction) {
+        public void evaluate(
+            float progress,
+            float fadeStartFraction,
+            float fadeEndFraction,
+            @NonNull FadeModeResult result) {
           int startAlpha = 255;
           int endAlpha = lerp(0, 255, fadeStartFraction, fadeEndFraction, progress);
-          return FadeModeResult.endOnTop(startAlpha, endAlpha);
+          result.endOnTop(startAlpha, endAlpha);
         }
       };
 
   private static final FadeModeEvaluator OUT =
       new FadeModeEvaluator() {
         @Override
-        public FadeModeResult evaluate(
-            float progress, float fadeStartFraction, float fadeEndFraction) {
+        public void evaluate(
+            float progress,
+            float fadeStartFraction,
+            float fadeEndFraction,
+            @NonNull FadeModeResult result) {
           int startAlpha = lerp(255, 0, fadeStartFraction, fadeEndFraction, progress);
           int endAlpha = 255;
-          return FadeModeResult.startOnTop(startAlpha, endAlpha);
+          result.startOnTop(startAlpha, endAlpha);
         }
       };
 
   private static final FadeModeEvaluator CROSS =
       new FadeModeEvaluator() {
         @Override
-        public FadeModeResult evaluate(
-            float progress, float fadeStartFraction, float fadeEndFraction) {
+        public void evaluate(
+            float progress,
+            float fadeStartFraction,
+            float fadeEndFraction,
+            @NonNull FadeModeResult result) {
           int startAlpha = lerp(255, 0, fadeStartFraction, fadeEndFraction, progress);
           int endAlpha = lerp(0, 255, fadeStartFraction, fadeEndFraction, progress);
-          return FadeModeResult.startOnTop(startAlpha, endAlpha);
+          result.startOnTop(startAlpha, endAlpha);
         }
       };
 
   private static final FadeModeEvaluator THROUGH =
       new FadeModeEvaluator() {
         @Override
-        public FadeModeResult evaluate(
-            float progress, float fadeStartFraction, float fadeEndFraction) {
+        public void evaluate(
+            float progress,
+            float fadeStartFraction,
+            float fadeEndFraction,
+            @NonNull FadeModeResult result) {
           float fadeFractionDiff = fadeEndFraction - fadeStartFraction;
           float fadeFractionThreshold =
               fadeStartFraction + fadeFractionDiff * FadeThroughProvider.PROGRESS_THRESHOLD;
           int startAlpha = lerp(255, 0, fadeStartFraction, fadeFractionThreshold, progress);
           int endAlpha = lerp(0, 255, fadeFractionThreshold, fadeEndFraction, progress);
-          return FadeModeResult.startOnTop(startAlpha, endAlpha);
+          result.startOnTop(startAlpha, endAlpha);
         }
       };
 
-  static FadeModeEvaluator get(@FadeMode int fadeMode, boolean entering) {
+  /**
+   * Returns the evaluator for {@code fadeMode}, one of the {@code FADE_MODE_*} constants, which
+   * have the same values in both variants of {@link MaterialContainerTransform}.
+   */
+  @NonNull
+  public static FadeModeEvaluator get(int fadeMode, boolean entering) {
     switch (fadeMode) {
       case FADE_MODE_IN:
         return entering ? IN : OUT;
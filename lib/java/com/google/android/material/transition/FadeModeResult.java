@@ -16,20 +16,32 @@
 
 package com.google.android.material.transition;
 
-class FadeModeResult {
-  final int startAlpha;
-  final int endAlpha;
-  final boolean endOnTop;
+import androidx.annotation.RestrictTo;
+import androidx.annotation.RestrictTo.Scope;
 
-  static FadeModeResult startOnTop(int startAlpha, int endAlpha) {
-    return new FadeModeResult(startAlpha, endAlpha, false);
+/**
+ * The alphas of the start and end views of a container transform at a given progress.
+ *
+ * <p>A result is updated in place by {@link FadeModeEvaluator#evaluate} so it can be reused on
+ * every frame.
+ *
+ * @hide
+ */
+@RestrictTo(Scope.LIBRARY_GROUP)
+public class FadeModeResult {
+  public int startAlpha;
+  public int endAlpha;
+  public boolean endOnTop;
+
+  void startOnTop(int startAlpha, int endAlpha) {
+    set(startAlpha, endAlpha, false);
   }
 
-  static FadeModeResult endOnTop(int startAlpha, int endAlpha) {
-    return new FadeModeResult(startAlpha, endAlpha, true);
+  void endOnTop(int startAlpha, int endAlpha) {
+    set(startAlpha, endAlpha, true);
   }
 
-  private FadeModeResult(int startAlpha, int endAlpha, boolean endOnTop) {
+  private void set(int startAlpha, int endAlpha, boolean endOnTop) {
     this.startAlpha = startAlpha;
     this.endAlpha = endAlpha;
     this.endOnTop = endOnTop;
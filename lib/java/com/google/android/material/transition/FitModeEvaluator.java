@@ -17,18 +17,32 @@
 package com.google.android.material.transition;
 
 import android.graphics.RectF;
+import androidx.annotation.NonNull;
+import androidx.annotation.RestrictTo;
+import androidx.annotation.RestrictTo.Scope;
 
-interface FitModeEvaluator {
+/**
+ * Calculates the sizes and scales of the start and end views of a container transform for a fit
+ * mode.
+ *
+ * @hide
+ */
+@RestrictTo(Scope.LIBRARY_GROUP)
+public interface FitModeEvaluator {
 
-  /** Calculate the current start and end view sizes and scales depending on the fit mode. */
-  FitModeResult evaluate(
+  /**
+   * Calculate the current start and end view sizes and scales depending on the fit mode, and write
+   * them into {@code result}.
+   */
+  void evaluate(
       float progress,
       float scaleStartFraction,
       float scaleEndFraction,
       float startWidth,
       float startHeight,
       float endWidth,
-      float endHeight);
+      float endHeight,
+      @NonNull FitModeResult result);
 
   /**
    * Determine whether the start or end view should be masked. For example, if fitting to width and
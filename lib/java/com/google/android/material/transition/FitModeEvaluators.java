@@ -19,24 +19,34 @@ package com.google.android.material.transition;
 import static com.google.android.material.transition.MaterialContainerTransform.FIT_MODE_AUTO;
 import static com.google.android.material.transition.MaterialContainerTransform.FIT_MODE_HEIGHT;
 import static com.google.android.material.transition.MaterialContainerTransform.FIT_MODE_WIDTH;
-import static com.google.android.material.transition.TransitionUtils.lerp;
+import static com.google.android.material.transition.TransitionMathUtils.lerp;
 
 import android.graphics.RectF;
-import com.google.android.material.transition.MaterialContainerTransform.FitMode;
+import androidx.annotation.NonNull;
+import androidx.annotation.RestrictTo;
+import androidx.annotation.RestrictTo.Scope;
 
-class FitModeEvaluators {
+/**
+ * The {@link FitModeEvaluator}s of the container transform fit modes, shared by the androidx and
+ * platform variants of {@link MaterialContainerTransform}.
+ *
+ * @hide
+ */
+@RestrictTo(Scope.LIBRARY_GROUP)
+public class FitModeEvaluators {
 
   private static final FitModeEvaluator WIDTH =
       new FitModeEvaluator() {
         @Override
-        public FitModeResult evaluate(
+        public void evaluate(
             float progress,
             float scaleStartFraction,
             float scaleEndFraction,
             float startWidth,
             float startHeight,
             float endWidth,
-            float endHeight) {
+            float endHeight,
+            @NonNull FitModeResult result) {
           // Use same width for start/end views; calculate heights using respective aspect ratios.
           float currentWidth =
               lerp(startWidth, endWidth, scaleStartFraction, scaleEndFraction, progress);
@@ -44,7 +54,7 @@ class FitModeEvaluators {
           float endScale = currentWidth / endWidth;
           float currentStartHeight = startHeight * startScale;
           float currentEndHeight = endHeight * endScale;
-          return new FitModeResult(
+          result.set(
               startScale,
               endScale,
               currentWidth,
@@ -69,14 +79,15 @@ class FitModeEvaluators {
   private static final FitModeEvaluator HEIGHT =
       new FitModeEvaluator() {
         @Override
-        public FitModeResult evaluate(
+        public void evaluate(
             float progress,
             float scaleStartFraction,
             float scaleEndFraction,
             float startWidth,
             float startHeight,
             float endWidth,
-            float endHeight) {
+            float endHeight,
+            @NonNull FitModeResult result) {
           // Use same height for start/end views; calculate widths using respective aspect ratios.
           float currentHeight =
               lerp(startHeight, endHeight, scaleStartFraction, scaleEndFraction, progress);
@@ -84,7 +95,7 @@ class FitModeEvaluators {
           float endScale = currentHeight / endHeight;
           float currentStartWidth = startWidth * startScale;
           float currentEndWidth = endWidth * endScale;
-          return new FitModeResult(
+          result.set(
               startScale,
               endScale,
               currentStartWidth,
@@ -107,8 +118,13 @@ class FitModeEvaluators {
         }
       };
 
-  static FitModeEvaluator get(
-      @FitMode int fitMode, boolean entering, RectF startBounds, RectF endBounds) {
+  /**
+   * Returns the evaluator for {@code fitMode}, one of the {@code FIT_MODE_*} constants, which have
+   * the same values in both variants of {@link MaterialContainerTransform}.
+   */
+  @NonNull
+  public static FitModeEvaluator get(
+      int fitMode, boolean entering, @NonNull RectF startBounds, @NonNull RectF endBounds) {
     switch (fitMode) {
       case FIT_MODE_AUTO:
         return shouldAutoFitToWidth(entering, startBounds, endBounds) ? WIDTH : HEIGHT;
@@ -16,15 +16,27 @@
 
 package com.google.android.material.transition;
 
-class FitModeResult {
-  final float startScale;
-  final float endScale;
-  final float currentStartWidth;
-  final float currentStartHeight;
-  final float currentEndWidth;
-  final float currentEndHeight;
+import androidx.annotation.RestrictTo;
+import androidx.annotation.RestrictTo.Scope;
 
-  FitModeResult(
+/**
+ * The sizes and scales of the start and end views of a container transform at a given progress.
+ *
+ * <p>A result is updated in place by {@link FitModeEvaluator#evaluate} so it can be reused on every
+ * frame.
+ *
+ * @hide
+ */
+@RestrictTo(Scope.LIBRARY_GROUP)
+public class FitModeResult {
+  public float startScale;
+  public float endScale;
+  public float currentStartWidth;
+  public float currentStartHeight;
+  public float currentEndWidth;
+  public float currentEndHeight;
+
+  void set(
       float startScale,
       float endScale,
       float currentStartWidth,
@@ -16,25 +16,37 @@
 
 package com.google.android.material.transition;
 
-import static com.google.android.material.transition.TransitionUtils.lerp;
+import static com.google.android.material.transition.TransitionMathUtils.isShapeAppearanceSignificant;
+import static com.google.android.material.transition.TransitionMathUtils.lerp;
 
 import android.graphics.Canvas;
 import android.graphics.Path;
+import android.graphics.Path.Direction;
 import android.graphics.Path.Op;
 import android.graphics.RectF;
 import android.graphics.Region;
 import android.os.Build.VERSION;
 import android.os.Build.VERSION_CODES;
+import androidx.annotation.NonNull;
+import androidx.annotation.RestrictTo;
+import androidx.annotation.RestrictTo.Scope;
+import com.google.android.material.shape.CornerSize;
 import com.google.android.material.shape.ShapeAppearanceModel;
 import com.google.android.material.shape.ShapeAppearancePathProvider;
-import com.google.android.material.transition.MaterialContainerTransform.ProgressThresholds;
 
 /**
  * A class which is responsible calculating the path which represents a container transform's
  * transforming container based on a progress between 0 and 1 as well as clipping a canvas to that
  * given path.
+ *
+ * <p>Corner sizes are interpolated into a model which is built once and updated in place, and when
+ * the mask is a single round rect it is added to the path directly instead of unioning two shape
+ * paths, so evaluating the mask doesn't allocate.
+ *
+ * @hide
  */
-class MaskEvaluator {
+@RestrictTo(Scope.LIBRARY_GROUP)
+public class MaskEvaluator {
 
   private final Path path = new Path();
   private final Path startPath = new Path();
@@ -42,31 +54,54 @@ class MaskEvaluator {
   private final ShapeAppearancePathProvider pathProvider =
       ShapeAppearancePathProvider.getInstance();
 
+  // Interpolated corner sizes, shared by the reusable model built from the current corner family.
+  private final MutableCornerSize topLeftCornerSize = new MutableCornerSize();
+  private final MutableCornerSize topRightCornerSize = new MutableCornerSize();
+  private final MutableCornerSize bottomRightCornerSize = new MutableCornerSize();
+  private final MutableCornerSize bottomLeftCornerSize = new MutableCornerSize();
+  private ShapeAppearanceModel interpolatedShapeAppearanceModelFamily;
+  private ShapeAppearanceModel interpolatedShapeAppearanceModel;
+
   private ShapeAppearanceModel currentShapeAppearanceModel;
+  private boolean currentPathIsUnion;
 
-  /** Update the mask used by this evaluator based on a given progress. */
-  void evaluate(
+  /**
+   * Update the mask used by this evaluator based on a given progress. The shape appearance is
+   * interpolated while the progress is between {@code shapeStartFraction} and {@code
+   * shapeEndFraction}.
+   */
+  public void evaluate(
       float progress,
-      ShapeAppearanceModel startShapeAppearanceModel,
-      ShapeAppearanceModel endShapeAppearanceModel,
-      RectF currentStartBounds,
-      RectF currentStartBoundsMasked,
-      RectF currentEndBoundsMasked,
-      ProgressThresholds shapeMaskThresholds) {
+      @NonNull ShapeAppearanceModel startShapeAppearanceModel,
+      @NonNull ShapeAppearanceModel endShapeAppearanceModel,
+      @NonNull RectF currentStartBounds,
+      @NonNull RectF currentStartBoundsMasked,
+      @NonNull RectF currentEndBoundsMasked,
+      float shapeStartFraction,
+      float shapeEndFraction) {
 
     // Animate shape appearance corner changes over range of `progress` & use this when
     // drawing the container background & images
-    float shapeStartFraction = shapeMaskThresholds.getStart();
-    float shapeEndFraction = shapeMaskThresholds.getEnd();
-    currentShapeAppearanceModel =
-        lerp(
-            startShapeAppearanceModel,
-            endShapeAppearanceModel,
-            currentStartBounds,
-            currentEndBoundsMasked,
-            shapeStartFraction,
-            shapeEndFraction,
-            progress);
+    if (progress < shapeStartFraction) {
+      currentShapeAppearanceModel = startShapeAppearanceModel;
+    } else if (progress > shapeEndFraction) {
+      currentShapeAppearanceModel = endShapeAppearanceModel;
+    } else {
+      currentShapeAppearanceModel =
+          interpolate(
+              startShapeAppearanceModel,
+              endShapeAppearanceModel,
+              currentStartBounds,
+              currentEndBoundsMasked,
+              shapeStartFraction,
+              shapeEndFraction,
+              progress);
+    }
+
+    if (maybeSetRoundRectPath(currentStartBoundsMasked, currentEndBoundsMasked)) {
+      currentPathIsUnion = false;
+      return;
+    }
 
     pathProvider.calculatePath(currentShapeAppearanceModel, 1, currentStartBoundsMasked, startPath);
     pathProvider.calculatePath(currentShapeAppearanceModel, 1, currentEndBoundsMasked, endPath);
@@ -76,11 +111,12 @@ class MaskEvaluator {
     if (VERSION.SDK_INT >= VERSION_CODES.M) {
       path.op(startPath, endPath, Op.UNION);
     }
+    currentPathIsUnion = true;
   }
 
   /** Clip the given Canvas to the mask held by this evaluator. */
-  void clip(Canvas canvas) {
-    if (VERSION.SDK_INT >= VERSION_CODES.M) {
+  public void clip(@NonNull Canvas canvas) {
+    if (!currentPathIsUnion || VERSION.SDK_INT >= VERSION_CODES.M) {
       canvas.clipPath(path);
     } else {
       canvas.clipPath(startPath);
@@ -88,11 +124,140 @@ class MaskEvaluator {
     }
   }
 
-  Path getPath() {
+  @NonNull
+  public Path getPath() {
     return path;
   }
 
-  ShapeAppearanceModel getCurrentShapeAppearanceModel() {
+  public ShapeAppearanceModel getCurrentShapeAppearanceModel() {
     return currentShapeAppearanceModel;
   }
+
+  /**
+   * Equivalent to the shape appearance {@code TransitionUtils.lerp} within the thresholds, but
+   * writes the interpolated corner sizes into a model which is only rebuilt when the corner family
+   * changes.
+   */
+  private ShapeAppearanceModel interpolate(
+      ShapeAppearanceModel startShapeAppearanceModel,
+      ShapeAppearanceModel endShapeAppearanceModel,
+      RectF startBounds,
+      RectF endBounds,
+      float startFraction,
+      float endFraction,
+      float fraction) {
+    topLeftCornerSize.size =
+        lerpCornerSize(
+            startShapeAppearanceModel.getTopLeftCornerSize(),
+            endShapeAppearanceModel.getTopLeftCornerSize(),
+            startBounds,
+            endBounds,
+            startFraction,
+            endFraction,
+            fraction);
+    topRightCornerSize.size =
+        lerpCornerSize(
+            startShapeAppearanceModel.getTopRightCornerSize(),
+            endShapeAppearanceModel.getTopRightCornerSize(),
+            startBounds,
+            endBounds,
+            startFraction,
+            endFraction,
+            fraction);
+    bottomRightCornerSize.size =
+        lerpCornerSize(
+            startShapeAppearanceModel.getBottomRightCornerSize(),
+            endShapeAppearanceModel.getBottomRightCornerSize(),
+            startBounds,
+            endBounds,
+            startFraction,
+            endFraction,
+            fraction);
+    bottomLeftCornerSize.size =
+        lerpCornerSize(
+            startShapeAppearanceModel.getBottomLeftCornerSize(),
+            endShapeAppearanceModel.getBottomLeftCornerSize(),
+            startBounds,
+            endBounds,
+            startFraction,
+            endFraction,
+            fraction);
+
+    // If all of the start corner sizes are 0, consider the start shape appearance insignificant
+    // and use the end shape appearance's corner family instead.
+    ShapeAppearanceModel family =
+        isShapeAppearanceSignificant(startShapeAppearanceModel, startBounds)
+            ? startShapeAppearanceModel
+            : endShapeAppearanceModel;
+    if (family != interpolatedShapeAppearanceModelFamily) {
+      interpolatedShapeAppearanceModelFamily = family;
+      interpolatedShapeAppearanceModel =
+          family.toBuilder()
+              .setTopLeftCornerSize(topLeftCornerSize)
+              .setTopRightCornerSize(topRightCornerSize)
+              .setBottomRightCornerSize(bottomRightCornerSize)
+              .setBottomLeftCornerSize(bottomLeftCornerSize)
+              .build();
+    }
+    return interpolatedShapeAppearanceModel;
+  }
+
+  private static float lerpCornerSize(
+      CornerSize startCornerSize,
+      CornerSize endCornerSize,
+      RectF startBounds,
+      RectF endBounds,
+      float startFraction,
+      float endFraction,
+      float fraction) {
+    return lerp(
+        startCornerSize.getCornerSize(startBounds),
+        endCornerSize.getCornerSize(endBounds),
+        startFraction,
+        endFraction,
+        fraction);
+  }
+
+  /**
+   * Sets {@link #path} to a single round rect if the current shape is a round rect and one of the
+   * masked bounds covers the other, in which case their union is the covering round rect.
+   *
+   * <p>A round rect covers another one inside its bounds when its corner radius is no larger than
+   * the inner one's, since a larger radius only cuts away more of each corner.
+   */
+  private boolean maybeSetRoundRectPath(RectF startBounds, RectF endBounds) {
+    if (!currentShapeAppearanceModel.isRoundRect(startBounds)
+        || !currentShapeAppearanceModel.isRoundRect(endBounds)) {
+      return false;
+    }
+
+    CornerSize cornerSize = currentShapeAppearanceModel.getTopLeftCornerSize();
+    float startRadius = cornerSize.getCornerSize(startBounds);
+    float endRadius = cornerSize.getCornerSize(endBounds);
+    RectF outerBounds;
+    float outerRadius;
+    if (startRadius <= endRadius && startBounds.contains(endBounds)) {
+      outerBounds = startBounds;
+      outerRadius = startRadius;
+    } else if (endRadius <= startRadius && endBounds.contains(startBounds)) {
+      outerBounds = endBounds;
+      outerRadius = endRadius;
+    } else {
+      return false;
+    }
+
+    path.rewind();
+    path.addRoundRect(outerBounds, outerRadius, outerRadius, Direction.CW);
+    return true;
+  }
+
+  /** A {@link CornerSize} whose size is updated in place as the mask is evaluated. */
+  private static final class MutableCornerSize implements CornerSize {
+    float size;
+
+    @Override
+    public float getCornerSize(@NonNull RectF bounds) {
+      return size;
+    }
+  }
 }
@@ -18,14 +18,15 @@ package com.google.android.material.transition;
 
 import com.google.android.material.R;
 
-import static androidx.core.util.Preconditions.checkNotNull;
 import static androidx.annotation.RestrictTo.Scope.LIBRARY_GROUP;
+import static com.google.android.material.transition.TransitionUtils.FADE_STRATEGY_NONE;
 import static com.google.android.material.transition.TransitionUtils.calculateArea;
 import static com.google.android.material.transition.TransitionUtils.convertToRelativeCornerSizes;
 import static com.google.android.material.transition.TransitionUtils.createColorShader;
 import static com.google.android.material.transition.TransitionUtils.defaultIfNull;
 import static com.google.android.material.transition.TransitionUtils.findAncestorById;
 import static com.google.android.material.transition.TransitionUtils.findDescendantOrAncestorById;
+import static com.google.android.material.transition.TransitionUtils.getFadeStrategyName;
 import static com.google.android.material.transition.TransitionUtils.getLocationOnScreen;
 import static com.google.android.material.transition.TransitionUtils.getRelativeBounds;
 import static com.google.android.material.transition.TransitionUtils.lerp;
@@ -70,11 +71,14 @@ import androidx.transition.PathMotion;
 import androidx.transition.Transition;
 import androidx.transition.TransitionValues;
 import com.google.android.material.animation.AnimationUtils;
+import com.google.android.material.animation.MaterialPerformanceMonitor;
 import com.google.android.material.internal.ViewUtils;
 import com.google.android.material.shape.MaterialShapeDrawable;
 import com.google.android.material.shape.ShapeAppearanceModel;
 import com.google.android.material.shape.Shapeable;
 import com.google.android.material.transition.TransitionUtils.CanvasOperation;
+import com.google.android.material.transition.TransitionUtils.ContentCanvasOperation;
+import com.google.android.material.transition.TransitionUtils.FadeStrategy;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 
@@ -225,6 +229,7 @@ public final class MaterialContainerTransform extends Transition {
 
   private boolean drawDebugEnabled = false;
   private boolean holdAtEndEnabled = false;
+  private boolean snapshotRenderingEnabled = false;
   @IdRes private int drawingViewId = android.R.id.content;
   @IdRes private int startViewId = View.NO_ID;
   @IdRes private int endViewId = View.NO_ID;
@@ -753,6 +758,28 @@ public final class MaterialContainerTransform extends Transition {
     this.holdAtEndEnabled = holdAtEndEnabled;
   }
 
+  /**
+   * Whether the start and end views are drawn from snapshots recorded once per transition.
+   *
+   * @see #setSnapshotRenderingEnabled(boolean)
+   */
+  public boolean isSnapshotRenderingEnabled() {
+    return snapshotRenderingEnabled;
+  }
+
+  /**
+   * If true, the start and end views will each be recorded once, the first time they are drawn,
+   * and the recordings will be scaled, faded and masked on every frame instead of drawing the
+   * views' hierarchies again.
+   *
+   * <p>Useful when the start or end view has a complex hierarchy which is expensive to draw. Any
+   * changes to the start or end view's content during the transition will not be shown. On devices
+   * below API 23 the views are always drawn directly.
+   */
+  public void setSnapshotRenderingEnabled(boolean snapshotRenderingEnabled) {
+    this.snapshotRenderingEnabled = snapshotRenderingEnabled;
+  }
+
   /**
    * Whether debug drawing is enabled.
    *
@@ -929,6 +956,7 @@ public final class MaterialContainerTransform extends Transition {
             FadeModeEvaluators.get(fadeMode, entering),
             FitModeEvaluators.get(fitMode, entering, startBounds, endBounds),
             buildThresholdsGroup(entering),
+            snapshotRenderingEnabled,
             drawDebugEnabled);
 
     // Set the bounds of the transition drawable to not exceed the bounds of the drawingView.
@@ -939,6 +967,8 @@ public final class MaterialContainerTransform extends Transition {
         Math.round(drawableBounds.bottom));
 
     ValueAnimator animator = ValueAnimator.ofFloat(0f, 1f);
+    transitionDrawable.performanceSession =
+        MaterialPerformanceMonitor.track(animator, getClass().getSimpleName());
     animator.addUpdateListener(
         new AnimatorUpdateListener() {
           @Override
@@ -972,6 +1002,7 @@ public final class MaterialContainerTransform extends Transition {
 
             // Remove the transition drawable from the root ViewOverlay
             ViewUtils.getOverlay(drawingView).remove(transitionDrawable);
+            transitionDrawable.releaseSnapshots();
           }
         });
 
@@ -982,6 +1013,48 @@ public final class MaterialContainerTransform extends Transition {
     return elevation != ELEVATION_NOT_SET ? elevation : ViewCompat.getElevation(view);
   }
 
+  /**
+   * Returns a snapshot of {@code view} to draw instead of the view itself, or null if snapshot
+   * rendering isn't enabled or supported, in which case the view is drawn directly on every frame.
+   */
+  @Nullable
+  static ViewSnapshot createViewSnapshot(@NonNull View view, boolean snapshotRenderingEnabled) {
+    return snapshotRenderingEnabled && ViewSnapshot.isSupported() ? new ViewSnapshot(view) : null;
+  }
+
+  /**
+   * Returns an operation which draws {@code snapshot} if it isn't null, and {@code view} otherwise.
+   */
+  @NonNull
+  static ContentCanvasOperation createDrawOperation(
+      @NonNull final View view, @Nullable final ViewSnapshot snapshot) {
+    return new ContentCanvasOperation() {
+      @Override
+      public void run(Canvas canvas) {
+        if (snapshot != null) {
+          snapshot.draw(canvas);
+        } else {
+          view.draw(canvas);
+        }
+      }
+
+      @Override
+      public int getContentWidth() {
+        return view.getWidth();
+      }
+
+      @Override
+      public int getContentHeight() {
+        return view.getHeight();
+      }
+
+      @Override
+      public boolean runWithAlpha(Canvas canvas, int alpha) {
+        return snapshot != null && snapshot.drawWithAlpha(canvas, alpha);
+      }
+    };
+  }
+
   private static RectF calculateDrawableBounds(
       View drawingView, @Nullable View boundingView, float offsetX, float offsetY) {
     if (boundingView != null) {
@@ -1045,12 +1118,14 @@ public final class MaterialContainerTransform extends Transition {
 
     // Start container
     private final View startView;
+    private final CanvasOperation startViewOperation;
     private final RectF startBounds;
     private final ShapeAppearanceModel startShapeAppearanceModel;
     private final float startElevation;
 
     // End container
     private final View endView;
+    private final CanvasOperation endViewOperation;
     private final RectF endBounds;
     private final ShapeAppearanceModel endShapeAppearanceModel;
     private final float endElevation;
@@ -1078,19 +1153,30 @@ public final class MaterialContainerTransform extends Transition {
     private final RectF currentStartBoundsMasked;
     private final RectF currentEndBounds;
     private final RectF currentEndBoundsMasked;
+    private final RectF currentMaskBounds = new RectF();
     private final ProgressThresholdsGroup progressThresholds;
     private final FadeModeEvaluator fadeModeEvaluator;
     private final FitModeEvaluator fitModeEvaluator;
 
+    // Snapshots of the start and end views, only used when snapshot rendering is enabled
+    @Nullable private final ViewSnapshot startViewSnapshot;
+    @Nullable private final ViewSnapshot endViewSnapshot;
+
+    // The strategies last used to fade the start and end views, logged when debugging
+    @FadeStrategy private int startViewFadeStrategy = FADE_STRATEGY_NONE;
+    @FadeStrategy private int endViewFadeStrategy = FADE_STRATEGY_NONE;
+
+    // Reports the time spent evaluating and drawing the transition, when it is being measured
+    @Nullable private MaterialPerformanceMonitor.Session performanceSession;
+
     // Debug drawing
     private final boolean drawDebugEnabled;
     private final Paint debugPaint = new Paint();
     private final Path debugPath = new Path();
 
     // Current progress calculations
-    private FadeModeResult fadeModeResult;
-    private FitModeResult fitModeResult;
-    private RectF currentMaskBounds;
+    private final FadeModeResult fadeModeResult = new FadeModeResult();
+    private final FitModeResult fitModeResult = new FitModeResult();
     private float currentElevation;
     private float currentElevationDy;
     private float progress;
@@ -1114,6 +1200,7 @@ public final class MaterialContainerTransform extends Transition {
         FadeModeEvaluator fadeModeEvaluator,
         FitModeEvaluator fitModeEvaluator,
         ProgressThresholdsGroup progressThresholds,
+        boolean snapshotRenderingEnabled,
         boolean drawDebugEnabled) {
       this.startView = startView;
       this.startBounds = startBounds;
@@ -1130,6 +1217,11 @@ public final class MaterialContainerTransform extends Transition {
       this.progressThresholds = progressThresholds;
       this.drawDebugEnabled = drawDebugEnabled;
 
+      startViewSnapshot = createViewSnapshot(startView, snapshotRenderingEnabled);
+      endViewSnapshot = createViewSnapshot(endView, snapshotRenderingEnabled);
+      startViewOperation = createDrawOperation(startView, startViewSnapshot);
+      endViewOperation = createDrawOperation(endView, endViewSnapshot);
+
       WindowManager windowManager =
           (WindowManager) startView.getContext().getSystemService(Context.WINDOW_SERVICE);
       DisplayMetrics displayMetrics = new DisplayMetrics();
@@ -1177,6 +1269,10 @@ public final class MaterialContainerTransform extends Transition {
 
     @Override
     public void draw(@NonNull Canvas canvas) {
+      if (performanceSession != null) {
+        performanceSession.beginCallback();
+      }
+
       if (scrimPaint.getAlpha() > 0) {
         canvas.drawRect(getBounds(), scrimPaint);
       }
@@ -1209,6 +1305,10 @@ public final class MaterialContainerTransform extends Transition {
         drawDebugRect(canvas, currentEndBoundsMasked, Color.CYAN);
         drawDebugRect(canvas, currentEndBounds, Color.BLUE);
       }
+
+      if (performanceSession != null) {
+        performanceSession.endCallback();
+      }
     }
 
     // Draw shadow based on current path and clip shape path itself to leave only shadow.
@@ -1254,37 +1354,53 @@ public final class MaterialContainerTransform extends Transition {
     // Transform the canvas to the current bounds, scale and alpha before drawing the start view.
     private void drawStartView(Canvas canvas) {
       maybeDrawContainerColor(canvas, startContainerPaint);
-      transform(
-          canvas,
-          getBounds(),
-          currentStartBounds.left,
-          currentStartBounds.top,
-          fitModeResult.startScale,
-          fadeModeResult.startAlpha,
-          new CanvasOperation() {
-            @Override
-            public void run(Canvas canvas) {
-              startView.draw(canvas);
-            }
-          });
+      @FadeStrategy int previousStrategy = startViewFadeStrategy;
+      startViewFadeStrategy =
+          transform(
+              canvas,
+              getBounds(),
+              currentStartBounds.left,
+              currentStartBounds.top,
+              fitModeResult.startScale,
+              fadeModeResult.startAlpha,
+              startViewOperation);
+      if (drawDebugEnabled) {
+        maybeLogFadeStrategy("start", previousStrategy, startViewFadeStrategy);
+      }
     }
 
     // Transform the canvas to the current bounds, scale and alpha before drawing the end view.
     private void drawEndView(Canvas canvas) {
       maybeDrawContainerColor(canvas, endContainerPaint);
-      transform(
-          canvas,
-          getBounds(),
-          currentEndBounds.left,
-          currentEndBounds.top,
-          fitModeResult.endScale,
-          fadeModeResult.endAlpha,
-          new CanvasOperation() {
-            @Override
-            public void run(Canvas canvas) {
-              endView.draw(canvas);
-            }
-          });
+      @FadeStrategy int previousStrategy = endViewFadeStrategy;
+      endViewFadeStrategy =
+          transform(
+              canvas,
+              getBounds(),
+              currentEndBounds.left,
+              currentEndBounds.top,
+              fitModeResult.endScale,
+              fadeModeResult.endAlpha,
+              endViewOperation);
+      if (drawDebugEnabled) {
+        maybeLogFadeStrategy("end", previousStrategy, endViewFadeStrategy);
+      }
+    }
+
+    private static void maybeLogFadeStrategy(
+        String viewName, @FadeStrategy int previousStrategy, @FadeStrategy int strategy) {
+      if (strategy != previousStrategy) {
+        Log.d(TAG, "Fading the " + viewName + " view with " + getFadeStrategyName(strategy));
+      }
+    }
+
+    private void releaseSnapshots() {
+      if (startViewSnapshot != null) {
+        startViewSnapshot.release();
+      }
+      if (endViewSnapshot != null) {
+        endViewSnapshot.release();
+      }
     }
 
     private void maybeDrawContainerColor(Canvas canvas, Paint containerPaint) {
@@ -1312,7 +1428,13 @@ public final class MaterialContainerTransform extends Transition {
 
     private void setProgress(float progress) {
       if (this.progress != progress) {
+        if (performanceSession != null) {
+          performanceSession.beginCallback();
+        }
         updateProgress(progress);
+        if (performanceSession != null) {
+          performanceSession.endCallback();
+        }
       }
     }
 
@@ -1328,17 +1450,17 @@ public final class MaterialContainerTransform extends Transition {
       float motionPathY = motionPathPosition[1];
 
       // Calculate current start and end bounds
-      float scaleStartFraction = checkNotNull(progressThresholds.scale.start);
-      float scaleEndFraction = checkNotNull(progressThresholds.scale.end);
-      fitModeResult =
-          fitModeEvaluator.evaluate(
-              progress,
-              scaleStartFraction,
-              scaleEndFraction,
-              startBounds.width(),
-              startBounds.height(),
-              endBounds.width(),
-              endBounds.height());
+      float scaleStartFraction = progressThresholds.scale.start;
+      float scaleEndFraction = progressThresholds.scale.end;
+      fitModeEvaluator.evaluate(
+          progress,
+          scaleStartFraction,
+          scaleEndFraction,
+          startBounds.width(),
+          startBounds.height(),
+          endBounds.width(),
+          endBounds.height(),
+          fitModeResult);
       currentStartBounds.set(
           motionPathX - fitModeResult.currentStartWidth / 2,
           motionPathY,
@@ -1353,8 +1475,8 @@ public final class MaterialContainerTransform extends Transition {
       // Mask start or end bounds based on fit mode, over the duration of the fade
       currentStartBoundsMasked.set(currentStartBounds);
       currentEndBoundsMasked.set(currentEndBounds);
-      float maskStartFraction = checkNotNull(progressThresholds.scaleMask.start);
-      float maskEndFraction = checkNotNull(progressThresholds.scaleMask.end);
+      float maskStartFraction = progressThresholds.scaleMask.start;
+      float maskEndFraction = progressThresholds.scaleMask.end;
       boolean shouldMaskStartBounds = fitModeEvaluator.shouldMaskStartBounds(fitModeResult);
       RectF maskBounds = shouldMaskStartBounds ? currentStartBoundsMasked : currentEndBoundsMasked;
       float maskProgress = lerp(0f, 1f, maskStartFraction, maskEndFraction, progress);
@@ -1362,12 +1484,11 @@ public final class MaterialContainerTransform extends Transition {
       fitModeEvaluator.applyMask(maskBounds, maskMultiplier, fitModeResult);
 
       // Union start and end mask bounds
-      currentMaskBounds =
-          new RectF(
-              Math.min(currentStartBoundsMasked.left, currentEndBoundsMasked.left),
-              Math.min(currentStartBoundsMasked.top, currentEndBoundsMasked.top),
-              Math.max(currentStartBoundsMasked.right, currentEndBoundsMasked.right),
-              Math.max(currentStartBoundsMasked.bottom, currentEndBoundsMasked.bottom));
+      currentMaskBounds.set(
+          Math.min(currentStartBoundsMasked.left, currentEndBoundsMasked.left),
+          Math.min(currentStartBoundsMasked.top, currentEndBoundsMasked.top),
+          Math.max(currentStartBoundsMasked.right, currentEndBoundsMasked.right),
+          Math.max(currentStartBoundsMasked.bottom, currentEndBoundsMasked.bottom));
 
       maskEvaluator.evaluate(
           progress,
@@ -1376,7 +1497,8 @@ public final class MaterialContainerTransform extends Transition {
           currentStartBounds,
           currentStartBoundsMasked,
           currentEndBoundsMasked,
-          progressThresholds.shapeMask);
+          progressThresholds.shapeMask.getStart(),
+          progressThresholds.shapeMask.getEnd());
 
       // Calculate current elevation and set up shadow layer
       currentElevation = lerp(startElevation, endElevation, progress);
@@ -1388,9 +1510,9 @@ public final class MaterialContainerTransform extends Transition {
           currentElevation, currentElevationDx, currentElevationDy, SHADOW_COLOR);
 
       // Cross-fade images of the start/end states over range of `progress`
-      float fadeStartFraction = checkNotNull(progressThresholds.fade.start);
-      float fadeEndFraction = checkNotNull(progressThresholds.fade.end);
-      fadeModeResult = fadeModeEvaluator.evaluate(progress, fadeStartFraction, fadeEndFraction);
+      float fadeStartFraction = progressThresholds.fade.start;
+      float fadeEndFraction = progressThresholds.fade.end;
+      fadeModeEvaluator.evaluate(progress, fadeStartFraction, fadeEndFraction, fadeModeResult);
 
       // Update the start and end container paints to share the same opacity as their respective
       // view.
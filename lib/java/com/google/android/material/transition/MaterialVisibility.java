@@ -26,6 +26,7 @@ import androidx.transition.TransitionValues;
 import androidx.transition.Visibility;
 import com.google.android.material.animation.AnimationUtils;
 import com.google.android.material.animation.AnimatorSetCompat;
+import com.google.android.material.animation.MaterialPerformanceMonitor;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -130,6 +131,7 @@ abstract class MaterialVisibility<P extends VisibilityAnimatorProvider> extends
     }
 
     AnimatorSetCompat.playTogether(set, animators);
+    MaterialPerformanceMonitor.track(set, getClass().getSimpleName());
     return set;
   }
 
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.android.material.transition;
+
+import android.graphics.RectF;
+import androidx.annotation.FloatRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.RestrictTo;
+import androidx.annotation.RestrictTo.Scope;
+import com.google.android.material.shape.ShapeAppearanceModel;
+
+/**
+ * Interpolation helpers shared by the androidx and platform transitions.
+ *
+ * <p>Unlike {@link TransitionUtils}, this class doesn't depend on either transition framework, so
+ * it is compiled once in this package and used by both variants.
+ *
+ * @hide
+ */
+@RestrictTo(Scope.LIBRARY_GROUP)
+public final class TransitionMathUtils {
+
+  private TransitionMathUtils() {}
+
+  /** Returns whether any of the corners of {@code shapeAppearanceModel} has a non-zero size. */
+  public static boolean isShapeAppearanceSignificant(
+      @NonNull ShapeAppearanceModel shapeAppearanceModel, @NonNull RectF bounds) {
+    return shapeAppearanceModel.getTopLeftCornerSize().getCornerSize(bounds) != 0
+        || shapeAppearanceModel.getTopRightCornerSize().getCornerSize(bounds) != 0
+        || shapeAppearanceModel.getBottomRightCornerSize().getCornerSize(bounds) != 0
+        || shapeAppearanceModel.getBottomLeftCornerSize().getCornerSize(bounds) != 0;
+  }
+
+  public static float lerp(
+      float startValue, float endValue, @FloatRange(from = 0.0, to = 1.0) float fraction) {
+    return startValue + fraction * (endValue - startValue);
+  }
+
+  public static float lerp(
+      float startValue,
+      float endValue,
+      @FloatRange(from = 0.0, to = 1.0) float startFraction,
+      @FloatRange(from = 0.0, to = 1.0) float endFraction,
+      @FloatRange(from = 0.0, to = 1.0) float fraction) {
+    if (fraction < startFraction) {
+      return startValue;
+    }
+    if (fraction > endFraction) {
+      return endValue;
+    }
+
+    return lerp(startValue, endValue, (fraction - startFraction) / (endFraction - startFraction));
+  }
+
+  public static int lerp(
+      int startValue,
+      int endValue,
+      @FloatRange(from = 0.0, to = 1.0) float startFraction,
+      @FloatRange(from = 0.0, to = 1.0) float endFraction,
+      @FloatRange(from = 0.0, to = 1.0) float fraction) {
+    if (fraction < startFraction) {
+      return startValue;
+    }
+    if (fraction > endFraction) {
+      return endValue;
+    }
+    return (int)
+        lerp(startValue, endValue, (fraction - startFraction) / (endFraction - startFraction));
+  }
+}
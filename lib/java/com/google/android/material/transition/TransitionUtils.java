@@ -28,6 +28,7 @@ import android.view.ViewParent;
 import androidx.annotation.ColorInt;
 import androidx.annotation.FloatRange;
 import androidx.annotation.IdRes;
+import androidx.annotation.IntDef;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.transition.Transition;
@@ -37,9 +38,36 @@ import com.google.android.material.shape.CornerSize;
 import com.google.android.material.shape.RelativeCornerSize;
 import com.google.android.material.shape.ShapeAppearanceModel;
 import com.google.android.material.shape.ShapeAppearanceModel.CornerSizeUnaryOperator;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
 
 class TransitionUtils {
 
+  /** Nothing was faded, because the content was either opaque or fully transparent. */
+  static final int FADE_STRATEGY_NONE = 0;
+
+  /**
+   * The content applied the alpha itself through its render node, which needs no offscreen buffer
+   * when the content doesn't overlap.
+   */
+  static final int FADE_STRATEGY_RENDER_NODE = 1;
+
+  /** The content was drawn into an offscreen layer the size of the content. */
+  static final int FADE_STRATEGY_CONTENT_LAYER = 2;
+
+  /** The content was drawn into an offscreen layer the size of the bounds passed to transform. */
+  static final int FADE_STRATEGY_BOUNDS_LAYER = 3;
+
+  /** The ways {@link #transform} can apply alpha to what it draws. */
+  @IntDef({
+    FADE_STRATEGY_NONE,
+    FADE_STRATEGY_RENDER_NODE,
+    FADE_STRATEGY_CONTENT_LAYER,
+    FADE_STRATEGY_BOUNDS_LAYER
+  })
+  @Retention(RetentionPolicy.SOURCE)
+  @interface FadeStrategy {}
+
   private TransitionUtils() {}
 
   static ShapeAppearanceModel convertToRelativeCornerSizes(
@@ -91,12 +119,9 @@ class TransitionUtils {
         .build();
   }
 
-  private static boolean isShapeAppearanceSignificant(
+  static boolean isShapeAppearanceSignificant(
       ShapeAppearanceModel shapeAppearanceModel, RectF bounds) {
-    return shapeAppearanceModel.getTopLeftCornerSize().getCornerSize(bounds) != 0
-        || shapeAppearanceModel.getTopRightCornerSize().getCornerSize(bounds) != 0
-        || shapeAppearanceModel.getBottomRightCornerSize().getCornerSize(bounds) != 0
-        || shapeAppearanceModel.getBottomLeftCornerSize().getCornerSize(bounds) != 0;
+    return TransitionMathUtils.isShapeAppearanceSignificant(shapeAppearanceModel, bounds);
   }
 
   interface CornerSizeBinaryOperator {
@@ -106,7 +131,7 @@ class TransitionUtils {
 
   static float lerp(
       float startValue, float endValue, @FloatRange(from = 0.0, to = 1.0) float fraction) {
-    return startValue + fraction * (endValue - startValue);
+    return TransitionMathUtils.lerp(startValue, endValue, fraction);
   }
 
   static float lerp(
@@ -115,14 +140,7 @@ class TransitionUtils {
       @FloatRange(from = 0.0, to = 1.0) float startFraction,
       @FloatRange(from = 0.0, to = 1.0) float endFraction,
       @FloatRange(from = 0.0, to = 1.0) float fraction) {
-    if (fraction < startFraction) {
-      return startValue;
-    }
-    if (fraction > endFraction) {
-      return endValue;
-    }
-
-    return lerp(startValue, endValue, (fraction - startFraction) / (endFraction - startFraction));
+    return TransitionMathUtils.lerp(startValue, endValue, startFraction, endFraction, fraction);
   }
 
   static int lerp(
@@ -131,14 +149,7 @@ class TransitionUtils {
       @FloatRange(from = 0.0, to = 1.0) float startFraction,
       @FloatRange(from = 0.0, to = 1.0) float endFraction,
       @FloatRange(from = 0.0, to = 1.0) float fraction) {
-    if (fraction < startFraction) {
-      return startValue;
-    }
-    if (fraction > endFraction) {
-      return endValue;
-    }
-    return (int)
-        lerp(startValue, endValue, (fraction - startFraction) / (endFraction - startFraction));
+    return TransitionMathUtils.lerp(startValue, endValue, startFraction, endFraction, fraction);
   }
 
   static ShapeAppearanceModel lerp(
@@ -232,46 +243,92 @@ class TransitionUtils {
 
   private static final RectF transformAlphaRectF = new RectF();
 
-  private static int saveLayerAlphaCompat(Canvas canvas, Rect bounds, int alpha) {
-    transformAlphaRectF.set(bounds);
+  private static int saveLayerAlphaCompat(Canvas canvas, RectF bounds, int alpha) {
     if (VERSION.SDK_INT >= VERSION_CODES.LOLLIPOP) {
-      return canvas.saveLayerAlpha(transformAlphaRectF, alpha);
+      return canvas.saveLayerAlpha(bounds, alpha);
     } else {
       return canvas.saveLayerAlpha(
-          transformAlphaRectF.left,
-          transformAlphaRectF.top,
-          transformAlphaRectF.right,
-          transformAlphaRectF.bottom,
-          alpha,
-          Canvas.ALL_SAVE_FLAG);
+          bounds.left, bounds.top, bounds.right, bounds.bottom, alpha, Canvas.ALL_SAVE_FLAG);
     }
   }
 
   /**
-   * Helper method to translate, scale and set an alpha layer on a canvas, run any operations on the
+   * Helper method to translate, scale and set an alpha on a canvas, run any operations on the
    * transformed canvas and finally, restore the Canvas to it's original state.
+   *
+   * <p>When {@code op} is a {@link ContentCanvasOperation}, the alpha is applied by the operation
+   * itself if it can, or else by an offscreen layer the size of its content. Otherwise the layer
+   * covers {@code bounds}. Returns the strategy that was used.
    */
-  static void transform(
+  @FadeStrategy
+  static int transform(
       Canvas canvas, Rect bounds, float dx, float dy, float scale, int alpha, CanvasOperation op) {
     // Exit early and avoid drawing if what will be drawn is completely transparent.
     if (alpha <= 0) {
-      return;
+      return FADE_STRATEGY_NONE;
     }
 
     int checkpoint = canvas.save();
     canvas.translate(dx, dy);
     canvas.scale(scale, scale);
+    @FadeStrategy int strategy = FADE_STRATEGY_NONE;
     if (alpha < 255) {
-      saveLayerAlphaCompat(canvas, bounds, alpha);
+      if (op instanceof ContentCanvasOperation) {
+        ContentCanvasOperation contentOp = (ContentCanvasOperation) op;
+        if (contentOp.runWithAlpha(canvas, alpha)) {
+          canvas.restoreToCount(checkpoint);
+          return FADE_STRATEGY_RENDER_NODE;
+        }
+        transformAlphaRectF.set(0, 0, contentOp.getContentWidth(), contentOp.getContentHeight());
+        strategy = FADE_STRATEGY_CONTENT_LAYER;
+      } else {
+        transformAlphaRectF.set(bounds);
+        strategy = FADE_STRATEGY_BOUNDS_LAYER;
+      }
+      saveLayerAlphaCompat(canvas, transformAlphaRectF, alpha);
     }
     op.run(canvas);
     canvas.restoreToCount(checkpoint);
+    return strategy;
+  }
+
+  /** Returns a readable name of a {@link FadeStrategy}, for debugging. */
+  @NonNull
+  static String getFadeStrategyName(@FadeStrategy int strategy) {
+    switch (strategy) {
+      case FADE_STRATEGY_RENDER_NODE:
+        return "render node alpha";
+      case FADE_STRATEGY_CONTENT_LAYER:
+        return "content sized layer";
+      case FADE_STRATEGY_BOUNDS_LAYER:
+        return "bounds sized layer";
+      case FADE_STRATEGY_NONE:
+      default:
+        return "none";
+    }
   }
 
   interface CanvasOperation {
     void run(Canvas canvas);
   }
 
+  /**
+   * A {@link CanvasOperation} which draws content of a known size, starting at the origin of the
+   * canvas, and which may be able to apply an alpha to it without an offscreen layer.
+   */
+  interface ContentCanvasOperation extends CanvasOperation {
+
+    int getContentWidth();
+
+    int getContentHeight();
+
+    /**
+     * Draws the content with {@code alpha} applied if the operation can do so itself. Returns
+     * whether it did, otherwise nothing is drawn.
+     */
+    boolean runWithAlpha(Canvas canvas, int alpha);
+  }
+
   static void maybeAddTransition(TransitionSet transitionSet, @Nullable Transition transition) {
     if (transition != null) {
       transitionSet.addTransition(transition);
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.android.material.transition;
+
+import android.graphics.Canvas;
+import android.graphics.Picture;
+import android.graphics.RecordingCanvas;
+import android.graphics.RenderNode;
+import android.os.Build.VERSION;
+import android.os.Build.VERSION_CODES;
+import android.view.View;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+import androidx.annotation.RestrictTo;
+import androidx.annotation.RestrictTo.Scope;
+
+/**
+ * A one-time recording of a {@link View}'s drawing which can be replayed every frame without
+ * traversing the view's hierarchy again.
+ *
+ * <p>The drawing is recorded into a {@link Picture} the first time the snapshot is drawn. On API 29
+ * and above, the picture is also wrapped in a {@link RenderNode} when drawn to a hardware
+ * accelerated canvas so the recorded display list is reused as is. Below API 23, where pictures
+ * can't be drawn to a hardware accelerated canvas, the view is drawn directly instead.
+ *
+ * <p>The render node can also apply an alpha to the drawing. Like a view's own render node, it
+ * only needs an offscreen buffer for that when the view has overlapping rendering.
+ *
+ * @hide
+ */
+@RestrictTo(Scope.LIBRARY_GROUP)
+public class ViewSnapshot {
+
+  @NonNull private final View view;
+  @Nullable private Picture picture;
+  @Nullable private Object renderNode;
+
+  public ViewSnapshot(@NonNull View view) {
+    this.view = view;
+  }
+
+  /** Returns whether snapshots can be recorded and replayed on this device. */
+  public static boolean isSupported() {
+    return VERSION.SDK_INT >= VERSION_CODES.M;
+  }
+
+  /** Draws the snapshot, recording it from the view first if needed. */
+  public void draw(@NonNull Canvas canvas) {
+    if (!isSupported()) {
+      view.draw(canvas);
+      return;
+    }
+
+    if (picture == null) {
+      picture = record(view);
+    }
+
+    if (VERSION.SDK_INT >= VERSION_CODES.Q && canvas.isHardwareAccelerated()) {
+      drawRenderNode(canvas, 1f);
+    } else {
+      canvas.drawPicture(picture);
+    }
+  }
+
+  /**
+   * Draws the snapshot with {@code alpha} applied by its render node, and returns {@code true}.
+   * Returns {@code false} without drawing if the snapshot can't be drawn with a render node to
+   * {@code canvas}.
+   */
+  public boolean drawWithAlpha(@NonNull Canvas canvas, int alpha) {
+    if (VERSION.SDK_INT < VERSION_CODES.Q || !canvas.isHardwareAccelerated()) {
+      return false;
+    }
+
+    if (picture == null) {
+      picture = record(view);
+    }
+    drawRenderNode(canvas, alpha / 255f);
+    return true;
+  }
+
+  @RequiresApi(VERSION_CODES.Q)
+  private void drawRenderNode(@NonNull Canvas canvas, float alpha) {
+    if (renderNode == null) {
+      renderNode = Api29Impl.createRenderNode(picture, view.hasOverlappingRendering());
+    }
+    Api29Impl.drawRenderNode(canvas, renderNode, alpha);
+  }
+
+  /** Releases the recorded drawing. The next call to {@link #draw(Canvas)} records it again. */
+  public void release() {
+    if (VERSION.SDK_INT >= VERSION_CODES.Q && renderNode != null) {
+      Api29Impl.discardDisplayList(renderNode);
+    }
+    renderNode = null;
+    picture = null;
+  }
+
+  @NonNull
+  private static Picture record(@NonNull View view) {
+    Picture picture = new Picture();
+    Canvas canvas = picture.beginRecording(view.getWidth(), view.getHeight());
+    view.draw(canvas);
+    picture.endRecording();
+    return picture;
+  }
+
+  @RequiresApi(VERSION_CODES.Q)
+  private static class Api29Impl {
+
+    private Api29Impl() {}
+
+    @NonNull
+    static Object createRenderNode(@NonNull Picture picture, boolean hasOverlappingRendering) {
+      RenderNode renderNode = new RenderNode(ViewSnapshot.class.getSimpleName());
+      renderNode.setPosition(0, 0, picture.getWidth(), picture.getHeight());
+      renderNode.setHasOverlappingRendering(hasOverlappingRendering);
+      RecordingCanvas canvas = renderNode.beginRecording();
+      try {
+        canvas.drawPicture(picture);
+      } finally {
+        renderNode.endRecording();
+      }
+      return renderNode;
+    }
+
+    static void drawRenderNode(@NonNull Canvas canvas, @NonNull Object renderNode, float alpha) {
+      RenderNode node = (RenderNode) renderNode;
+      // Only the node's properties change, so its display list is reused.
+      node.setAlpha(alpha);
+      canvas.drawRenderNode(node);
+    }
+
+    static void discardDisplayList(@NonNull Object renderNode) {
+      ((RenderNode) renderNode).discardDisplayList();
+    }
+  }
+}
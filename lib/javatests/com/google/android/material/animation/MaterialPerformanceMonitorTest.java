@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.android.material.animation;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.robolectric.annotation.LooperMode.Mode.LEGACY;
+
+import android.animation.ValueAnimator;
+import androidx.annotation.NonNull;
+import com.google.android.material.animation.MaterialPerformanceMonitor.Metrics;
+import com.google.android.material.animation.MaterialPerformanceMonitor.Session;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.LooperMode;
+import org.robolectric.annotation.internal.DoNotInstrument;
+
+/** Tests for {@link MaterialPerformanceMonitor}. */
+@LooperMode(LEGACY)
+@RunWith(RobolectricTestRunner.class)
+@DoNotInstrument
+public class MaterialPerformanceMonitorTest {
+
+  private static final long DEFAULT_FRAME_INTERVAL_NANOS = 16_666_667L;
+
+  private final RecordingListener listener = new RecordingListener();
+  private int initialFrameCallbackCount;
+
+  @Before
+  public void setUp() {
+    initialFrameCallbackCount = AnimationFrameClock.getInstance().getFrameCallbackCount();
+  }
+
+  @After
+  public void resetMonitor() {
+    MaterialPerformanceMonitor.setListener(null);
+    MaterialPerformanceMonitor.setFrameIntervalNanos(DEFAULT_FRAME_INTERVAL_NANOS);
+  }
+
+  @Test
+  public void testDisabled_doesNotMeasure() {
+    ValueAnimator animator = ValueAnimator.ofFloat(0, 1);
+
+    assertThat(MaterialPerformanceMonitor.isEnabled()).isFalse();
+    assertThat(MaterialPerformanceMonitor.begin("test")).isNull();
+    assertThat(MaterialPerformanceMonitor.track(animator, "test")).isNull();
+    assertThat(animator.getListeners()).isNull();
+  }
+
+  @Test
+  public void testTrack_reportsOnceWhenAnimationEnds() {
+    MaterialPerformanceMonitor.setListener(listener);
+    ValueAnimator animator = ValueAnimator.ofFloat(0, 1);
+    MaterialPerformanceMonitor.track(animator, "test");
+
+    animator.start();
+    animator.end();
+    animator.start();
+    animator.end();
+
+    assertThat(listener.metrics).hasSize(1);
+    assertThat(listener.metrics.get(0).getName()).isEqualTo("test");
+    assertThat(listener.metrics.get(0).getDurationNanos()).isAtLeast(0L);
+  }
+
+  @Test
+  public void testTrack_reportsWhenAnimationIsCanceled() {
+    MaterialPerformanceMonitor.setListener(listener);
+    ValueAnimator animator = ValueAnimator.ofFloat(0, 1);
+    MaterialPerformanceMonitor.track(animator, "test");
+
+    animator.start();
+    animator.cancel();
+
+    assertThat(listener.metrics).hasSize(1);
+  }
+
+  @Test
+  public void testSession_countsFramesWhileRunning() {
+    MaterialPerformanceMonitor.setListener(listener);
+
+    Session session = MaterialPerformanceMonitor.begin("test");
+    assertThat(AnimationFrameClock.getInstance().getFrameCallbackCount())
+        .isEqualTo(initialFrameCallbackCount + 1);
+
+    session.finish();
+    assertThat(AnimationFrameClock.getInstance().getFrameCallbackCount())
+        .isEqualTo(initialFrameCallbackCount);
+  }
+
+  @Test
+  public void testSession_finishTwice_reportsOnce() {
+    MaterialPerformanceMonitor.setListener(listener);
+    Session session = MaterialPerformanceMonitor.begin("test");
+
+    session.finish();
+    session.finish();
+
+    assertThat(listener.metrics).hasSize(1);
+  }
+
+  @Test
+  public void testSession_unbalancedEndCallback_addsNoCallbackTime() {
+    MaterialPerformanceMonitor.setListener(listener);
+    Session session = MaterialPerformanceMonitor.begin("test");
+
+    session.endCallback();
+    session.finish();
+
+    assertThat(listener.metrics.get(0).getCallbackNanos()).isEqualTo(0L);
+  }
+
+  @Test
+  public void testSession_reportsToListenerItStartedWith() {
+    MaterialPerformanceMonitor.setListener(listener);
+    Session session = MaterialPerformanceMonitor.begin("test");
+
+    MaterialPerformanceMonitor.setListener(null);
+    session.finish();
+
+    assertThat(listener.metrics).hasSize(1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSetFrameIntervalNanos_rejectsNonPositiveInterval() {
+    MaterialPerformanceMonitor.setFrameIntervalNanos(0);
+  }
+
+  /** A {@link MaterialPerformanceMonitor.Listener} which records the metrics it receives. */
+  private static class RecordingListener implements MaterialPerformanceMonitor.Listener {
+    final List<Metrics> metrics = new ArrayList<>();
+
+    @Override
+    public void onAnimationMeasured(@NonNull Metrics metrics) {
+      this.metrics.add(metrics);
+    }
+  }
+}
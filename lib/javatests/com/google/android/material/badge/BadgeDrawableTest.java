@@ -21,11 +21,14 @@ import static com.google.common.truth.Truth.assertThat;
 
 import android.content.Context;
 import android.content.res.TypedArray;
+import android.graphics.Canvas;
+import android.graphics.Paint;
 import android.os.Parcel;
 import androidx.core.content.res.ResourcesCompat;
 import android.util.AttributeSet;
 import android.util.TypedValue;
 import android.view.Gravity;
+import androidx.annotation.NonNull;
 import androidx.annotation.StyleRes;
 import androidx.annotation.XmlRes;
 import androidx.test.core.app.ApplicationProvider;
@@ -133,6 +136,35 @@ public class BadgeDrawableTest {
     assertThat(badgeDrawable.getVerticalOffset()).isEqualTo(dpToPx(TEST_BADGE_VERTICAL_OFFSET));
   }
 
+  @Test
+  public void testDrawnText_updatesWithNumberAndMaxCharacterCount() {
+    BadgeDrawable badgeDrawable = BadgeDrawable.create(context);
+    badgeDrawable.setBounds(0, 0, 100, 100);
+    badgeDrawable.setMaxCharacterCount(2);
+    badgeDrawable.setNumber(TEST_BADGE_NUMBER);
+
+    assertThat(drawText(badgeDrawable)).isEqualTo("9+");
+
+    badgeDrawable.setMaxCharacterCount(3);
+    assertThat(drawText(badgeDrawable)).isEqualTo("26");
+
+    badgeDrawable.setNumber(7);
+    assertThat(drawText(badgeDrawable)).isEqualTo("7");
+  }
+
+  @NonNull
+  private static String drawText(@NonNull BadgeDrawable badgeDrawable) {
+    final StringBuilder drawnText = new StringBuilder();
+    badgeDrawable.draw(
+        new Canvas() {
+          @Override
+          public void drawText(@NonNull String text, float x, float y, @NonNull Paint paint) {
+            drawnText.append(text);
+          }
+        });
+    return drawnText.toString();
+  }
+
   private void testBadgeGravityValueHelper(@XmlRes int xmlId, int expectedValue) {
     TypedArray a = getTypedArray(xmlId);
 
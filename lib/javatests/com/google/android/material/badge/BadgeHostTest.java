@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.android.material.badge;
+
+import com.google.android.material.R;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Rect;
+import android.view.View;
+import android.widget.FrameLayout;
+import androidx.test.core.app.ApplicationProvider;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.internal.DoNotInstrument;
+
+/** Tests for {@link BadgeHost}. */
+@RunWith(RobolectricTestRunner.class)
+@DoNotInstrument
+public class BadgeHostTest {
+
+  private final Context context = ApplicationProvider.getApplicationContext();
+
+  private CountingFrameLayout container;
+  private FrameLayout item;
+  private View firstAnchor;
+  private View secondAnchor;
+  private BadgeHost badgeHost;
+
+  @Before
+  public void createHierarchy() {
+    context.setTheme(R.style.Theme_MaterialComponents_Light);
+    container = new CountingFrameLayout(context);
+    item = new FrameLayout(context);
+    firstAnchor = new View(context);
+    secondAnchor = new View(context);
+    item.addView(firstAnchor);
+    item.addView(secondAnchor);
+    container.addView(item);
+
+    item.layout(100, 0, 300, 100);
+    firstAnchor.layout(10, 20, 30, 40);
+    secondAnchor.layout(50, 20, 70, 40);
+    badgeHost = new BadgeHost(container);
+  }
+
+  @Test
+  public void testAttach_setsBoundsRelativeToContainer() {
+    BadgeDrawable badgeDrawable = BadgeDrawable.create(context);
+
+    badgeHost.attachBadgeDrawable(badgeDrawable, firstAnchor);
+
+    assertThat(badgeDrawable.getBounds()).isEqualTo(new Rect(110, 20, 130, 40));
+    assertThat(badgeDrawable.getCallback()).isSameInstanceAs(badgeHost);
+  }
+
+  @Test
+  public void testUpdateBadgeCoordinates_updatesOnlyMovedBadges() {
+    BadgeDrawable firstBadge = BadgeDrawable.create(context);
+    BadgeDrawable secondBadge = BadgeDrawable.create(context);
+    badgeHost.attachBadgeDrawable(firstBadge, firstAnchor);
+    badgeHost.attachBadgeDrawable(secondBadge, secondAnchor);
+
+    container.resetInvalidations();
+    badgeHost.updateBadgeCoordinates();
+    assertThat(container.invalidatedRect.isEmpty()).isTrue();
+
+    secondAnchor.layout(150, 20, 170, 40);
+    badgeHost.updateBadgeCoordinates();
+
+    assertThat(container.invalidatedRect.isEmpty()).isFalse();
+    assertThat(firstBadge.getBounds()).isEqualTo(new Rect(110, 20, 130, 40));
+    assertThat(secondBadge.getBounds()).isEqualTo(new Rect(250, 20, 270, 40));
+  }
+
+  @Test
+  public void testUpdateBadgeCoordinates_invalidatesOnlyBadgeBounds() {
+    BadgeDrawable badgeDrawable = BadgeDrawable.create(context);
+    badgeHost.attachBadgeDrawable(badgeDrawable, firstAnchor);
+    Rect expectedInvalidatedRect = new Rect(badgeDrawable.getDirtyBounds());
+    container.resetInvalidations();
+
+    firstAnchor.layout(60, 20, 80, 40);
+    badgeHost.updateBadgeCoordinates();
+
+    expectedInvalidatedRect.union(badgeDrawable.getDirtyBounds());
+    assertThat(container.invalidatedRect).isEqualTo(expectedInvalidatedRect);
+    assertThat(container.invalidateCount).isEqualTo(0);
+  }
+
+  @Test
+  public void testContainerLayout_updatesMovedBadges() {
+    BadgeDrawable badgeDrawable = BadgeDrawable.create(context);
+    badgeHost.attachBadgeDrawable(badgeDrawable, firstAnchor);
+
+    firstAnchor.layout(60, 20, 80, 40);
+    container.layout(0, 0, 400, 100);
+
+    assertThat(badgeDrawable.getBounds()).isEqualTo(new Rect(160, 20, 180, 40));
+  }
+
+  @Test
+  public void testContainerLayout_anchorsNotMoved_doesNotInvalidate() {
+    BadgeDrawable badgeDrawable = BadgeDrawable.create(context);
+    badgeHost.attachBadgeDrawable(badgeDrawable, firstAnchor);
+    container.resetInvalidations();
+
+    container.layout(0, 0, 400, 100);
+
+    assertThat(container.invalidatedRect.isEmpty()).isTrue();
+    assertThat(container.invalidateCount).isEqualTo(0);
+    assertThat(badgeDrawable.getBounds()).isEqualTo(new Rect(110, 20, 130, 40));
+  }
+
+  @Test
+  public void testDraw_itemBoundsAnimated_movesBadges() {
+    BadgeDrawable badgeDrawable = BadgeDrawable.create(context);
+    badgeHost.attachBadgeDrawable(badgeDrawable, firstAnchor);
+    Canvas canvas = new Canvas();
+
+    // Moves the item the way ChangeBounds does, without laying out the container.
+    for (int left = 110; left <= 200; left += 10) {
+      item.setLeft(left);
+      item.setRight(left + 200);
+      container.resetInvalidations();
+
+      badgeHost.draw(canvas);
+
+      assertThat(badgeDrawable.getBounds()).isEqualTo(new Rect(left + 10, 20, left + 30, 40));
+      // The badge is drawn at its new bounds, so it doesn't need another frame.
+      assertThat(container.invalidatedRect.isEmpty()).isTrue();
+      assertThat(container.invalidateCount).isEqualTo(0);
+    }
+  }
+
+  @Test
+  public void testDraw_anchorsNotMoved_doesNotUpdateBadges() {
+    BadgeDrawable badgeDrawable = BadgeDrawable.create(context);
+    badgeHost.attachBadgeDrawable(badgeDrawable, firstAnchor);
+    Rect dirtyBounds = new Rect(badgeDrawable.getDirtyBounds());
+
+    badgeHost.draw(new Canvas());
+
+    assertThat(badgeDrawable.getBounds()).isEqualTo(new Rect(110, 20, 130, 40));
+    assertThat(badgeDrawable.getDirtyBounds()).isEqualTo(dirtyBounds);
+  }
+
+  @Test
+  public void testDetach_stopsUpdatingBadge() {
+    BadgeDrawable badgeDrawable = BadgeDrawable.create(context);
+    badgeHost.attachBadgeDrawable(badgeDrawable, firstAnchor);
+
+    Rect dirtyBounds = new Rect(badgeDrawable.getDirtyBounds());
+    container.resetInvalidations();
+
+    badgeHost.detachBadgeDrawable(badgeDrawable);
+
+    assertThat(container.invalidatedRect).isEqualTo(dirtyBounds);
+    firstAnchor.layout(0, 0, 20, 20);
+    badgeHost.updateBadgeCoordinates();
+
+    assertThat(badgeDrawable.getCallback()).isNull();
+    assertThat(badgeDrawable.getBounds()).isEqualTo(new Rect(110, 20, 130, 40));
+  }
+
+  /**
+   * A {@link FrameLayout} that counts how many times it's invalidated entirely, collects the areas
+   * invalidated in it, and leaves its children where the test laid them out.
+   */
+  private static class CountingFrameLayout extends FrameLayout {
+    final Rect invalidatedRect = new Rect();
+    int invalidateCount;
+
+    CountingFrameLayout(Context context) {
+      super(context);
+    }
+
+    @Override
+    protected void onLayout(boolean changed, int left, int top, int right, int bottom) {}
+
+    @Override
+    public void invalidate() {
+      invalidateCount++;
+      super.invalidate();
+    }
+
+    @Override
+    public void invalidate(Rect dirty) {
+      invalidatedRect.union(dirty);
+      super.invalidate(dirty);
+    }
+
+    void resetInvalidations() {
+      invalidatedRect.setEmpty();
+      invalidateCount = 0;
+    }
+  }
+}
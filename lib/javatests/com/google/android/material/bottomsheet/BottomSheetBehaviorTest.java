@@ -23,6 +23,15 @@ import android.os.Bundle;
 import androidx.appcompat.app.AppCompatActivity;
 import android.util.AttributeSet;
 import android.view.View;
+import android.view.View.MeasureSpec;
+import android.view.ViewGroup.LayoutParams;
+import androidx.annotation.NonNull;
+import androidx.coordinatorlayout.widget.CoordinatorLayout;
+import com.google.android.material.animation.MaterialPerformanceMonitor;
+import com.google.android.material.animation.MaterialPerformanceMonitor.Metrics;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -35,11 +44,18 @@ public class BottomSheetBehaviorTest {
 
   AppCompatActivity activity;
 
+  private final List<Metrics> measuredMetrics = new ArrayList<>();
+
   @Before
   public void createActivity() {
     activity = Robolectric.buildActivity(TestActivity.class).setup().get();
   }
 
+  @After
+  public void resetPerformanceMonitor() {
+    MaterialPerformanceMonitor.setListener(null);
+  }
+
   @Test
   public void createBottomSheet_withDimenOffset_hasCorrectOffset() {
     AttributeSet attributes =
@@ -66,6 +82,59 @@ public class BottomSheetBehaviorTest {
     assertThat(behavior.getExpandedOffset()).isEqualTo(220);
   }
 
+  @Test
+  public void settling_detachedFromLayoutParams_finishesPerformanceSession() {
+    CoordinatorLayout.LayoutParams layoutParams = createSettlingBottomSheetLayoutParams();
+
+    layoutParams.setBehavior(null);
+
+    assertThat(measuredMetrics).hasSize(1);
+    assertThat(measuredMetrics.get(0).getName()).isEqualTo("BottomSheetBehavior");
+  }
+
+  @Test
+  public void settling_interruptedByDrag_finishesPerformanceSession() {
+    CoordinatorLayout.LayoutParams layoutParams = createSettlingBottomSheetLayoutParams();
+    BottomSheetBehavior<?> behavior = (BottomSheetBehavior<?>) layoutParams.getBehavior();
+
+    behavior.setStateInternal(BottomSheetBehavior.STATE_DRAGGING);
+    layoutParams.setBehavior(null);
+
+    assertThat(measuredMetrics).hasSize(1);
+  }
+
+  /**
+   * Lays out a collapsed bottom sheet in a detached coordinator layout, so the posted settle steps
+   * don't run, and starts settling it to the expanded state while the performance monitor is on.
+   */
+  private CoordinatorLayout.LayoutParams createSettlingBottomSheetLayoutParams() {
+    MaterialPerformanceMonitor.setListener(
+        new MaterialPerformanceMonitor.Listener() {
+          @Override
+          public void onAnimationMeasured(@NonNull Metrics metrics) {
+            measuredMetrics.add(metrics);
+          }
+        });
+    CoordinatorLayout coordinatorLayout = new CoordinatorLayout(activity);
+    View bottomSheet = new View(activity);
+    BottomSheetBehavior<View> behavior = new BottomSheetBehavior<>();
+    behavior.setPeekHeight(100);
+    CoordinatorLayout.LayoutParams layoutParams =
+        new CoordinatorLayout.LayoutParams(LayoutParams.MATCH_PARENT, 500);
+    layoutParams.setBehavior(behavior);
+    coordinatorLayout.addView(bottomSheet, layoutParams);
+    coordinatorLayout.measure(
+        MeasureSpec.makeMeasureSpec(400, MeasureSpec.EXACTLY),
+        MeasureSpec.makeMeasureSpec(1000, MeasureSpec.EXACTLY));
+    coordinatorLayout.layout(0, 0, 400, 1000);
+
+    behavior.setState(BottomSheetBehavior.STATE_EXPANDED);
+
+    assertThat(behavior.getState()).isEqualTo(BottomSheetBehavior.STATE_SETTLING);
+    assertThat(measuredMetrics).isEmpty();
+    return layoutParams;
+  }
+
   private static class TestActivity extends AppCompatActivity {
     @Override
     protected void onCreate(Bundle bundle) {
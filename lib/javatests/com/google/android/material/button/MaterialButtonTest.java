@@ -21,6 +21,7 @@ import static com.google.common.truth.Truth.assertThat;
 
 import android.content.Context;
 import android.graphics.drawable.Drawable;
+import android.graphics.drawable.InsetDrawable;
 import androidx.core.graphics.drawable.DrawableCompat;
 import android.view.View.MeasureSpec;
 import androidx.annotation.Nullable;
@@ -30,6 +31,7 @@ import com.google.android.material.shape.CornerFamily;
 import com.google.android.material.shape.CornerTreatment;
 import com.google.android.material.shape.CutCornerTreatment;
 import com.google.android.material.shape.ShapeAppearanceModel;
+import com.google.android.material.shape.Shapeable;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -98,6 +100,40 @@ public class MaterialButtonTest {
         materialButton.getShapeAppearanceModel(), CUT_CORNER_FAMILY_CLASS);
   }
 
+  @Test
+  public void testBackground_createsRippleWhenPressed() {
+    MaterialButton materialButton = new MaterialButton(context);
+    MaterialButtonBackgroundDrawable background = getBackgroundDrawable(materialButton);
+
+    assertThat(background.getRippleDrawable()).isNull();
+
+    materialButton.setPressed(true);
+
+    assertThat(background.getRippleDrawable()).isNotNull();
+    assertThat(background.getRippleDrawable().getBounds()).isEqualTo(background.getBounds());
+  }
+
+  @Test
+  public void testSetShapeAppearanceModel_updatesRippleMask() {
+    MaterialButton materialButton = new MaterialButton(context);
+    materialButton.setPressed(true);
+    ShapeAppearanceModel shapeAppearanceModel =
+        ShapeAppearanceModel.builder()
+            .setAllCorners(CUT_CORNER_FAMILY, materialButton.getCornerRadius())
+            .build();
+
+    materialButton.setShapeAppearanceModel(shapeAppearanceModel);
+
+    Shapeable mask = getBackgroundDrawable(materialButton).getMaskDrawable();
+    assertThatCornerFamilyMatches(mask.getShapeAppearanceModel(), CUT_CORNER_FAMILY_CLASS);
+  }
+
+  private static MaterialButtonBackgroundDrawable getBackgroundDrawable(
+      MaterialButton materialButton) {
+    return (MaterialButtonBackgroundDrawable)
+        ((InsetDrawable) materialButton.getBackground()).getDrawable();
+  }
+
   private void assertThatCornerFamilyMatches(
       ShapeAppearanceModel shapeAppearanceModel,
       Class<? extends CornerTreatment> expectedCornerFamily) {
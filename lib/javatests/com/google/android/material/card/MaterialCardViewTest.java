@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.material.card;
+
+import com.google.android.material.R;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import android.content.Context;
+import android.graphics.Rect;
+import android.graphics.drawable.Drawable;
+import android.graphics.drawable.InsetDrawable;
+import android.graphics.drawable.LayerDrawable;
+import android.graphics.drawable.RippleDrawable;
+import android.os.Build.VERSION_CODES;
+import androidx.test.core.app.ApplicationProvider;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+/** Tests for {@link com.google.android.material.card.MaterialCardView}. */
+@RunWith(RobolectricTestRunner.class)
+public class MaterialCardViewTest {
+
+  private static final int CARD_SIZE = 200;
+
+  private final Context context = ApplicationProvider.getApplicationContext();
+
+  @Before
+  public void themeApplicationContext() {
+    context.setTheme(R.style.Theme_MaterialComponents_Light_NoActionBar_Bridge);
+  }
+
+  @Test
+  public void testClickable_createsRippleWhenPressed() {
+    MaterialCardView card = createClickableCard();
+
+    assertThat(getRippleLayer(card)).isNotInstanceOf(RippleDrawable.class);
+
+    card.setPressed(true);
+
+    assertThat(getRippleLayer(card)).isInstanceOf(RippleDrawable.class);
+  }
+
+  @Test
+  public void testClickable_createsRippleForHotspot() {
+    MaterialCardView card = createClickableCard();
+
+    card.drawableHotspotChanged(10, 10);
+
+    assertThat(getRippleLayer(card)).isInstanceOf(RippleDrawable.class);
+  }
+
+  @Test
+  public void testClickable_rippleTakesPlaceholderBounds() {
+    MaterialCardView card = createClickableCard();
+    card.getForeground().setBounds(0, 0, CARD_SIZE, CARD_SIZE);
+    Rect placeholderBounds = new Rect(getRippleLayer(card).getBounds());
+
+    card.setPressed(true);
+
+    assertThat(getRippleLayer(card).getBounds()).isEqualTo(placeholderBounds);
+  }
+
+  @Test
+  public void testClickable_pressedAgain_keepsRipple() {
+    MaterialCardView card = createClickableCard();
+    card.setPressed(true);
+    Drawable ripple = getRippleLayer(card);
+
+    card.setPressed(false);
+    card.setPressed(true);
+
+    assertThat(getRippleLayer(card)).isSameInstanceAs(ripple);
+  }
+
+  @Test
+  public void testNotClickable_doesNotCreateRipple() {
+    MaterialCardView card = new MaterialCardView(context);
+
+    card.setPressed(true);
+    card.drawableHotspotChanged(10, 10);
+
+    assertThat(getInsetDrawable(card.getForeground())).isNotInstanceOf(LayerDrawable.class);
+  }
+
+  @Test
+  @Config(sdk = VERSION_CODES.LOLLIPOP)
+  public void testSetClickableBeforeM_foregroundInsetsMatchBackground() {
+    MaterialCardView card = new MaterialCardView(context);
+    card.setMaxCardElevation(10);
+    card.setUseCompatPadding(true);
+
+    card.setClickable(true);
+    card.setMaxCardElevation(20);
+    card.setClickable(false);
+
+    assertThat(getInsetBounds(card.getForeground()))
+        .isEqualTo(getInsetBounds(card.getBackground()));
+    assertThat(getInsetBounds(card.getBackground()))
+        .isNotEqualTo(new Rect(0, 0, CARD_SIZE, CARD_SIZE));
+  }
+
+  @Test
+  public void testSetUseCompatPadding_foregroundInsetsMatchBackground() {
+    MaterialCardView card = createClickableCard();
+    card.setMaxCardElevation(10);
+
+    card.setUseCompatPadding(true);
+
+    assertThat(getInsetBounds(card.getForeground()))
+        .isEqualTo(getInsetBounds(card.getBackground()));
+    assertThat(getInsetBounds(card.getBackground()))
+        .isNotEqualTo(new Rect(0, 0, CARD_SIZE, CARD_SIZE));
+  }
+
+  private MaterialCardView createClickableCard() {
+    MaterialCardView card = new MaterialCardView(context);
+    card.setClickable(true);
+    return card;
+  }
+
+  private static Drawable getRippleLayer(MaterialCardView card) {
+    LayerDrawable foreground = (LayerDrawable) getInsetDrawable(card.getForeground());
+    return foreground.findDrawableByLayerId(R.id.mtrl_card_ripple_layer_id);
+  }
+
+  private static Drawable getInsetDrawable(Drawable drawable) {
+    return ((InsetDrawable) drawable).getDrawable();
+  }
+
+  /** Returns the bounds the inset {@code drawable} gives its content within the card's bounds. */
+  private static Rect getInsetBounds(Drawable drawable) {
+    drawable.setBounds(0, 0, CARD_SIZE, CARD_SIZE);
+    return new Rect(getInsetDrawable(drawable).getBounds());
+  }
+}
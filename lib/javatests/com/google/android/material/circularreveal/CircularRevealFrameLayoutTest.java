@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.android.material.circularreveal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import android.app.Activity;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.os.Build.VERSION_CODES;
+import android.view.View.MeasureSpec;
+import com.google.android.material.circularreveal.CircularRevealWidget.RevealInfo;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatchers;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.annotation.internal.DoNotInstrument;
+
+/** Tests for revealing a {@link CircularRevealFrameLayout}. */
+@RunWith(RobolectricTestRunner.class)
+@DoNotInstrument
+@Config(sdk = VERSION_CODES.JELLY_BEAN)
+public class CircularRevealFrameLayoutTest {
+
+  private static final int WIDTH = 100;
+  private static final int HEIGHT = 200;
+
+  private final RevealInfo revealInfo = new RevealInfo(WIDTH / 2f, HEIGHT / 2f, WIDTH / 4f);
+
+  private Activity activity;
+
+  @Before
+  public void setUp() {
+    activity = Robolectric.setupActivity(Activity.class);
+    RevealSnapshotPool.clear();
+  }
+
+  @After
+  public void tearDown() {
+    RevealSnapshotPool.clear();
+  }
+
+  @Test
+  public void defaultSnapshot_drawsReveal() {
+    CircularRevealFrameLayout layout = createLayout();
+    Canvas canvas = spy(new Canvas());
+
+    reveal(layout, canvas);
+
+    verify(canvas)
+        .drawCircle(
+            eq(revealInfo.centerX),
+            eq(revealInfo.centerY),
+            eq(revealInfo.radius),
+            ArgumentMatchers.<Paint>any());
+  }
+
+  @Test
+  public void downscaledSnapshot_drawsRevealWithSmallerSnapshot() {
+    reveal(createLayout(), new Canvas());
+    int defaultSnapshotBytes = RevealSnapshotPool.getPooledBytes();
+    RevealSnapshotPool.clear();
+
+    CircularRevealFrameLayout layout = createLayout();
+    layout.setRevealSnapshotConfig(Bitmap.Config.RGB_565);
+    layout.setRevealSnapshotScale(0.5f);
+    Canvas canvas = spy(new Canvas());
+    reveal(layout, canvas);
+
+    verify(canvas)
+        .drawCircle(
+            eq(revealInfo.centerX),
+            eq(revealInfo.centerY),
+            eq(revealInfo.radius),
+            ArgumentMatchers.<Paint>any());
+    assertThat(RevealSnapshotPool.getPooledBytes()).isGreaterThan(0);
+    assertThat(RevealSnapshotPool.getPooledBytes()).isLessThan(defaultSnapshotBytes);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setRevealSnapshotScale_outOfRange_throws() {
+    createLayout().setRevealSnapshotScale(2f);
+  }
+
+  private CircularRevealFrameLayout createLayout() {
+    CircularRevealFrameLayout layout = new CircularRevealFrameLayout(activity);
+    layout.measure(
+        MeasureSpec.makeMeasureSpec(WIDTH, MeasureSpec.EXACTLY),
+        MeasureSpec.makeMeasureSpec(HEIGHT, MeasureSpec.EXACTLY));
+    layout.layout(0, 0, WIDTH, HEIGHT);
+    return layout;
+  }
+
+  /** Runs a reveal of {@code layout} the way the reveal animator does, drawing one frame. */
+  private void reveal(CircularRevealFrameLayout layout, Canvas canvas) {
+    layout.buildCircularRevealCache();
+    layout.setRevealInfo(revealInfo);
+    layout.draw(canvas);
+    layout.destroyCircularRevealCache();
+  }
+}
@@ -25,6 +25,7 @@ import static org.mockito.Mockito.verify;
 
 import android.app.Activity;
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
@@ -189,6 +190,58 @@ public class CircularRevealHelperTest {
             ArgumentMatchers.<Paint>any());
   }
 
+  @Test
+  @Config(sdk = VERSION_CODES.JELLY_BEAN)
+  public void jbReusesSnapshotBitmapAcrossReveals() {
+    RevealSnapshotPool.clear();
+    helper = new CircularRevealHelper(delegate);
+    helper.setRevealInfo(smallRevealInfo);
+
+    helper.buildCircularRevealCache();
+    Bitmap firstSnapshot = helper.getRevealSnapshotBitmap();
+    helper.destroyCircularRevealCache();
+    helper.buildCircularRevealCache();
+    Bitmap secondSnapshot = helper.getRevealSnapshotBitmap();
+    helper.destroyCircularRevealCache();
+
+    assertThat(firstSnapshot).isNotNull();
+    assertThat(secondSnapshot).isSameInstanceAs(firstSnapshot);
+    assertThat(helper.getRevealSnapshotBitmap()).isNull();
+  }
+
+  @Test
+  @Config(sdk = VERSION_CODES.JELLY_BEAN)
+  public void jbDownscaledSnapshotUsesSmallerBitmap() {
+    RevealSnapshotPool.clear();
+    helper = new CircularRevealHelper(delegate);
+    helper.setRevealSnapshotConfig(Bitmap.Config.RGB_565);
+    helper.setRevealSnapshotScale(0.5f);
+    helper.setRevealInfo(smallRevealInfo);
+
+    helper.buildCircularRevealCache();
+    Bitmap snapshot = helper.getRevealSnapshotBitmap();
+    helper.destroyCircularRevealCache();
+
+    assertThat(snapshot.getConfig()).isEqualTo(Bitmap.Config.RGB_565);
+    assertThat(snapshot.getWidth()).isLessThan(DELEGATE_WIDTH);
+    assertThat(snapshot.getHeight()).isLessThan(DELEGATE_HEIGHT);
+  }
+
+  @Test
+  public void snapshotPoolIsBounded() {
+    RevealSnapshotPool.clear();
+
+    for (int i = 1; i <= 8; i++) {
+      RevealSnapshotPool.release(
+          RevealSnapshotPool.acquire(1000, 500 * i, Bitmap.Config.ARGB_8888));
+    }
+
+    assertThat(RevealSnapshotPool.getPooledBytes()).isGreaterThan(0);
+    assertThat(RevealSnapshotPool.getPooledBytes())
+        .isAtMost(RevealSnapshotPool.MAX_POOLED_BYTES);
+    RevealSnapshotPool.clear();
+  }
+
   private static class TestDelegate extends View implements CircularRevealWidget {
 
     public TestDelegate(Context context) {
@@ -29,6 +29,7 @@ import android.view.View;
 import android.view.ViewGroup;
 import android.widget.FrameLayout;
 import androidx.test.core.app.ApplicationProvider;
+import com.google.android.material.color.MaterialColors;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -226,4 +227,50 @@ public class ElevationOverlayProviderTest {
 
     assertThat(provider.calculateOverlayAlpha(Float.MAX_VALUE)).isEqualTo(255);
   }
+
+  @Test
+  public void givenAnimatedElevations_whenCalculateOverlayAlphaFraction_isWithinOneAlphaStep() {
+    provider = new ElevationOverlayProvider(context);
+    float density = context.getResources().getDisplayMetrics().density;
+
+    for (float elevationDp = 0.01f; elevationDp < 200; elevationDp += 0.013f) {
+      assertThat(provider.calculateOverlayAlphaFraction(elevationDp * density))
+          .isWithin(1 / 255f)
+          .of(calculateExactOverlayAlphaFraction(elevationDp));
+    }
+  }
+
+  @Test
+  public void givenWholeDpElevation_whenCalculateOverlayAlphaFraction_returnsExactAlphaFraction() {
+    provider = new ElevationOverlayProvider(context);
+    float density = context.getResources().getDisplayMetrics().density;
+
+    for (int elevationDp = 1; elevationDp <= 24; elevationDp++) {
+      assertThat(provider.calculateOverlayAlphaFraction(elevationDp * density))
+          .isEqualTo(calculateExactOverlayAlphaFraction(elevationDp));
+    }
+  }
+
+  @Test
+  public void givenSurfaceColorAndElevations_whenCompositeOverlay_matchesLayeredColors() {
+    provider = new ElevationOverlayProvider(context);
+    int surfaceColor = provider.getThemeSurfaceColor();
+    int overlayColor = provider.getThemeElevationOverlayColor();
+
+    // Repeats the elevations so that the second pass is served from the cached colors.
+    for (int pass = 0; pass < 2; pass++) {
+      for (float elevation = 0; elevation < 200; elevation += 0.37f) {
+        int expectedColor =
+            MaterialColors.layer(
+                surfaceColor, overlayColor, provider.calculateOverlayAlphaFraction(elevation));
+
+        assertThat(Integer.toHexString(provider.compositeOverlay(surfaceColor, elevation)))
+            .isEqualTo(Integer.toHexString(expectedColor));
+      }
+    }
+  }
+
+  private static float calculateExactOverlayAlphaFraction(float elevationDp) {
+    return Math.min((4.5f * (float) Math.log1p(elevationDp) + 2f) / 100, 1);
+  }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.material.internal;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measures the heap allocated by the current thread, for tests which check that a hot path doesn't
+ * allocate.
+ *
+ * <p>Call {@link #assumeAllocationCountingSupported()} before measuring, so tests are skipped on
+ * JVMs which can't count allocations.
+ */
+public class AllocationTestUtils {
+
+  // Leaves room for the fixed cost of reading the allocation counter, but is well below the
+  // smallest object a hot path could allocate per iteration.
+  private static final long MAX_BYTES_PER_ITERATION = 8;
+
+  private AllocationTestUtils() {}
+
+  /** Skips the calling test if the JVM can't count the bytes allocated by a thread. */
+  public static void assumeAllocationCountingSupported() {
+    ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+    com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+    assumeTrue(
+        allocationBean.isThreadAllocatedMemorySupported()
+            && allocationBean.isThreadAllocatedMemoryEnabled());
+  }
+
+  /** Returns the total number of bytes allocated by the current thread so far. */
+  public static long getAllocatedBytes() {
+    com.sun.management.ThreadMXBean allocationBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    return allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  /**
+   * Asserts that {@code allocatedBytes}, measured over {@code iterationCount} iterations, is less
+   * than a few bytes per iteration.
+   */
+  public static void assertDoesNotAllocatePerIteration(
+      long allocatedBytes, int iterationCount, String iterationName) {
+    assertWithMessage("Bytes allocated over %s %s", iterationCount, iterationName)
+        .that(allocatedBytes)
+        .isLessThan(MAX_BYTES_PER_ITERATION * iterationCount);
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.android.material.internal;
+
+import com.google.android.material.R;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import android.os.Build.VERSION_CODES;
+import android.view.View;
+import android.view.View.OnAttachStateChangeListener;
+import android.widget.FrameLayout;
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.test.core.app.ApplicationProvider;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+/** Tests for the parent absolute elevation of {@link ViewUtils}. */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = VERSION_CODES.LOLLIPOP)
+public class ViewUtilsTest {
+
+  private static final float DELTA = 0.01f;
+
+  private FrameLayout root;
+  private FrameLayout parent;
+  private View child;
+  private float rootParentElevation;
+
+  @Before
+  public void createHierarchy() {
+    ApplicationProvider.getApplicationContext().setTheme(R.style.Theme_AppCompat);
+    AppCompatActivity activity = Robolectric.setupActivity(AppCompatActivity.class);
+    root = new FrameLayout(activity);
+    root.setElevation(2);
+    parent = new FrameLayout(activity);
+    parent.setElevation(3);
+    child = new View(activity);
+    parent.addView(child);
+    root.addView(parent);
+    activity.setContentView(root);
+    rootParentElevation = ViewUtils.getParentAbsoluteElevation(root);
+  }
+
+  @Test
+  public void testGetParentAbsoluteElevation() {
+    assertThat(ViewUtils.getParentAbsoluteElevation(child))
+        .isWithin(DELTA)
+        .of(rootParentElevation + 5);
+  }
+
+  @Test
+  public void testGetParentAbsoluteElevation_afterElevationChange() {
+    ViewUtils.getParentAbsoluteElevation(child);
+
+    parent.setElevation(10);
+
+    assertThat(ViewUtils.getParentAbsoluteElevation(child))
+        .isWithin(DELTA)
+        .of(rootParentElevation + 12);
+  }
+
+  @Test
+  public void testGetParentAbsoluteElevation_afterAncestorElevationChange() {
+    ViewUtils.getParentAbsoluteElevation(child);
+
+    root.setElevation(6);
+
+    assertThat(ViewUtils.getParentAbsoluteElevation(child))
+        .isWithin(DELTA)
+        .of(rootParentElevation + 9);
+  }
+
+  @Test
+  public void testGetParentAbsoluteElevation_whenAttached() {
+    AttachListener listener = new AttachListener();
+    View newChild = new View(root.getContext());
+    newChild.addOnAttachStateChangeListener(listener);
+    root.setElevation(4);
+
+    parent.addView(newChild);
+
+    assertThat(listener.parentAbsoluteElevation).isWithin(DELTA).of(rootParentElevation + 7);
+  }
+
+  @Test
+  public void testGetParentAbsoluteElevation_afterMove() {
+    ViewUtils.getParentAbsoluteElevation(child);
+    FrameLayout newParent = new FrameLayout(root.getContext());
+    newParent.setElevation(7);
+    root.addView(newParent);
+
+    parent.removeView(child);
+    newParent.addView(child);
+
+    assertThat(ViewUtils.getParentAbsoluteElevation(child))
+        .isWithin(DELTA)
+        .of(rootParentElevation + 9);
+  }
+
+  @Test
+  public void testGetParentAbsoluteElevation_afterAncestorMove() {
+    ViewUtils.getParentAbsoluteElevation(child);
+    FrameLayout newParent = new FrameLayout(root.getContext());
+    newParent.setElevation(7);
+    root.addView(newParent);
+
+    root.removeView(parent);
+    newParent.addView(parent);
+
+    assertThat(ViewUtils.getParentAbsoluteElevation(child))
+        .isWithin(DELTA)
+        .of(rootParentElevation + 12);
+  }
+
+  @Test
+  public void testGetParentAbsoluteElevation_whenDetached() {
+    root.removeView(parent);
+
+    assertThat(ViewUtils.getParentAbsoluteElevation(child)).isWithin(DELTA).of(3);
+  }
+
+  /** Samples the parent absolute elevation when attached, like the library's components do. */
+  private static class AttachListener implements OnAttachStateChangeListener {
+    float parentAbsoluteElevation = -1;
+
+    @Override
+    public void onViewAttachedToWindow(View view) {
+      parentAbsoluteElevation = ViewUtils.getParentAbsoluteElevation(view);
+    }
+
+    @Override
+    public void onViewDetachedFromWindow(View view) {}
+  }
+}
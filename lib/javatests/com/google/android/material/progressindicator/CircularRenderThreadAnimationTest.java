@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.android.material.progressindicator;
+
+import com.google.android.material.R;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.robolectric.annotation.LooperMode.Mode.LEGACY;
+
+import android.content.Context;
+import android.graphics.Color;
+import android.os.Build.VERSION_CODES;
+import androidx.test.core.app.ApplicationProvider;
+import com.google.android.material.animation.AnimationFrameClock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.annotation.LooperMode;
+
+/**
+ * Tests for running the circular indeterminate animation of {@link ProgressIndicator} on the
+ * render thread.
+ */
+@LooperMode(LEGACY)
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = VERSION_CODES.Q)
+public class CircularRenderThreadAnimationTest {
+
+  private final Context context = ApplicationProvider.getApplicationContext();
+  private IndeterminateAnimatorDelegate delegate;
+  private int initialFrameCallbackCount;
+
+  @Before
+  public void setUp() {
+    context.setTheme(R.style.Theme_MaterialComponents_Bridge);
+    initialFrameCallbackCount = AnimationFrameClock.getInstance().getFrameCallbackCount();
+  }
+
+  @After
+  public void cancelAnimation() {
+    if (delegate != null) {
+      delegate.cancelAnimatorImmediately();
+    }
+  }
+
+  @Test
+  public void testStart_runsOnRenderThread() {
+    delegate = createDelegate(createSpec(Color.RED));
+
+    delegate.startAnimator();
+
+    assertThat(delegate.getRenderThreadDrawable()).isNotNull();
+    assertThat(AnimationFrameClock.getInstance().getFrameCallbackCount())
+        .isEqualTo(initialFrameCallbackCount);
+  }
+
+  @Test
+  public void testStartWithMultipleColors_runsOnMainThread() {
+    delegate = createDelegate(createSpec(Color.RED, Color.GREEN));
+
+    delegate.startAnimator();
+
+    assertThat(delegate.getRenderThreadDrawable()).isNull();
+    assertThat(AnimationFrameClock.getInstance().getFrameCallbackCount())
+        .isEqualTo(initialFrameCallbackCount + 1);
+  }
+
+  @Test
+  @Config(sdk = VERSION_CODES.P)
+  public void testStartBeforeQ_runsOnMainThread() {
+    delegate = createDelegate(createSpec(Color.RED));
+
+    delegate.startAnimator();
+
+    assertThat(delegate.getRenderThreadDrawable()).isNull();
+  }
+
+  @Test
+  public void testContinueOnMainThread_movesToFrameClock() {
+    delegate = createDelegate(createSpec(Color.RED));
+    delegate.startAnimator();
+
+    delegate.continueOnMainThread();
+
+    assertThat(delegate.getRenderThreadDrawable()).isNull();
+    assertThat(AnimationFrameClock.getInstance().getFrameCallbackCount())
+        .isEqualTo(initialFrameCallbackCount + 1);
+  }
+
+  @Test
+  public void testRequestCancelAfterCycle_movesToFrameClock() {
+    IndeterminateDrawable drawable = new IndeterminateDrawable(context, createSpec(Color.RED));
+    drawable.setVisible(true, false, false);
+    delegate = drawable.getAnimatorDelegate();
+    delegate.startAnimator();
+
+    delegate.requestCancelAnimatorAfterCurrentCycle();
+
+    assertThat(delegate.getRenderThreadDrawable()).isNull();
+    assertThat(AnimationFrameClock.getInstance().getFrameCallbackCount())
+        .isEqualTo(initialFrameCallbackCount + 1);
+  }
+
+  @Test
+  public void testCancel_stopsRenderThreadAnimation() {
+    delegate = createDelegate(createSpec(Color.RED));
+    delegate.startAnimator();
+
+    delegate.cancelAnimatorImmediately();
+
+    assertThat(delegate.getRenderThreadDrawable()).isNull();
+  }
+
+  private IndeterminateAnimatorDelegate createDelegate(ProgressIndicatorSpec spec) {
+    return new IndeterminateDrawable(context, spec).getAnimatorDelegate();
+  }
+
+  private static ProgressIndicatorSpec createSpec(int... indicatorColors) {
+    ProgressIndicatorSpec spec = new ProgressIndicatorSpec();
+    spec.indicatorType = ProgressIndicator.CIRCULAR;
+    spec.indicatorSize = 20;
+    spec.indicatorColors = indicatorColors;
+    spec.trackColor = Color.TRANSPARENT;
+    spec.growMode = ProgressIndicator.GROW_MODE_NONE;
+    spec.circularRadius = 100;
+    spec.circularInset = 4;
+    spec.renderThreadAnimationEnabled = true;
+    return spec;
+  }
+}
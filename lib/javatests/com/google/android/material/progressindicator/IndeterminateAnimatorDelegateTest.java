@@ -0,0 +1,262 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.android.material.progressindicator;
+
+import com.google.android.material.R;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.robolectric.annotation.LooperMode.Mode.LEGACY;
+
+import android.content.ContentResolver;
+import android.content.Context;
+import android.graphics.Color;
+import android.graphics.drawable.Drawable;
+import android.os.Build.VERSION_CODES;
+import androidx.annotation.NonNull;
+import androidx.test.core.app.ApplicationProvider;
+import androidx.vectordrawable.graphics.drawable.Animatable2Compat.AnimationCallback;
+import com.google.android.material.animation.AnimationFrameClock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.annotation.LooperMode;
+
+/**
+ * Tests for the indeterminate animator delegates of {@link ProgressIndicator}, driven frame by
+ * frame as the {@link AnimationFrameClock} would.
+ */
+@LooperMode(LEGACY)
+@RunWith(RobolectricTestRunner.class)
+// The circular animation runs on the render thread from Q.
+@Config(sdk = VERSION_CODES.P)
+public class IndeterminateAnimatorDelegateTest {
+
+  private static final long CIRCULAR_CYCLE_DURATION_MILLIS = 1333;
+  private static final long CIRCULAR_EXPAND_DURATION_MILLIS = CIRCULAR_CYCLE_DURATION_MILLIS / 2;
+  private static final long LINEAR_SEAMLESS_DURATION_PER_COLOR_MILLIS = 667;
+  private static final long FRAME_INTERVAL_MILLIS = 16;
+  private static final float CIRCULAR_MIN_DEGREES = 20;
+  private static final float CIRCULAR_DELTA_DEGREES = 250;
+  // The start offset of the circular indicator's second cycle, in degrees.
+  private static final float CIRCULAR_NEXT_CYCLE_OFFSET = (360 + CIRCULAR_DELTA_DEGREES) % 360;
+  private static final float TOLERANCE = 1e-4f;
+  private static final long START_TIME_NANOS = 1_000_000_000L;
+
+  private final Context context = ApplicationProvider.getApplicationContext();
+  private IndeterminateAnimatorDelegate delegate;
+  private int initialFrameCallbackCount;
+
+  @Before
+  public void setUp() {
+    context.setTheme(R.style.Theme_MaterialComponents_Bridge);
+    initialFrameCallbackCount = AnimationFrameClock.getInstance().getFrameCallbackCount();
+  }
+
+  @After
+  public void cancelAnimation() {
+    if (delegate != null) {
+      delegate.cancelAnimatorImmediately();
+    }
+  }
+
+  @Test
+  public void testStartAndCancel_subscribeToFrameClock() {
+    createDelegate(createSpec(ProgressIndicator.CIRCULAR, false), 1f);
+
+    delegate.startAnimator();
+    assertThat(AnimationFrameClock.getInstance().getFrameCallbackCount())
+        .isEqualTo(initialFrameCallbackCount + 1);
+
+    delegate.cancelAnimatorImmediately();
+    assertThat(AnimationFrameClock.getInstance().getFrameCallbackCount())
+        .isEqualTo(initialFrameCallbackCount);
+  }
+
+  @Test
+  public void testCircular_firstFrame_startsCollapsed() {
+    createDelegate(createSpec(ProgressIndicator.CIRCULAR, false), 1f);
+    delegate.startAnimator();
+
+    doFrameAt(0);
+
+    assertSegment(-CIRCULAR_MIN_DEGREES / 360, 0);
+    assertThat(delegate.segmentColors[0]).isEqualTo(Color.RED);
+  }
+
+  @Test
+  public void testCircular_endOfExpansion_headFullyExpanded() {
+    createDelegate(createSpec(ProgressIndicator.CIRCULAR, false), 1f);
+    delegate.startAnimator();
+
+    doFrameAt(0);
+    doFrameAt(CIRCULAR_EXPAND_DURATION_MILLIS);
+
+    float inCycleOffset = 360f * CIRCULAR_EXPAND_DURATION_MILLIS / CIRCULAR_CYCLE_DURATION_MILLIS;
+    assertSegment(
+        (inCycleOffset - CIRCULAR_MIN_DEGREES) / 360,
+        (inCycleOffset + CIRCULAR_DELTA_DEGREES) / 360);
+  }
+
+  @Test
+  public void testCircular_cycleBoundary_startsNextCycleWithNextColor() {
+    createDelegate(createSpec(ProgressIndicator.CIRCULAR, false), 1f);
+    delegate.startAnimator();
+
+    doFrameAt(0);
+    doFrameAt(CIRCULAR_CYCLE_DURATION_MILLIS);
+    // The next cycle starts on the frame after the boundary.
+    doFrameAt(CIRCULAR_CYCLE_DURATION_MILLIS + FRAME_INTERVAL_MILLIS);
+
+    assertSegment(
+        (CIRCULAR_NEXT_CYCLE_OFFSET - CIRCULAR_MIN_DEGREES) / 360,
+        CIRCULAR_NEXT_CYCLE_OFFSET / 360);
+    assertThat(delegate.segmentColors[0]).isEqualTo(Color.GREEN);
+    assertThat(AnimationFrameClock.getInstance().getFrameCallbackCount())
+        .isEqualTo(initialFrameCallbackCount + 1);
+  }
+
+  @Test
+  public void testCircular_requestCancelAfterCycle_callsBackWhenCycleCompletes() {
+    createDelegate(createSpec(ProgressIndicator.CIRCULAR, false), 1f);
+    CountingAnimationCallback callback = new CountingAnimationCallback();
+    delegate.registerAnimatorsCompleteCallback(callback);
+    delegate.startAnimator();
+    doFrameAt(0);
+
+    delegate.requestCancelAnimatorAfterCurrentCycle();
+    doFrameAt(CIRCULAR_CYCLE_DURATION_MILLIS - FRAME_INTERVAL_MILLIS);
+    assertThat(callback.endCount).isEqualTo(0);
+
+    doFrameAt(CIRCULAR_CYCLE_DURATION_MILLIS);
+    assertThat(callback.endCount).isEqualTo(1);
+    assertThat(delegate.segmentPositions[0]).isWithin(TOLERANCE).of(delegate.segmentPositions[1]);
+    assertThat(AnimationFrameClock.getInstance().getFrameCallbackCount())
+        .isEqualTo(initialFrameCallbackCount);
+  }
+
+  @Test
+  public void testCircular_durationScale_stretchesCycle() {
+    createDelegate(createSpec(ProgressIndicator.CIRCULAR, false), 2f);
+    delegate.startAnimator();
+
+    doFrameAt(0);
+    doFrameAt(CIRCULAR_EXPAND_DURATION_MILLIS * 2);
+
+    // The expansion takes twice as long.
+    float inCycleOffset = 360f * CIRCULAR_EXPAND_DURATION_MILLIS / CIRCULAR_CYCLE_DURATION_MILLIS;
+    assertSegment(
+        (inCycleOffset - CIRCULAR_MIN_DEGREES) / 360,
+        (inCycleOffset + CIRCULAR_DELTA_DEGREES) / 360);
+
+    doFrameAt(CIRCULAR_CYCLE_DURATION_MILLIS * 2);
+    doFrameAt(CIRCULAR_CYCLE_DURATION_MILLIS * 2 + FRAME_INTERVAL_MILLIS);
+    assertThat(delegate.segmentColors[0]).isEqualTo(Color.GREEN);
+  }
+
+  @Test
+  public void testCircular_zeroDurationScale_holdsStill() {
+    createDelegate(createSpec(ProgressIndicator.CIRCULAR, false), 0f);
+    delegate.startAnimator();
+
+    doFrameAt(0);
+    doFrameAt(CIRCULAR_CYCLE_DURATION_MILLIS * 3);
+
+    assertSegment(-CIRCULAR_MIN_DEGREES / 360, 0);
+    assertThat(delegate.segmentColors[0]).isEqualTo(Color.RED);
+  }
+
+  @Test
+  public void testLinearSeamless_repeatBoundary_shiftsColors() {
+    createDelegate(createSpec(ProgressIndicator.LINEAR, true), 1f);
+    delegate.startAnimator();
+    doFrameAt(0);
+    doFrameAt(LINEAR_SEAMLESS_DURATION_PER_COLOR_MILLIS - FRAME_INTERVAL_MILLIS);
+    int[] colorsBeforeBoundary = delegate.segmentColors.clone();
+
+    doFrameAt(LINEAR_SEAMLESS_DURATION_PER_COLOR_MILLIS);
+
+    assertThat(delegate.segmentColors[1]).isEqualTo(colorsBeforeBoundary[0]);
+    assertThat(delegate.segmentColors[2]).isEqualTo(colorsBeforeBoundary[1]);
+  }
+
+  @Test
+  public void testLinearSeamless_neverEnds() {
+    createDelegate(createSpec(ProgressIndicator.LINEAR, true), 1f);
+    delegate.startAnimator();
+
+    doFrameAt(0);
+    doFrameAt(LINEAR_SEAMLESS_DURATION_PER_COLOR_MILLIS * 100);
+
+    assertThat(AnimationFrameClock.getInstance().getFrameCallbackCount())
+        .isEqualTo(initialFrameCallbackCount + 1);
+  }
+
+  private void createDelegate(@NonNull ProgressIndicatorSpec spec, float durationScale) {
+    IndeterminateDrawable drawable = new IndeterminateDrawable(context, spec);
+    drawable.animatorDurationScaleProvider = new FixedAnimatorDurationScaleProvider(durationScale);
+    drawable.setVisible(true, false, false);
+    delegate = drawable.getAnimatorDelegate();
+  }
+
+  private void doFrameAt(long playTimeMillis) {
+    delegate.doFrame(START_TIME_NANOS + playTimeMillis * 1_000_000L);
+  }
+
+  private void assertSegment(float startFraction, float endFraction) {
+    assertThat(delegate.segmentPositions[0]).isWithin(TOLERANCE).of(startFraction);
+    assertThat(delegate.segmentPositions[1]).isWithin(TOLERANCE).of(endFraction);
+  }
+
+  private static ProgressIndicatorSpec createSpec(int indicatorType, boolean linearSeamless) {
+    ProgressIndicatorSpec spec = new ProgressIndicatorSpec();
+    spec.indicatorType = indicatorType;
+    spec.linearSeamless = linearSeamless;
+    spec.indicatorSize = 20;
+    spec.indicatorColors = new int[] {Color.RED, Color.GREEN, Color.BLUE};
+    spec.trackColor = Color.TRANSPARENT;
+    spec.growMode = ProgressIndicator.GROW_MODE_NONE;
+    spec.circularRadius = 100;
+    return spec;
+  }
+
+  /** An {@link AnimatorDurationScaleProvider} which returns a fixed scale. */
+  private static class FixedAnimatorDurationScaleProvider extends AnimatorDurationScaleProvider {
+    private final float durationScale;
+
+    FixedAnimatorDurationScaleProvider(float durationScale) {
+      this.durationScale = durationScale;
+    }
+
+    @Override
+    public float getSystemAnimatorDurationScale(@NonNull ContentResolver contentResolver) {
+      return durationScale;
+    }
+  }
+
+  /** An {@link AnimationCallback} which counts the ends of the animation. */
+  private static class CountingAnimationCallback extends AnimationCallback {
+    int endCount;
+
+    @Override
+    public void onAnimationEnd(Drawable drawable) {
+      endCount++;
+    }
+  }
+}
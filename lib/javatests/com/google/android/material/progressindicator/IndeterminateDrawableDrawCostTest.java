@@ -0,0 +1,222 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.android.material.progressindicator;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+import static org.robolectric.annotation.LooperMode.Mode.LEGACY;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.test.core.app.ApplicationProvider;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.LooperMode;
+
+/**
+ * Compares the draw cost of the indeterminate modes of {@link ProgressIndicator}, counted as the
+ * number of shapes each frame fills, over a full cycle of each animation.
+ */
+@LooperMode(LEGACY)
+@RunWith(RobolectricTestRunner.class)
+public class IndeterminateDrawableDrawCostTest {
+  private static final int WIDTH = 400;
+  private static final int HEIGHT = 400;
+  private static final long FRAME_INTERVAL_MILLIS = 16;
+  private static final long MAX_CYCLE_DURATION_MILLIS = 2000;
+  private static final int TRACK_COLOR = Color.LTGRAY;
+
+  private final Context context = ApplicationProvider.getApplicationContext();
+  private final CountingCanvas canvas = new CountingCanvas(WIDTH, HEIGHT);
+
+  @Test
+  public void testCircular_fillsTrackAndOneArc() {
+    drawCycle(createSpec(ProgressIndicator.CIRCULAR, false, Color.RED, Color.GREEN, Color.BLUE));
+
+    assertMaxFillsPerFrame("circular", 2);
+    assertTrackFilledEveryFrame();
+  }
+
+  @Test
+  public void testLinearNonSeamless_fillsTrackAndTwoLines() {
+    drawCycle(createSpec(ProgressIndicator.LINEAR, false, Color.RED, Color.GREEN, Color.BLUE));
+
+    assertMaxFillsPerFrame("linear non-seamless", 3);
+    assertTrackFilledEveryFrame();
+  }
+
+  @Test
+  public void testLinearSeamless_skipsCoveredTrack() {
+    drawCycle(createSpec(ProgressIndicator.LINEAR, true, Color.RED, Color.GREEN, Color.BLUE));
+
+    assertMaxFillsPerFrame("linear seamless", 3);
+    assertWithMessage("Frames filling the hidden track").that(canvas.trackFillCount).isEqualTo(0);
+  }
+
+  @Test
+  public void testLinearSeamlessWithOneColor_mergesSegments() {
+    drawCycle(createSpec(ProgressIndicator.LINEAR, true, Color.RED));
+
+    assertMaxFillsPerFrame("linear seamless with one color", 1);
+    assertWithMessage("Frames filling the hidden track").that(canvas.trackFillCount).isEqualTo(0);
+  }
+
+  @Test
+  public void testLinearSeamlessWithTranslucentColors_fillsTrack() {
+    drawCycle(
+        createSpec(
+            ProgressIndicator.LINEAR,
+            true,
+            Color.argb(128, 255, 0, 0),
+            Color.argb(128, 0, 255, 0),
+            Color.argb(128, 0, 0, 255)));
+
+    assertTrackFilledEveryFrame();
+  }
+
+  private void drawCycle(@NonNull ProgressIndicatorSpec spec) {
+    IndeterminateDrawable drawable = new IndeterminateDrawable(context, spec);
+    drawable.setBounds(0, 0, WIDTH, HEIGHT);
+    IndeterminateAnimatorDelegate delegate = drawable.getAnimatorDelegate();
+    delegate.resetPropertiesForNewStart();
+    delegate.onCycleStart();
+
+    long cycleDuration = Math.min(delegate.getCycleDuration(), MAX_CYCLE_DURATION_MILLIS);
+    for (long playTime = 0; playTime < cycleDuration; playTime += FRAME_INTERVAL_MILLIS) {
+      delegate.updatePropertiesAtPlayTime(playTime);
+      canvas.startFrame();
+      drawable.draw(canvas);
+      canvas.endFrame();
+    }
+  }
+
+  private void assertMaxFillsPerFrame(@NonNull String mode, int maxFills) {
+    assertWithMessage("Most shapes filled in a frame of %s", mode)
+        .that(canvas.maxFillsPerFrame)
+        .isAtMost(maxFills);
+  }
+
+  private void assertTrackFilledEveryFrame() {
+    assertWithMessage("Frames filling the track")
+        .that(canvas.trackFillCount)
+        .isEqualTo(canvas.frameCount);
+  }
+
+  private static ProgressIndicatorSpec createSpec(
+      int indicatorType, boolean linearSeamless, int... indicatorColors) {
+    ProgressIndicatorSpec spec = new ProgressIndicatorSpec();
+    spec.indicatorType = indicatorType;
+    spec.linearSeamless = linearSeamless;
+    spec.indicatorSize = 20;
+    // Square corners, so that each fill is a single shape.
+    spec.indicatorCornerRadius = 0;
+    spec.indicatorColors = indicatorColors;
+    spec.trackColor = TRACK_COLOR;
+    spec.growMode = ProgressIndicator.GROW_MODE_NONE;
+    spec.circularRadius = 100;
+    spec.circularInset = 4;
+    return spec;
+  }
+
+  /** A canvas which counts the shapes filled in each frame and drops all drawing. */
+  private static class CountingCanvas extends Canvas {
+    private final int width;
+    private final int height;
+
+    int frameCount;
+    int maxFillsPerFrame;
+    int trackFillCount;
+    private int fillsInFrame;
+    private boolean trackFilledInFrame;
+
+    CountingCanvas(int width, int height) {
+      this.width = width;
+      this.height = height;
+    }
+
+    void startFrame() {
+      fillsInFrame = 0;
+      trackFilledInFrame = false;
+    }
+
+    void endFrame() {
+      frameCount++;
+      maxFillsPerFrame = Math.max(maxFillsPerFrame, fillsInFrame);
+      if (trackFilledInFrame) {
+        trackFillCount++;
+      }
+    }
+
+    private void countFill(@NonNull Paint paint) {
+      fillsInFrame++;
+      if (paint.getColor() == TRACK_COLOR) {
+        trackFilledInFrame = true;
+      }
+    }
+
+    @Override
+    public boolean getClipBounds(@Nullable Rect bounds) {
+      if (bounds != null) {
+        bounds.set(0, 0, width, height);
+      }
+      return true;
+    }
+
+    @Override
+    public int save() {
+      return 1;
+    }
+
+    @Override
+    public void restore() {}
+
+    @Override
+    public void translate(float dx, float dy) {}
+
+    @Override
+    public void rotate(float degrees) {}
+
+    @Override
+    public void scale(float sx, float sy) {}
+
+    @Override
+    public boolean clipRect(float left, float top, float right, float bottom) {
+      return true;
+    }
+
+    @Override
+    public void drawArc(
+        @NonNull RectF oval,
+        float startAngle,
+        float sweepAngle,
+        boolean useCenter,
+        @NonNull Paint paint) {
+      countFill(paint);
+    }
+
+    @Override
+    public void drawRect(float left, float top, float right, float bottom, @NonNull Paint paint) {
+      countFill(paint);
+    }
+  }
+}
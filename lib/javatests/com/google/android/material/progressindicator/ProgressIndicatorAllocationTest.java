@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.android.material.progressindicator;
+
+import static com.google.android.material.internal.AllocationTestUtils.assertDoesNotAllocatePerIteration;
+import static com.google.android.material.internal.AllocationTestUtils.assumeAllocationCountingSupported;
+import static com.google.android.material.internal.AllocationTestUtils.getAllocatedBytes;
+import static org.robolectric.annotation.LooperMode.Mode.LEGACY;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.test.core.app.ApplicationProvider;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.LooperMode;
+
+/**
+ * Measures the heap allocated while animating and drawing {@link ProgressIndicator} drawables.
+ *
+ * <p>The drawables draw to a canvas which records nothing, so that only the drawables' own work is
+ * measured.
+ */
+@LooperMode(LEGACY)
+@RunWith(RobolectricTestRunner.class)
+public class ProgressIndicatorAllocationTest {
+  private static final int WIDTH = 400;
+  private static final int HEIGHT = 400;
+  private static final int WARM_UP_FRAME_COUNT = 100;
+  private static final int MEASURED_FRAME_COUNT = 1000;
+  // Frames are spread over a few cycles so every phase of the animations is drawn.
+  private static final long FRAME_INTERVAL_MILLIS = 16;
+
+  private final Context context = ApplicationProvider.getApplicationContext();
+  private final Canvas canvas = new NoOpCanvas(WIDTH, HEIGHT);
+
+  @Before
+  public void setUpAllocationCounter() {
+    assumeAllocationCountingSupported();
+  }
+
+  @Test
+  public void testDrawCircularIndeterminate_doesNotAllocatePerFrame() {
+    IndeterminateDrawable drawable =
+        createIndeterminateDrawable(createSpec(ProgressIndicator.CIRCULAR, false));
+
+    assertIndeterminateFramesDoNotAllocate(drawable);
+  }
+
+  @Test
+  public void testDrawLinearIndeterminate_doesNotAllocatePerFrame() {
+    IndeterminateDrawable drawable =
+        createIndeterminateDrawable(createSpec(ProgressIndicator.LINEAR, false));
+
+    assertIndeterminateFramesDoNotAllocate(drawable);
+  }
+
+  @Test
+  public void testDrawLinearSeamlessIndeterminate_doesNotAllocatePerFrame() {
+    IndeterminateDrawable drawable =
+        createIndeterminateDrawable(createSpec(ProgressIndicator.LINEAR, true));
+
+    assertIndeterminateFramesDoNotAllocate(drawable);
+  }
+
+  @Test
+  public void testDrawDeterminate_doesNotAllocatePerFrame() {
+    for (int indicatorType : new int[] {ProgressIndicator.LINEAR, ProgressIndicator.CIRCULAR}) {
+      DeterminateDrawable drawable =
+          new DeterminateDrawable(context, createSpec(indicatorType, false));
+      drawable.setBounds(0, 0, WIDTH, HEIGHT);
+      drawable.setLevel(5000);
+      drawable.jumpToCurrentState();
+
+      for (int i = 0; i < WARM_UP_FRAME_COUNT; i++) {
+        drawable.draw(canvas);
+      }
+      long before = getAllocatedBytes();
+      for (int i = 0; i < MEASURED_FRAME_COUNT; i++) {
+        drawable.draw(canvas);
+      }
+      assertAllocatedBytesPerFrame(getAllocatedBytes() - before);
+    }
+  }
+
+  private void assertIndeterminateFramesDoNotAllocate(IndeterminateDrawable drawable) {
+    IndeterminateAnimatorDelegate delegate = drawable.getAnimatorDelegate();
+    delegate.onCycleStart();
+    drawFrames(drawable, WARM_UP_FRAME_COUNT);
+
+    long before = getAllocatedBytes();
+    drawFrames(drawable, MEASURED_FRAME_COUNT);
+    assertAllocatedBytesPerFrame(getAllocatedBytes() - before);
+  }
+
+  private void drawFrames(IndeterminateDrawable drawable, int count) {
+    IndeterminateAnimatorDelegate delegate = drawable.getAnimatorDelegate();
+    long cycleDuration = Math.min(delegate.getCycleDuration(), 2000);
+    for (int i = 0; i < count; i++) {
+      delegate.updatePropertiesAtPlayTime(i * FRAME_INTERVAL_MILLIS % cycleDuration);
+      drawable.draw(canvas);
+    }
+  }
+
+  private static void assertAllocatedBytesPerFrame(long allocated) {
+    assertDoesNotAllocatePerIteration(allocated, MEASURED_FRAME_COUNT, "frames");
+  }
+
+  private IndeterminateDrawable createIndeterminateDrawable(ProgressIndicatorSpec spec) {
+    IndeterminateDrawable drawable = new IndeterminateDrawable(context, spec);
+    drawable.setBounds(0, 0, WIDTH, HEIGHT);
+    drawable.getAnimatorDelegate().resetPropertiesForNewStart();
+    return drawable;
+  }
+
+  private static ProgressIndicatorSpec createSpec(int indicatorType, boolean linearSeamless) {
+    ProgressIndicatorSpec spec = new ProgressIndicatorSpec();
+    spec.indicatorType = indicatorType;
+    spec.linearSeamless = linearSeamless;
+    spec.indicatorSize = 20;
+    // Rounded corners take the longest drawing path.
+    spec.indicatorCornerRadius = linearSeamless ? 0 : 5;
+    spec.indicatorColors = new int[] {Color.RED, Color.GREEN, Color.BLUE};
+    spec.trackColor = Color.LTGRAY;
+    spec.growMode = ProgressIndicator.GROW_MODE_NONE;
+    spec.circularRadius = 100;
+    spec.circularInset = 4;
+    return spec;
+  }
+
+  /** A canvas which only reports its clip bounds and drops all drawing. */
+  private static class NoOpCanvas extends Canvas {
+    private final int width;
+    private final int height;
+
+    NoOpCanvas(int width, int height) {
+      this.width = width;
+      this.height = height;
+    }
+
+    @Override
+    public boolean getClipBounds(@Nullable Rect bounds) {
+      if (bounds != null) {
+        bounds.set(0, 0, width, height);
+      }
+      return true;
+    }
+
+    @Override
+    public int save() {
+      return 1;
+    }
+
+    @Override
+    public void restore() {}
+
+    @Override
+    public void translate(float dx, float dy) {}
+
+    @Override
+    public void rotate(float degrees) {}
+
+    @Override
+    public void scale(float sx, float sy) {}
+
+    @Override
+    public boolean clipRect(float left, float top, float right, float bottom) {
+      return true;
+    }
+
+    @Override
+    public void drawArc(
+        @NonNull RectF oval,
+        float startAngle,
+        float sweepAngle,
+        boolean useCenter,
+        @NonNull Paint paint) {}
+
+    @Override
+    public void drawRect(float left, float top, float right, float bottom, @NonNull Paint paint) {}
+  }
+}
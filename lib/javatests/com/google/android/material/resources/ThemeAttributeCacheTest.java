@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.android.material.resources;
+
+import com.google.android.material.R;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import android.content.Context;
+import android.os.Build.VERSION_CODES;
+import android.util.TypedValue;
+import androidx.appcompat.view.ContextThemeWrapper;
+import androidx.test.core.app.ApplicationProvider;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+/** Tests for the theme attributes cached by {@link MaterialAttributes}. */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = VERSION_CODES.M)
+public class ThemeAttributeCacheTest {
+
+  private Context context;
+
+  @Before
+  public void createContext() {
+    context =
+        new ContextThemeWrapper(
+            ApplicationProvider.getApplicationContext(), R.style.Theme_MaterialComponents_Light);
+  }
+
+  @After
+  public void clearCache() {
+    ThemeAttributeCache.clear();
+  }
+
+  @Test
+  public void testResolveData_matchesTheme() {
+    int colorSurface = MaterialAttributes.resolveData(context, R.attr.colorSurface, 0);
+
+    assertThat(colorSurface).isEqualTo(resolveFromTheme(R.attr.colorSurface));
+    assertThat(MaterialAttributes.resolveData(context, R.attr.colorSurface, 0))
+        .isEqualTo(colorSurface);
+  }
+
+  @Test
+  public void testResolveData_missingAttribute_returnsDefault() {
+    context =
+        new ContextThemeWrapper(
+            ApplicationProvider.getApplicationContext(), R.style.Theme_AppCompat);
+
+    assertThat(MaterialAttributes.resolveData(context, R.attr.elevationOverlayEnabled, 42))
+        .isEqualTo(42);
+  }
+
+  @Test
+  public void testResolveData_afterApplyStyle_resolvesAgain() {
+    int lightSurface = MaterialAttributes.resolveData(context, R.attr.colorSurface, 0);
+
+    context.getTheme().applyStyle(R.style.ThemeOverlay_MaterialComponents_Dark, true);
+
+    int darkSurface = MaterialAttributes.resolveData(context, R.attr.colorSurface, 0);
+    assertThat(darkSurface).isEqualTo(resolveFromTheme(R.attr.colorSurface));
+    assertThat(darkSurface).isNotEqualTo(lightSurface);
+  }
+
+  @Test
+  public void testResolveBoolean_afterApplyStyle_resolvesAgain() {
+    assertThat(MaterialAttributes.resolveBoolean(context, R.attr.elevationOverlayEnabled, true))
+        .isFalse();
+
+    context.getTheme().applyStyle(R.style.Theme_MaterialComponents, true);
+
+    assertThat(MaterialAttributes.resolveBoolean(context, R.attr.elevationOverlayEnabled, false))
+        .isTrue();
+  }
+
+  private int resolveFromTheme(int attributeResId) {
+    TypedValue typedValue = new TypedValue();
+    context.getTheme().resolveAttribute(attributeResId, typedValue, true);
+    return typedValue.data;
+  }
+}
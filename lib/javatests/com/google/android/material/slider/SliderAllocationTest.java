@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.android.material.slider;
+
+import com.google.android.material.R;
+
+import static com.google.android.material.slider.SliderHelper.calculateXPositionFromValue;
+import static com.google.android.material.slider.SliderHelper.touchSliderAtValue;
+import static com.google.android.material.internal.AllocationTestUtils.assertDoesNotAllocatePerIteration;
+import static com.google.android.material.internal.AllocationTestUtils.assumeAllocationCountingSupported;
+import static com.google.android.material.internal.AllocationTestUtils.getAllocatedBytes;
+import static com.google.common.truth.Truth.assertThat;
+import static org.robolectric.annotation.LooperMode.Mode.LEGACY;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.graphics.RectF;
+import android.graphics.Region.Op;
+import android.os.SystemClock;
+import androidx.appcompat.app.AppCompatActivity;
+import android.view.MotionEvent;
+import android.view.View.MeasureSpec;
+import androidx.annotation.NonNull;
+import androidx.test.core.app.ApplicationProvider;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.LooperMode;
+
+/**
+ * Measures the heap allocated while dragging a {@link RangeSlider} thumb.
+ *
+ * <p>The slider is kept out of the window so that invalidation stops at its detached parent and
+ * only the slider's own touch handling and drawing is measured. It draws to a canvas which records
+ * nothing.
+ */
+@LooperMode(LEGACY)
+@RunWith(RobolectricTestRunner.class)
+public class SliderAllocationTest {
+  private static final float SLIDER_VALUE_FROM = 0f;
+  private static final float SLIDER_VALUE_TO = 100f;
+  private static final int SLIDER_WIDTH = 1000;
+  private static final int WARM_UP_EVENT_COUNT = 100;
+  private static final int MEASURED_EVENT_COUNT = 1000;
+
+  private final Canvas canvas = new NoOpCanvas();
+
+  private RangeSlider slider;
+  private MotionEvent[] moveEvents;
+
+  @Before
+  public void createSlider() {
+    ApplicationProvider.getApplicationContext().setTheme(R.style.Theme_MaterialComponents_Bridge);
+    AppCompatActivity activity = Robolectric.buildActivity(AppCompatActivity.class).setup().get();
+
+    SliderHelper helper = new SliderHelper(activity);
+    slider = helper.getRangeSlider();
+    slider.setValueFrom(SLIDER_VALUE_FROM);
+    slider.setValueTo(SLIDER_VALUE_TO);
+    slider.setValues(20f, 80f);
+    slider.measure(
+        MeasureSpec.makeMeasureSpec(SLIDER_WIDTH, MeasureSpec.EXACTLY),
+        MeasureSpec.makeMeasureSpec(0, MeasureSpec.UNSPECIFIED));
+    slider.layout(0, 0, slider.getMeasuredWidth(), slider.getMeasuredHeight());
+
+    moveEvents =
+        new MotionEvent[] {createMoveEvent(30f), createMoveEvent(40f), createMoveEvent(50f)};
+  }
+
+  @After
+  public void recycleEvents() {
+    for (MotionEvent event : moveEvents) {
+      event.recycle();
+    }
+  }
+
+  @Test
+  public void testDragThumb_doesNotAllocatePerEvent() {
+    assumeAllocationCountingSupported();
+
+    touchSliderAtValue(slider, 20f, MotionEvent.ACTION_DOWN);
+    dispatchMoveEvents(WARM_UP_EVENT_COUNT);
+
+    long before = getAllocatedBytes();
+    dispatchMoveEvents(MEASURED_EVENT_COUNT);
+    assertDoesNotAllocatePerIteration(
+        getAllocatedBytes() - before, MEASURED_EVENT_COUNT, "move events");
+
+    // The drag still moves the thumb that was touched.
+    touchSliderAtValue(slider, 50f, MotionEvent.ACTION_UP);
+    assertThat(slider.getValues()).containsExactly(50f, 80f).inOrder();
+  }
+
+  @Test
+  public void testDragThumbWithLabels_continuous_doesNotAllocatePerEvent() {
+    assumeAllocationCountingSupported();
+    slider.setLabelBehavior(LabelFormatter.LABEL_FLOATING);
+    // Avoids drawing the thumb's compat shadow, which isn't what's measured here.
+    slider.setThumbElevation(0);
+    recycleEvents();
+    moveEvents =
+        new MotionEvent[] {
+          createMoveEvent(30.25f), createMoveEvent(40.5f), createMoveEvent(50.75f)
+        };
+
+    touchSliderAtValue(slider, 20f, MotionEvent.ACTION_DOWN);
+    dispatchMoveEventsAndDraw(WARM_UP_EVENT_COUNT);
+
+    long before = getAllocatedBytes();
+    dispatchMoveEventsAndDraw(MEASURED_EVENT_COUNT);
+    assertDoesNotAllocatePerIteration(
+        getAllocatedBytes() - before, MEASURED_EVENT_COUNT, "move events with labels");
+
+    assertThat(slider.getStepSize()).isEqualTo(0f);
+  }
+
+  private void dispatchMoveEvents(int count) {
+    for (int i = 0; i < count; i++) {
+      slider.dispatchTouchEvent(moveEvents[i % moveEvents.length]);
+    }
+  }
+
+  private void dispatchMoveEventsAndDraw(int count) {
+    for (int i = 0; i < count; i++) {
+      slider.dispatchTouchEvent(moveEvents[i % moveEvents.length]);
+      // Updates the text and bounds of the labels, as drawing a pressed slider does.
+      slider.onDraw(canvas);
+    }
+  }
+
+  private MotionEvent createMoveEvent(float value) {
+    long time = SystemClock.uptimeMillis();
+    return MotionEvent.obtain(
+        time,
+        time,
+        MotionEvent.ACTION_MOVE,
+        calculateXPositionFromValue(slider, value),
+        slider.getHeight() / 2f,
+        0);
+  }
+
+  /** A canvas which drops all the drawing of the slider and its thumb. */
+  private static class NoOpCanvas extends Canvas {
+    @Override
+    public int save() {
+      return 1;
+    }
+
+    @Override
+    public void restore() {}
+
+    @Override
+    public void translate(float dx, float dy) {}
+
+    @Override
+    public boolean clipRect(float left, float top, float right, float bottom, @NonNull Op op) {
+      return true;
+    }
+
+    @Override
+    public void drawLine(
+        float startX, float startY, float stopX, float stopY, @NonNull Paint paint) {}
+
+    @Override
+    public void drawPoints(@NonNull float[] pts, int offset, int count, @NonNull Paint paint) {}
+
+    @Override
+    public void drawCircle(float cx, float cy, float radius, @NonNull Paint paint) {}
+
+    @Override
+    public void drawRoundRect(@NonNull RectF rect, float rx, float ry, @NonNull Paint paint) {}
+
+    @Override
+    public void drawPath(@NonNull Path path, @NonNull Paint paint) {}
+  }
+}
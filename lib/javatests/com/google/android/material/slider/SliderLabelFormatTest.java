@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.android.material.slider;
+
+import com.google.android.material.R;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.robolectric.annotation.LooperMode.Mode.LEGACY;
+
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.test.core.app.ApplicationProvider;
+import java.util.Locale;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.LooperMode;
+
+/** Tests for the default label text of {@link BaseSlider}. */
+@LooperMode(LEGACY)
+@RunWith(RobolectricTestRunner.class)
+public class SliderLabelFormatTest {
+
+  private static final float[] VALUES = {
+    0f, -0f, 1f, -1f, 42f, 0.5f, 0.125f, 0.375f, 1.005f, 2.675f, 99.999f, -0.001f, -12.345f,
+    123456.78f, 1e14f, 1e20f, Float.NaN
+  };
+
+  private final Locale defaultLocale = Locale.getDefault();
+  private Slider slider;
+
+  @Before
+  public void createSlider() {
+    ApplicationProvider.getApplicationContext().setTheme(R.style.Theme_MaterialComponents_Bridge);
+    AppCompatActivity activity = Robolectric.buildActivity(AppCompatActivity.class).setup().get();
+    slider = new SliderHelper(activity).getSlider();
+  }
+
+  @After
+  public void restoreLocale() {
+    Locale.setDefault(defaultLocale);
+  }
+
+  @Test
+  public void testFormatValue_matchesStringFormat() {
+    assertFormatMatchesStringFormat(Locale.US);
+  }
+
+  @Test
+  public void testFormatValue_localizedDecimalSeparator_matchesStringFormat() {
+    assertFormatMatchesStringFormat(Locale.GERMANY);
+  }
+
+  @Test
+  public void testFormatValue_localizedDigits_matchesStringFormat() {
+    assertFormatMatchesStringFormat(new Locale("ar", "EG"));
+  }
+
+  @Test
+  public void testFormatValue_continuous_reusesText() {
+    Locale.setDefault(Locale.US);
+
+    String first = slider.formatValue(12.341f);
+    String second = slider.formatValue(12.339f);
+
+    assertThat(first).isEqualTo("12.34");
+    assertThat(second).isSameInstanceAs(first);
+  }
+
+  @Test
+  public void testFormatValue_localeChange_formatsAgain() {
+    Locale.setDefault(Locale.US);
+    assertThat(slider.formatValue(1.5f)).isEqualTo("1.50");
+
+    Locale.setDefault(Locale.GERMANY);
+
+    assertThat(slider.formatValue(1.5f)).isEqualTo("1,50");
+  }
+
+  private void assertFormatMatchesStringFormat(Locale locale) {
+    Locale.setDefault(locale);
+    for (float value : VALUES) {
+      String expected = String.format((int) value == value ? "%.0f" : "%.2f", value);
+      assertThat(slider.formatValue(value)).isEqualTo(expected);
+    }
+  }
+}
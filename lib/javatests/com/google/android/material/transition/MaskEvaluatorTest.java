@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.android.material.transition;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import android.graphics.Path;
+import android.graphics.Path.Op;
+import android.graphics.RectF;
+import com.google.android.material.shape.ShapeAppearanceModel;
+import com.google.android.material.shape.ShapeAppearancePathProvider;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.internal.DoNotInstrument;
+
+/** Tests for {@link MaskEvaluator}. */
+@RunWith(RobolectricTestRunner.class)
+@DoNotInstrument
+public class MaskEvaluatorTest {
+
+  private static final float PROGRESS = 0.5f;
+
+  private final MaskEvaluator maskEvaluator = new MaskEvaluator();
+
+  @Test
+  public void testRoundRectShortcut_matchesPathUnion() {
+    ShapeAppearanceModel model = ShapeAppearanceModel.builder().setAllCornerSizes(8).build();
+    RectF outerBounds = new RectF(0, 0, 200, 100);
+    RectF innerBounds = new RectF(20, 10, 180, 90);
+
+    evaluate(model, model, outerBounds, innerBounds);
+
+    assertThat(getBounds(maskEvaluator.getPath()))
+        .isEqualTo(getBounds(createUnionPath(model, outerBounds, innerBounds)));
+    assertThat(getBounds(maskEvaluator.getPath())).isEqualTo(outerBounds);
+  }
+
+  @Test
+  public void testRoundRectShortcut_endBoundsCoverStartBounds_matchesPathUnion() {
+    ShapeAppearanceModel model = ShapeAppearanceModel.builder().setAllCornerSizes(8).build();
+    RectF innerBounds = new RectF(20, 10, 180, 90);
+    RectF outerBounds = new RectF(0, 0, 200, 100);
+
+    evaluate(model, model, innerBounds, outerBounds);
+
+    assertThat(getBounds(maskEvaluator.getPath()))
+        .isEqualTo(getBounds(createUnionPath(model, innerBounds, outerBounds)));
+  }
+
+  @Test
+  public void testOverlappingBounds_usesPathUnion() {
+    ShapeAppearanceModel model = ShapeAppearanceModel.builder().setAllCornerSizes(8).build();
+    RectF startBounds = new RectF(0, 0, 100, 100);
+    RectF endBounds = new RectF(50, 20, 250, 80);
+
+    evaluate(model, model, startBounds, endBounds);
+
+    assertThat(getBounds(maskEvaluator.getPath()))
+        .isEqualTo(getBounds(createUnionPath(model, startBounds, endBounds)));
+    assertThat(getBounds(maskEvaluator.getPath())).isEqualTo(new RectF(0, 0, 250, 100));
+  }
+
+  @Test
+  public void testOuterRadiusLargerThanInner_usesPathUnion() {
+    ShapeAppearanceModel model =
+        ShapeAppearanceModel.builder().setAllCornerSizes(ShapeAppearanceModel.PILL).build();
+    RectF outerBounds = new RectF(0, 0, 200, 100);
+    RectF innerBounds = new RectF(20, 10, 180, 90);
+
+    evaluate(model, model, outerBounds, innerBounds);
+
+    assertThat(getBounds(maskEvaluator.getPath()))
+        .isEqualTo(getBounds(createUnionPath(model, outerBounds, innerBounds)));
+  }
+
+  @Test
+  public void testRoundRectShortcut_thenPathUnion_replacesPath() {
+    ShapeAppearanceModel model = ShapeAppearanceModel.builder().setAllCornerSizes(8).build();
+    RectF startBounds = new RectF(0, 0, 100, 100);
+    RectF endBounds = new RectF(50, 20, 250, 80);
+
+    evaluate(model, model, new RectF(0, 0, 400, 400), new RectF(10, 10, 20, 20));
+    evaluate(model, model, startBounds, endBounds);
+
+    assertThat(getBounds(maskEvaluator.getPath()))
+        .isEqualTo(getBounds(createUnionPath(model, startBounds, endBounds)));
+  }
+
+  /** Evaluates the mask past the shape thresholds, so the end shape is used as is. */
+  private void evaluate(
+      ShapeAppearanceModel startModel,
+      ShapeAppearanceModel endModel,
+      RectF startBounds,
+      RectF endBounds) {
+    maskEvaluator.evaluate(
+        PROGRESS,
+        startModel,
+        endModel,
+        startBounds,
+        startBounds,
+        endBounds,
+        /* shapeStartFraction= */ 0,
+        /* shapeEndFraction= */ 0);
+  }
+
+  private static Path createUnionPath(
+      ShapeAppearanceModel model, RectF startBounds, RectF endBounds) {
+    ShapeAppearancePathProvider pathProvider = ShapeAppearancePathProvider.getInstance();
+    Path startPath = new Path();
+    Path endPath = new Path();
+    pathProvider.calculatePath(model, 1, startBounds, startPath);
+    pathProvider.calculatePath(model, 1, endBounds, endPath);
+    Path path = new Path();
+    path.op(startPath, endPath, Op.UNION);
+    return path;
+  }
+
+  private static RectF getBounds(Path path) {
+    RectF bounds = new RectF();
+    path.computeBounds(bounds, /* exact= */ true);
+    return bounds;
+  }
+}
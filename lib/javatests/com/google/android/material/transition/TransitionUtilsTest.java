@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.android.material.transition;
+
+import static com.google.android.material.transition.TransitionUtils.FADE_STRATEGY_BOUNDS_LAYER;
+import static com.google.android.material.transition.TransitionUtils.FADE_STRATEGY_CONTENT_LAYER;
+import static com.google.android.material.transition.TransitionUtils.FADE_STRATEGY_NONE;
+import static com.google.android.material.transition.TransitionUtils.FADE_STRATEGY_RENDER_NODE;
+import static com.google.common.truth.Truth.assertThat;
+
+import android.graphics.Bitmap;
+import android.graphics.Bitmap.Config;
+import android.graphics.Canvas;
+import android.graphics.Rect;
+import androidx.annotation.NonNull;
+import com.google.android.material.transition.TransitionUtils.CanvasOperation;
+import com.google.android.material.transition.TransitionUtils.ContentCanvasOperation;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.internal.DoNotInstrument;
+
+/** Tests for the fade strategy {@link TransitionUtils#transform} picks. */
+@RunWith(RobolectricTestRunner.class)
+@DoNotInstrument
+public class TransitionUtilsTest {
+
+  private static final int HALF_ALPHA = 128;
+
+  private final Canvas canvas = new Canvas(Bitmap.createBitmap(200, 200, Config.ARGB_8888));
+  private final Rect bounds = new Rect(0, 0, 200, 200);
+
+  @Test
+  public void testTransform_contentAppliesAlpha_usesRenderNode() {
+    CountingContentOperation operation = new CountingContentOperation(true);
+
+    int strategy = transform(HALF_ALPHA, operation);
+
+    assertThat(strategy).isEqualTo(FADE_STRATEGY_RENDER_NODE);
+    assertThat(operation.runWithAlphaCount).isEqualTo(1);
+    assertThat(operation.runCount).isEqualTo(0);
+  }
+
+  @Test
+  public void testTransform_contentCannotApplyAlpha_usesContentLayer() {
+    CountingContentOperation operation = new CountingContentOperation(false);
+
+    int strategy = transform(HALF_ALPHA, operation);
+
+    assertThat(strategy).isEqualTo(FADE_STRATEGY_CONTENT_LAYER);
+    assertThat(operation.runWithAlphaCount).isEqualTo(1);
+    assertThat(operation.runCount).isEqualTo(1);
+  }
+
+  @Test
+  public void testTransform_plainOperation_usesBoundsLayer() {
+    CountingOperation operation = new CountingOperation();
+
+    int strategy = transform(HALF_ALPHA, operation);
+
+    assertThat(strategy).isEqualTo(FADE_STRATEGY_BOUNDS_LAYER);
+    assertThat(operation.runCount).isEqualTo(1);
+  }
+
+  @Test
+  public void testTransform_opaque_drawsWithoutFade() {
+    CountingContentOperation operation = new CountingContentOperation(true);
+
+    int strategy = transform(255, operation);
+
+    assertThat(strategy).isEqualTo(FADE_STRATEGY_NONE);
+    assertThat(operation.runWithAlphaCount).isEqualTo(0);
+    assertThat(operation.runCount).isEqualTo(1);
+  }
+
+  @Test
+  public void testTransform_transparent_doesNotDraw() {
+    CountingContentOperation operation = new CountingContentOperation(true);
+
+    int strategy = transform(0, operation);
+
+    assertThat(strategy).isEqualTo(FADE_STRATEGY_NONE);
+    assertThat(operation.runWithAlphaCount).isEqualTo(0);
+    assertThat(operation.runCount).isEqualTo(0);
+  }
+
+  @Test
+  public void testTransform_restoresCanvas() {
+    int saveCount = canvas.getSaveCount();
+
+    transform(HALF_ALPHA, new CountingContentOperation(true));
+    transform(HALF_ALPHA, new CountingContentOperation(false));
+    transform(HALF_ALPHA, new CountingOperation());
+
+    assertThat(canvas.getSaveCount()).isEqualTo(saveCount);
+  }
+
+  private int transform(int alpha, CanvasOperation operation) {
+    return TransitionUtils.transform(canvas, bounds, 10, 20, 0.5f, alpha, operation);
+  }
+
+  /** A {@link CanvasOperation} that counts how many times it runs. */
+  private static class CountingOperation implements CanvasOperation {
+    int runCount;
+
+    @Override
+    public void run(@NonNull Canvas canvas) {
+      runCount++;
+    }
+  }
+
+  /**
+   * A {@link ContentCanvasOperation} that counts how many times it runs, and whether it can apply
+   * alpha itself.
+   */
+  private static class CountingContentOperation extends CountingOperation
+      implements ContentCanvasOperation {
+    private final boolean appliesAlpha;
+    int runWithAlphaCount;
+
+    CountingContentOperation(boolean appliesAlpha) {
+      this.appliesAlpha = appliesAlpha;
+    }
+
+    @Override
+    public int getContentWidth() {
+      return 100;
+    }
+
+    @Override
+    public int getContentHeight() {
+      return 100;
+    }
+
+    @Override
+    public boolean runWithAlpha(@NonNull Canvas canvas, int alpha) {
+      runWithAlphaCount++;
+      return appliesAlpha;
+    }
+  }
+}
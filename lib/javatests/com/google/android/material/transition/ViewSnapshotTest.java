@@ -0,0 +1,238 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.android.material.transition;
+
+import static android.os.Build.VERSION_CODES.LOLLIPOP;
+import static com.google.common.truth.Truth.assertThat;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Picture;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+import androidx.annotation.NonNull;
+import androidx.test.core.app.ApplicationProvider;
+import com.google.android.material.transition.TransitionUtils.ContentCanvasOperation;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.annotation.internal.DoNotInstrument;
+
+/**
+ * Tests for {@link ViewSnapshot} and how {@link MaterialContainerTransform} draws with it, including
+ * the per-frame cost of snapshot and live rendering.
+ */
+@RunWith(RobolectricTestRunner.class)
+@DoNotInstrument
+public class ViewSnapshotTest {
+
+  private static final int FRAME_COUNT = 10;
+  private static final int CHILD_COUNT = 20;
+
+  private final Context context = ApplicationProvider.getApplicationContext();
+  private final Canvas canvas = new Canvas();
+
+  private CountingView view;
+
+  @Before
+  public void createView() {
+    view = new CountingView(context);
+    view.layout(0, 0, 100, 100);
+  }
+
+  @Test
+  public void testDraw_recordsViewOnceAndReplaysIt() {
+    ViewSnapshot snapshot = new ViewSnapshot(view);
+
+    drawFrames(snapshot);
+
+    assertThat(view.drawCount).isEqualTo(1);
+  }
+
+  @Test
+  public void testRelease_recordsViewAgain() {
+    ViewSnapshot snapshot = new ViewSnapshot(view);
+    drawFrames(snapshot);
+
+    snapshot.release();
+    drawFrames(snapshot);
+
+    assertThat(view.drawCount).isEqualTo(2);
+  }
+
+  @Test
+  public void testDrawWithAlpha_softwareCanvas_fallsBack() {
+    ViewSnapshot snapshot = new ViewSnapshot(view);
+
+    assertThat(snapshot.drawWithAlpha(canvas, 128)).isFalse();
+    assertThat(view.drawCount).isEqualTo(0);
+  }
+
+  @Test
+  @Config(sdk = LOLLIPOP)
+  public void testDraw_beforeM_drawsViewEveryFrame() {
+    ViewSnapshot snapshot = new ViewSnapshot(view);
+
+    drawFrames(snapshot);
+
+    assertThat(ViewSnapshot.isSupported()).isFalse();
+    assertThat(view.drawCount).isEqualTo(FRAME_COUNT);
+  }
+
+  @Test
+  public void testDrawOperation_snapshotRenderingEnabled_drawsViewOnce() {
+    ViewSnapshot snapshot =
+        MaterialContainerTransform.createViewSnapshot(view, /* snapshotRenderingEnabled= */ true);
+    ContentCanvasOperation operation =
+        MaterialContainerTransform.createDrawOperation(view, snapshot);
+
+    drawFrames(operation);
+
+    assertThat(snapshot).isNotNull();
+    assertThat(view.drawCount).isEqualTo(1);
+  }
+
+  @Test
+  public void testDrawOperation_snapshotRenderingDisabled_drawsViewEveryFrame() {
+    ViewSnapshot snapshot =
+        MaterialContainerTransform.createViewSnapshot(view, /* snapshotRenderingEnabled= */ false);
+    ContentCanvasOperation operation =
+        MaterialContainerTransform.createDrawOperation(view, snapshot);
+
+    drawFrames(operation);
+
+    assertThat(snapshot).isNull();
+    assertThat(operation.runWithAlpha(canvas, 128)).isFalse();
+    assertThat(view.drawCount).isEqualTo(FRAME_COUNT);
+  }
+
+  @Test
+  @Config(sdk = LOLLIPOP)
+  public void testDrawOperation_snapshotRenderingEnabledBeforeM_drawsViewEveryFrame() {
+    ViewSnapshot snapshot =
+        MaterialContainerTransform.createViewSnapshot(view, /* snapshotRenderingEnabled= */ true);
+    ContentCanvasOperation operation =
+        MaterialContainerTransform.createDrawOperation(view, snapshot);
+
+    drawFrames(operation);
+
+    assertThat(snapshot).isNull();
+    assertThat(view.drawCount).isEqualTo(FRAME_COUNT);
+  }
+
+  @Test
+  public void testDrawOperation_snapshotRenderingEnabled_costsOneCanvasOperationPerFrame() {
+    ViewGroup hierarchy = createHierarchy();
+    CountingCanvas liveCanvas = new CountingCanvas();
+    CountingCanvas snapshotCanvas = new CountingCanvas();
+    ContentCanvasOperation liveOperation =
+        MaterialContainerTransform.createDrawOperation(
+            hierarchy,
+            MaterialContainerTransform.createViewSnapshot(
+                hierarchy, /* snapshotRenderingEnabled= */ false));
+    ContentCanvasOperation snapshotOperation =
+        MaterialContainerTransform.createDrawOperation(
+            hierarchy,
+            MaterialContainerTransform.createViewSnapshot(
+                hierarchy, /* snapshotRenderingEnabled= */ true));
+    // The snapshot is recorded on its first frame, which isn't what's compared.
+    snapshotOperation.run(new Canvas());
+
+    for (int i = 0; i < FRAME_COUNT; i++) {
+      liveOperation.run(liveCanvas);
+      snapshotOperation.run(snapshotCanvas);
+    }
+
+    // Live rendering draws each view of the hierarchy every frame, a snapshot replays one picture.
+    assertThat(liveCanvas.operationCount).isEqualTo(CHILD_COUNT * FRAME_COUNT);
+    assertThat(snapshotCanvas.operationCount).isEqualTo(FRAME_COUNT);
+  }
+
+  private ViewGroup createHierarchy() {
+    FrameLayout hierarchy = new FrameLayout(context);
+    for (int i = 0; i < CHILD_COUNT; i++) {
+      View child = new RectView(context);
+      hierarchy.addView(child);
+      child.layout(0, i * 10, 100, i * 10 + 10);
+    }
+    hierarchy.layout(0, 0, 100, CHILD_COUNT * 10);
+    return hierarchy;
+  }
+
+  private void drawFrames(ViewSnapshot snapshot) {
+    for (int i = 0; i < FRAME_COUNT; i++) {
+      snapshot.draw(canvas);
+    }
+  }
+
+  private void drawFrames(ContentCanvasOperation operation) {
+    for (int i = 0; i < FRAME_COUNT; i++) {
+      operation.run(canvas);
+    }
+  }
+
+  /** A {@link View} that counts how many times it's drawn. */
+  private static class CountingView extends View {
+    int drawCount;
+
+    CountingView(Context context) {
+      super(context);
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+      drawCount++;
+      super.onDraw(canvas);
+    }
+  }
+
+  /** A {@link View} that draws a rectangle. */
+  private static class RectView extends View {
+    private final Paint paint = new Paint();
+
+    RectView(Context context) {
+      super(context);
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+      canvas.drawRect(0, 0, getWidth(), getHeight(), paint);
+    }
+  }
+
+  /**
+   * A {@link Canvas} that counts the drawing operations made on it, without replaying pictures
+   * into itself.
+   */
+  private static class CountingCanvas extends Canvas {
+    int operationCount;
+
+    @Override
+    public void drawRect(float left, float top, float right, float bottom, @NonNull Paint paint) {
+      operationCount++;
+    }
+
+    @Override
+    public void drawPicture(@NonNull Picture picture) {
+      operationCount++;
+    }
+  }
+}
@@ -17,21 +17,27 @@ package com.google.android.material.animation;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 
 import android.animation.Animator;
 import android.animation.ObjectAnimator;
 import android.animation.PropertyValuesHolder;
 import android.animation.ValueAnimator;
+import android.content.res.Configuration;
+import android.content.res.Resources;
 import android.content.res.TypedArray;
 import android.graphics.drawable.ColorDrawable;
 import android.os.Build.VERSION;
 import android.os.Build.VERSION_CODES;
 import androidx.appcompat.app.AppCompatActivity;
 import android.util.Property;
+import android.view.ContextThemeWrapper;
 import android.view.View;
 import android.view.animation.PathInterpolator;
 import androidx.interpolator.view.animation.FastOutLinearInInterpolator;
@@ -196,6 +202,81 @@ public class MotionSpecTest {
             activityTestRule.getActivity(), R.animator.invalid_set_of_value_animator_motion_spec));
   }
 
+  @Test
+  public void createFromResourceReusesCachedSpec() {
+    assumeTrue(VERSION.SDK_INT >= VERSION_CODES.M);
+    AppCompatActivity context = activityTestRule.getActivity();
+    int id = R.animator.valid_set_of_object_animator_motion_spec;
+    MotionSpec.clearCache();
+
+    MotionSpec spec1 = MotionSpec.createFromResource(context, id);
+    assertTrue(MotionSpec.isCached(context, id));
+    MotionSpec spec2 = MotionSpec.createFromResource(context, id);
+
+    assertEquals(spec1, spec2);
+    assertNotSame(spec1, spec2);
+  }
+
+  @Test
+  public void cachedSpecIsScopedToContext() {
+    assumeTrue(VERSION.SDK_INT >= VERSION_CODES.M);
+    AppCompatActivity context = activityTestRule.getActivity();
+    int id = R.animator.valid_set_of_object_animator_motion_spec;
+    MotionSpec.clearCache();
+
+    MotionSpec.createFromResource(context, id);
+
+    assertFalse(MotionSpec.isCached(new ContextThemeWrapper(context, 0), id));
+  }
+
+  @Test
+  public void themeChangeInvalidatesCachedSpec() {
+    assumeTrue(VERSION.SDK_INT >= VERSION_CODES.M);
+    AppCompatActivity context = activityTestRule.getActivity();
+    int id = R.animator.valid_set_of_object_animator_motion_spec;
+    MotionSpec.clearCache();
+    MotionSpec.createFromResource(context, id);
+
+    context.getTheme().applyStyle(R.style.Widget_Test, true);
+
+    assertFalse(MotionSpec.isCached(context, id));
+    MotionSpec.createFromResource(context, id);
+    assertTrue(MotionSpec.isCached(context, id));
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  public void configurationChangeInvalidatesCachedSpec() {
+    assumeTrue(VERSION.SDK_INT >= VERSION_CODES.M);
+    AppCompatActivity context = activityTestRule.getActivity();
+    int id = R.animator.valid_set_of_object_animator_motion_spec;
+    MotionSpec.clearCache();
+    MotionSpec.createFromResource(context, id);
+
+    Resources resources = context.getResources();
+    Configuration originalConfiguration = new Configuration(resources.getConfiguration());
+    Configuration configuration = new Configuration(originalConfiguration);
+    configuration.fontScale = originalConfiguration.fontScale * 2;
+    try {
+      resources.updateConfiguration(configuration, resources.getDisplayMetrics());
+
+      assertFalse(MotionSpec.isCached(context, id));
+    } finally {
+      resources.updateConfiguration(originalConfiguration, resources.getDisplayMetrics());
+    }
+  }
+
+  @Test
+  public void specsAreNotCachedBeforeM() {
+    assumeTrue(VERSION.SDK_INT < VERSION_CODES.M);
+    AppCompatActivity context = activityTestRule.getActivity();
+    int id = R.animator.valid_set_of_object_animator_motion_spec;
+
+    MotionSpec.createFromResource(context, id);
+
+    assertFalse(MotionSpec.isCached(context, id));
+  }
+
   @SuppressWarnings("StringSplitter")
   private boolean fromAndToValuesMatch(
       PropertyValuesHolder propertyValuesHolder, String fromValue, String toValue) {
@@ -24,7 +24,12 @@ import static androidx.test.espresso.matcher.ViewMatchers.withId;
 import static com.google.android.material.testutils.TestUtilsActions.setExpanded;
 import static com.google.android.material.testutils.TestUtilsActions.waitUntilIdle;
 import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertEquals;
 
+import android.graphics.drawable.Drawable;
+import android.os.Build.VERSION;
+import android.os.Build.VERSION_CODES;
+import androidx.core.graphics.drawable.DrawableCompat;
 import androidx.test.filters.MediumTest;
 import androidx.test.filters.SmallTest;
 import androidx.test.rule.ActivityTestRule;
@@ -74,6 +79,47 @@ public class FabTransformationBehaviorTest {
     onView(withId(R.id.scrim)).check(matches(not(isDisplayed())));
   }
 
+  @Test
+  @MediumTest
+  public void testToggleExpandedRepeatedly() {
+    for (int i = 0; i < 3; i++) {
+      onView(withId(R.id.fab)).perform(setExpanded(true));
+      onView(isRoot()).perform(waitUntilIdle());
+
+      onView(withId(R.id.fab)).check(matches(not(isDisplayed())));
+      onView(withId(R.id.sheet)).check(matches(isDisplayed()));
+      onView(withId(R.id.scrim)).check(matches(isDisplayed()));
+
+      onView(withId(R.id.fab)).perform(setExpanded(false));
+      onView(isRoot()).perform(waitUntilIdle());
+
+      onView(withId(R.id.fab)).check(matches(isDisplayed()));
+      onView(withId(R.id.sheet)).check(matches(not(isDisplayed())));
+      onView(withId(R.id.scrim)).check(matches(not(isDisplayed())));
+      assertFabIconOpaque();
+    }
+  }
+
+  @Test
+  @MediumTest
+  public void testToggleExpandedWhileAnimating() {
+    onView(withId(R.id.fab)).perform(setExpanded(true));
+    onView(withId(R.id.fab)).perform(setExpanded(false));
+    onView(withId(R.id.fab)).perform(setExpanded(true));
+    onView(isRoot()).perform(waitUntilIdle());
+
+    onView(withId(R.id.fab)).check(matches(not(isDisplayed())));
+    onView(withId(R.id.sheet)).check(matches(isDisplayed()));
+    onView(withId(R.id.scrim)).check(matches(isDisplayed()));
+
+    onView(withId(R.id.fab)).perform(setExpanded(false));
+    onView(isRoot()).perform(waitUntilIdle());
+
+    onView(withId(R.id.fab)).check(matches(isDisplayed()));
+    onView(withId(R.id.sheet)).check(matches(not(isDisplayed())));
+    assertFabIconOpaque();
+  }
+
   @Test
   @MediumTest
   public void testRotationInExpandedState() {
@@ -90,4 +136,12 @@ public class FabTransformationBehaviorTest {
 
     TestUtils.resetScreenOrientation(activity, oldOrientation);
   }
+
+  private void assertFabIconOpaque() {
+    // Drawable alphas can only be read back from API 19.
+    if (VERSION.SDK_INT >= VERSION_CODES.KITKAT) {
+      Drawable icon = activityTestRule.getActivity().fab.getDrawable();
+      assertEquals(0xFF, DrawableCompat.getAlpha(icon));
+    }
+  }
 }
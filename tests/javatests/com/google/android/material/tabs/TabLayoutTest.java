@@ -53,6 +53,7 @@ import android.view.LayoutInflater;
 import android.view.MotionEvent;
 import android.view.PointerIcon;
 import android.view.View;
+import android.view.View.MeasureSpec;
 import androidx.test.annotation.UiThreadTest;
 import androidx.test.espresso.Espresso;
 import androidx.test.espresso.IdlingRegistry;
@@ -61,6 +62,8 @@ import androidx.test.filters.SdkSuppress;
 import androidx.test.filters.SmallTest;
 import androidx.test.rule.ActivityTestRule;
 import androidx.test.runner.AndroidJUnit4;
+import com.google.android.material.internal.ViewUtils;
+import com.google.android.material.tabs.TabLayout.SlidingTabIndicator;
 import com.google.android.material.tabs.TabLayout.Tab;
 import com.google.android.material.tabs.TabLayout.TabView;
 import com.google.android.material.testapp.R;
@@ -74,6 +77,9 @@ import org.junit.runner.RunWith;
 @RunWith(AndroidJUnit4.class)
 public class TabLayoutTest {
 
+  private static final int VIRTUALIZED_TAB_COUNT = 50;
+  private static final int VIRTUALIZED_TAB_LAYOUT_WIDTH = 600;
+
   @Rule
   public final ActivityTestRule<AppCompatActivity> activityTestRule =
       new ActivityTestRule<>(AppCompatActivity.class);
@@ -445,6 +451,158 @@ public class TabLayoutTest {
     IdlingRegistry.getInstance().unregister(idler);
   }
 
+  @Test
+  @UiThreadTest
+  public void testVirtualized_attachesOnlyTabsWithinScrollWindow() {
+    final TabLayout tabs = createVirtualizedTabLayout();
+    final SlidingTabIndicator slidingTabIndicator = tabs.slidingTabIndicator;
+
+    assertTrue(slidingTabIndicator.getChildCount() < VIRTUALIZED_TAB_COUNT);
+    assertEquals(slidingTabIndicator, tabs.getTabAt(0).view.getParent());
+    assertNull(tabs.getTabAt(VIRTUALIZED_TAB_COUNT - 1).view.getParent());
+    assertTabViewsAttachedWithinScrollWindow(tabs);
+
+    // Scroll to the middle, then all the way to the end
+    tabs.scrollTo(slidingTabIndicator.getWidth() / 2, 0);
+    assertTabViewsAttachedWithinScrollWindow(tabs);
+
+    tabs.scrollTo(slidingTabIndicator.getWidth(), 0);
+    assertNull(tabs.getTabAt(0).view.getParent());
+    assertEquals(
+        slidingTabIndicator, tabs.getTabAt(VIRTUALIZED_TAB_COUNT - 1).view.getParent());
+    assertTabViewsAttachedWithinScrollWindow(tabs);
+  }
+
+  @Test
+  @UiThreadTest
+  public void testVirtualized_scrollRangeFromEstimatedWidths() {
+    final TabLayout tabs = createVirtualizedTabLayout();
+    final SlidingTabIndicator slidingTabIndicator = tabs.slidingTabIndicator;
+
+    int contentWidth = 0;
+    for (int i = 0; i < VIRTUALIZED_TAB_COUNT; i++) {
+      final Tab tab = tabs.getTabAt(i);
+      assertTrue(tab.estimatedWidth > 0);
+      assertEquals(tab.estimatedWidth, slidingTabIndicator.getTabWidth(i));
+      contentWidth += tab.estimatedWidth;
+    }
+    assertEquals(
+        contentWidth
+            + slidingTabIndicator.getPaddingLeft()
+            + slidingTabIndicator.getPaddingRight(),
+        slidingTabIndicator.getMeasuredWidth());
+
+    tabs.scrollTo(Integer.MAX_VALUE, 0);
+
+    final int viewportWidth = tabs.getWidth() - tabs.getPaddingLeft() - tabs.getPaddingRight();
+    assertEquals(slidingTabIndicator.getWidth() - viewportWidth, tabs.getScrollX());
+  }
+
+  @Test
+  @UiThreadTest
+  public void testVirtualized_indicatorBoundsForDetachedSelectedTab() {
+    final TabLayout tabs = createVirtualizedTabLayout();
+    final SlidingTabIndicator slidingTabIndicator = tabs.slidingTabIndicator;
+    final int position = VIRTUALIZED_TAB_COUNT - 1;
+
+    tabs.getTabAt(position).select();
+    tabs.scrollTo(0, 0);
+
+    assertEquals(position, tabs.getSelectedTabPosition());
+    assertNull(tabs.getTabAt(position).view.getParent());
+    int expectedLeft = slidingTabIndicator.getPaddingLeft();
+    for (int i = 0; i < position; i++) {
+      expectedLeft += tabs.getTabAt(i).estimatedWidth;
+    }
+    assertEquals(expectedLeft, slidingTabIndicator.indicatorLeft);
+    assertEquals(
+        expectedLeft + tabs.getTabAt(position).estimatedWidth,
+        slidingTabIndicator.indicatorRight);
+  }
+
+  @Test
+  @UiThreadTest
+  public void testVirtualized_switchOffAndOn() {
+    final TabLayout tabs = createVirtualizedTabLayout();
+    final SlidingTabIndicator slidingTabIndicator = tabs.slidingTabIndicator;
+
+    tabs.setTabVirtualized(false);
+    layoutTabLayout(tabs);
+
+    assertFalse(tabs.isTabVirtualized());
+    assertEquals(VIRTUALIZED_TAB_COUNT, slidingTabIndicator.getChildCount());
+    for (int i = 0; i < VIRTUALIZED_TAB_COUNT; i++) {
+      final TabView tabView = tabs.getTabAt(i).view;
+      assertEquals(slidingTabIndicator, tabView.getParent());
+      assertEquals(tabView.getLeft(), slidingTabIndicator.getTabLeft(i));
+      assertEquals(tabView.getRight(), slidingTabIndicator.getTabRight(i));
+    }
+
+    tabs.setTabVirtualized(true);
+    layoutTabLayout(tabs);
+
+    assertTrue(tabs.isTabVirtualized());
+    assertTrue(slidingTabIndicator.getChildCount() < VIRTUALIZED_TAB_COUNT);
+    assertTabViewsAttachedWithinScrollWindow(tabs);
+  }
+
+  @Test
+  @UiThreadTest
+  public void testVirtualized_ignoredInFixedMode() {
+    final TabLayout tabs = createVirtualizedTabLayout();
+
+    tabs.setTabMode(TabLayout.MODE_FIXED);
+
+    assertTrue(tabs.isTabVirtualized());
+    assertEquals(VIRTUALIZED_TAB_COUNT, tabs.slidingTabIndicator.getChildCount());
+  }
+
+  private TabLayout createVirtualizedTabLayout() {
+    final LayoutInflater inflater = LayoutInflater.from(activityTestRule.getActivity());
+    final TabLayout tabs = (TabLayout) inflater.inflate(R.layout.design_tabs, null);
+    tabs.setTabMode(TabLayout.MODE_SCROLLABLE);
+    tabs.setTabIndicatorFullWidth(true);
+    tabs.setTabVirtualized(true);
+    for (int i = 0; i < VIRTUALIZED_TAB_COUNT; i++) {
+      tabs.addTab(tabs.newTab().setText("Tab " + i));
+    }
+    layoutTabLayout(tabs);
+    return tabs;
+  }
+
+  private static void layoutTabLayout(TabLayout tabs) {
+    tabs.measure(
+        MeasureSpec.makeMeasureSpec(VIRTUALIZED_TAB_LAYOUT_WIDTH, MeasureSpec.EXACTLY),
+        MeasureSpec.makeMeasureSpec(0, MeasureSpec.UNSPECIFIED));
+    tabs.layout(0, 0, tabs.getMeasuredWidth(), tabs.getMeasuredHeight());
+  }
+
+  /**
+   * Asserts that exactly the tabs which intersect the visible scroll window, plus the margin on
+   * either side, have their views attached, and that those views are laid out at their tab's
+   * bounds.
+   */
+  private static void assertTabViewsAttachedWithinScrollWindow(TabLayout tabs) {
+    final SlidingTabIndicator slidingTabIndicator = tabs.slidingTabIndicator;
+    final int margin =
+        (int) ViewUtils.dpToPx(tabs.getContext(), TabLayout.VIRTUALIZED_TAB_WINDOW_MARGIN);
+    final int windowLeft = tabs.getScrollX() - margin;
+    final int windowRight =
+        tabs.getScrollX() + tabs.getWidth() - tabs.getPaddingLeft() - tabs.getPaddingRight()
+            + margin;
+    for (int i = 0; i < tabs.getTabCount(); i++) {
+      final boolean inWindow =
+          slidingTabIndicator.getTabRight(i) > windowLeft
+              && slidingTabIndicator.getTabLeft(i) < windowRight;
+      final TabView tabView = tabs.getTabAt(i).view;
+      assertEquals("Tab " + i + " attached", inWindow, tabView.getParent() == slidingTabIndicator);
+      if (inWindow) {
+        assertEquals(slidingTabIndicator.getTabLeft(i), tabView.getLeft());
+        assertEquals(slidingTabIndicator.getTabRight(i), tabView.getRight());
+      }
+    }
+  }
+
   static class TabLayoutScrollIdlingResource implements IdlingResource {
 
     private boolean isIdle = true;
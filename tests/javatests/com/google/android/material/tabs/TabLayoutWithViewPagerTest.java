@@ -34,6 +34,8 @@ import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import android.content.res.Resources;
 import android.graphics.Color;
@@ -47,6 +49,8 @@ import android.widget.HorizontalScrollView;
 import android.widget.TextView;
 import androidx.annotation.DimenRes;
 import androidx.annotation.LayoutRes;
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
 import androidx.test.espresso.UiController;
 import androidx.test.espresso.ViewAction;
 import androidx.test.filters.LargeTest;
@@ -56,6 +60,7 @@ import androidx.test.rule.ActivityTestRule;
 import androidx.test.runner.AndroidJUnit4;
 import androidx.viewpager.widget.PagerAdapter;
 import androidx.viewpager.widget.ViewPager;
+import androidx.viewpager2.widget.ViewPager2;
 import com.google.android.material.testapp.R;
 import com.google.android.material.testapp.TabLayoutWithViewPagerActivity;
 import com.google.android.material.testutils.TabLayoutActions;
@@ -80,6 +85,9 @@ public class TabLayoutWithViewPagerTest {
   private ViewPager viewPager;
   private ColorPagerAdapter defaultPagerAdapter;
 
+  private TabLayout mediatedTabLayout;
+  private StringRecyclerAdapter recyclerAdapter;
+
   static class BasePagerAdapter<Q> extends PagerAdapter {
     ArrayList<Pair<String, Q>> entries = new ArrayList<>();
 
@@ -195,6 +203,31 @@ public class TabLayoutWithViewPagerTest {
     }
   }
 
+  /** A {@link RecyclerView.Adapter} of strings, for a {@link ViewPager2}. */
+  private static class StringRecyclerAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> {
+    final ArrayList<String> items = new ArrayList<>();
+
+    @NonNull
+    @Override
+    public RecyclerView.ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+      final TextView view = new TextView(parent.getContext());
+      view.setLayoutParams(
+          new ViewGroup.LayoutParams(
+              ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT));
+      return new RecyclerView.ViewHolder(view) {};
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull RecyclerView.ViewHolder holder, int position) {
+      ((TextView) holder.itemView).setText(items.get(position));
+    }
+
+    @Override
+    public int getItemCount() {
+      return items.size();
+    }
+  }
+
   private static <Q> ViewAction addItemToPager(final String title, final Q content) {
     return new ViewAction() {
       @Override
@@ -706,4 +739,142 @@ public class TabLayoutWithViewPagerTest {
     ColorPagerAdapter adapter = new ColorPagerAdapter();
     onView(withId(R.id.tabs_viewpager)).perform(setAdapter(adapter));
   }
+
+  @Test
+  @SmallTest
+  public void testMediatorItemRangeInserted_keepsSelectedTab() throws Throwable {
+    setUpTabLayoutMediator(/* itemCount= */ 5, /* currentItem= */ 2);
+
+    activityTestRule.runOnUiThread(
+        () -> {
+          final TabLayout.Tab selectedTab = mediatedTabLayout.getTabAt(2);
+          recyclerAdapter.items.add(0, "New 0");
+          recyclerAdapter.items.add(1, "New 1");
+          recyclerAdapter.notifyItemRangeInserted(0, 2);
+          recyclerAdapter.items.add("New 7");
+          recyclerAdapter.notifyItemRangeInserted(7, 1);
+
+          assertMediatedTabsMatchItems(/* selectedPosition= */ 4);
+          assertSame(selectedTab, mediatedTabLayout.getTabAt(4));
+        });
+  }
+
+  @Test
+  @SmallTest
+  public void testMediatorItemRangeRemoved_keepsSelectedTab() throws Throwable {
+    setUpTabLayoutMediator(/* itemCount= */ 6, /* currentItem= */ 3);
+
+    activityTestRule.runOnUiThread(
+        () -> {
+          final TabLayout.Tab selectedTab = mediatedTabLayout.getTabAt(3);
+          recyclerAdapter.items.remove(5);
+          recyclerAdapter.items.remove(4);
+          recyclerAdapter.notifyItemRangeRemoved(4, 2);
+          recyclerAdapter.items.remove(1);
+          recyclerAdapter.items.remove(0);
+          recyclerAdapter.notifyItemRangeRemoved(0, 2);
+
+          assertMediatedTabsMatchItems(/* selectedPosition= */ 1);
+          assertSame(selectedTab, mediatedTabLayout.getTabAt(1));
+        });
+  }
+
+  @Test
+  @SmallTest
+  public void testMediatorItemRangeRemoved_selectedTabRemoved() throws Throwable {
+    setUpTabLayoutMediator(/* itemCount= */ 5, /* currentItem= */ 3);
+
+    activityTestRule.runOnUiThread(
+        () -> {
+          recyclerAdapter.items.remove(4);
+          recyclerAdapter.items.remove(3);
+          recyclerAdapter.notifyItemRangeRemoved(3, 2);
+
+          // Like repopulating the tabs, selects the ViewPager2's item, clamped to the last tab.
+          assertMediatedTabsMatchItems(/* selectedPosition= */ 2);
+        });
+  }
+
+  @Test
+  @SmallTest
+  public void testMediatorItemRangeMoved_keepsSelectedTab() throws Throwable {
+    setUpTabLayoutMediator(/* itemCount= */ 5, /* currentItem= */ 1);
+
+    activityTestRule.runOnUiThread(
+        () -> {
+          final TabLayout.Tab selectedTab = mediatedTabLayout.getTabAt(1);
+          recyclerAdapter.items.add(3, recyclerAdapter.items.remove(1));
+          recyclerAdapter.notifyItemMoved(1, 3);
+
+          assertMediatedTabsMatchItems(/* selectedPosition= */ 3);
+          assertSame(selectedTab, mediatedTabLayout.getTabAt(3));
+
+          recyclerAdapter.items.add(0, recyclerAdapter.items.remove(4));
+          recyclerAdapter.notifyItemMoved(4, 0);
+
+          assertMediatedTabsMatchItems(/* selectedPosition= */ 4);
+          assertSame(selectedTab, mediatedTabLayout.getTabAt(4));
+        });
+  }
+
+  @Test
+  @SmallTest
+  public void testMediatorItemRangeChanged_rebindsTabsInPlace() throws Throwable {
+    setUpTabLayoutMediator(/* itemCount= */ 5, /* currentItem= */ 2);
+
+    activityTestRule.runOnUiThread(
+        () -> {
+          final TabLayout.Tab changedTab = mediatedTabLayout.getTabAt(2);
+          recyclerAdapter.items.set(1, "Changed 1");
+          recyclerAdapter.items.set(2, "Changed 2");
+          recyclerAdapter.notifyItemRangeChanged(1, 2);
+
+          assertMediatedTabsMatchItems(/* selectedPosition= */ 2);
+          assertSame(changedTab, mediatedTabLayout.getTabAt(2));
+
+          recyclerAdapter.items.set(4, "Changed 4");
+          recyclerAdapter.notifyItemRangeChanged(4, 1, /* payload= */ "payload");
+
+          assertMediatedTabsMatchItems(/* selectedPosition= */ 2);
+        });
+  }
+
+  /**
+   * Links a new {@link TabLayout} to a new {@link ViewPager2} with {@code itemCount} items, the
+   * {@code currentItem} of which is selected.
+   */
+  private void setUpTabLayoutMediator(int itemCount, int currentItem) throws Throwable {
+    activityTestRule.runOnUiThread(
+        () -> {
+          final TabLayoutWithViewPagerActivity activity = activityTestRule.getActivity();
+          mediatedTabLayout = new TabLayout(activity);
+          final ViewPager2 viewPager2 = new ViewPager2(activity);
+          recyclerAdapter = new StringRecyclerAdapter();
+          for (int i = 0; i < itemCount; i++) {
+            recyclerAdapter.items.add("Item " + i);
+          }
+          viewPager2.setAdapter(recyclerAdapter);
+          viewPager2.setCurrentItem(currentItem, false);
+          new TabLayoutMediator(
+                  mediatedTabLayout,
+                  viewPager2,
+                  /* autoRefresh= */ true,
+                  /* smoothScroll= */ false,
+                  (tab, position) -> tab.setText(recyclerAdapter.items.get(position)))
+              .attach();
+
+          assertMediatedTabsMatchItems(currentItem);
+        });
+  }
+
+  private void assertMediatedTabsMatchItems(int selectedPosition) {
+    assertEquals("Tab count", recyclerAdapter.items.size(), mediatedTabLayout.getTabCount());
+    for (int i = 0; i < mediatedTabLayout.getTabCount(); i++) {
+      final TabLayout.Tab tab = mediatedTabLayout.getTabAt(i);
+      assertEquals("Tab text", recyclerAdapter.items.get(i), tab.getText().toString());
+      assertEquals("Tab position", i, tab.getPosition());
+    }
+    assertEquals("Selected tab", selectedPosition, mediatedTabLayout.getSelectedTabPosition());
+    assertTrue(mediatedTabLayout.getTabAt(selectedPosition).isSelected());
+  }
 }